@@ -0,0 +1,123 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.BatchBidder;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.BatchAuctionState;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.BatchRuleBidder;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one bid of {@value #BATCH_SIZE} auctions in lockstep, placed by trading bot sessions one by one, by
+ * {@link StrategySelector} with the rules of {@link BatchRuleBidder} one by one and by {@link BatchRuleBidder} in one
+ * call. Sessions play all rules of the bot, the selector gets auction states without round statistics and opponent's
+ * profile, so it plays the same rules as the batch, and its bids are the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBidderBenchmark {
+
+  private static final int BATCH_SIZE = 1024;
+
+  private static final int QUANTITY = 100;
+
+  private static final int CASH = 10_000;
+
+  private static final int HISTORY_LENGTH = 10;
+
+  private AuctionSession[] auctionSessions;
+
+  private final BatchBidder batchBidder = new BatchRuleBidder();
+
+  private final StrategySelector strategySelector = new StrategySelector();
+
+  private AuctionState[] auctionStates;
+
+  private BatchAuctionState batchAuctionState;
+
+  private int[] bids;
+
+  @Setup
+  public void setUp() {
+    BidderFactory bidderFactory = new BidderFactory();
+    auctionSessions = new AuctionSession[BATCH_SIZE];
+    auctionStates = new AuctionState[BATCH_SIZE];
+    batchAuctionState = new BatchAuctionState(BATCH_SIZE);
+    bids = new int[BATCH_SIZE];
+    for (int auction = 0; auction < BATCH_SIZE; auction++) {
+      auctionSessions[auction] = bidderFactory.createSession();
+      auctionSessions[auction].init(QUANTITY, CASH);
+      batchAuctionState.init(auction, QUANTITY, CASH);
+      for (int round = 0; round < HISTORY_LENGTH; round++) {
+        int myBid = (auction + round) % 150;
+        int opponentBid = (auction * 7 + round * 3) % 150;
+        auctionSessions[auction].bids(myBid, opponentBid);
+        batchAuctionState.bids(auction, myBid, opponentBid);
+      }
+      auctionStates[auction] = toAuctionState(auction);
+    }
+    batchBidder.placeBids(batchAuctionState, bids);
+    for (int auction = 0; auction < BATCH_SIZE; auction++) {
+      AuctionState auctionState = auctionStates[auction];
+      int selectorBid = Math.min(strategySelector.select(auctionState).orElseThrow().placeBid(auctionState), auctionState.getMyRemainingCash());
+      if (selectorBid != bids[auction]) {
+        throw new IllegalStateException("Selector bids " + selectorBid + " and batch bids " + bids[auction] + " in " + auctionState);
+      }
+    }
+  }
+
+  private AuctionState toAuctionState(int auction) {
+    int lastOpponentBid = batchAuctionState.getLastOpponentBids()[auction];
+    int previousOpponentBid = batchAuctionState.getPreviousOpponentBids()[auction];
+    return new AuctionState()
+      .withInitialQuantity(QUANTITY)
+      .withInitialCash(CASH)
+      .withNumberOfRounds(HISTORY_LENGTH)
+      .withMyQuantity(batchAuctionState.getMyQuantities()[auction])
+      .withOpponentQuantity(batchAuctionState.getOpponentQuantities()[auction])
+      .withMyRemainingCash(batchAuctionState.getMyRemainingCashes()[auction])
+      .withOpponentRemainingCash(batchAuctionState.getOpponentRemainingCashes()[auction])
+      .withPredictedOpponentBid((int) Math.round((lastOpponentBid + previousOpponentBid) / 2.0));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void perSession(Blackhole blackhole) {
+    for (AuctionSession auctionSession : auctionSessions) {
+      blackhole.consume(auctionSession.placeBid());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void selectorWithSameRules(Blackhole blackhole) {
+    for (AuctionState auctionState : auctionStates) {
+      blackhole.consume(strategySelector.select(auctionState).orElseThrow().placeBid(auctionState));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int[] batch() {
+    batchBidder.placeBids(batchAuctionState, bids);
+    return bids;
+  }
+}
@@ -0,0 +1,115 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultColumnarStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultConcurrentStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultJournalStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of {@link TradingBot#placeBid()} and {@link TradingBot#bids(int, int)} after {@code historyLength} rounds,
+ * stored in the given storage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradingBotBenchmark {
+
+  private static final String BIDDER_UUID = "benchmark";
+
+  @Param({"10", "1000", "100000"})
+  private int historyLength;
+
+  @Param({"inMemory", "columnar", "concurrent", "journal"})
+  private String storage;
+
+  private Path journalDirectory;
+
+  private RoundResultStorageOperations roundResultStorageOperations;
+
+  private TradingBot tradingBot;
+
+  private int round;
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    roundResultStorageOperations = createStorage();
+    tradingBot = new TradingBot(new StrategySelector(), roundResultStorageOperations, new StatisticsService(), BIDDER_UUID);
+    // quantity and cash are large enough to keep the auction running during the whole iteration
+    tradingBot.init(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+    for (round = 0; round < historyLength; round++) {
+      tradingBot.bids(nextMyBid(), nextOpponentBid());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    tradingBot.close();
+    if (roundResultStorageOperations instanceof RoundResultJournalStorageService) {
+      ((RoundResultJournalStorageService) roundResultStorageOperations).close();
+      try (Stream<Path> files = Files.walk(journalDirectory)) {
+        files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      }
+    }
+  }
+
+  @Benchmark
+  public int placeBid() {
+    return tradingBot.placeBid();
+  }
+
+  @Benchmark
+  public void bids() {
+    tradingBot.bids(nextMyBid(), nextOpponentBid());
+    round++;
+  }
+
+  private int nextMyBid() {
+    return round % 7;
+  }
+
+  private int nextOpponentBid() {
+    return round % 5;
+  }
+
+  private RoundResultStorageOperations createStorage() throws IOException {
+    switch (storage) {
+      case "inMemory":
+        return new RoundResultInMemoryStorageService();
+      case "columnar":
+        return new RoundResultColumnarStorageService();
+      case "concurrent":
+        return new RoundResultConcurrentStorageService();
+      case "journal":
+        journalDirectory = Files.createTempDirectory("trading-bot-benchmark");
+        return new RoundResultJournalStorageService(journalDirectory, 0);
+      default:
+        throw new IllegalArgumentException("Unknown storage " + storage);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of an end game bid at the edge of the node budget. {@code cold} uses a table of one entry, so nothing is
+ * found in the table and the latency is the upper bound of a bid, {@code warm} uses the default table, which is filled
+ * by previous auctions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndGameSolverBenchmark {
+
+  @Param({"1", "2", "3"})
+  private int rounds;
+
+  @Param({"cold", "warm"})
+  private String table;
+
+  private EndGameSolver endGameSolver;
+
+  private int cash;
+
+  @Setup
+  public void setUp() {
+    endGameSolver = "cold".equals(table)
+      ? new EndGameSolver(EndGameSolver.DEFAULT_MAX_ROUNDS, EndGameSolver.DEFAULT_MAX_NODES, 1)
+      : new EndGameSolver();
+    cash = 0;
+    while (endGameSolver.isSolvable(rounds, cash + 1, cash + 1)) {
+      cash++;
+    }
+  }
+
+  @Benchmark
+  public int findBid() {
+    return endGameSolver.findBid(rounds, 0, cash, cash + 1);
+  }
+}
@@ -0,0 +1,110 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link StatisticsService#updateAuctionState}, {@link StrategySelector#select} and of every
+ * {@link BiddingStrategy} after {@code historyLength} rounds. The history is folded into running statistics, so the
+ * latency should not depend on its length.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  private int historyLength;
+
+  private final StatisticsService statisticsService = new StatisticsService();
+
+  private final StrategySelector strategySelector = new StrategySelector();
+
+  private final RoundStatistics roundStatistics = new RoundStatistics();
+
+  private final AuctionState auctionState = new AuctionState();
+
+  private int initialQuantity;
+
+  private int initialCash;
+
+  @Setup
+  public void setUp() {
+    initialQuantity = 4 * historyLength;
+    initialCash = 100 * historyLength;
+    for (int round = 0; round < historyLength; round++) {
+      roundStatistics.add(RoundResult.builder()
+        .withMyBid(round % 2 == 0 ? 40 : 10)
+        .withMyWonQuantity(round % 2 == 0 ? 2 : 0)
+        .withOpponentBid(30)
+        .withOpponentRemainingCash(initialCash - 30 * (round + 1))
+        .withOpponentWonQuantity(round % 2 == 0 ? 0 : 2)
+        .build());
+    }
+    statisticsService.updateAuctionState(auctionState, roundStatistics, initialQuantity, initialCash);
+  }
+
+  @Benchmark
+  public AuctionState updateAuctionState() {
+    return statisticsService.updateAuctionState(auctionState, roundStatistics, initialQuantity, initialCash);
+  }
+
+  @Benchmark
+  public Optional<BiddingStrategy> select() {
+    return strategySelector.select(auctionState);
+  }
+
+  @Benchmark
+  public int placeBid(Strategy strategy) {
+    return strategy.biddingStrategy.placeBid(auctionState);
+  }
+
+  @State(Scope.Thread)
+  public static class Strategy {
+
+    @Param({"ZERO_BID", "MINIMUM_BID", "MAXIMUM_BID", "AGGRESSIVE", "DEFAULT"})
+    private StrategyName strategyName;
+
+    private BiddingStrategy biddingStrategy;
+
+    @Setup
+    public void setUp() {
+      switch (strategyName) {
+        case ZERO_BID:
+          biddingStrategy = new ZeroBiddingStrategy();
+          break;
+        case MINIMUM_BID:
+          biddingStrategy = new MinimumBidStrategy();
+          break;
+        case MAXIMUM_BID:
+          biddingStrategy = new MaximumBidStrategy();
+          break;
+        case AGGRESSIVE:
+          biddingStrategy = new AggressiveBiddingStrategy();
+          break;
+        default:
+          biddingStrategy = new DefaultBiddingStrategy();
+      }
+    }
+  }
+}
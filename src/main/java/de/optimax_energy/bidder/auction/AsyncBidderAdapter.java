@@ -0,0 +1,63 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Lets a blocking {@link Bidder} bid asynchronously: its bids are computed in tasks on the executor, so the caller can
+ * request bids of many auctions before any of them is completed. The bidder still blocks a thread of the executor for
+ * the whole bid, bidders, which wait for a search or a remote solver, should implement {@link AsyncBidder} themselves,
+ * like the trading bot does.
+ */
+public class AsyncBidderAdapter implements AsyncBidder {
+
+  private final Bidder bidder;
+
+  private final Executor executor;
+
+  public AsyncBidderAdapter(Bidder bidder, Executor executor) {
+    this.bidder = bidder;
+    this.executor = executor;
+  }
+
+  @Override
+  public void init(int quantity, int cash) {
+    bidder.init(quantity, cash);
+  }
+
+  @Override
+  public CompletableFuture<Integer> placeBidAsync() {
+    return CompletableFuture.supplyAsync(bidder::placeBid, executor);
+  }
+
+  /**
+   * @param onStart action, which is run by the task of the bid before the bidder is called, e.g. to start the timeout of
+   *                the bid, so the time the task waits for a thread of the executor isn't counted
+   * @return the next bid, which is completed, when the call of the bidder has returned
+   */
+  CompletableFuture<Integer> placeBidAsync(Runnable onStart) {
+    return CompletableFuture.supplyAsync(() -> {
+      onStart.run();
+      return bidder.placeBid();
+    }, executor);
+  }
+
+  @Override
+  public void bids(int own, int other) {
+    bidder.bids(own, other);
+  }
+
+  /**
+   * Finishes the auction of an {@link AuctionSession}, other bidders don't keep state between auctions.
+   */
+  @Override
+  public void finishAuction() {
+    if (bidder instanceof AuctionSession) {
+      ((AuctionSession) bidder).finishAuction();
+    }
+  }
+}
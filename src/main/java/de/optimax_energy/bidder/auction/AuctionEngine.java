@@ -0,0 +1,96 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.AuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.InvalidBidException;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Runs auctions between two bidders. The engine keeps its own account of QU and MU of both bidders, so the result
+ * doesn't depend on the bookkeeping of bidders. It is stateless and doesn't log, so one instance can be shared by any
+ * number of threads running simulations. When the auction has ended or failed, sessions and asynchronous bidders are
+ * finished like in {@link AuctionHost}, so e.g. a session releases its round results before its next auction.
+ */
+public class AuctionEngine {
+
+  /**
+   * Initializes both bidders, plays rounds while there are at least 2 QU left and finishes the auction of sessions.
+   *
+   * @param firstBidder  first bidder
+   * @param secondBidder second bidder
+   * @param quantity     initial amount of QU
+   * @param cash         initial amount of MU of each bidder
+   * @return result of the auction
+   * @throws InvalidBidException if a bidder bids negative amount or more than its remaining MU
+   */
+  public AuctionResult run(Bidder firstBidder, Bidder secondBidder, int quantity, int cash) {
+    if (quantity < 0 || cash < 0) {
+      throw new IllegalArgumentException("Quantity and cash should not be negative");
+    }
+    try {
+      return play(firstBidder, secondBidder, quantity, cash);
+    } finally {
+      try {
+        finishAuction(firstBidder);
+      } finally {
+        finishAuction(secondBidder);
+      }
+    }
+  }
+
+  private AuctionResult play(Bidder firstBidder, Bidder secondBidder, int quantity, int cash) {
+    firstBidder.init(quantity, cash);
+    secondBidder.init(quantity, cash);
+
+    int numberOfRounds = 0;
+    int firstBidderQuantity = 0;
+    int secondBidderQuantity = 0;
+    int firstBidderRemainingCash = cash;
+    int secondBidderRemainingCash = cash;
+    for (int remainingQuantity = quantity; remainingQuantity >= AMOUNT_OF_PRODUCTS_IN_ONE_ROUND; remainingQuantity -= AMOUNT_OF_PRODUCTS_IN_ONE_ROUND) {
+      int firstBidderBid = firstBidder.placeBid();
+      validateBid("First", firstBidderBid, firstBidderRemainingCash);
+      int secondBidderBid = secondBidder.placeBid();
+      validateBid("Second", secondBidderBid, secondBidderRemainingCash);
+
+      firstBidder.bids(firstBidderBid, secondBidderBid);
+      secondBidder.bids(secondBidderBid, firstBidderBid);
+
+      firstBidderRemainingCash -= firstBidderBid;
+      secondBidderRemainingCash -= secondBidderBid;
+      if (firstBidderBid > secondBidderBid) {
+        firstBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+      } else if (firstBidderBid < secondBidderBid) {
+        secondBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+      } else {
+        firstBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+        secondBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+      }
+      numberOfRounds++;
+    }
+
+    return AuctionResult.builder()
+      .withNumberOfRounds(numberOfRounds)
+      .withFirstBidderQuantity(firstBidderQuantity)
+      .withFirstBidderRemainingCash(firstBidderRemainingCash)
+      .withSecondBidderQuantity(secondBidderQuantity)
+      .withSecondBidderRemainingCash(secondBidderRemainingCash)
+      .build();
+  }
+
+  private void finishAuction(Bidder bidder) {
+    if (bidder instanceof AuctionSession) {
+      ((AuctionSession) bidder).finishAuction();
+    } else if (bidder instanceof BlockingBidderAdapter) {
+      ((BlockingBidderAdapter) bidder).getAsyncBidder().finishAuction();
+    }
+  }
+
+  private void validateBid(String bidder, int bid, int remainingCash) {
+    if (bid < 0 || bid > remainingCash) {
+      throw new InvalidBidException(bidder + " bidder placed bid " + bid + ", but has " + remainingCash + " MU");
+    }
+  }
+}
@@ -0,0 +1,415 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.AuctionResultSink;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.AuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.BidQuantileSketch;
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult.Status;
+import de.optimax_energy.bidder.auction.api.dto.InvalidBidException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Hosts live auctions between bidders in process. An auction doesn't own a thread: its round loop is a chain of tasks
+ * on the executor, so the number of concurrent auctions is limited by memory, not by threads. In every round both
+ * bidders are asked for their bids, blocking bidders in parallel tasks and asynchronous bidders directly, so bids of
+ * many auctions are computed at once. Sessions of the trading bot are asynchronous bidders, so a lookahead doesn't
+ * block a thread of the executor while it searches. The bids meet at the rendezvous of the round, the task, which completes the
+ * last of them, shows the bids to both bidders, keeps the account of QU and MU like {@link AuctionEngine} and starts
+ * the next round.
+ * <p>
+ * A bid, which isn't placed within the timeout, stops the auction with a timeout of its bidder, the late call is left
+ * to finish and its bid is ignored. The timeout of a blocking bidder starts, when the task of its bid starts running,
+ * so a backlog of the executor under load isn't charged to the bidder; the timeout of an asynchronous bidder starts,
+ * when its bid is requested. Bidders are never called concurrently, but calls of one bidder may happen on different
+ * threads of the executor. When the auction has ended or failed, {@link AsyncBidder#finishAuction()} is called on both
+ * bidders, e.g. sessions release their round results, then results are passed to the sink and complete the future of
+ * the auction, the future fails only if the executor rejects a task. Rounds are finished in tasks of the executor, also
+ * after a timeout, so no bidder or sink runs on the timer thread of {@link CompletableFuture}.
+ */
+public class AuctionHost {
+
+  public static final Duration DEFAULT_BID_TIMEOUT = Duration.ofMillis(100);
+
+  private static final long NANOS_IN_MICRO = 1_000;
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final Executor executor;
+
+  private final long bidTimeoutNanos;
+
+  private final AuctionResultSink auctionResultSink;
+
+  private final AtomicLong nextAuctionId = new AtomicLong();
+
+  private final LongAdder activeAuctions = new LongAdder();
+
+  /**
+   * Histogram of round latencies in microseconds with buckets of {@link BidQuantileSketch}.
+   */
+  private final LongAdder[] roundLatencyCounts = new LongAdder[BidQuantileSketch.NUMBER_OF_BUCKETS];
+
+  public AuctionHost(Executor executor, AuctionResultSink auctionResultSink) {
+    this(executor, DEFAULT_BID_TIMEOUT, auctionResultSink);
+  }
+
+  /**
+   * @param executor          executor of bids, which must not run tasks on the calling thread
+   * @param bidTimeout        maximum time of a bid, see the timeouts of blocking and asynchronous bidders above
+   * @param auctionResultSink receiver of results of all auctions
+   */
+  public AuctionHost(Executor executor, Duration bidTimeout, AuctionResultSink auctionResultSink) {
+    if (bidTimeout.isNegative() || bidTimeout.isZero()) {
+      throw new IllegalArgumentException("Bid timeout should be positive");
+    }
+    this.executor = executor;
+    this.bidTimeoutNanos = bidTimeout.toNanos();
+    this.auctionResultSink = auctionResultSink;
+    Arrays.setAll(roundLatencyCounts, bucket -> new LongAdder());
+  }
+
+  /**
+   * Starts an auction. The bidders must not take part in other auctions until it's finished.
+   *
+   * @param firstBidder  first bidder
+   * @param secondBidder second bidder
+   * @param quantity     initial amount of QU
+   * @param cash         initial amount of MU of each bidder
+   * @return result of the auction, which is completed after it was passed to the sink
+   */
+  public CompletableFuture<HostedAuctionResult> submit(Bidder firstBidder, Bidder secondBidder, int quantity, int cash) {
+    return submit(toAsyncBidder(firstBidder), toAsyncBidder(secondBidder), quantity, cash);
+  }
+
+  /**
+   * Starts an auction between asynchronous bidders. The bidders must not take part in other auctions until it's
+   * finished.
+   *
+   * @param firstBidder  first bidder
+   * @param secondBidder second bidder
+   * @param quantity     initial amount of QU
+   * @param cash         initial amount of MU of each bidder
+   * @return result of the auction, which is completed after it was passed to the sink
+   */
+  public CompletableFuture<HostedAuctionResult> submit(AsyncBidder firstBidder, AsyncBidder secondBidder, int quantity, int cash) {
+    if (quantity < 0 || cash < 0) {
+      throw new IllegalArgumentException("Quantity and cash should not be negative");
+    }
+    HostedAuction hostedAuction = new HostedAuction(nextAuctionId.getAndIncrement(), firstBidder, secondBidder, quantity, cash);
+    activeAuctions.increment();
+    try {
+      executor.execute(hostedAuction::start);
+    } catch (RejectedExecutionException e) {
+      activeAuctions.decrement();
+      throw e;
+    }
+    return hostedAuction.result;
+  }
+
+  private AsyncBidder toAsyncBidder(Bidder bidder) {
+    if (bidder instanceof BlockingBidderAdapter) {
+      return ((BlockingBidderAdapter) bidder).getAsyncBidder();
+    }
+    if (bidder instanceof AsyncBidder) {
+      return (AsyncBidder) bidder;
+    }
+    return new AsyncBidderAdapter(bidder, executor);
+  }
+
+  /**
+   * @return maximum time of a bid, e.g. the time budget of a lookahead of the bidders
+   */
+  public Duration getBidTimeout() {
+    return Duration.ofNanos(bidTimeoutNanos);
+  }
+
+  /**
+   * @return number of auctions, which were submitted, but are not finished
+   */
+  public long getActiveAuctions() {
+    return activeAuctions.sum();
+  }
+
+  public long getNumberOfRounds() {
+    return Arrays.stream(roundLatencyCounts).mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * @param quantile quantile from 0 to 1
+   * @return latency from the start of a round to both bids being shown to the bidders, up to 1/16 of it, zero if no
+   * rounds were played
+   */
+  public Duration getRoundLatency(double quantile) {
+    long[] counts = Arrays.stream(roundLatencyCounts).mapToLong(LongAdder::sum).toArray();
+    long numberOfRounds = Arrays.stream(counts).sum();
+    if (numberOfRounds == 0) {
+      return Duration.ZERO;
+    }
+    long remainingRank = Math.max(1, (long) Math.ceil(Math.max(0, Math.min(1, quantile)) * numberOfRounds));
+    int bucket = 0;
+    while (counts[bucket] < remainingRank) {
+      remainingRank -= counts[bucket];
+      bucket++;
+    }
+    return Duration.ofNanos(BidQuantileSketch.getUpperBound(bucket) * NANOS_IN_MICRO);
+  }
+
+  private void recordRoundLatency(long latencyNanos) {
+    int latencyMicros = (int) Math.min(Integer.MAX_VALUE, latencyNanos / NANOS_IN_MICRO);
+    roundLatencyCounts[BidQuantileSketch.getBucket(latencyMicros)].increment();
+  }
+
+  /**
+   * State of one auction. Its fields are changed by one task at a time, completion of the bids of a round orders the
+   * tasks.
+   */
+  private final class HostedAuction {
+
+    private final long auctionId;
+
+    private final AsyncBidder firstBidder;
+
+    private final AsyncBidder secondBidder;
+
+    private final int quantity;
+
+    private final int cash;
+
+    private final CompletableFuture<HostedAuctionResult> result = new CompletableFuture<>();
+
+    private int remainingQuantity;
+
+    private int numberOfRounds;
+
+    private int firstBidderQuantity;
+
+    private int secondBidderQuantity;
+
+    private int firstBidderRemainingCash;
+
+    private int secondBidderRemainingCash;
+
+    private long roundStart;
+
+    private CompletableFuture<Integer> firstBidCall;
+
+    private CompletableFuture<Integer> secondBidCall;
+
+    private HostedAuction(long auctionId, AsyncBidder firstBidder, AsyncBidder secondBidder, int quantity, int cash) {
+      this.auctionId = auctionId;
+      this.firstBidder = firstBidder;
+      this.secondBidder = secondBidder;
+      this.quantity = quantity;
+      this.cash = cash;
+      this.remainingQuantity = quantity;
+      this.firstBidderRemainingCash = cash;
+      this.secondBidderRemainingCash = cash;
+    }
+
+    private void start() {
+      try {
+        firstBidder.init(quantity, cash);
+      } catch (RuntimeException e) {
+        finish(Status.FIRST_BIDDER_FAILED, e);
+        return;
+      }
+      try {
+        secondBidder.init(quantity, cash);
+      } catch (RuntimeException e) {
+        finish(Status.SECOND_BIDDER_FAILED, e);
+        return;
+      }
+      playRound();
+    }
+
+    private void playRound() {
+      if (remainingQuantity < AMOUNT_OF_PRODUCTS_IN_ONE_ROUND) {
+        finish(Status.COMPLETED, null);
+        return;
+      }
+      roundStart = System.nanoTime();
+      try {
+        CompletableFuture<Integer> firstBid = new CompletableFuture<>();
+        CompletableFuture<Integer> secondBid = new CompletableFuture<>();
+        firstBidCall = requestBid(firstBidder, firstBid);
+        secondBidCall = requestBid(secondBidder, secondBid);
+        CompletableFuture.allOf(firstBid, secondBid).whenComplete((ignored, failure) -> executeFinishRound(firstBid, secondBid));
+      } catch (RejectedExecutionException e) {
+        failOnRejection(e);
+      }
+    }
+
+    /**
+     * The rendezvous is completed on the thread of the last bid, which is the timer thread of {@link CompletableFuture},
+     * when a bid times out, or the calling thread, when bids were completed at once. The round is finished in a task of
+     * the executor, so bidders and the sink never run on the timer thread, which is shared with timeouts of other
+     * auctions, and the stack doesn't grow round by round.
+     */
+    private void executeFinishRound(CompletableFuture<Integer> firstBid, CompletableFuture<Integer> secondBid) {
+      try {
+        executor.execute(() -> finishRound(firstBid, secondBid));
+      } catch (RejectedExecutionException e) {
+        failOnRejection(e);
+      }
+    }
+
+    private void failOnRejection(RejectedExecutionException e) {
+      activeAuctions.decrement();
+      result.completeExceptionally(e);
+    }
+
+    /**
+     * @param bid future of the round, which is completed with the bid or fails on timeout
+     * @return call of the bidder, which is completed, when the bidder has returned, even after a timeout of the bid
+     */
+    private CompletableFuture<Integer> requestBid(AsyncBidder bidder, CompletableFuture<Integer> bid) {
+      CompletableFuture<Integer> call;
+      try {
+        if (bidder instanceof AsyncBidderAdapter) {
+          call = ((AsyncBidderAdapter) bidder).placeBidAsync(() -> bid.orTimeout(bidTimeoutNanos, TimeUnit.NANOSECONDS));
+        } else {
+          bid.orTimeout(bidTimeoutNanos, TimeUnit.NANOSECONDS);
+          call = bidder.placeBidAsync();
+        }
+      } catch (RuntimeException e) {
+        bid.completeExceptionally(e);
+        return null;
+      }
+      call.whenComplete((value, failure) -> {
+        if (failure == null) {
+          bid.complete(value);
+        } else {
+          bid.completeExceptionally(failure);
+        }
+      });
+      return call;
+    }
+
+    private void finishRound(CompletableFuture<Integer> firstBid, CompletableFuture<Integer> secondBid) {
+      if (firstBid.isCompletedExceptionally()) {
+        finishWithFailure(getFailure(firstBid), Status.FIRST_BIDDER_TIMED_OUT, Status.FIRST_BIDDER_FAILED);
+        return;
+      }
+      if (secondBid.isCompletedExceptionally()) {
+        finishWithFailure(getFailure(secondBid), Status.SECOND_BIDDER_TIMED_OUT, Status.SECOND_BIDDER_FAILED);
+        return;
+      }
+      int firstBidderBid = firstBid.join();
+      int secondBidderBid = secondBid.join();
+      if (firstBidderBid < 0 || firstBidderBid > firstBidderRemainingCash) {
+        finish(Status.FIRST_BIDDER_FAILED, createInvalidBidException("First", firstBidderBid, firstBidderRemainingCash));
+        return;
+      }
+      if (secondBidderBid < 0 || secondBidderBid > secondBidderRemainingCash) {
+        finish(Status.SECOND_BIDDER_FAILED, createInvalidBidException("Second", secondBidderBid, secondBidderRemainingCash));
+        return;
+      }
+
+      try {
+        firstBidder.bids(firstBidderBid, secondBidderBid);
+      } catch (RuntimeException e) {
+        finish(Status.FIRST_BIDDER_FAILED, e);
+        return;
+      }
+      try {
+        secondBidder.bids(secondBidderBid, firstBidderBid);
+      } catch (RuntimeException e) {
+        finish(Status.SECOND_BIDDER_FAILED, e);
+        return;
+      }
+
+      firstBidderRemainingCash -= firstBidderBid;
+      secondBidderRemainingCash -= secondBidderBid;
+      if (firstBidderBid > secondBidderBid) {
+        firstBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+      } else if (firstBidderBid < secondBidderBid) {
+        secondBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+      } else {
+        firstBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+        secondBidderQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+      }
+      remainingQuantity -= AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+      numberOfRounds++;
+      recordRoundLatency(System.nanoTime() - roundStart);
+      playRound();
+    }
+
+    private Throwable getFailure(CompletableFuture<Integer> bid) {
+      try {
+        bid.join();
+        return null;
+      } catch (CompletionException e) {
+        return e.getCause();
+      }
+    }
+
+    private void finishWithFailure(Throwable failure, Status timeoutStatus, Status failureStatus) {
+      finish(failure instanceof TimeoutException ? timeoutStatus : failureStatus, failure);
+    }
+
+    private InvalidBidException createInvalidBidException(String bidder, int bid, int remainingCash) {
+      return new InvalidBidException(bidder + " bidder placed bid " + bid + ", but has " + remainingCash + " MU");
+    }
+
+    private void finish(Status status, Throwable failure) {
+      HostedAuctionResult hostedAuctionResult = HostedAuctionResult.builder()
+        .withAuctionId(auctionId)
+        .withStatus(status)
+        .withAuctionResult(AuctionResult.builder()
+          .withNumberOfRounds(numberOfRounds)
+          .withFirstBidderQuantity(firstBidderQuantity)
+          .withFirstBidderRemainingCash(firstBidderRemainingCash)
+          .withSecondBidderQuantity(secondBidderQuantity)
+          .withSecondBidderRemainingCash(secondBidderRemainingCash)
+          .build())
+        .withFailure(failure)
+        .build();
+      finishAuction(firstBidder, firstBidCall);
+      finishAuction(secondBidder, secondBidCall);
+      activeAuctions.decrement();
+      try {
+        auctionResultSink.accept(hostedAuctionResult);
+      } finally {
+        result.complete(hostedAuctionResult);
+      }
+    }
+
+    /**
+     * @param lastBidCall last call of the bidder, which may still run after a timeout, null if it has returned
+     */
+    private void finishAuction(AsyncBidder bidder, CompletableFuture<Integer> lastBidCall) {
+      if (lastBidCall == null || lastBidCall.isDone()) {
+        finishAuction(bidder);
+      } else {
+        lastBidCall.whenComplete((bid, failure) -> finishAuction(bidder));
+      }
+    }
+
+    /**
+     * The result of the auction is already decided, so a failure of the bidder to finish doesn't change it.
+     */
+    private void finishAuction(AsyncBidder bidder) {
+      try {
+        bidder.finishAuction();
+      } catch (RuntimeException e) {
+        logger.warn("Could not finish auction {} of bidder", auctionId, e);
+      }
+    }
+  }
+}
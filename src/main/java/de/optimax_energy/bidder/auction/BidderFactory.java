@@ -0,0 +1,68 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.DecisionTracer;
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultConcurrentStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates sessions of auctions, which share one graph of strategies, statistics service, storage and tracer. The
+ * collaborators don't keep per-auction state, so the factory and the graph are thread safe and serve any number of
+ * sessions, while every session keeps only primitive state and statistics of its own auction.
+ * <p>
+ * Session ids are a random prefix of the factory and a sequence number, so creating a session doesn't draw from
+ * {@link java.security.SecureRandom} and sessions of different factories don't collide in a shared storage.
+ */
+public class BidderFactory {
+
+  private final StrategySelector strategySelector;
+
+  private final RoundResultStorageOperations roundResultStorageOperations;
+
+  private final StatisticsService statisticsService;
+
+  private final DecisionTracer decisionTracer;
+
+  private final String sessionIdPrefix = UUID.randomUUID() + "-";
+
+  private final AtomicLong nextSessionId = new AtomicLong();
+
+  public BidderFactory() {
+    this(new StrategySelector(), new RoundResultConcurrentStorageService(), new StatisticsService());
+  }
+
+  public BidderFactory(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations,
+                       StatisticsService statisticsService) {
+    this(strategySelector, roundResultStorageOperations, statisticsService, DecisionTracer.NO_OP);
+  }
+
+  /**
+   * @param strategySelector             selector, which is shared by all sessions
+   * @param roundResultStorageOperations storage, which must be thread safe, if sessions are played by several threads
+   * @param statisticsService            statistics service, which is shared by all sessions
+   * @param decisionTracer               tracer, which must be thread safe, if sessions are played by several threads
+   */
+  public BidderFactory(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations,
+                       StatisticsService statisticsService, DecisionTracer decisionTracer) {
+    this.strategySelector = strategySelector;
+    this.roundResultStorageOperations = roundResultStorageOperations;
+    this.statisticsService = statisticsService;
+    this.decisionTracer = decisionTracer;
+  }
+
+  public AuctionSession createSession() {
+    return createSession(sessionIdPrefix + nextSessionId.getAndIncrement());
+  }
+
+  /**
+   * @param uuid id of the session, e.g. of a session, which should be restored from storage after restart
+   */
+  public AuctionSession createSession(String uuid) {
+    return new TradingBot(strategySelector, roundResultStorageOperations, statisticsService, decisionTracer, uuid);
+  }
+}
@@ -0,0 +1,48 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.Bidder;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Lets an {@link AsyncBidder} play where a blocking {@link Bidder} is expected, e.g. in {@link AuctionEngine} or
+ * tournaments: the calling thread waits for every bid.
+ */
+public class BlockingBidderAdapter implements Bidder {
+
+  private final AsyncBidder asyncBidder;
+
+  public BlockingBidderAdapter(AsyncBidder asyncBidder) {
+    this.asyncBidder = asyncBidder;
+  }
+
+  @Override
+  public void init(int quantity, int cash) {
+    asyncBidder.init(quantity, cash);
+  }
+
+  /**
+   * @throws RuntimeException the exception, with which the bid was completed
+   */
+  @Override
+  public int placeBid() {
+    try {
+      return asyncBidder.placeBidAsync().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void bids(int own, int other) {
+    asyncBidder.bids(own, other);
+  }
+
+  public AsyncBidder getAsyncBidder() {
+    return asyncBidder;
+  }
+}
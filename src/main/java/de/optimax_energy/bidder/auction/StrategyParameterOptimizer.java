@@ -0,0 +1,241 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.dto.OptimizationResult;
+import de.optimax_energy.bidder.auction.api.dto.ParameterSpace;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import de.optimax_energy.bidder.auction.api.dto.Tournament;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import de.optimax_energy.bidder.auction.api.dto.TournamentResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Searches strategy parameters, which score best against the given opponents, separately for every (quantity, cash)
+ * regime. Every batch of candidates is played as one tournament, so candidates are scored in parallel by the
+ * {@link TournamentRunner}. All tournaments use the same seed, so candidates meet the same opponents and differences of
+ * scores are not caused by luck of the draw.
+ */
+public class StrategyParameterOptimizer {
+
+  private final TournamentRunner tournamentRunner;
+
+  private final List<TournamentParticipant> opponents;
+
+  private final int numberOfAuctions;
+
+  private final long seed;
+
+  /**
+   * @param tournamentRunner runner, which plays tournaments of candidates
+   * @param opponents        opponents of every candidate
+   * @param numberOfAuctions number of auctions of a candidate against every opponent in every regime
+   * @param seed             seed of the tournaments and of evolutionary search
+   */
+  public StrategyParameterOptimizer(TournamentRunner tournamentRunner, List<TournamentParticipant> opponents,
+                                    int numberOfAuctions, long seed) {
+    if (opponents.isEmpty()) {
+      throw new IllegalArgumentException("Optimizer should have opponents");
+    }
+    if (numberOfAuctions < 1) {
+      throw new IllegalArgumentException("Number of auctions should be positive");
+    }
+    this.tournamentRunner = tournamentRunner;
+    this.opponents = List.copyOf(opponents);
+    this.numberOfAuctions = numberOfAuctions;
+    this.seed = seed;
+  }
+
+  /**
+   * Plays every point of the parameter space and the default parameters in all regimes.
+   */
+  public OptimizationResult gridSearch(ParameterSpace parameterSpace, int[] quantities, int[] cashes) {
+    List<StrategyParameters> candidates = new ArrayList<>(parameterSpace.getGrid());
+    candidates.remove(StrategyParameters.DEFAULT);
+    candidates.add(0, StrategyParameters.DEFAULT);
+    TournamentResult tournamentResult = play(candidates, quantities, cashes);
+
+    int numberOfRegimes = quantities.length * cashes.length;
+    StrategyParameters[] bestParameters = new StrategyParameters[numberOfRegimes];
+    double[] bestScores = new double[numberOfRegimes];
+    double[] defaultScores = new double[numberOfRegimes];
+    for (int quantityIndex = 0; quantityIndex < quantities.length; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < cashes.length; cashIndex++) {
+        int regimeIndex = quantityIndex * cashes.length + cashIndex;
+        defaultScores[regimeIndex] = tournamentResult.getScore(0, quantityIndex, cashIndex);
+        bestScores[regimeIndex] = -1;
+        for (int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++) {
+          double score = tournamentResult.getScore(candidateIndex, quantityIndex, cashIndex);
+          if (score > bestScores[regimeIndex]) {
+            bestScores[regimeIndex] = score;
+            bestParameters[regimeIndex] = candidates.get(candidateIndex);
+          }
+        }
+      }
+    }
+    long numberOfPlayedAuctions = (long) candidates.size() * opponents.size() * numberOfRegimes * numberOfAuctions;
+    return new OptimizationResult(quantities, cashes, bestParameters, bestScores, defaultScores, numberOfPlayedAuctions);
+  }
+
+  /**
+   * Evolves a population of points of the parameter space separately for every regime. The best quarter of the
+   * population survives a generation, the rest is replaced by children of two survivors, whose values are mixed and
+   * moved by a few steps along the axes. Scores are cached, so survivors are not played again.
+   *
+   * @param populationSize      number of candidates in a generation
+   * @param numberOfGenerations number of generations
+   */
+  public OptimizationResult evolutionarySearch(ParameterSpace parameterSpace, int[] quantities, int[] cashes,
+                                               int populationSize, int numberOfGenerations) {
+    if (populationSize < 2) {
+      throw new IllegalArgumentException("Population size should be at least 2");
+    }
+    if (numberOfGenerations < 1) {
+      throw new IllegalArgumentException("Number of generations should be positive");
+    }
+    int numberOfRegimes = quantities.length * cashes.length;
+    StrategyParameters[] bestParameters = new StrategyParameters[numberOfRegimes];
+    double[] bestScores = new double[numberOfRegimes];
+    double[] defaultScores = new double[numberOfRegimes];
+    long numberOfPlayedAuctions = 0;
+    SplittableRandom random = new SplittableRandom(seed);
+    for (int quantityIndex = 0; quantityIndex < quantities.length; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < cashes.length; cashIndex++) {
+        int regimeIndex = quantityIndex * cashes.length + cashIndex;
+        Evolution evolution = new Evolution(parameterSpace, quantities[quantityIndex], cashes[cashIndex], random.split());
+        evolution.run(populationSize, numberOfGenerations);
+        bestParameters[regimeIndex] = parameterSpace.getParameters(evolution.population.get(0));
+        bestScores[regimeIndex] = evolution.getScore(evolution.population.get(0));
+        defaultScores[regimeIndex] = evolution.defaultScore;
+        numberOfPlayedAuctions += evolution.numberOfPlayedCandidates * opponents.size() * numberOfAuctions;
+      }
+    }
+    return new OptimizationResult(quantities, cashes, bestParameters, bestScores, defaultScores, numberOfPlayedAuctions);
+  }
+
+  private TournamentResult play(List<StrategyParameters> candidates, int[] quantities, int[] cashes) {
+    Tournament.Builder tournament = Tournament.builder()
+      .withQuantities(quantities)
+      .withCashes(cashes)
+      .withNumberOfAuctions(numberOfAuctions)
+      .withSeed(seed);
+    for (int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++) {
+      tournament.withStrategy(TournamentRunner.tradingBot("candidate-" + candidateIndex, candidates.get(candidateIndex)));
+    }
+    opponents.forEach(tournament::withOpponent);
+    return tournamentRunner.run(tournament.build());
+  }
+
+  private final class Evolution {
+
+    private final ParameterSpace parameterSpace;
+
+    private final int[] axisSizes;
+
+    private final int[] quantities;
+
+    private final int[] cashes;
+
+    private final SplittableRandom random;
+
+    private final Map<List<Integer>, Double> scores = new HashMap<>();
+
+    private List<int[]> population = new ArrayList<>();
+
+    private double defaultScore;
+
+    private long numberOfPlayedCandidates;
+
+    private Evolution(ParameterSpace parameterSpace, int quantity, int cash, SplittableRandom random) {
+      this.parameterSpace = parameterSpace;
+      this.axisSizes = parameterSpace.getAxisSizes();
+      this.quantities = new int[]{quantity};
+      this.cashes = new int[]{cash};
+      this.random = random;
+    }
+
+    private void run(int populationSize, int numberOfGenerations) {
+      for (int i = 0; i < populationSize; i++) {
+        population.add(randomPoint());
+      }
+      evaluate(population, true);
+      for (int generation = 1; generation < numberOfGenerations; generation++) {
+        int numberOfSurvivors = Math.max(1, populationSize / 4);
+        List<int[]> nextPopulation = new ArrayList<>(population.subList(0, numberOfSurvivors));
+        List<int[]> children = new ArrayList<>();
+        while (nextPopulation.size() + children.size() < populationSize) {
+          children.add(createChild(nextPopulation.get(random.nextInt(numberOfSurvivors)),
+            nextPopulation.get(random.nextInt(numberOfSurvivors))));
+        }
+        nextPopulation.addAll(children);
+        population = nextPopulation;
+        evaluate(children, false);
+      }
+    }
+
+    /**
+     * Plays candidates, which were not played yet, in one tournament and sorts the population by score.
+     */
+    private void evaluate(List<int[]> candidates, boolean withDefault) {
+      List<int[]> newCandidates = new ArrayList<>();
+      for (int[] candidate : candidates) {
+        if (!scores.containsKey(key(candidate)) && newCandidates.stream().noneMatch(point -> Arrays.equals(point, candidate))) {
+          newCandidates.add(candidate);
+        }
+      }
+      List<StrategyParameters> parameters = new ArrayList<>();
+      if (withDefault) {
+        parameters.add(StrategyParameters.DEFAULT);
+      }
+      newCandidates.forEach(candidate -> parameters.add(parameterSpace.getParameters(candidate)));
+      if (!parameters.isEmpty()) {
+        TournamentResult tournamentResult = play(parameters, quantities, cashes);
+        int offset = withDefault ? 1 : 0;
+        if (withDefault) {
+          defaultScore = tournamentResult.getScore(0, 0, 0);
+        }
+        for (int candidateIndex = 0; candidateIndex < newCandidates.size(); candidateIndex++) {
+          scores.put(key(newCandidates.get(candidateIndex)), tournamentResult.getScore(candidateIndex + offset, 0, 0));
+        }
+        numberOfPlayedCandidates += parameters.size();
+      }
+      population.sort(Comparator.comparingDouble(this::getScore).reversed());
+    }
+
+    private int[] randomPoint() {
+      int[] point = new int[axisSizes.length];
+      for (int axis = 0; axis < axisSizes.length; axis++) {
+        point[axis] = random.nextInt(axisSizes[axis]);
+      }
+      return point;
+    }
+
+    /**
+     * Takes every value from one of the parents and moves one random axis by up to two steps, the child may equal a
+     * parent when the space is narrow.
+     */
+    private int[] createChild(int[] firstParent, int[] secondParent) {
+      int[] child = new int[axisSizes.length];
+      for (int axis = 0; axis < axisSizes.length; axis++) {
+        child[axis] = random.nextBoolean() ? firstParent[axis] : secondParent[axis];
+      }
+      int axis = random.nextInt(axisSizes.length);
+      int step = random.nextBoolean() ? random.nextInt(1, 3) : -random.nextInt(1, 3);
+      child[axis] = Math.max(0, Math.min(axisSizes[axis] - 1, child[axis] + step));
+      return child;
+    }
+
+    private double getScore(int[] point) {
+      return scores.get(key(point));
+    }
+
+    private List<Integer> key(int[] point) {
+      return Arrays.stream(point).boxed().toList();
+    }
+  }
+}
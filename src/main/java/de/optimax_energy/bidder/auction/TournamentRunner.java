@@ -0,0 +1,177 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.AuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import de.optimax_energy.bidder.auction.api.dto.Tournament;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import de.optimax_energy.bidder.auction.api.dto.TournamentResult;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultColumnarStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays tournaments on a fork-join pool. Every cell of the tournament is split into tasks of at most
+ * {@link #AUCTIONS_PER_TASK} auctions. A task creates its own pair of bidders, so there is no shared mutable state
+ * between workers, and counts its results locally; the counts are merged after all tasks are finished. The engine
+ * finishes sessions after every auction, so they don't carry round results into the next one.
+ * <p>
+ * The seed of a task is mixed from the tournament seed, the opponent, quantity and cash of its cell and the position of
+ * the task inside the cell, so results don't depend on parallelism, cells play independent auctions, and all strategies
+ * meet the same opponents in the same cell.
+ */
+public class TournamentRunner {
+
+  static final int AUCTIONS_PER_TASK = 256;
+
+  private final ForkJoinPool forkJoinPool;
+
+  private final AuctionEngine auctionEngine = new AuctionEngine();
+
+  public TournamentRunner(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+  }
+
+  /**
+   * Creates participant, which plays with a new {@link TradingBot} with a random uuid and its own storage in every task.
+   * Selector and statistics service are stateless and shared by all bots of the participant.
+   */
+  public static TournamentParticipant tradingBot(String name) {
+    return tradingBot(name, StrategyParameters.DEFAULT);
+  }
+
+  /**
+   * Creates participant, which plays with a new {@link TradingBot} using the given strategy parameters.
+   */
+  public static TournamentParticipant tradingBot(String name, StrategyParameters strategyParameters) {
+    StrategySelector strategySelector = new StrategySelector(strategyParameters);
+    StatisticsService statisticsService = new StatisticsService(strategyParameters.getOpponentBidWindowSize());
+    return new TournamentParticipant(name,
+      seed -> new TradingBot(strategySelector, new RoundResultColumnarStorageService(), statisticsService));
+  }
+
+  public TournamentResult run(Tournament tournament) {
+    int numberOfCells = tournament.getNumberOfCells();
+    int tasksPerCell = (tournament.getNumberOfAuctions() + AUCTIONS_PER_TASK - 1) / AUCTIONS_PER_TASK;
+    List<Callable<TaskResult>> tasks = new ArrayList<>(numberOfCells * tasksPerCell);
+    for (int strategyIndex = 0; strategyIndex < tournament.getStrategies().size(); strategyIndex++) {
+      for (int opponentIndex = 0; opponentIndex < tournament.getOpponents().size(); opponentIndex++) {
+        for (int quantityIndex = 0; quantityIndex < tournament.getNumberOfQuantities(); quantityIndex++) {
+          for (int cashIndex = 0; cashIndex < tournament.getNumberOfCashes(); cashIndex++) {
+            addCellTasks(tasks, tournament, strategyIndex, opponentIndex, quantityIndex, cashIndex, tasksPerCell);
+          }
+        }
+      }
+    }
+
+    int[] wins = new int[numberOfCells];
+    int[] draws = new int[numberOfCells];
+    int[] losses = new int[numberOfCells];
+    for (Future<TaskResult> future : forkJoinPool.invokeAll(tasks)) {
+      TaskResult taskResult = getTaskResult(future);
+      wins[taskResult.cellIndex] += taskResult.wins;
+      draws[taskResult.cellIndex] += taskResult.draws;
+      losses[taskResult.cellIndex] += taskResult.losses;
+    }
+
+    return new TournamentResult(tournament, wins, draws, losses);
+  }
+
+  private void addCellTasks(List<Callable<TaskResult>> tasks, Tournament tournament, int strategyIndex, int opponentIndex,
+                            int quantityIndex, int cashIndex, int tasksPerCell) {
+    TournamentParticipant strategy = tournament.getStrategies().get(strategyIndex);
+    TournamentParticipant opponent = tournament.getOpponents().get(opponentIndex);
+    int cellIndex = tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex);
+    int quantity = tournament.getQuantity(quantityIndex);
+    int cash = tournament.getCash(cashIndex);
+    for (int taskIndex = 0; taskIndex < tasksPerCell; taskIndex++) {
+      long seed = getTaskSeed(tournament.getSeed(), opponentIndex, quantityIndex, cashIndex, taskIndex);
+      int numberOfAuctions = Math.min(AUCTIONS_PER_TASK, tournament.getNumberOfAuctions() - taskIndex * AUCTIONS_PER_TASK);
+      tasks.add(() -> playAuctions(cellIndex, strategy, opponent, quantity, cash, seed, numberOfAuctions));
+    }
+  }
+
+  private TaskResult playAuctions(int cellIndex, TournamentParticipant strategy, TournamentParticipant opponent,
+                                  int quantity, int cash, long seed, int numberOfAuctions) throws Exception {
+    SplittableRandom random = new SplittableRandom(seed);
+    Bidder strategyBidder = strategy.createBidder(random.nextLong());
+    Bidder opponentBidder = opponent.createBidder(random.nextLong());
+    TaskResult taskResult = new TaskResult(cellIndex);
+    try {
+      for (int auction = 0; auction < numberOfAuctions; auction++) {
+        AuctionResult auctionResult = auctionEngine.run(strategyBidder, opponentBidder, quantity, cash);
+        if (auctionResult.isFirstBidderWinner()) {
+          taskResult.wins++;
+        } else if (auctionResult.isSecondBidderWinner()) {
+          taskResult.losses++;
+        } else {
+          taskResult.draws++;
+        }
+      }
+    } finally {
+      close(strategyBidder);
+      close(opponentBidder);
+    }
+    return taskResult;
+  }
+
+  /**
+   * The strategy isn't mixed in, so all strategies of a cell meet the same opponents.
+   */
+  static long getTaskSeed(long tournamentSeed, int opponentIndex, int quantityIndex, int cashIndex, int taskIndex) {
+    return mix(mix(mix(mix(tournamentSeed, opponentIndex), quantityIndex), cashIndex), taskIndex);
+  }
+
+  /**
+   * Finalizer of SplitMix64 over the seed and the index, so neighbouring indices give unrelated seeds.
+   */
+  private static long mix(long seed, int index) {
+    long z = seed + 0x9E3779B97F4A7C15L * (index + 1L);
+    z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+    return z ^ z >>> 31;
+  }
+
+  private void close(Bidder bidder) throws Exception {
+    if (bidder instanceof AutoCloseable) {
+      ((AutoCloseable) bidder).close();
+    }
+  }
+
+  private TaskResult getTaskResult(Future<TaskResult> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Tournament task has failed", e.getCause());
+    }
+  }
+
+  private static final class TaskResult {
+
+    private final int cellIndex;
+
+    private int wins;
+
+    private int draws;
+
+    private int losses;
+
+    private TaskResult(int cellIndex) {
+      this.cellIndex = cellIndex;
+    }
+  }
+}
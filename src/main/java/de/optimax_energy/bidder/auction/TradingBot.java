@@ -1,23 +1,26 @@
 package de.optimax_energy.bidder.auction;
 
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
 import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
-import de.optimax_energy.bidder.auction.api.Bidder;
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.DecisionTracer;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
 import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 import de.optimax_energy.bidder.auction.api.dto.StrategyNotFoundException;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategyBandit;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
 
-class TradingBot implements Bidder {
-
-  private final Logger logger = LoggerFactory.getLogger(getClass());
+class TradingBot implements AuctionSession, AsyncBidder {
 
   private final StrategySelector strategySelector;
 
@@ -25,8 +28,18 @@ class TradingBot implements Bidder {
 
   private final StatisticsService statisticsService;
 
+  private final DecisionTracer decisionTracer;
+
   private final String uuid;
 
+  private final RoundStatistics roundStatistics;
+
+  private final AuctionState auctionState = new AuctionState();
+
+  private final OpponentProfile opponentProfile = new OpponentProfile();
+
+  private final StrategyBandit.Episode banditEpisode;
+
   private int initialQuantity;
 
   private int initialCash;
@@ -35,11 +48,25 @@ class TradingBot implements Bidder {
 
   private int remainingCash;
 
+  private StrategyName lastStrategyName;
+
   TradingBot(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
+    this(strategySelector, roundResultStorageOperations, statisticsService, UUID.randomUUID().toString());
+  }
+
+  TradingBot(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService, String uuid) {
+    this(strategySelector, roundResultStorageOperations, statisticsService, DecisionTracer.NO_OP, uuid);
+  }
+
+  TradingBot(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService,
+             DecisionTracer decisionTracer, String uuid) {
     this.strategySelector = strategySelector;
     this.roundResultStorageOperations = roundResultStorageOperations;
     this.statisticsService = statisticsService;
-    this.uuid = UUID.randomUUID().toString();
+    this.decisionTracer = decisionTracer;
+    this.uuid = uuid;
+    this.roundStatistics = statisticsService.createRoundStatistics();
+    this.banditEpisode = strategySelector.createBanditEpisode();
   }
 
   @Override
@@ -48,61 +75,113 @@ class TradingBot implements Bidder {
     this.initialCash = cash;
     this.quantity = 0;
     this.remainingCash = cash;
+    this.lastStrategyName = null;
+    this.roundStatistics.reset();
+    this.opponentProfile.reset();
+    resetBanditEpisode();
+    roundResultStorageOperations.initAuctionForBidder(uuid, quantity, cash);
+  }
+
+  @Override
+  public void restore() {
+    roundResultStorageOperations.getInitialAuctionStateForBidder(uuid).ifPresent(initialAuctionState -> {
+      initialQuantity = initialAuctionState.getInitialQuantity();
+      initialCash = initialAuctionState.getInitialCash();
+    });
+    roundStatistics.reset();
+    opponentProfile.reset();
+    resetBanditEpisode();
+    quantity = 0;
+    remainingCash = initialCash;
+    for (RoundResult roundResult : roundResultStorageOperations.getRoundResultsForBidder(uuid)) {
+      opponentProfile.update(roundResult.getMyBid(), roundResult.getOpponentBid(),
+        roundResult.getOpponentRemainingCash() + roundResult.getOpponentBid(), getRemainingRounds());
+      roundStatistics.add(roundResult);
+      quantity += roundResult.getMyWonQuantity();
+      remainingCash -= roundResult.getMyBid();
+    }
+  }
+
+  @Override
+  public void finishAuction() {
+    roundResultStorageOperations.removeRoundResultsForBidder(uuid);
+    roundStatistics.reset();
+    resetBanditEpisode();
+  }
+
+  @Override
+  public void close() {
+    finishAuction();
   }
 
   @Override
   public int placeBid() {
-    List<RoundResult> roundResults = roundResultStorageOperations.getRoundResultsForBidder(uuid);
-    BiddingStrategy selectedStrategy = strategySelector.select(roundResults, initialQuantity, initialCash)
-      .orElseThrow(() -> new StrategyNotFoundException("Could not select strategy"));
-    int bid = selectedStrategy.placeBid(roundResults, initialQuantity, initialCash);
+    int bid = selectStrategy().placeBid(auctionState);
 
     return Math.min(bid, remainingCash);
   }
 
+  /**
+   * Places the bid without blocking the calling thread on the lookahead: rule based strategies bid at once, the
+   * lookahead completes the bid from workers of its pool.
+   */
   @Override
-  public void bids(int myBid, int opponentBid) {
-    logger.info("My bid is {}, competitor's bid is {}", myBid, opponentBid);
-    roundResultStorageOperations.addRoundResultForBidder(uuid, calculateRoundResult(myBid, opponentBid));
+  public CompletableFuture<Integer> placeBidAsync() {
+    int cashLimit = remainingCash;
+    return selectStrategy().placeBidAsync(auctionState).thenApply(bid -> Math.min(bid, cashLimit));
+  }
+
+  private BiddingStrategy selectStrategy() {
+    statisticsService.updateAuctionState(auctionState, roundStatistics, initialQuantity, initialCash);
+    auctionState.withOpponentProfile(opponentProfile);
+    Optional<BiddingStrategy> selectedStrategy = strategySelector.select(auctionState, banditEpisode);
+    if (selectedStrategy.isEmpty()) {
+      decisionTracer.dump("Could not select strategy for bidder " + uuid);
+      throw new StrategyNotFoundException("Could not select strategy");
+    }
+    lastStrategyName = selectedStrategy.get().getStrategyName();
+    return selectedStrategy.get();
   }
 
-  private RoundResult calculateRoundResult(int myBid, int opponentBid) {
-    int opponentRemainingCashInLastRound = statisticsService.calculateOpponentRemainingCash(
-      roundResultStorageOperations.getRoundResultsForBidder(uuid), initialCash);
-    int opponentRemainingCash = opponentRemainingCashInLastRound - opponentBid;
+  /**
+   * Adds the round to the statistics and the storage by its fields, so a round doesn't allocate.
+   */
+  @Override
+  public void bids(int myBid, int opponentBid) {
+    decisionTracer.record(uuid, lastStrategyName, auctionState, myBid, opponentBid);
+    int opponentRemainingCash = statisticsService.calculateOpponentRemainingCash(roundStatistics, initialCash) - opponentBid;
+    int myWonQuantity = calculateMyWonQuantity(myBid, opponentBid);
+    int opponentWonQuantity = AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - myWonQuantity;
+    quantity += myWonQuantity;
     remainingCash -= myBid;
+    opponentProfile.update(myBid, opponentBid, opponentRemainingCash + opponentBid, getRemainingRounds());
+    roundStatistics.add(myBid, myWonQuantity, opponentBid, opponentRemainingCash, opponentWonQuantity);
+    roundResultStorageOperations.addRoundResultForBidder(uuid, myBid, myWonQuantity, opponentBid, opponentRemainingCash,
+      opponentWonQuantity);
+    if (banditEpisode != null && roundStatistics.getNumberOfRounds() == initialQuantity / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND) {
+      banditEpisode.finish(quantity, roundStatistics.getOpponentQuantity(), remainingCash,
+        roundStatistics.getOpponentRemainingCash());
+    }
+  }
 
-    if (myBid > opponentBid) {
-      quantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
-
-      return RoundResult.builder()
-        .withMyBid(myBid)
-        .withMyWonQuantity(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND)
-        .withOpponentBid(opponentBid)
-        .withOpponentRemainingCash(opponentRemainingCash)
-        .withOpponentWonQuantity(0)
-        .build();
+  private void resetBanditEpisode() {
+    if (banditEpisode != null) {
+      banditEpisode.reset();
     }
+  }
+
+  /**
+   * @return number of rounds left before the round, which is being added to the statistics
+   */
+  private int getRemainingRounds() {
+    return Math.max(1, initialQuantity / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - roundStatistics.getNumberOfRounds());
+  }
 
-    if (myBid < opponentBid) {
-      return RoundResult.builder()
-        .withMyBid(myBid)
-        .withMyWonQuantity(0)
-        .withOpponentBid(opponentBid)
-        .withOpponentRemainingCash(opponentRemainingCash)
-        .withOpponentWonQuantity(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND)
-        .build();
-    } else {
-      quantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
-
-      return RoundResult.builder()
-        .withMyBid(myBid)
-        .withMyWonQuantity(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2)
-        .withOpponentBid(opponentBid)
-        .withOpponentRemainingCash(opponentRemainingCash)
-        .withOpponentWonQuantity(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2)
-        .build();
+  private int calculateMyWonQuantity(int myBid, int opponentBid) {
+    if (myBid > opponentBid) {
+      return AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
     }
+    return myBid < opponentBid ? 0 : AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
   }
 
   public int getInitialQuantity() {
@@ -113,14 +192,17 @@ class TradingBot implements Bidder {
     return initialCash;
   }
 
+  @Override
   public int getQuantity() {
     return quantity;
   }
 
+  @Override
   public int getRemainingCash() {
     return remainingCash;
   }
 
+  @Override
   public String getUuid() {
     return uuid;
   }
@@ -0,0 +1,41 @@
+package de.optimax_energy.bidder.auction.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a bidder for the auction, which places its bids without blocking the calling thread, e.g. while it waits
+ * for a lookahead or a remote solver.
+ */
+public interface AsyncBidder {
+
+  /**
+   * Initializes the bidder with the production quantity and the allowed cash limit.
+   *
+   * @param quantity the quantity
+   * @param cash     the cash limit
+   */
+  void init(int quantity, int cash);
+
+  /**
+   * Requests the next bid for the product, which may be zero. The bidder isn't called again until the bid is
+   * completed.
+   *
+   * @return the next bid, which is completed on any thread
+   */
+  CompletableFuture<Integer> placeBidAsync();
+
+  /**
+   * Shows the bids of the two bidders.
+   *
+   * @param own   the bid of this bidder
+   * @param other the bid of the other bidder
+   */
+  void bids(int own, int other);
+
+  /**
+   * Finishes the current auction, e.g. releases its round results. It's called once, when the auction has ended or
+   * failed, after the last call of the bidder has returned.
+   */
+  default void finishAuction() {
+  }
+}
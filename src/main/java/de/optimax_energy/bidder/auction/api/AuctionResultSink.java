@@ -0,0 +1,16 @@
+package de.optimax_energy.bidder.auction.api;
+
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult;
+
+/**
+ * Receiver of results of hosted auctions. It's called once per auction on the thread, which finished the auction, so
+ * it must be thread safe and must not block or do I/O there.
+ */
+@FunctionalInterface
+public interface AuctionResultSink {
+
+  AuctionResultSink NO_OP = hostedAuctionResult -> {
+  };
+
+  void accept(HostedAuctionResult hostedAuctionResult);
+}
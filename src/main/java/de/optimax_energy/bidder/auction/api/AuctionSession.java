@@ -0,0 +1,35 @@
+package de.optimax_energy.bidder.auction.api;
+
+/**
+ * Bidder, which plays one auction at a time. A session keeps only the state of its auction, strategies and storage are
+ * shared with other sessions of the same factory, so a session is cheap to create and must not be shared by threads.
+ */
+public interface AuctionSession extends Bidder, AutoCloseable {
+
+  /**
+   * @return id of the session, under which its round results are stored
+   */
+  String getUuid();
+
+  /**
+   * Restores the state of the current auction from stored round results, e.g. after restart with persistent storage.
+   * Initial quantity and cash are restored too, if the storage keeps them, otherwise it should be called after
+   * {@link #init(int, int)} with the same initial quantity and cash.
+   */
+  void restore();
+
+  /**
+   * Finishes the current auction: round results are removed from storage and the session can be initialized again.
+   */
+  void finishAuction();
+
+  int getQuantity();
+
+  int getRemainingCash();
+
+  /**
+   * Disposes the session, its round results are removed from storage.
+   */
+  @Override
+  void close();
+}
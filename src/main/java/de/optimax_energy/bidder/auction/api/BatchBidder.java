@@ -0,0 +1,19 @@
+package de.optimax_energy.bidder.auction.api;
+
+import de.optimax_energy.bidder.auction.api.dto.BatchAuctionState;
+
+/**
+ * Bidder, which places bids of many auctions in one call, e.g. when one process plays thousands of auctions in
+ * lockstep.
+ */
+public interface BatchBidder {
+
+  /**
+   * Places the next bid of every auction of the batch.
+   *
+   * @param batchAuctionState state of the auctions
+   * @param bids              array of at least {@link BatchAuctionState#getSize()} bids, which is filled by index of
+   *                          the auction
+   */
+  void placeBids(BatchAuctionState batchAuctionState, int[] bids);
+}
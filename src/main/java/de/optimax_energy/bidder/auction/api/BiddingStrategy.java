@@ -1,9 +1,9 @@
 package de.optimax_energy.bidder.auction.api;
 
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface BiddingStrategy {
 
@@ -11,7 +11,22 @@ public interface BiddingStrategy {
 
   int MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY = 10;
 
-  int placeBid(List<RoundResult> roundResults, int initialQuantity, int initialCash);
+  /**
+   * @param auctionState snapshot of the auction before the bid
+   * @return bid
+   */
+  int placeBid(AuctionState auctionState);
+
+  /**
+   * Places the bid without blocking the calling thread. Strategies, which only compute their bid, complete it at once,
+   * strategies, which wait for a search, complete it later on any thread.
+   *
+   * @param auctionState snapshot of the auction before the bid, which may be reused after the call has returned
+   * @return bid
+   */
+  default CompletableFuture<Integer> placeBidAsync(AuctionState auctionState) {
+    return CompletableFuture.completedFuture(placeBid(auctionState));
+  }
 
   StrategyName getStrategyName();
 }
@@ -0,0 +1,39 @@
+package de.optimax_energy.bidder.auction.api;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * Trace of bidding decisions. Implementations are called on the bidding path, so they must not block or do I/O there.
+ */
+public interface DecisionTracer {
+
+  DecisionTracer NO_OP = new DecisionTracer() {
+
+    @Override
+    public void record(String bidderUuid, StrategyName strategyName, AuctionState auctionState, int myBid, int opponentBid) {
+    }
+
+    @Override
+    public void dump(String reason) {
+    }
+  };
+
+  /**
+   * Records one round.
+   *
+   * @param bidderUuid   uuid of the bidder
+   * @param strategyName strategy, which placed the bid, null if unknown
+   * @param auctionState snapshot of the auction, on which the bid was based
+   * @param myBid        bid of the bidder
+   * @param opponentBid  bid of the opponent
+   */
+  void record(String bidderUuid, StrategyName strategyName, AuctionState auctionState, int myBid, int opponentBid);
+
+  /**
+   * Requests output of all retained rounds, e.g. when bidding has failed.
+   *
+   * @param reason reason of the dump
+   */
+  void dump(String reason);
+}
@@ -1,12 +1,55 @@
 package de.optimax_energy.bidder.auction.api;
 
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
 import de.optimax_energy.bidder.auction.api.dto.RoundResult;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface RoundResultStorageOperations {
 
+  /**
+   * Keeps initial quantity and cash of the bidder's auction, so its state can be restored after restart. Storages, which
+   * don't survive restarts, don't need to keep them.
+   *
+   * @param bidderUuid      uuid of the bidder
+   * @param initialQuantity initial quantity of the auction
+   * @param initialCash     initial cash of the auction
+   */
+  default void initAuctionForBidder(String bidderUuid, int initialQuantity, int initialCash) {
+  }
+
+  /**
+   * @param bidderUuid uuid of the bidder
+   * @return initial quantity and cash of the bidder's auction, empty if the storage doesn't keep them
+   */
+  default Optional<InitialAuctionState> getInitialAuctionStateForBidder(String bidderUuid) {
+    return Optional.empty();
+  }
+
   void addRoundResultForBidder(String bidderUuid, RoundResult roundResult);
 
+  /**
+   * Adds the round given by its fields. Storages, which keep rounds in primitive columns, override it, so a round
+   * doesn't allocate a {@link RoundResult}, the others get the built result.
+   */
+  default void addRoundResultForBidder(String bidderUuid, int myBid, int myWonQuantity, int opponentBid,
+                                       int opponentRemainingCash, int opponentWonQuantity) {
+    addRoundResultForBidder(bidderUuid, RoundResult.builder()
+      .withMyBid(myBid)
+      .withMyWonQuantity(myWonQuantity)
+      .withOpponentBid(opponentBid)
+      .withOpponentRemainingCash(opponentRemainingCash)
+      .withOpponentWonQuantity(opponentWonQuantity)
+      .build());
+  }
+
   List<RoundResult> getRoundResultsForBidder(String bidderUuid);
+
+  /**
+   * Removes all round results and the initial state of the bidder, e.g. when its auction is finished or the bidder is disposed.
+   *
+   * @param bidderUuid uuid of the bidder
+   */
+  void removeRoundResultsForBidder(String bidderUuid);
 }
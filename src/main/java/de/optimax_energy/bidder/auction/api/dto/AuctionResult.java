@@ -0,0 +1,126 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Outcome of one auction between two bidders. The bidder with more QU wins, with equal QU the bidder with more
+ * remaining MU wins, otherwise the auction is a draw.
+ */
+public class AuctionResult {
+
+  private final int numberOfRounds;
+
+  private final int firstBidderQuantity;
+
+  private final int firstBidderRemainingCash;
+
+  private final int secondBidderQuantity;
+
+  private final int secondBidderRemainingCash;
+
+  private AuctionResult(Builder builder) {
+    this.numberOfRounds = builder.numberOfRounds;
+    this.firstBidderQuantity = builder.firstBidderQuantity;
+    this.firstBidderRemainingCash = builder.firstBidderRemainingCash;
+    this.secondBidderQuantity = builder.secondBidderQuantity;
+    this.secondBidderRemainingCash = builder.secondBidderRemainingCash;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  public int getFirstBidderQuantity() {
+    return firstBidderQuantity;
+  }
+
+  public int getFirstBidderRemainingCash() {
+    return firstBidderRemainingCash;
+  }
+
+  public int getSecondBidderQuantity() {
+    return secondBidderQuantity;
+  }
+
+  public int getSecondBidderRemainingCash() {
+    return secondBidderRemainingCash;
+  }
+
+  public boolean isFirstBidderWinner() {
+    return compareFirstBidderWithSecond() > 0;
+  }
+
+  public boolean isSecondBidderWinner() {
+    return compareFirstBidderWithSecond() < 0;
+  }
+
+  public boolean isDraw() {
+    return compareFirstBidderWithSecond() == 0;
+  }
+
+  private int compareFirstBidderWithSecond() {
+    if (firstBidderQuantity != secondBidderQuantity) {
+      return Integer.compare(firstBidderQuantity, secondBidderQuantity);
+    }
+
+    return Integer.compare(firstBidderRemainingCash, secondBidderRemainingCash);
+  }
+
+  @Override
+  public String toString() {
+    return "AuctionResult{" +
+      "numberOfRounds=" + numberOfRounds +
+      ", firstBidderQuantity=" + firstBidderQuantity +
+      ", firstBidderRemainingCash=" + firstBidderRemainingCash +
+      ", secondBidderQuantity=" + secondBidderQuantity +
+      ", secondBidderRemainingCash=" + secondBidderRemainingCash +
+      '}';
+  }
+
+  public static final class Builder {
+
+    private int numberOfRounds;
+
+    private int firstBidderQuantity;
+
+    private int firstBidderRemainingCash;
+
+    private int secondBidderQuantity;
+
+    private int secondBidderRemainingCash;
+
+    private Builder() {
+    }
+
+    public Builder withNumberOfRounds(int numberOfRounds) {
+      this.numberOfRounds = numberOfRounds;
+      return this;
+    }
+
+    public Builder withFirstBidderQuantity(int firstBidderQuantity) {
+      this.firstBidderQuantity = firstBidderQuantity;
+      return this;
+    }
+
+    public Builder withFirstBidderRemainingCash(int firstBidderRemainingCash) {
+      this.firstBidderRemainingCash = firstBidderRemainingCash;
+      return this;
+    }
+
+    public Builder withSecondBidderQuantity(int secondBidderQuantity) {
+      this.secondBidderQuantity = secondBidderQuantity;
+      return this;
+    }
+
+    public Builder withSecondBidderRemainingCash(int secondBidderRemainingCash) {
+      this.secondBidderRemainingCash = secondBidderRemainingCash;
+      return this;
+    }
+
+    public AuctionResult build() {
+      return new AuctionResult(this);
+    }
+  }
+}
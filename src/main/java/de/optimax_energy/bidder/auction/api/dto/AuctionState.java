@@ -0,0 +1,209 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Snapshot of the auction from the point of view of one bidder, calculated once before the bid and shared by
+ * strategy selector and strategies. The instance is reusable: the bidder overwrites it before every bid.
+ */
+public class AuctionState {
+
+  private int initialQuantity;
+
+  private int initialCash;
+
+  private int numberOfRounds;
+
+  private int myQuantity;
+
+  private int opponentQuantity;
+
+  private int myRemainingCash;
+
+  private int opponentRemainingCash;
+
+  private int opponentAverageBid;
+
+  private int predictedOpponentBid;
+
+  private RoundStatistics roundStatistics;
+
+  private OpponentProfile opponentProfile;
+
+  private int policyRegime = -1;
+
+  private boolean policyRegimeResolved;
+
+  private int policyRegimeInitialQuantity;
+
+  private int policyRegimeInitialCash;
+
+  public AuctionState withInitialQuantity(int initialQuantity) {
+    this.initialQuantity = initialQuantity;
+    return this;
+  }
+
+  public AuctionState withInitialCash(int initialCash) {
+    this.initialCash = initialCash;
+    return this;
+  }
+
+  public AuctionState withNumberOfRounds(int numberOfRounds) {
+    this.numberOfRounds = numberOfRounds;
+    return this;
+  }
+
+  public AuctionState withMyQuantity(int myQuantity) {
+    this.myQuantity = myQuantity;
+    return this;
+  }
+
+  public AuctionState withOpponentQuantity(int opponentQuantity) {
+    this.opponentQuantity = opponentQuantity;
+    return this;
+  }
+
+  public AuctionState withMyRemainingCash(int myRemainingCash) {
+    this.myRemainingCash = myRemainingCash;
+    return this;
+  }
+
+  public AuctionState withOpponentRemainingCash(int opponentRemainingCash) {
+    this.opponentRemainingCash = opponentRemainingCash;
+    return this;
+  }
+
+  public AuctionState withOpponentAverageBid(int opponentAverageBid) {
+    this.opponentAverageBid = opponentAverageBid;
+    return this;
+  }
+
+  public AuctionState withPredictedOpponentBid(int predictedOpponentBid) {
+    this.predictedOpponentBid = predictedOpponentBid;
+    return this;
+  }
+
+  /**
+   * @param roundStatistics statistics of previous rounds, which are owned by the bidder and must not be modified
+   */
+  public AuctionState withRoundStatistics(RoundStatistics roundStatistics) {
+    this.roundStatistics = roundStatistics;
+    return this;
+  }
+
+  /**
+   * @param opponentProfile classification of opponent's bids, which is owned by the bidder and must not be modified
+   */
+  public AuctionState withOpponentProfile(OpponentProfile opponentProfile) {
+    this.opponentProfile = opponentProfile;
+    return this;
+  }
+
+  /**
+   * Keeps the regime of the policy table, which was resolved for the initial quantity and cash, so it's searched once
+   * per auction, also when the table has no policy for it.
+   *
+   * @param policyRegime    regime of the policy table, -1 if the table has no policy for the auction
+   * @param initialQuantity initial quantity, for which the regime was resolved
+   * @param initialCash     initial cash, for which the regime was resolved
+   */
+  public AuctionState withPolicyRegime(int policyRegime, int initialQuantity, int initialCash) {
+    this.policyRegime = policyRegime;
+    this.policyRegimeResolved = true;
+    this.policyRegimeInitialQuantity = initialQuantity;
+    this.policyRegimeInitialCash = initialCash;
+    return this;
+  }
+
+  public int getInitialQuantity() {
+    return initialQuantity;
+  }
+
+  public int getInitialCash() {
+    return initialCash;
+  }
+
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  public boolean isFirstRound() {
+    return numberOfRounds == 0;
+  }
+
+  public int getMyQuantity() {
+    return myQuantity;
+  }
+
+  public int getOpponentQuantity() {
+    return opponentQuantity;
+  }
+
+  public int getRemainingQuantity() {
+    return initialQuantity - myQuantity - opponentQuantity;
+  }
+
+  public int getMyRemainingCash() {
+    return myRemainingCash;
+  }
+
+  public int getOpponentRemainingCash() {
+    return opponentRemainingCash;
+  }
+
+  public int getOpponentAverageBid() {
+    return opponentAverageBid;
+  }
+
+  /**
+   * @return opponent's next bid predicted by the estimator with the lowest recent error, 0 before the first round
+   */
+  public int getPredictedOpponentBid() {
+    return predictedOpponentBid;
+  }
+
+  /**
+   * @return statistics of previous rounds, null if the state was not calculated from them
+   */
+  public RoundStatistics getRoundStatistics() {
+    return roundStatistics;
+  }
+
+  /**
+   * @return classification of opponent's bids, null if the bidder doesn't classify the opponent
+   */
+  public OpponentProfile getOpponentProfile() {
+    return opponentProfile;
+  }
+
+  /**
+   * @return regime of the policy table, -1 if the table has no policy for the auction or it isn't resolved
+   */
+  public int getPolicyRegime() {
+    return policyRegime;
+  }
+
+  /**
+   * @return true, if the regime of the policy table was resolved for the given initial quantity and cash
+   */
+  public boolean isPolicyRegimeResolved(int initialQuantity, int initialCash) {
+    return policyRegimeResolved && policyRegimeInitialQuantity == initialQuantity && policyRegimeInitialCash == initialCash;
+  }
+
+  public OpponentClass getOpponentClass() {
+    return opponentProfile == null ? OpponentClass.UNKNOWN : opponentProfile.getOpponentClass();
+  }
+
+  @Override
+  public String toString() {
+    return "AuctionState{" +
+      "initialQuantity=" + initialQuantity +
+      ", initialCash=" + initialCash +
+      ", numberOfRounds=" + numberOfRounds +
+      ", myQuantity=" + myQuantity +
+      ", opponentQuantity=" + opponentQuantity +
+      ", myRemainingCash=" + myRemainingCash +
+      ", opponentRemainingCash=" + opponentRemainingCash +
+      ", opponentAverageBid=" + opponentAverageBid +
+      ", predictedOpponentBid=" + predictedOpponentBid +
+      '}';
+  }
+}
@@ -0,0 +1,130 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * State of many auctions of one bidder, which are played in lockstep, kept as struct of arrays: the value of an auction
+ * is at its index in every array. Only the statistics, which fit into ints, are kept: QU and MU of both bidders,
+ * number of rounds and the last two opponent's bids. The getters return the arrays themselves, so a batch is read
+ * without copying.
+ */
+public class BatchAuctionState {
+
+  private final int size;
+
+  private final int[] initialQuantities;
+
+  private final int[] initialCashes;
+
+  private final int[] numbersOfRounds;
+
+  private final int[] myQuantities;
+
+  private final int[] opponentQuantities;
+
+  private final int[] myRemainingCashes;
+
+  private final int[] opponentRemainingCashes;
+
+  private final int[] lastOpponentBids;
+
+  private final int[] previousOpponentBids;
+
+  public BatchAuctionState(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Size should be positive");
+    }
+    this.size = size;
+    this.initialQuantities = new int[size];
+    this.initialCashes = new int[size];
+    this.numbersOfRounds = new int[size];
+    this.myQuantities = new int[size];
+    this.opponentQuantities = new int[size];
+    this.myRemainingCashes = new int[size];
+    this.opponentRemainingCashes = new int[size];
+    this.lastOpponentBids = new int[size];
+    this.previousOpponentBids = new int[size];
+  }
+
+  /**
+   * Starts a new auction at the index.
+   *
+   * @param auction  index of the auction
+   * @param quantity initial amount of QU
+   * @param cash     initial amount of MU of each bidder
+   */
+  public void init(int auction, int quantity, int cash) {
+    initialQuantities[auction] = quantity;
+    initialCashes[auction] = cash;
+    numbersOfRounds[auction] = 0;
+    myQuantities[auction] = 0;
+    opponentQuantities[auction] = 0;
+    myRemainingCashes[auction] = cash;
+    opponentRemainingCashes[auction] = cash;
+    lastOpponentBids[auction] = 0;
+    previousOpponentBids[auction] = 0;
+  }
+
+  /**
+   * Adds the bids of a round of the auction at the index.
+   *
+   * @param auction index of the auction
+   * @param own     the bid of this bidder
+   * @param other   the bid of the other bidder
+   */
+  public void bids(int auction, int own, int other) {
+    if (own > other) {
+      myQuantities[auction] += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+    } else if (own < other) {
+      opponentQuantities[auction] += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+    } else {
+      myQuantities[auction] += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+      opponentQuantities[auction] += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+    }
+    myRemainingCashes[auction] -= own;
+    opponentRemainingCashes[auction] -= other;
+    previousOpponentBids[auction] = lastOpponentBids[auction];
+    lastOpponentBids[auction] = other;
+    numbersOfRounds[auction]++;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int[] getInitialQuantities() {
+    return initialQuantities;
+  }
+
+  public int[] getInitialCashes() {
+    return initialCashes;
+  }
+
+  public int[] getNumbersOfRounds() {
+    return numbersOfRounds;
+  }
+
+  public int[] getMyQuantities() {
+    return myQuantities;
+  }
+
+  public int[] getOpponentQuantities() {
+    return opponentQuantities;
+  }
+
+  public int[] getMyRemainingCashes() {
+    return myRemainingCashes;
+  }
+
+  public int[] getOpponentRemainingCashes() {
+    return opponentRemainingCashes;
+  }
+
+  public int[] getLastOpponentBids() {
+    return lastOpponentBids;
+  }
+
+  public int[] getPreviousOpponentBids() {
+    return previousOpponentBids;
+  }
+}
@@ -0,0 +1,138 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.Arrays;
+
+/**
+ * Bounded-memory sketch of the distribution of bids: a histogram with exact buckets for bids below 32 and 16
+ * logarithmic buckets per power of two above, so a bucket is never wider than 1/16 of its values. Counts of groups of
+ * 16 buckets are kept as well, so an update is O(1) and a quantile query visits at most 28 groups and 16 buckets,
+ * however long the auction is. Counts are allocated up to the highest bucket seen so far, so a sketch of bids below 128
+ * takes 64 buckets instead of all of them.
+ */
+public class BidQuantileSketch {
+
+  private static final int SUB_BUCKET_BITS = 4;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+
+  private static final int FIRST_EXPONENT = SUB_BUCKET_BITS + 1;
+
+  public static final int NUMBER_OF_BUCKETS = LINEAR_LIMIT + (Integer.SIZE - 1 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+  private static final int INITIAL_NUMBER_OF_BUCKETS = 4 * SUB_BUCKETS;
+
+  private int[] bucketCounts = new int[INITIAL_NUMBER_OF_BUCKETS];
+
+  private int[] groupCounts = new int[INITIAL_NUMBER_OF_BUCKETS / SUB_BUCKETS];
+
+  private int count;
+
+  /**
+   * @param bid bid, negative bids are counted as 0
+   */
+  public void add(int bid) {
+    int bucket = getBucket(bid);
+    if (bucket >= bucketCounts.length) {
+      grow(bucket);
+    }
+    bucketCounts[bucket]++;
+    groupCounts[bucket >>> SUB_BUCKET_BITS]++;
+    count++;
+  }
+
+  /**
+   * Grows counts to whole groups, which include the bucket, at least twice.
+   */
+  private void grow(int bucket) {
+    int numberOfBuckets = Math.min(NUMBER_OF_BUCKETS, Math.max(2 * bucketCounts.length, (bucket | (SUB_BUCKETS - 1)) + 1));
+    bucketCounts = Arrays.copyOf(bucketCounts, numberOfBuckets);
+    groupCounts = Arrays.copyOf(groupCounts, numberOfBuckets / SUB_BUCKETS);
+  }
+
+  public void reset() {
+    Arrays.fill(bucketCounts, 0);
+    Arrays.fill(groupCounts, 0);
+    count = 0;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * @param probability probability, with which the bid should be higher than opponent's bid, from 0 to 1
+   * @return the lowest bid, which is higher than the given share of the added bids up to the width of a bucket, 0 if
+   * the sketch is empty
+   */
+  public int getBidToBeat(double probability) {
+    int rank = (int) Math.ceil(Math.max(0, Math.min(1, probability)) * count);
+    if (rank == 0) {
+      return 0;
+    }
+    int upperBound = getUpperBound(findBucket(rank));
+    return upperBound == Integer.MAX_VALUE ? upperBound : upperBound + 1;
+  }
+
+  /**
+   * @param quantile quantile from 0 to 1
+   * @return upper bound of the bucket of the quantile, 0 if the sketch is empty
+   */
+  public int getQuantile(double quantile) {
+    int rank = Math.max(1, (int) Math.ceil(Math.max(0, Math.min(1, quantile)) * count));
+    return count == 0 ? 0 : getUpperBound(findBucket(rank));
+  }
+
+  /**
+   * @param rank 1-based rank of a bid in ascending order, not greater than the count
+   * @return bucket of the bid
+   */
+  private int findBucket(int rank) {
+    int remainingRank = rank;
+    int group = 0;
+    while (groupCounts[group] < remainingRank) {
+      remainingRank -= groupCounts[group];
+      group++;
+    }
+    int bucket = group << SUB_BUCKET_BITS;
+    while (bucketCounts[bucket] < remainingRank) {
+      remainingRank -= bucketCounts[bucket];
+      bucket++;
+    }
+    return bucket;
+  }
+
+  /**
+   * @param value non-negative value, e.g. a bid or a latency, negative values are counted as 0
+   * @return bucket of the value from 0 to {@link #NUMBER_OF_BUCKETS} - 1
+   */
+  public static int getBucket(int value) {
+    if (value < LINEAR_LIMIT) {
+      return Math.max(0, value);
+    }
+    int exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+    int subBucket = (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * @return the highest value of the bucket
+   */
+  public static int getUpperBound(int bucket) {
+    if (bucket < LINEAR_LIMIT) {
+      return bucket;
+    }
+    int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + FIRST_EXPONENT - SUB_BUCKET_BITS;
+    int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+    return ((SUB_BUCKETS + subBucket) << shift) + (1 << shift) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return "BidQuantileSketch{" +
+      "count=" + count +
+      ", median=" + getQuantile(0.5) +
+      '}';
+  }
+}
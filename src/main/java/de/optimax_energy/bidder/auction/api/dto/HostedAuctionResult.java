@@ -0,0 +1,109 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Outcome of an auction, which was played by the auction host. An auction, in which a bidder timed out or failed, is
+ * stopped, the result keeps the rounds played before.
+ */
+public class HostedAuctionResult {
+
+  public enum Status {
+    COMPLETED,
+    FIRST_BIDDER_TIMED_OUT,
+    SECOND_BIDDER_TIMED_OUT,
+    FIRST_BIDDER_FAILED,
+    SECOND_BIDDER_FAILED
+  }
+
+  private final long auctionId;
+
+  private final Status status;
+
+  private final AuctionResult auctionResult;
+
+  private final Throwable failure;
+
+  private HostedAuctionResult(Builder builder) {
+    this.auctionId = builder.auctionId;
+    this.status = builder.status;
+    this.auctionResult = builder.auctionResult;
+    this.failure = builder.failure;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public long getAuctionId() {
+    return auctionId;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public boolean isCompleted() {
+    return status == Status.COMPLETED;
+  }
+
+  /**
+   * @return result of the rounds, which were played
+   */
+  public AuctionResult getAuctionResult() {
+    return auctionResult;
+  }
+
+  /**
+   * @return cause of the timeout or failure, null if the auction was completed
+   */
+  public Throwable getFailure() {
+    return failure;
+  }
+
+  @Override
+  public String toString() {
+    return "HostedAuctionResult{" +
+      "auctionId=" + auctionId +
+      ", status=" + status +
+      ", auctionResult=" + auctionResult +
+      ", failure=" + failure +
+      '}';
+  }
+
+  public static final class Builder {
+
+    private long auctionId;
+
+    private Status status;
+
+    private AuctionResult auctionResult;
+
+    private Throwable failure;
+
+    private Builder() {
+    }
+
+    public Builder withAuctionId(long auctionId) {
+      this.auctionId = auctionId;
+      return this;
+    }
+
+    public Builder withStatus(Status status) {
+      this.status = status;
+      return this;
+    }
+
+    public Builder withAuctionResult(AuctionResult auctionResult) {
+      this.auctionResult = auctionResult;
+      return this;
+    }
+
+    public Builder withFailure(Throwable failure) {
+      this.failure = failure;
+      return this;
+    }
+
+    public HostedAuctionResult build() {
+      return new HostedAuctionResult(this);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Initial quantity and cash of an auction, which a persistent storage keeps with the round results of a bidder, so the
+ * state of the auction can be restored after restart.
+ */
+public class InitialAuctionState {
+
+  private final int initialQuantity;
+
+  private final int initialCash;
+
+  public InitialAuctionState(int initialQuantity, int initialCash) {
+    this.initialQuantity = initialQuantity;
+    this.initialCash = initialCash;
+  }
+
+  public int getInitialQuantity() {
+    return initialQuantity;
+  }
+
+  public int getInitialCash() {
+    return initialCash;
+  }
+}
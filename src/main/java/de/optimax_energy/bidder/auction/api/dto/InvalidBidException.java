@@ -0,0 +1,8 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+public class InvalidBidException extends RuntimeException {
+
+  public InvalidBidException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,213 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.Arrays;
+
+/**
+ * Bank of incremental estimators of opponent's next bid, which selects the best of them online. Before every update the
+ * prediction of each estimator is compared with the actual bid and its running error, an exponential average of absolute
+ * errors, is updated. The prediction of the bank is the prediction of the estimator with the lowest running error, so
+ * recent behaviour of the opponent decides, whether e.g. the last bid or a longer average is used. Until a few errors
+ * are measured and on ties the average of the opponent bid window of {@link StrategyParameters} is used, by default of
+ * 2 last bids, which was the only estimate of the bot before. An update of the whole bank and a prediction are O(1).
+ */
+public class OpponentBidPredictor {
+
+  public enum Estimator {
+    LAST_BID,
+    AVERAGE_OF_2,
+    AVERAGE_OF_4,
+    AVERAGE_OF_8,
+    /**
+     * Average of the last bids in the opponent bid window of {@link StrategyParameters}.
+     */
+    AVERAGE_OF_WINDOW,
+    /**
+     * Exponential average, which keeps 80% of the previous value.
+     */
+    EXPONENTIAL_SLOW,
+    /**
+     * Exponential average, which keeps 50% of the previous value.
+     */
+    EXPONENTIAL_MEDIUM,
+    /**
+     * Exponential average, which keeps 20% of the previous value.
+     */
+    EXPONENTIAL_FAST,
+    /**
+     * Holt's double exponential smoothing, which extrapolates level and trend of the bids.
+     */
+    LINEAR_TREND
+  }
+
+  public static final Estimator DEFAULT_ESTIMATOR = Estimator.AVERAGE_OF_WINDOW;
+
+  public static final int MAX_WINDOW_SIZE = 8;
+
+  public static final int DEFAULT_WINDOW_SIZE = 2;
+
+  static final int MIN_NUMBER_OF_ERRORS = 2;
+
+  private static final Estimator[] ESTIMATORS = Estimator.values();
+
+  private static final int RING_SIZE = MAX_WINDOW_SIZE;
+
+  private static final double[] EXPONENTIAL_WEIGHTS = {0.2, 0.5, 0.8};
+
+  private static final double LEVEL_WEIGHT = 0.5;
+
+  private static final double TREND_WEIGHT = 0.3;
+
+  private static final double ERROR_WEIGHT = 0.3;
+
+  /**
+   * Sizes of windows of {@link Estimator#AVERAGE_OF_2}, {@link Estimator#AVERAGE_OF_4}, {@link Estimator#AVERAGE_OF_8}
+   * and {@link Estimator#AVERAGE_OF_WINDOW}.
+   */
+  private final int[] windowSizes;
+
+  private final int[] ring = new int[RING_SIZE];
+
+  private final long[] windowSums = new long[4];
+
+  private final double[] exponentialAverages = new double[EXPONENTIAL_WEIGHTS.length];
+
+  private final double[] errors = new double[ESTIMATORS.length];
+
+  private int count;
+
+  private double level;
+
+  private double trend;
+
+  private Estimator bestEstimator = DEFAULT_ESTIMATOR;
+
+  public OpponentBidPredictor() {
+    this(DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * @param windowSize number of last bids, which are averaged by the default estimator
+   */
+  public OpponentBidPredictor(int windowSize) {
+    if (windowSize < 1 || windowSize > MAX_WINDOW_SIZE) {
+      throw new IllegalArgumentException("Window size should be between 1 and " + MAX_WINDOW_SIZE);
+    }
+    this.windowSizes = new int[]{2, 4, 8, windowSize};
+  }
+
+  public void add(int bid) {
+    if (count > 0) {
+      for (Estimator estimator : ESTIMATORS) {
+        double error = Math.abs(bid - predict(estimator));
+        int index = estimator.ordinal();
+        errors[index] = count == 1 ? error : errors[index] + ERROR_WEIGHT * (error - errors[index]);
+      }
+    }
+
+    for (int window = 0; window < windowSizes.length; window++) {
+      int leavingBid = count >= windowSizes[window] ? ring[(count - windowSizes[window]) % RING_SIZE] : 0;
+      windowSums[window] += bid - leavingBid;
+    }
+    ring[count % RING_SIZE] = bid;
+
+    for (int average = 0; average < EXPONENTIAL_WEIGHTS.length; average++) {
+      exponentialAverages[average] = count == 0
+        ? bid
+        : exponentialAverages[average] + EXPONENTIAL_WEIGHTS[average] * (bid - exponentialAverages[average]);
+    }
+
+    if (count == 0) {
+      level = bid;
+      trend = 0;
+    } else {
+      double previousLevel = level;
+      level = LEVEL_WEIGHT * bid + (1 - LEVEL_WEIGHT) * (level + trend);
+      trend = TREND_WEIGHT * (level - previousLevel) + (1 - TREND_WEIGHT) * trend;
+    }
+    count++;
+
+    if (count > MIN_NUMBER_OF_ERRORS) {
+      bestEstimator = DEFAULT_ESTIMATOR;
+      for (Estimator estimator : ESTIMATORS) {
+        if (errors[estimator.ordinal()] < errors[bestEstimator.ordinal()]) {
+          bestEstimator = estimator;
+        }
+      }
+    }
+  }
+
+  public void reset() {
+    Arrays.fill(ring, 0);
+    Arrays.fill(windowSums, 0);
+    Arrays.fill(exponentialAverages, 0);
+    Arrays.fill(errors, 0);
+    count = 0;
+    level = 0;
+    trend = 0;
+    bestEstimator = DEFAULT_ESTIMATOR;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * @return prediction of opponent's next bid by the best estimator, 0 if no bids were added
+   */
+  public int getPrediction() {
+    return (int) Math.max(0, Math.round(predict(bestEstimator)));
+  }
+
+  public Estimator getBestEstimator() {
+    return bestEstimator;
+  }
+
+  /**
+   * @return prediction of opponent's next bid by the estimator, 0 if no bids were added
+   */
+  public double predict(Estimator estimator) {
+    if (count == 0) {
+      return 0;
+    }
+    switch (estimator) {
+      case LAST_BID:
+        return ring[(count - 1) % RING_SIZE];
+      case AVERAGE_OF_2:
+        return getWindowAverage(0);
+      case AVERAGE_OF_4:
+        return getWindowAverage(1);
+      case AVERAGE_OF_8:
+        return getWindowAverage(2);
+      case AVERAGE_OF_WINDOW:
+        return getWindowAverage(3);
+      case EXPONENTIAL_SLOW:
+        return exponentialAverages[0];
+      case EXPONENTIAL_MEDIUM:
+        return exponentialAverages[1];
+      case EXPONENTIAL_FAST:
+        return exponentialAverages[2];
+      default:
+        return level + trend;
+    }
+  }
+
+  /**
+   * @return running absolute error of the estimator, 0 until two bids were added
+   */
+  public double getError(Estimator estimator) {
+    return errors[estimator.ordinal()];
+  }
+
+  private double getWindowAverage(int window) {
+    return (double) windowSums[window] / Math.min(count, windowSizes[window]);
+  }
+
+  @Override
+  public String toString() {
+    return "OpponentBidPredictor{" +
+      "count=" + count +
+      ", bestEstimator=" + bestEstimator +
+      ", prediction=" + getPrediction() +
+      '}';
+  }
+}
@@ -0,0 +1,31 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Bidding behaviour of the opponent, recognised by {@link OpponentProfile}.
+ */
+public enum OpponentClass {
+  /**
+   * Not enough rounds yet or the bids don't fit any other class.
+   */
+  UNKNOWN,
+  /**
+   * Bids the same amount in every round.
+   */
+  CONSTANT,
+  /**
+   * Bids spread widely around the average, independent of the auction.
+   */
+  RANDOM_UNIFORM,
+  /**
+   * Follows my previous bid, increased by a small increment.
+   */
+  TREND_FOLLOWING,
+  /**
+   * Spends its cash much faster than evenly over the remaining rounds.
+   */
+  AGGRESSIVE,
+  /**
+   * Spends its remaining cash evenly over the remaining rounds with small deviations.
+   */
+  BUDGET_PACING
+}
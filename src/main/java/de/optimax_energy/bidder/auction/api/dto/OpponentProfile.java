@@ -0,0 +1,189 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Streaming classifier of opponent's bids. It is updated once per round in O(1) time and memory: it keeps running
+ * moments of the bids and of their ratios to the even spend of opponent's cash over the remaining rounds, and counts
+ * bids, which follow my previous bid. The class is recalculated on every update, so strategies read it without scanning
+ * the history.
+ */
+public class OpponentProfile {
+
+  public static final int MIN_NUMBER_OF_ROUNDS = 3;
+
+  static final double TREND_FOLLOWING_SHARE = 0.8;
+
+  static final double AGGRESSIVE_RATIO = 1.5;
+
+  static final double MAX_BUDGET_PACING_VARIATION = 0.25;
+
+  static final double MIN_RANDOM_VARIATION = 0.35;
+
+  private static final int TREND_TOLERANCE = 2;
+
+  private static final double RELATIVE_TREND_TOLERANCE = 0.05;
+
+  private int numberOfRounds;
+
+  private boolean constant;
+
+  private int lastBid;
+
+  private int maxBid;
+
+  private double bidMean;
+
+  private double bidSquaredDeviationSum;
+
+  private int numberOfRatios;
+
+  private double ratioMean;
+
+  private double ratioSquaredDeviationSum;
+
+  private int lastMyBid;
+
+  private int numberOfFollowingBids;
+
+  private long followingIncrementSum;
+
+  private OpponentClass opponentClass = OpponentClass.UNKNOWN;
+
+  /**
+   * @param myBid                    my bid in the round
+   * @param opponentBid              opponent's bid in the round
+   * @param opponentCashBeforeBid    opponent's remaining cash before the round
+   * @param remainingRoundsBeforeBid number of rounds before the round including it
+   */
+  public void update(int myBid, int opponentBid, int opponentCashBeforeBid, int remainingRoundsBeforeBid) {
+    constant = numberOfRounds == 0 || constant && opponentBid == lastBid;
+    maxBid = Math.max(maxBid, opponentBid);
+
+    double bidDeviation = opponentBid - bidMean;
+    bidMean += bidDeviation / (numberOfRounds + 1);
+    bidSquaredDeviationSum += bidDeviation * (opponentBid - bidMean);
+
+    if (opponentCashBeforeBid > 0) {
+      double ratio = (double) opponentBid * Math.max(1, remainingRoundsBeforeBid) / opponentCashBeforeBid;
+      double ratioDeviation = ratio - ratioMean;
+      numberOfRatios++;
+      ratioMean += ratioDeviation / numberOfRatios;
+      ratioSquaredDeviationSum += ratioDeviation * (ratio - ratioMean);
+    }
+
+    if (numberOfRounds > 0) {
+      int increment = opponentBid - lastMyBid;
+      if (increment >= 0 && increment <= Math.max(TREND_TOLERANCE, lastMyBid * RELATIVE_TREND_TOLERANCE)) {
+        numberOfFollowingBids++;
+        followingIncrementSum += increment;
+      }
+    }
+
+    lastBid = opponentBid;
+    lastMyBid = myBid;
+    numberOfRounds++;
+    opponentClass = classify();
+  }
+
+  public void reset() {
+    numberOfRounds = 0;
+    constant = false;
+    lastBid = 0;
+    maxBid = 0;
+    bidMean = 0;
+    bidSquaredDeviationSum = 0;
+    numberOfRatios = 0;
+    ratioMean = 0;
+    ratioSquaredDeviationSum = 0;
+    lastMyBid = 0;
+    numberOfFollowingBids = 0;
+    followingIncrementSum = 0;
+    opponentClass = OpponentClass.UNKNOWN;
+  }
+
+  private OpponentClass classify() {
+    if (numberOfRounds < MIN_NUMBER_OF_ROUNDS) {
+      return OpponentClass.UNKNOWN;
+    }
+    if (constant) {
+      return OpponentClass.CONSTANT;
+    }
+    if (numberOfFollowingBids >= TREND_FOLLOWING_SHARE * (numberOfRounds - 1)) {
+      return OpponentClass.TREND_FOLLOWING;
+    }
+    if (numberOfRatios >= MIN_NUMBER_OF_ROUNDS && ratioMean >= AGGRESSIVE_RATIO) {
+      return OpponentClass.AGGRESSIVE;
+    }
+    if (numberOfRatios >= MIN_NUMBER_OF_ROUNDS && getRatioVariation() <= MAX_BUDGET_PACING_VARIATION) {
+      return OpponentClass.BUDGET_PACING;
+    }
+    if (getBidVariation() >= MIN_RANDOM_VARIATION) {
+      return OpponentClass.RANDOM_UNIFORM;
+    }
+    return OpponentClass.UNKNOWN;
+  }
+
+  public OpponentClass getOpponentClass() {
+    return opponentClass;
+  }
+
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  public int getLastBid() {
+    return lastBid;
+  }
+
+  public int getMaxBid() {
+    return maxBid;
+  }
+
+  public int getLastMyBid() {
+    return lastMyBid;
+  }
+
+  public double getBidMean() {
+    return bidMean;
+  }
+
+  /**
+   * @return coefficient of variation of opponent's bids
+   */
+  public double getBidVariation() {
+    return numberOfRounds < 2 || bidMean <= 0 ? 0 : Math.sqrt(bidSquaredDeviationSum / (numberOfRounds - 1)) / bidMean;
+  }
+
+  /**
+   * @return average ratio of opponent's bid to the even spend of its remaining cash over the remaining rounds
+   */
+  public double getRatioMean() {
+    return ratioMean;
+  }
+
+  /**
+   * @return coefficient of variation of the ratios of {@link #getRatioMean()}
+   */
+  public double getRatioVariation() {
+    return numberOfRatios < 2 || ratioMean <= 0 ? 0 : Math.sqrt(ratioSquaredDeviationSum / (numberOfRatios - 1)) / ratioMean;
+  }
+
+  /**
+   * @return average increment of opponent's bids over my previous bids, which the opponent followed
+   */
+  public int getTrendIncrement() {
+    return numberOfFollowingBids == 0 ? 0 : (int) Math.round((double) followingIncrementSum / numberOfFollowingBids);
+  }
+
+  @Override
+  public String toString() {
+    return "OpponentProfile{" +
+      "opponentClass=" + opponentClass +
+      ", numberOfRounds=" + numberOfRounds +
+      ", lastBid=" + lastBid +
+      ", maxBid=" + maxBid +
+      ", bidMean=" + bidMean +
+      ", ratioMean=" + ratioMean +
+      ", trendIncrement=" + getTrendIncrement() +
+      '}';
+  }
+}
@@ -0,0 +1,83 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Best strategy parameters found for every (quantity, cash) regime. Score is the average over all opponents of
+ * (wins + draws / 2) / auctions, the score of {@link StrategyParameters#DEFAULT} is kept for comparison.
+ */
+public class OptimizationResult {
+
+  private final int[] quantities;
+
+  private final int[] cashes;
+
+  private final StrategyParameters[] bestParameters;
+
+  private final double[] bestScores;
+
+  private final double[] defaultScores;
+
+  private final long numberOfPlayedAuctions;
+
+  /**
+   * @param quantities             initial quantities of the regimes
+   * @param cashes                 initial cashes of the regimes
+   * @param bestParameters         best parameters per regime, indexed by quantity index * cashes + cash index
+   * @param bestScores             scores of the best parameters
+   * @param defaultScores          scores of the default parameters
+   * @param numberOfPlayedAuctions number of auctions played by the optimizer
+   */
+  public OptimizationResult(int[] quantities, int[] cashes, StrategyParameters[] bestParameters, double[] bestScores,
+                            double[] defaultScores, long numberOfPlayedAuctions) {
+    this.quantities = quantities.clone();
+    this.cashes = cashes.clone();
+    this.bestParameters = bestParameters;
+    this.bestScores = bestScores;
+    this.defaultScores = defaultScores;
+    this.numberOfPlayedAuctions = numberOfPlayedAuctions;
+  }
+
+  public int getNumberOfQuantities() {
+    return quantities.length;
+  }
+
+  public int getQuantity(int index) {
+    return quantities[index];
+  }
+
+  public int getNumberOfCashes() {
+    return cashes.length;
+  }
+
+  public int getCash(int index) {
+    return cashes[index];
+  }
+
+  public StrategyParameters getBestParameters(int quantityIndex, int cashIndex) {
+    return bestParameters[quantityIndex * cashes.length + cashIndex];
+  }
+
+  public double getBestScore(int quantityIndex, int cashIndex) {
+    return bestScores[quantityIndex * cashes.length + cashIndex];
+  }
+
+  public double getDefaultScore(int quantityIndex, int cashIndex) {
+    return defaultScores[quantityIndex * cashes.length + cashIndex];
+  }
+
+  public long getNumberOfPlayedAuctions() {
+    return numberOfPlayedAuctions;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder table = new StringBuilder(String.format("%8s%10s%10s%10s  %s", "QU", "MU", "best", "default", "parameters"));
+    for (int quantityIndex = 0; quantityIndex < quantities.length; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < cashes.length; cashIndex++) {
+        table.append(System.lineSeparator()).append(String.format("%8d%10d%9.1f%%%9.1f%%  %s",
+          quantities[quantityIndex], cashes[cashIndex], 100 * getBestScore(quantityIndex, cashIndex),
+          100 * getDefaultScore(quantityIndex, cashIndex), getBestParameters(quantityIndex, cashIndex)));
+      }
+    }
+    return table.toString();
+  }
+}
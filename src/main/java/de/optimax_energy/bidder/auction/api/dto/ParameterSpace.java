@@ -0,0 +1,119 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Values of every strategy parameter to be tried by the optimizer. Grid search plays the cartesian product of all
+ * values, evolutionary search moves along the values of every axis, so they should be sorted.
+ */
+public class ParameterSpace {
+
+  public static final int NUMBER_OF_AXES = 4;
+
+  private final double[] oneSigmaMultipliers;
+
+  private final int[] maxBidMultipliers;
+
+  private final int[] aggressiveStrategyThresholds;
+
+  private final int[] opponentBidWindowSizes;
+
+  private ParameterSpace(Builder builder) {
+    this.oneSigmaMultipliers = builder.oneSigmaMultipliers.clone();
+    this.maxBidMultipliers = builder.maxBidMultipliers.clone();
+    this.aggressiveStrategyThresholds = builder.aggressiveStrategyThresholds.clone();
+    this.opponentBidWindowSizes = builder.opponentBidWindowSizes.clone();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return number of values on every axis, in the order of the indexes of {@link #getParameters(int[])}
+   */
+  public int[] getAxisSizes() {
+    return new int[]{oneSigmaMultipliers.length, maxBidMultipliers.length, aggressiveStrategyThresholds.length,
+      opponentBidWindowSizes.length};
+  }
+
+  public int getSize() {
+    return oneSigmaMultipliers.length * maxBidMultipliers.length * aggressiveStrategyThresholds.length
+      * opponentBidWindowSizes.length;
+  }
+
+  /**
+   * @param indexes index of the value on every axis: one sigma multiplier, max bid multiplier, aggressive strategy
+   *                threshold and opponent bid window size
+   * @return parameters at the given point of the space
+   */
+  public StrategyParameters getParameters(int[] indexes) {
+    return StrategyParameters.builder()
+      .withOneSigmaMultiplier(oneSigmaMultipliers[indexes[0]])
+      .withMaxBidMultiplier(maxBidMultipliers[indexes[1]])
+      .withAggressiveStrategyThreshold(aggressiveStrategyThresholds[indexes[2]])
+      .withOpponentBidWindowSize(opponentBidWindowSizes[indexes[3]])
+      .build();
+  }
+
+  /**
+   * @return all points of the space, the last axis changes fastest
+   */
+  public List<StrategyParameters> getGrid() {
+    List<StrategyParameters> grid = new ArrayList<>(getSize());
+    int[] indexes = new int[NUMBER_OF_AXES];
+    for (indexes[0] = 0; indexes[0] < oneSigmaMultipliers.length; indexes[0]++) {
+      for (indexes[1] = 0; indexes[1] < maxBidMultipliers.length; indexes[1]++) {
+        for (indexes[2] = 0; indexes[2] < aggressiveStrategyThresholds.length; indexes[2]++) {
+          for (indexes[3] = 0; indexes[3] < opponentBidWindowSizes.length; indexes[3]++) {
+            grid.add(getParameters(indexes));
+          }
+        }
+      }
+    }
+    return grid;
+  }
+
+  public static final class Builder {
+
+    private double[] oneSigmaMultipliers = {StrategyParameters.DEFAULT.getOneSigmaMultiplier()};
+
+    private int[] maxBidMultipliers = {StrategyParameters.DEFAULT.getMaxBidMultiplier()};
+
+    private int[] aggressiveStrategyThresholds = {StrategyParameters.DEFAULT.getAggressiveStrategyThreshold()};
+
+    private int[] opponentBidWindowSizes = {StrategyParameters.DEFAULT.getOpponentBidWindowSize()};
+
+    private Builder() {
+    }
+
+    public Builder withOneSigmaMultipliers(double... oneSigmaMultipliers) {
+      this.oneSigmaMultipliers = oneSigmaMultipliers;
+      return this;
+    }
+
+    public Builder withMaxBidMultipliers(int... maxBidMultipliers) {
+      this.maxBidMultipliers = maxBidMultipliers;
+      return this;
+    }
+
+    public Builder withAggressiveStrategyThresholds(int... aggressiveStrategyThresholds) {
+      this.aggressiveStrategyThresholds = aggressiveStrategyThresholds;
+      return this;
+    }
+
+    public Builder withOpponentBidWindowSizes(int... opponentBidWindowSizes) {
+      this.opponentBidWindowSizes = opponentBidWindowSizes;
+      return this;
+    }
+
+    public ParameterSpace build() {
+      if (oneSigmaMultipliers.length == 0 || maxBidMultipliers.length == 0 || aggressiveStrategyThresholds.length == 0
+        || opponentBidWindowSizes.length == 0) {
+        throw new IllegalArgumentException("Parameter space should have at least one value of every parameter");
+      }
+      return new ParameterSpace(this);
+    }
+  }
+}
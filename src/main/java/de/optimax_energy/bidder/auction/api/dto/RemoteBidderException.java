@@ -0,0 +1,8 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+public class RemoteBidderException extends RuntimeException {
+
+  public RemoteBidderException(String message) {
+    super(message);
+  }
+}
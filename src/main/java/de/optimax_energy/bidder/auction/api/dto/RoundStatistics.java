@@ -0,0 +1,177 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.Arrays;
+
+/**
+ * Running aggregate of the rounds played by one bidder. It is updated once per round and answers all queries in O(1),
+ * so the cost of a round doesn't depend on the length of the auction. Opponent's bids of the last
+ * {@link #OPPONENT_BID_HISTORY_SIZE} rounds are also kept in a fixed ring for strategies, which model the opponent, so
+ * a round never allocates. The distribution of all bids is summarised by a {@link BidQuantileSketch} of bounded size and the next bid is predicted by an
+ * {@link OpponentBidPredictor}.
+ */
+public class RoundStatistics {
+
+  public static final int DEFAULT_OPPONENT_BID_WINDOW_SIZE = 2;
+
+  /**
+   * Number of last rounds, whose opponent's bids are kept, it is the model window of the lookahead.
+   */
+  public static final int OPPONENT_BID_HISTORY_SIZE = 16;
+
+  private final int[] opponentBidWindow;
+
+  private final int[] opponentBids = new int[OPPONENT_BID_HISTORY_SIZE];
+
+  private final int[] opponentCashesBeforeBids = new int[OPPONENT_BID_HISTORY_SIZE];
+
+  private final BidQuantileSketch opponentBidSketch = new BidQuantileSketch();
+
+  private final OpponentBidPredictor opponentBidPredictor;
+
+  private int numberOfRounds;
+
+  private int myQuantity;
+
+  private int opponentQuantity;
+
+  private int mySpentCash;
+
+  private int opponentRemainingCash;
+
+  private int opponentBidWindowSum;
+
+  public RoundStatistics() {
+    this(DEFAULT_OPPONENT_BID_WINDOW_SIZE);
+  }
+
+  public RoundStatistics(int opponentBidWindowSize) {
+    if (opponentBidWindowSize < 1 || opponentBidWindowSize > OpponentBidPredictor.MAX_WINDOW_SIZE) {
+      throw new IllegalArgumentException("Opponent bid window size should be between 1 and " + OpponentBidPredictor.MAX_WINDOW_SIZE);
+    }
+    this.opponentBidWindow = new int[opponentBidWindowSize];
+    this.opponentBidPredictor = new OpponentBidPredictor(opponentBidWindowSize);
+  }
+
+  public void add(RoundResult roundResult) {
+    add(roundResult.getMyBid(), roundResult.getMyWonQuantity(), roundResult.getOpponentBid(),
+      roundResult.getOpponentRemainingCash(), roundResult.getOpponentWonQuantity());
+  }
+
+  public void add(int myBid, int myWonQuantity, int opponentBid, int opponentRemainingCash, int opponentWonQuantity) {
+    myQuantity += myWonQuantity;
+    opponentQuantity += opponentWonQuantity;
+    mySpentCash += myBid;
+    this.opponentRemainingCash = opponentRemainingCash;
+
+    int windowIndex = numberOfRounds % opponentBidWindow.length;
+    opponentBidWindowSum += opponentBid - opponentBidWindow[windowIndex];
+    opponentBidWindow[windowIndex] = opponentBid;
+
+    int historyIndex = numberOfRounds % OPPONENT_BID_HISTORY_SIZE;
+    opponentBids[historyIndex] = opponentBid;
+    opponentCashesBeforeBids[historyIndex] = opponentRemainingCash + opponentBid;
+    opponentBidSketch.add(opponentBid);
+    opponentBidPredictor.add(opponentBid);
+    numberOfRounds++;
+  }
+
+  public void reset() {
+    numberOfRounds = 0;
+    myQuantity = 0;
+    opponentQuantity = 0;
+    mySpentCash = 0;
+    opponentRemainingCash = 0;
+    opponentBidWindowSum = 0;
+    Arrays.fill(opponentBidWindow, 0);
+    opponentBidSketch.reset();
+    opponentBidPredictor.reset();
+  }
+
+  public boolean isEmpty() {
+    return numberOfRounds == 0;
+  }
+
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  public int getMyQuantity() {
+    return myQuantity;
+  }
+
+  public int getOpponentQuantity() {
+    return opponentQuantity;
+  }
+
+  public int getMySpentCash() {
+    return mySpentCash;
+  }
+
+  /**
+   * @return opponent's remaining cash after the last round, 0 if no rounds were played
+   */
+  public int getOpponentRemainingCash() {
+    return opponentRemainingCash;
+  }
+
+  public int getOpponentBidWindowSum() {
+    return opponentBidWindowSum;
+  }
+
+  public int getOpponentBidWindowCount() {
+    return Math.min(numberOfRounds, opponentBidWindow.length);
+  }
+
+  /**
+   * @return distribution of all opponent's bids of the auction
+   */
+  public BidQuantileSketch getOpponentBidSketch() {
+    return opponentBidSketch;
+  }
+
+  /**
+   * @return predictor of opponent's next bid, which was trained on all opponent's bids of the auction
+   */
+  public OpponentBidPredictor getOpponentBidPredictor() {
+    return opponentBidPredictor;
+  }
+
+  /**
+   * @param round index of one of the last {@link #OPPONENT_BID_HISTORY_SIZE} rounds, starting from 0
+   * @return opponent's bid in the round
+   */
+  public int getOpponentBid(int round) {
+    checkRound(round);
+    return opponentBids[round % OPPONENT_BID_HISTORY_SIZE];
+  }
+
+  /**
+   * @param round index of one of the last {@link #OPPONENT_BID_HISTORY_SIZE} rounds, starting from 0
+   * @return opponent's remaining cash before the bid of the round
+   */
+  public int getOpponentCashBeforeBid(int round) {
+    checkRound(round);
+    return opponentCashesBeforeBids[round % OPPONENT_BID_HISTORY_SIZE];
+  }
+
+  private void checkRound(int round) {
+    if (round < 0 || round >= numberOfRounds) {
+      throw new IndexOutOfBoundsException("Round " + round + " was not played, number of rounds " + numberOfRounds);
+    }
+    if (round < numberOfRounds - OPPONENT_BID_HISTORY_SIZE) {
+      throw new IndexOutOfBoundsException("Round " + round + " is not kept, only last " + OPPONENT_BID_HISTORY_SIZE + " rounds are");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "RoundStatistics{" +
+      "numberOfRounds=" + numberOfRounds +
+      ", myQuantity=" + myQuantity +
+      ", opponentQuantity=" + opponentQuantity +
+      ", mySpentCash=" + mySpentCash +
+      ", opponentRemainingCash=" + opponentRemainingCash +
+      ", opponentBidWindowSum=" + opponentBidWindowSum +
+      '}';
+  }
+}
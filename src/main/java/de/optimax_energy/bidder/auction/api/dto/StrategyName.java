@@ -5,5 +5,13 @@ public enum StrategyName {
   AGGRESSIVE,
   MINIMUM_BID,
   MAXIMUM_BID,
-  DEFAULT
+  DEFAULT,
+  END_GAME,
+  POLICY,
+  MONTE_CARLO,
+  COUNTER_CONSTANT,
+  COUNTER_RANDOM_UNIFORM,
+  COUNTER_TREND_FOLLOWING,
+  COUNTER_AGGRESSIVE,
+  COUNTER_BUDGET_PACING
 }
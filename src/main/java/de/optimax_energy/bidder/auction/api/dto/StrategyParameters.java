@@ -0,0 +1,140 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.Objects;
+
+/**
+ * Tunable coefficients of the bidding strategies. {@link #DEFAULT} holds the hand-picked values, which were used
+ * before the coefficients became configurable.
+ */
+public class StrategyParameters {
+
+  public static final StrategyParameters DEFAULT = builder().build();
+
+  private final double oneSigmaMultiplier;
+
+  private final int maxBidMultiplier;
+
+  private final int aggressiveStrategyThreshold;
+
+  private final int opponentBidWindowSize;
+
+  private StrategyParameters(Builder builder) {
+    this.oneSigmaMultiplier = builder.oneSigmaMultiplier;
+    this.maxBidMultiplier = builder.maxBidMultiplier;
+    this.aggressiveStrategyThreshold = builder.aggressiveStrategyThreshold;
+    this.opponentBidWindowSize = builder.opponentBidWindowSize;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return multiplier of opponent's average bid used by aggressive strategy
+   */
+  public double getOneSigmaMultiplier() {
+    return oneSigmaMultiplier;
+  }
+
+  /**
+   * @return limit of aggressive bid in average prices of the rounds required not to lose
+   */
+  public int getMaxBidMultiplier() {
+    return maxBidMultiplier;
+  }
+
+  /**
+   * @return percent of remaining QU, which has to be won, starting from which aggressive strategy is selected
+   */
+  public int getAggressiveStrategyThreshold() {
+    return aggressiveStrategyThreshold;
+  }
+
+  /**
+   * @return number of last rounds, on which opponent's average bid and the default estimator of
+   * {@link OpponentBidPredictor} are calculated
+   */
+  public int getOpponentBidWindowSize() {
+    return opponentBidWindowSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    StrategyParameters that = (StrategyParameters) o;
+    return Double.compare(that.oneSigmaMultiplier, oneSigmaMultiplier) == 0
+      && maxBidMultiplier == that.maxBidMultiplier
+      && aggressiveStrategyThreshold == that.aggressiveStrategyThreshold
+      && opponentBidWindowSize == that.opponentBidWindowSize;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(oneSigmaMultiplier, maxBidMultiplier, aggressiveStrategyThreshold, opponentBidWindowSize);
+  }
+
+  @Override
+  public String toString() {
+    return "StrategyParameters{" +
+      "oneSigmaMultiplier=" + oneSigmaMultiplier +
+      ", maxBidMultiplier=" + maxBidMultiplier +
+      ", aggressiveStrategyThreshold=" + aggressiveStrategyThreshold +
+      ", opponentBidWindowSize=" + opponentBidWindowSize +
+      '}';
+  }
+
+  public static final class Builder {
+
+    private double oneSigmaMultiplier = 1.34;
+
+    private int maxBidMultiplier = 3;
+
+    private int aggressiveStrategyThreshold = 20;
+
+    private int opponentBidWindowSize = RoundStatistics.DEFAULT_OPPONENT_BID_WINDOW_SIZE;
+
+    private Builder() {
+    }
+
+    public Builder withOneSigmaMultiplier(double oneSigmaMultiplier) {
+      this.oneSigmaMultiplier = oneSigmaMultiplier;
+      return this;
+    }
+
+    public Builder withMaxBidMultiplier(int maxBidMultiplier) {
+      this.maxBidMultiplier = maxBidMultiplier;
+      return this;
+    }
+
+    public Builder withAggressiveStrategyThreshold(int aggressiveStrategyThreshold) {
+      this.aggressiveStrategyThreshold = aggressiveStrategyThreshold;
+      return this;
+    }
+
+    public Builder withOpponentBidWindowSize(int opponentBidWindowSize) {
+      this.opponentBidWindowSize = opponentBidWindowSize;
+      return this;
+    }
+
+    public StrategyParameters build() {
+      if (!(oneSigmaMultiplier > 0)) {
+        throw new IllegalArgumentException("One sigma multiplier should be positive");
+      }
+      if (maxBidMultiplier < 1) {
+        throw new IllegalArgumentException("Max bid multiplier should be positive");
+      }
+      if (aggressiveStrategyThreshold < 0 || aggressiveStrategyThreshold > 100) {
+        throw new IllegalArgumentException("Aggressive strategy threshold should be between 0 and 100");
+      }
+      if (opponentBidWindowSize < 1 || opponentBidWindowSize > OpponentBidPredictor.MAX_WINDOW_SIZE) {
+        throw new IllegalArgumentException("Opponent bid window size should be between 1 and " + OpponentBidPredictor.MAX_WINDOW_SIZE);
+      }
+      return new StrategyParameters(this);
+    }
+  }
+}
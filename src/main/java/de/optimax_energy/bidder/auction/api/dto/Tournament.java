@@ -0,0 +1,138 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grid of auctions: every strategy plays {@code numberOfAuctions} auctions against every opponent for every combination
+ * of initial quantity and cash.
+ */
+public class Tournament {
+
+  private final List<TournamentParticipant> strategies;
+
+  private final List<TournamentParticipant> opponents;
+
+  private final int[] quantities;
+
+  private final int[] cashes;
+
+  private final int numberOfAuctions;
+
+  private final long seed;
+
+  private Tournament(Builder builder) {
+    this.strategies = List.copyOf(builder.strategies);
+    this.opponents = List.copyOf(builder.opponents);
+    this.quantities = builder.quantities.clone();
+    this.cashes = builder.cashes.clone();
+    this.numberOfAuctions = builder.numberOfAuctions;
+    this.seed = builder.seed;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public List<TournamentParticipant> getStrategies() {
+    return strategies;
+  }
+
+  public List<TournamentParticipant> getOpponents() {
+    return opponents;
+  }
+
+  public int getNumberOfQuantities() {
+    return quantities.length;
+  }
+
+  public int getQuantity(int index) {
+    return quantities[index];
+  }
+
+  public int getNumberOfCashes() {
+    return cashes.length;
+  }
+
+  public int getCash(int index) {
+    return cashes[index];
+  }
+
+  public int getNumberOfAuctions() {
+    return numberOfAuctions;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public int getNumberOfCells() {
+    return strategies.size() * opponents.size() * quantities.length * cashes.length;
+  }
+
+  /**
+   * @return index of the (strategy, opponent, quantity, cash) cell, cells are ordered by strategy, then opponent, then
+   * quantity, then cash
+   */
+  public int getCellIndex(int strategyIndex, int opponentIndex, int quantityIndex, int cashIndex) {
+    return ((strategyIndex * opponents.size() + opponentIndex) * quantities.length + quantityIndex) * cashes.length + cashIndex;
+  }
+
+  public static final class Builder {
+
+    private final List<TournamentParticipant> strategies = new ArrayList<>();
+
+    private final List<TournamentParticipant> opponents = new ArrayList<>();
+
+    private int[] quantities = new int[0];
+
+    private int[] cashes = new int[0];
+
+    private int numberOfAuctions = 1;
+
+    private long seed;
+
+    private Builder() {
+    }
+
+    public Builder withStrategy(TournamentParticipant strategy) {
+      this.strategies.add(strategy);
+      return this;
+    }
+
+    public Builder withOpponent(TournamentParticipant opponent) {
+      this.opponents.add(opponent);
+      return this;
+    }
+
+    public Builder withQuantities(int... quantities) {
+      this.quantities = quantities;
+      return this;
+    }
+
+    public Builder withCashes(int... cashes) {
+      this.cashes = cashes;
+      return this;
+    }
+
+    public Builder withNumberOfAuctions(int numberOfAuctions) {
+      this.numberOfAuctions = numberOfAuctions;
+      return this;
+    }
+
+    public Builder withSeed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    public Tournament build() {
+      if (strategies.isEmpty() || opponents.isEmpty() || quantities.length == 0 || cashes.length == 0) {
+        throw new IllegalArgumentException("Tournament should have strategies, opponents, quantities and cashes");
+      }
+      if (numberOfAuctions < 1) {
+        throw new IllegalArgumentException("Number of auctions should be positive");
+      }
+      return new Tournament(this);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.auction.api.Bidder;
+
+import java.util.function.LongFunction;
+
+/**
+ * Named factory of bidders, which take part in a tournament. Every tournament task creates its own bidders, so bidders
+ * are never shared between threads. The seed makes randomized bidders reproducible.
+ */
+public class TournamentParticipant {
+
+  private final String name;
+
+  private final LongFunction<Bidder> bidderFactory;
+
+  public TournamentParticipant(String name, LongFunction<Bidder> bidderFactory) {
+    this.name = name;
+    this.bidderFactory = bidderFactory;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Bidder createBidder(long seed) {
+    return bidderFactory.apply(seed);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,113 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+/**
+ * Wins, draws and losses of strategies in every cell of the tournament.
+ */
+public class TournamentResult {
+
+  private final Tournament tournament;
+
+  private final int[] wins;
+
+  private final int[] draws;
+
+  private final int[] losses;
+
+  /**
+   * @param tournament played tournament
+   * @param wins       number of wins of the strategy per cell, indexed by {@link Tournament#getCellIndex}
+   * @param draws      number of draws per cell
+   * @param losses     number of losses of the strategy per cell
+   */
+  public TournamentResult(Tournament tournament, int[] wins, int[] draws, int[] losses) {
+    this.tournament = tournament;
+    this.wins = wins;
+    this.draws = draws;
+    this.losses = losses;
+  }
+
+  public Tournament getTournament() {
+    return tournament;
+  }
+
+  public int getWins(int strategyIndex, int opponentIndex, int quantityIndex, int cashIndex) {
+    return wins[tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex)];
+  }
+
+  public int getDraws(int strategyIndex, int opponentIndex, int quantityIndex, int cashIndex) {
+    return draws[tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex)];
+  }
+
+  public int getLosses(int strategyIndex, int opponentIndex, int quantityIndex, int cashIndex) {
+    return losses[tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex)];
+  }
+
+  public double getWinRate(int strategyIndex, int opponentIndex, int quantityIndex, int cashIndex) {
+    int cellIndex = tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex);
+    return (double) wins[cellIndex] / (wins[cellIndex] + draws[cellIndex] + losses[cellIndex]);
+  }
+
+  /**
+   * Win rate of the strategy against the opponent over all quantities and cashes.
+   */
+  public double getWinRate(int strategyIndex, int opponentIndex) {
+    long numberOfWins = 0;
+    long numberOfAuctions = 0;
+    for (int quantityIndex = 0; quantityIndex < tournament.getNumberOfQuantities(); quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < tournament.getNumberOfCashes(); cashIndex++) {
+        int cellIndex = tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex);
+        numberOfWins += wins[cellIndex];
+        numberOfAuctions += wins[cellIndex] + draws[cellIndex] + losses[cellIndex];
+      }
+    }
+    return (double) numberOfWins / numberOfAuctions;
+  }
+
+  /**
+   * Score of the strategy in the (quantity, cash) cell: average over all opponents of (wins + draws / 2) / auctions.
+   */
+  public double getScore(int strategyIndex, int quantityIndex, int cashIndex) {
+    double score = 0;
+    for (int opponentIndex = 0; opponentIndex < tournament.getOpponents().size(); opponentIndex++) {
+      int cellIndex = tournament.getCellIndex(strategyIndex, opponentIndex, quantityIndex, cashIndex);
+      score += (wins[cellIndex] + draws[cellIndex] / 2.0) / (wins[cellIndex] + draws[cellIndex] + losses[cellIndex]);
+    }
+    return score / tournament.getOpponents().size();
+  }
+
+  /**
+   * Formats win rates of the strategy against the opponent in percent, rows are quantities and columns are cashes.
+   */
+  public String formatWinRateTable(int strategyIndex, int opponentIndex) {
+    StringBuilder table = new StringBuilder()
+      .append(tournament.getStrategies().get(strategyIndex).getName())
+      .append(" vs ")
+      .append(tournament.getOpponents().get(opponentIndex).getName())
+      .append(System.lineSeparator())
+      .append(String.format("%10s", "QU \\ MU"));
+    for (int cashIndex = 0; cashIndex < tournament.getNumberOfCashes(); cashIndex++) {
+      table.append(String.format("%10d", tournament.getCash(cashIndex)));
+    }
+    for (int quantityIndex = 0; quantityIndex < tournament.getNumberOfQuantities(); quantityIndex++) {
+      table.append(System.lineSeparator()).append(String.format("%10d", tournament.getQuantity(quantityIndex)));
+      for (int cashIndex = 0; cashIndex < tournament.getNumberOfCashes(); cashIndex++) {
+        table.append(String.format("%9.1f%%", 100 * getWinRate(strategyIndex, opponentIndex, quantityIndex, cashIndex)));
+      }
+    }
+    return table.toString();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder tables = new StringBuilder();
+    for (int strategyIndex = 0; strategyIndex < tournament.getStrategies().size(); strategyIndex++) {
+      for (int opponentIndex = 0; opponentIndex < tournament.getOpponents().size(); opponentIndex++) {
+        if (tables.length() > 0) {
+          tables.append(System.lineSeparator()).append(System.lineSeparator());
+        }
+        tables.append(formatWinRateTable(strategyIndex, opponentIndex));
+      }
+    }
+    return tables.toString();
+  }
+}
@@ -0,0 +1,99 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+import de.optimax_energy.bidder.auction.api.dto.RemoteBidderException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.FRAME_SIZE;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.STATUS_OK;
+
+/**
+ * Connection to a {@link BidderServer}, which plays remote bidders over it. Every call of a bidder waits for the
+ * response of the server. The client is thread safe: calls of its bidders, e.g. of concurrent auctions of an
+ * {@link de.optimax_energy.bidder.auction.AuctionHost}, take turns on the connection, bidders, which should bid in
+ * parallel, use clients of their own.
+ */
+public class BidderClient implements AutoCloseable {
+
+  private final SocketChannel socketChannel;
+
+  private final ByteBuffer request = ByteBuffer.allocateDirect(FRAME_SIZE);
+
+  private final ByteBuffer response = ByteBuffer.allocateDirect(FRAME_SIZE);
+
+  private int nextSessionId;
+
+  /**
+   * @param address address of the server
+   * @throws UncheckedIOException if the server can't be reached
+   */
+  public BidderClient(SocketAddress address) {
+    try {
+      this.socketChannel = SocketChannel.open(address);
+      socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not connect to bidder server " + address, e);
+    }
+  }
+
+  /**
+   * @return bidder, whose session is created on the server by {@link RemoteBidder#init(int, int)}
+   */
+  public synchronized RemoteBidder createBidder() {
+    return new RemoteBidder(this, nextSessionId++);
+  }
+
+  /**
+   * Closes the connection, the server closes sessions of all its bidders.
+   */
+  @Override
+  public void close() {
+    try {
+      socketChannel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not close connection to bidder server", e);
+    }
+  }
+
+  /**
+   * @return bid of {@link BidderProtocol#PLACE_BID}, 0 for other requests
+   * @throws RemoteBidderException if the request failed on the server
+   * @throws UncheckedIOException  if the connection is broken
+   */
+  synchronized int send(int type, int sessionId, int firstArgument, int secondArgument) {
+    try {
+      request.clear();
+      request.putInt(type).putInt(sessionId).putInt(firstArgument).putInt(secondArgument).flip();
+      while (request.hasRemaining()) {
+        socketChannel.write(request);
+      }
+      response.clear();
+      while (response.hasRemaining()) {
+        if (socketChannel.read(response) < 0) {
+          throw new EOFException("Connection closed by bidder server");
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not send " + BidderProtocol.getTypeName(type) + " of session " + sessionId, e);
+    }
+    response.flip();
+    int responseType = response.getInt();
+    int responseSessionId = response.getInt();
+    int status = response.getInt();
+    int bid = response.getInt();
+    if (responseType != type || responseSessionId != sessionId) {
+      throw new RemoteBidderException("Unexpected response " + BidderProtocol.getTypeName(responseType) + " of session "
+        + responseSessionId + " to " + BidderProtocol.getTypeName(type) + " of session " + sessionId);
+    }
+    if (status != STATUS_OK) {
+      throw new RemoteBidderException("Bidder server failed " + BidderProtocol.getTypeName(type) + " of session " + sessionId);
+    }
+    return bid;
+  }
+}
@@ -0,0 +1,47 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+/**
+ * Binary protocol of remote bidders. Every request and response is a frame of four big-endian ints, so frames are
+ * read and written without parsing lengths:
+ * <ul>
+ *   <li>request: type, session id, first argument, second argument, arguments are quantity and cash of
+ *   {@link #INIT}, own and other bid of {@link #BIDS}, unused by other types</li>
+ *   <li>response: type, session id, status, bid of {@link #PLACE_BID}</li>
+ * </ul>
+ * Every request is answered in order of requests of the connection, so a client may send requests of several
+ * sessions before it reads the responses.
+ */
+final class BidderProtocol {
+
+  static final int FRAME_SIZE = 4 * Integer.BYTES;
+
+  static final int INIT = 1;
+
+  static final int PLACE_BID = 2;
+
+  static final int BIDS = 3;
+
+  static final int CLOSE = 4;
+
+  static final int STATUS_OK = 0;
+
+  static final int STATUS_FAILED = 1;
+
+  private BidderProtocol() {
+  }
+
+  static String getTypeName(int type) {
+    switch (type) {
+      case INIT:
+        return "init";
+      case PLACE_BID:
+        return "placeBid";
+      case BIDS:
+        return "bids";
+      case CLOSE:
+        return "close";
+      default:
+        return "unknown request " + type;
+    }
+  }
+}
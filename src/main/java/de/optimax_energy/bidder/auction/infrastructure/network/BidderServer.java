@@ -0,0 +1,291 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.BIDS;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.CLOSE;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.FRAME_SIZE;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.INIT;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.PLACE_BID;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.STATUS_FAILED;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.STATUS_OK;
+
+/**
+ * Hosts auction sessions for remote clients on one port with {@link BidderProtocol}. One thread runs a selector loop
+ * over all connections, requests are answered on that thread, so sessions are never called concurrently. A session
+ * is created by the first {@link BidderProtocol#INIT} of its id in a connection and is closed by
+ * {@link BidderProtocol#CLOSE} or when the connection is closed. Session ids are small numbers below
+ * {@link #MAX_SESSIONS_PER_CONNECTION}, as {@link BidderClient} assigns them, so sessions of a connection are kept in
+ * an array indexed by the id.
+ * <p>
+ * Every connection has a direct buffer for requests and one for responses. When a client doesn't read its
+ * responses, the server stops reading its requests until the responses are sent.
+ */
+public class BidderServer implements AutoCloseable {
+
+  public static final int MAX_SESSIONS_PER_CONNECTION = 1 << 16;
+
+  private static final int FRAMES_PER_BUFFER = 1024;
+
+  private static final int INITIAL_SESSIONS_PER_CONNECTION = 16;
+
+  private final Supplier<AuctionSession> sessionFactory;
+
+  private final Selector selector;
+
+  private final ServerSocketChannel serverSocketChannel;
+
+  private final Thread selectorThread;
+
+  private volatile boolean closed;
+
+  /**
+   * @param address        address to listen on, port 0 selects a free port
+   * @param sessionFactory creator of sessions, e.g. {@code bidderFactory::createSession}
+   * @throws UncheckedIOException if the address can't be bound
+   */
+  public BidderServer(InetSocketAddress address, Supplier<AuctionSession> sessionFactory) {
+    this.sessionFactory = sessionFactory;
+    try {
+      this.selector = Selector.open();
+      this.serverSocketChannel = ServerSocketChannel.open();
+      serverSocketChannel.bind(address);
+      serverSocketChannel.configureBlocking(false);
+      serverSocketChannel.register(selector, SelectionKey.OP_ACCEPT);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not start bidder server on " + address, e);
+    }
+    this.selectorThread = new Thread(this::run, "bidder-server");
+    selectorThread.setDaemon(true);
+  }
+
+  public BidderServer start() {
+    selectorThread.start();
+    return this;
+  }
+
+  public SocketAddress getLocalAddress() {
+    try {
+      return serverSocketChannel.getLocalAddress();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Stops the selector loop, closes all connections and their sessions.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    selector.wakeup();
+    if (selectorThread.getState() == Thread.State.NEW) {
+      closeAll();
+    } else if (Thread.currentThread() != selectorThread) {
+      try {
+        selectorThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void run() {
+    try {
+      while (!closed) {
+        selector.select(this::handle);
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      // the server is stopped, its connections are closed below
+    } finally {
+      closeAll();
+    }
+  }
+
+  private void handle(SelectionKey key) {
+    if (!key.isValid()) {
+      return;
+    }
+    if (key.isAcceptable()) {
+      accept();
+      return;
+    }
+    Connection connection = (Connection) key.attachment();
+    try {
+      if (key.isWritable()) {
+        connection.write();
+      }
+      if (key.isValid() && key.isReadable()) {
+        connection.read();
+      }
+    } catch (IOException e) {
+      connection.close();
+    }
+  }
+
+  private void accept() {
+    try {
+      SocketChannel socketChannel = serverSocketChannel.accept();
+      if (socketChannel == null) {
+        return;
+      }
+      socketChannel.configureBlocking(false);
+      socketChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+      SelectionKey key = socketChannel.register(selector, SelectionKey.OP_READ);
+      key.attach(new Connection(socketChannel, key));
+    } catch (IOException e) {
+      // the client has gone before it was accepted
+    }
+  }
+
+  private void closeAll() {
+    for (SelectionKey key : selector.keys()) {
+      if (key.attachment() instanceof Connection) {
+        ((Connection) key.attachment()).close();
+      }
+    }
+    try {
+      serverSocketChannel.close();
+      selector.close();
+    } catch (IOException e) {
+      // nothing to release anymore
+    }
+  }
+
+  private final class Connection {
+
+    private final SocketChannel socketChannel;
+
+    private final SelectionKey key;
+
+    private final ByteBuffer requests = ByteBuffer.allocateDirect(FRAMES_PER_BUFFER * FRAME_SIZE);
+
+    private final ByteBuffer responses = ByteBuffer.allocateDirect(FRAMES_PER_BUFFER * FRAME_SIZE);
+
+    private AuctionSession[] sessions = new AuctionSession[INITIAL_SESSIONS_PER_CONNECTION];
+
+    private Connection(SocketChannel socketChannel, SelectionKey key) {
+      this.socketChannel = socketChannel;
+      this.key = key;
+    }
+
+    private void read() throws IOException {
+      if (socketChannel.read(requests) < 0) {
+        close();
+        return;
+      }
+      answerRequests();
+      write();
+    }
+
+    /**
+     * Sends pending responses, reading is resumed, when all of them are sent.
+     */
+    private void write() throws IOException {
+      responses.flip();
+      socketChannel.write(responses);
+      responses.compact();
+      if (responses.position() > 0) {
+        key.interestOps(SelectionKey.OP_WRITE);
+        return;
+      }
+      if (key.interestOps() != SelectionKey.OP_READ) {
+        key.interestOps(SelectionKey.OP_READ);
+        // requests, which were left for lack of space for their responses
+        answerRequests();
+        write();
+      }
+    }
+
+    private void answerRequests() {
+      requests.flip();
+      while (requests.remaining() >= FRAME_SIZE && responses.remaining() >= FRAME_SIZE) {
+        answer(requests.getInt(), requests.getInt(), requests.getInt(), requests.getInt());
+      }
+      requests.compact();
+    }
+
+    private void answer(int type, int sessionId, int firstArgument, int secondArgument) {
+      int status = STATUS_OK;
+      int bid = 0;
+      try {
+        bid = handle(type, sessionId, firstArgument, secondArgument);
+      } catch (RuntimeException e) {
+        status = STATUS_FAILED;
+      }
+      responses.putInt(type).putInt(sessionId).putInt(status).putInt(bid);
+    }
+
+    /**
+     * @return bid of {@link BidderProtocol#PLACE_BID}, 0 for other requests
+     */
+    private int handle(int type, int sessionId, int firstArgument, int secondArgument) {
+      if (type == INIT) {
+        getOrCreateSession(sessionId).init(firstArgument, secondArgument);
+        return 0;
+      }
+      AuctionSession session = sessionId >= 0 && sessionId < sessions.length ? sessions[sessionId] : null;
+      if (type == CLOSE) {
+        if (session != null) {
+          sessions[sessionId] = null;
+          session.close();
+        }
+        return 0;
+      }
+      if (session == null) {
+        throw new IllegalStateException("Session " + sessionId + " is not initialized");
+      }
+      switch (type) {
+        case PLACE_BID:
+          return session.placeBid();
+        case BIDS:
+          session.bids(firstArgument, secondArgument);
+          return 0;
+        default:
+          throw new IllegalArgumentException("Unknown request " + type);
+      }
+    }
+
+    private AuctionSession getOrCreateSession(int sessionId) {
+      if (sessionId < 0 || sessionId >= MAX_SESSIONS_PER_CONNECTION) {
+        throw new IllegalArgumentException("Session id should be between 0 and " + (MAX_SESSIONS_PER_CONNECTION - 1));
+      }
+      if (sessionId >= sessions.length) {
+        sessions = Arrays.copyOf(sessions, Math.min(MAX_SESSIONS_PER_CONNECTION, Math.max(sessionId + 1, 2 * sessions.length)));
+      }
+      if (sessions[sessionId] == null) {
+        sessions[sessionId] = sessionFactory.get();
+      }
+      return sessions[sessionId];
+    }
+
+    private void close() {
+      for (int sessionId = 0; sessionId < sessions.length; sessionId++) {
+        if (sessions[sessionId] != null) {
+          sessions[sessionId].close();
+          sessions[sessionId] = null;
+        }
+      }
+      key.cancel();
+      try {
+        socketChannel.close();
+      } catch (IOException e) {
+        // the connection is closed anyway
+      }
+    }
+  }
+}
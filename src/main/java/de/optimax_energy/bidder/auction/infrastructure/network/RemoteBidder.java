@@ -0,0 +1,52 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+import de.optimax_energy.bidder.auction.api.Bidder;
+
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.BIDS;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.CLOSE;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.INIT;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.PLACE_BID;
+
+/**
+ * Bidder, which is played by a session on a {@link BidderServer}. Its calls throw
+ * {@link de.optimax_energy.bidder.auction.api.dto.RemoteBidderException}, if the server fails them, and
+ * {@link java.io.UncheckedIOException}, if the connection is broken.
+ */
+public class RemoteBidder implements Bidder, AutoCloseable {
+
+  private final BidderClient bidderClient;
+
+  private final int sessionId;
+
+  RemoteBidder(BidderClient bidderClient, int sessionId) {
+    this.bidderClient = bidderClient;
+    this.sessionId = sessionId;
+  }
+
+  @Override
+  public void init(int quantity, int cash) {
+    bidderClient.send(INIT, sessionId, quantity, cash);
+  }
+
+  @Override
+  public int placeBid() {
+    return bidderClient.send(PLACE_BID, sessionId, 0, 0);
+  }
+
+  @Override
+  public void bids(int own, int other) {
+    bidderClient.send(BIDS, sessionId, own, other);
+  }
+
+  /**
+   * Closes the session on the server, the bidder can be initialized again.
+   */
+  @Override
+  public void close() {
+    bidderClient.send(CLOSE, sessionId, 0, 0);
+  }
+
+  public int getSessionId() {
+    return sessionId;
+  }
+}
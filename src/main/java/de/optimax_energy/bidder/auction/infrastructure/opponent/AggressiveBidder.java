@@ -0,0 +1,14 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Spends all cash evenly on all rounds but one, so it outbids bidders, which keep money for the end of the auction.
+ */
+public class AggressiveBidder extends OpponentBidder {
+
+  @Override
+  protected int calculateBid() {
+    return getInitialCash() / Math.max(getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - 1, 1);
+  }
+}
@@ -0,0 +1,28 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import java.util.SplittableRandom;
+
+/**
+ * Spreads remaining cash evenly over remaining rounds, every bid deviates randomly by up to {@code jitter} of the
+ * paced amount. Unlike {@link AggressiveBidder} it adapts the pace to the cash, which is actually left.
+ */
+public class BudgetPacerBidder extends OpponentBidder {
+
+  private final SplittableRandom random;
+
+  private final double jitter;
+
+  public BudgetPacerBidder(SplittableRandom random, double jitter) {
+    if (jitter < 0 || jitter > 1) {
+      throw new IllegalArgumentException("Jitter should be between 0 and 1");
+    }
+    this.random = random;
+    this.jitter = jitter;
+  }
+
+  @Override
+  protected int calculateBid() {
+    double pacedBid = (double) getRemainingCash() / getRemainingRounds();
+    return (int) Math.round(pacedBid * (1 + jitter * (2 * random.nextDouble() - 1)));
+  }
+}
@@ -0,0 +1,18 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+/**
+ * Bids the same amount in every round, while it has enough cash.
+ */
+public class ConstantBidder extends OpponentBidder {
+
+  private final int bid;
+
+  public ConstantBidder(int bid) {
+    this.bid = bid;
+  }
+
+  @Override
+  protected int calculateBid() {
+    return bid;
+  }
+}
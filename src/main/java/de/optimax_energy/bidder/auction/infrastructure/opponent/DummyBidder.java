@@ -0,0 +1,12 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+/**
+ * Bids the average price of one QU in every round.
+ */
+public class DummyBidder extends OpponentBidder {
+
+  @Override
+  protected int calculateBid() {
+    return getInitialCash() / Math.max(getInitialQuantity(), 1);
+  }
+}
@@ -0,0 +1,23 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+/**
+ * Repeats the last bid of the opponent increased by {@code increment}. In the first round it bids the average price of
+ * one QU.
+ */
+public class LastBidMimickerBidder extends OpponentBidder {
+
+  private final int increment;
+
+  public LastBidMimickerBidder(int increment) {
+    this.increment = increment;
+  }
+
+  @Override
+  protected int calculateBid() {
+    if (isFirstRound()) {
+      return getInitialCash() / Math.max(getInitialQuantity(), 1);
+    }
+
+    return getLastOpponentBid() + increment;
+  }
+}
@@ -0,0 +1,85 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import de.optimax_energy.bidder.auction.api.Bidder;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Base of simple opponents used in simulations. It keeps the state of the auction, subclasses only calculate the bid,
+ * which is then limited to the range from 0 to remaining cash.
+ */
+public abstract class OpponentBidder implements Bidder {
+
+  private int initialQuantity;
+
+  private int initialCash;
+
+  private int quantity;
+
+  private int remainingCash;
+
+  private int numberOfRounds;
+
+  private int lastOpponentBid;
+
+  @Override
+  public void init(int quantity, int cash) {
+    this.initialQuantity = quantity;
+    this.initialCash = cash;
+    this.quantity = 0;
+    this.remainingCash = cash;
+    this.numberOfRounds = 0;
+    this.lastOpponentBid = 0;
+  }
+
+  @Override
+  public int placeBid() {
+    return Math.max(0, Math.min(calculateBid(), remainingCash));
+  }
+
+  @Override
+  public void bids(int own, int other) {
+    remainingCash -= own;
+    if (own > other) {
+      quantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+    } else if (own == other) {
+      quantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+    }
+    lastOpponentBid = other;
+    numberOfRounds++;
+  }
+
+  protected abstract int calculateBid();
+
+  public int getInitialQuantity() {
+    return initialQuantity;
+  }
+
+  public int getInitialCash() {
+    return initialCash;
+  }
+
+  public int getQuantity() {
+    return quantity;
+  }
+
+  public int getRemainingCash() {
+    return remainingCash;
+  }
+
+  public int getNumberOfRounds() {
+    return numberOfRounds;
+  }
+
+  public boolean isFirstRound() {
+    return numberOfRounds == 0;
+  }
+
+  public int getRemainingRounds() {
+    return Math.max(initialQuantity / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - numberOfRounds, 1);
+  }
+
+  public int getLastOpponentBid() {
+    return lastOpponentBid;
+  }
+}
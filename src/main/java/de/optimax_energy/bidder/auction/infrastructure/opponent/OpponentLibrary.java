@@ -0,0 +1,76 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Creates opponents for simulations. Every randomized opponent gets its own {@link SplittableRandom}, split from the
+ * master random of the library, so opponents created in the same order from the same master seed bid the same, and
+ * opponents never share a random generator between threads.
+ */
+public class OpponentLibrary {
+
+  private static final double DEFAULT_JITTER = 0.2;
+
+  private static final int DEFAULT_INCREMENT = 1;
+
+  // according to Bayes-Nash equilibrium for two bidders, see DefaultBiddingStrategy
+  private static final double DEFAULT_SHADING_FACTOR = 0.5;
+
+  private static final double DEFAULT_NOISE = 0.1;
+
+  private final SplittableRandom masterRandom;
+
+  public OpponentLibrary(long masterSeed) {
+    this.masterRandom = new SplittableRandom(masterSeed);
+  }
+
+  /**
+   * Default opponents for tournaments, the tournament passes the seed for randomized opponents.
+   *
+   * @return participants for {@link de.optimax_energy.bidder.auction.api.dto.Tournament}
+   */
+  public static List<TournamentParticipant> tournamentOpponents() {
+    return List.of(
+      new TournamentParticipant("dummy", seed -> new DummyBidder()),
+      new TournamentParticipant("aggressive", seed -> new AggressiveBidder()),
+      new TournamentParticipant("random", seed -> new RandomBidder(new SplittableRandom(seed))),
+      new TournamentParticipant("budgetPacer", seed -> new BudgetPacerBidder(new SplittableRandom(seed), DEFAULT_JITTER)),
+      new TournamentParticipant("lastBidMimicker", seed -> new LastBidMimickerBidder(DEFAULT_INCREMENT)),
+      new TournamentParticipant("shading", seed -> new ShadingBidder(new SplittableRandom(seed), DEFAULT_SHADING_FACTOR, DEFAULT_NOISE)));
+  }
+
+  public ConstantBidder constant(int bid) {
+    return new ConstantBidder(bid);
+  }
+
+  public DummyBidder dummy() {
+    return new DummyBidder();
+  }
+
+  public AggressiveBidder aggressive() {
+    return new AggressiveBidder();
+  }
+
+  public LastBidMimickerBidder lastBidMimicker(int increment) {
+    return new LastBidMimickerBidder(increment);
+  }
+
+  public RandomBidder random() {
+    return new RandomBidder(splitRandom());
+  }
+
+  public BudgetPacerBidder budgetPacer(double jitter) {
+    return new BudgetPacerBidder(splitRandom(), jitter);
+  }
+
+  public ShadingBidder shading(double shadingFactor, double noise) {
+    return new ShadingBidder(splitRandom(), shadingFactor, noise);
+  }
+
+  private synchronized SplittableRandom splitRandom() {
+    return masterRandom.split();
+  }
+}
@@ -0,0 +1,26 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import java.util.SplittableRandom;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Bids uniformly distributed amount from 0 to 1.5 times the average price of one round.
+ */
+public class RandomBidder extends OpponentBidder {
+
+  private static final double MAX_BID_MULTIPLIER = 1.5;
+
+  private final SplittableRandom random;
+
+  public RandomBidder(SplittableRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  protected int calculateBid() {
+    int numberOfRounds = Math.max(getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND, 1);
+    int maxBid = (int) (MAX_BID_MULTIPLIER * getInitialCash() / numberOfRounds);
+    return maxBid > 0 ? random.nextInt(maxBid) : 0;
+  }
+}
@@ -0,0 +1,38 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import java.util.SplittableRandom;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+
+/**
+ * Classic first-price bidder: values one round as initial cash divided by the number of rounds needed to win and bids
+ * this value shaded by {@code shadingFactor}. The value is perturbed by gaussian noise with relative standard deviation
+ * {@code noise}, so the bids look like the bids of a human.
+ */
+public class ShadingBidder extends OpponentBidder {
+
+  private final SplittableRandom random;
+
+  private final double shadingFactor;
+
+  private final double noise;
+
+  public ShadingBidder(SplittableRandom random, double shadingFactor, double noise) {
+    if (shadingFactor <= 0 || shadingFactor > 1) {
+      throw new IllegalArgumentException("Shading factor should be greater than 0 and not greater than 1");
+    }
+    if (noise < 0) {
+      throw new IllegalArgumentException("Noise should not be negative");
+    }
+    this.random = random;
+    this.shadingFactor = shadingFactor;
+    this.noise = noise;
+  }
+
+  @Override
+  protected int calculateBid() {
+    int numberOfRoundsToWin = getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2 + 1;
+    double value = (double) getInitialCash() / numberOfRoundsToWin;
+    return (int) Math.round(value * shadingFactor * (1 + noise * random.nextGaussian()));
+  }
+}
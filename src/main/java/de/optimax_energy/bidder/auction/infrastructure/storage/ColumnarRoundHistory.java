@@ -0,0 +1,124 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * History of rounds of one bidder, stored as growable primitive columns. It is exposed as {@code List<RoundResult>},
+ * elements are materialized on access, so nothing but the columns is kept per round.
+ */
+public class ColumnarRoundHistory extends AbstractList<RoundResult> implements RandomAccess {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private int[] myBids;
+
+  private int[] myWonQuantities;
+
+  private int[] opponentBids;
+
+  private int[] opponentRemainingCash;
+
+  private int[] opponentWonQuantities;
+
+  private int size;
+
+  public ColumnarRoundHistory() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ColumnarRoundHistory(int initialCapacity) {
+    int capacity = Math.max(initialCapacity, 1);
+    this.myBids = new int[capacity];
+    this.myWonQuantities = new int[capacity];
+    this.opponentBids = new int[capacity];
+    this.opponentRemainingCash = new int[capacity];
+    this.opponentWonQuantities = new int[capacity];
+  }
+
+  public void append(int myBid, int myWonQuantity, int opponentBid, int opponentRemainingCash, int opponentWonQuantity) {
+    if (size == myBids.length) {
+      grow();
+    }
+    this.myBids[size] = myBid;
+    this.myWonQuantities[size] = myWonQuantity;
+    this.opponentBids[size] = opponentBid;
+    this.opponentRemainingCash[size] = opponentRemainingCash;
+    this.opponentWonQuantities[size] = opponentWonQuantity;
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public boolean add(RoundResult roundResult) {
+    append(roundResult.getMyBid(), roundResult.getMyWonQuantity(), roundResult.getOpponentBid(),
+      roundResult.getOpponentRemainingCash(), roundResult.getOpponentWonQuantity());
+    return true;
+  }
+
+  @Override
+  public RoundResult get(int index) {
+    checkIndex(index);
+    return RoundResult.builder()
+      .withMyBid(myBids[index])
+      .withMyWonQuantity(myWonQuantities[index])
+      .withOpponentBid(opponentBids[index])
+      .withOpponentRemainingCash(opponentRemainingCash[index])
+      .withOpponentWonQuantity(opponentWonQuantities[index])
+      .build();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    modCount++;
+  }
+
+  public int getMyBid(int index) {
+    checkIndex(index);
+    return myBids[index];
+  }
+
+  public int getMyWonQuantity(int index) {
+    checkIndex(index);
+    return myWonQuantities[index];
+  }
+
+  public int getOpponentBid(int index) {
+    checkIndex(index);
+    return opponentBids[index];
+  }
+
+  public int getOpponentRemainingCash(int index) {
+    checkIndex(index);
+    return opponentRemainingCash[index];
+  }
+
+  public int getOpponentWonQuantity(int index) {
+    checkIndex(index);
+    return opponentWonQuantities[index];
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+  }
+
+  private void grow() {
+    int newCapacity = myBids.length + (myBids.length >> 1) + 1;
+    myBids = Arrays.copyOf(myBids, newCapacity);
+    myWonQuantities = Arrays.copyOf(myWonQuantities, newCapacity);
+    opponentBids = Arrays.copyOf(opponentBids, newCapacity);
+    opponentRemainingCash = Arrays.copyOf(opponentRemainingCash, newCapacity);
+    opponentWonQuantities = Arrays.copyOf(opponentWonQuantities, newCapacity);
+  }
+}
@@ -0,0 +1,67 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only log of rounds of one bidder. Appends are serialised per log, reads are lock-free: a reader takes the
+ * published size first and then the array, which always contains at least that many elements, because the array is
+ * replaced only by a copy and elements below the published size are never overwritten.
+ */
+class ConcurrentRoundLog {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private volatile RoundResult[] elements = new RoundResult[DEFAULT_INITIAL_CAPACITY];
+
+  private volatile int size;
+
+  synchronized void append(RoundResult roundResult) {
+    RoundResult[] currentElements = elements;
+    int currentSize = size;
+    if (currentSize == currentElements.length) {
+      currentElements = Arrays.copyOf(currentElements, currentElements.length + (currentElements.length >> 1));
+      elements = currentElements;
+    }
+    currentElements[currentSize] = roundResult;
+    size = currentSize + 1;
+  }
+
+  List<RoundResult> snapshot() {
+    int currentSize = size;
+    return new Snapshot(elements, currentSize);
+  }
+
+  int size() {
+    return size;
+  }
+
+  private static final class Snapshot extends AbstractList<RoundResult> implements RandomAccess {
+
+    private final RoundResult[] elements;
+
+    private final int size;
+
+    private Snapshot(RoundResult[] elements, int size) {
+      this.elements = elements;
+      this.size = size;
+    }
+
+    @Override
+    public RoundResult get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+      }
+      return elements[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator, which keeps the number of bidders in the delegate storage bounded. Histories are evicted in LRU order,
+ * when there are more than {@code maxBidders} of them, or when they were not accessed longer than {@code ttl}.
+ * <p>
+ * Every access changes the LRU order, so bidders are split by hash into up to {@link #MAX_STRIPES} stripes, each with
+ * its own lock, LRU order and an equal share of {@code maxBidders}; bidders of different stripes don't contend. Small
+ * storages have a single stripe, so their LRU order is exact. Stripes call the delegate concurrently, so it has to be
+ * thread safe, e.g. {@link RoundResultConcurrentStorageService}, when many threads use the storage.
+ * <p>
+ * A stripe evicts its expired bidders, when it's accessed, {@link #evictExpired()} evicts them in all stripes, e.g.
+ * periodically, so bidders of idle stripes don't stay.
+ */
+public class EvictingRoundResultStorageService implements RoundResultStorageOperations {
+
+  static final int MAX_STRIPES = 16;
+
+  static final int MIN_BIDDERS_PER_STRIPE = 64;
+
+  private final RoundResultStorageOperations delegate;
+
+  private final long ttlMillis;
+
+  private final Clock clock;
+
+  private final Stripe[] stripes;
+
+  private final LongAdder capacityEvictionCount = new LongAdder();
+
+  private final LongAdder expirationEvictionCount = new LongAdder();
+
+  private final LongAdder removalCount = new LongAdder();
+
+  public EvictingRoundResultStorageService(RoundResultStorageOperations delegate, int maxBidders, Duration ttl, Clock clock) {
+    if (maxBidders < 1) {
+      throw new IllegalArgumentException("Maximum number of bidders should be positive");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("TTL should be positive");
+    }
+    this.delegate = delegate;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    int numberOfStripes = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxBidders / MIN_BIDDERS_PER_STRIPE)));
+    this.stripes = new Stripe[numberOfStripes];
+    for (int i = 0; i < numberOfStripes; i++) {
+      stripes[i] = new Stripe(maxBidders / numberOfStripes);
+    }
+  }
+
+  @Override
+  public void initAuctionForBidder(String bidderUuid, int initialQuantity, int initialCash) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      stripe.write(bidderUuid, clock.millis());
+      delegate.initAuctionForBidder(bidderUuid, initialQuantity, initialCash);
+    }
+  }
+
+  @Override
+  public Optional<InitialAuctionState> getInitialAuctionStateForBidder(String bidderUuid) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      stripe.read(bidderUuid, clock.millis());
+      return delegate.getInitialAuctionStateForBidder(bidderUuid);
+    }
+  }
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, RoundResult roundResult) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      stripe.write(bidderUuid, clock.millis());
+      delegate.addRoundResultForBidder(bidderUuid, roundResult);
+    }
+  }
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, int myBid, int myWonQuantity, int opponentBid,
+                                      int opponentRemainingCash, int opponentWonQuantity) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      stripe.write(bidderUuid, clock.millis());
+      delegate.addRoundResultForBidder(bidderUuid, myBid, myWonQuantity, opponentBid, opponentRemainingCash, opponentWonQuantity);
+    }
+  }
+
+  @Override
+  public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      stripe.read(bidderUuid, clock.millis());
+      return delegate.getRoundResultsForBidder(bidderUuid);
+    }
+  }
+
+  @Override
+  public void removeRoundResultsForBidder(String bidderUuid) {
+    Stripe stripe = getStripe(bidderUuid);
+    synchronized (stripe) {
+      if (stripe.lastAccesses.remove(bidderUuid) != null) {
+        removalCount.increment();
+      }
+      delegate.removeRoundResultsForBidder(bidderUuid);
+    }
+  }
+
+  /**
+   * Evicts bidders, which were not accessed longer than TTL, from all stripes.
+   */
+  public void evictExpired() {
+    long now = clock.millis();
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        stripe.evictExpired(now);
+      }
+    }
+  }
+
+  public int getNumberOfBidders() {
+    int numberOfBidders = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        numberOfBidders += stripe.lastAccesses.size();
+      }
+    }
+    return numberOfBidders;
+  }
+
+  int getNumberOfStripes() {
+    return stripes.length;
+  }
+
+  public long getCapacityEvictionCount() {
+    return capacityEvictionCount.sum();
+  }
+
+  public long getExpirationEvictionCount() {
+    return expirationEvictionCount.sum();
+  }
+
+  public long getRemovalCount() {
+    return removalCount.sum();
+  }
+
+  private Stripe getStripe(String bidderUuid) {
+    int hash = bidderUuid.hashCode();
+    return stripes[(hash ^ hash >>> 16) & (stripes.length - 1)];
+  }
+
+  /**
+   * Bidders of one stripe in LRU order, guarded by the monitor of the stripe.
+   */
+  private final class Stripe {
+
+    private final int maxBidders;
+
+    private final LinkedHashMap<String, LastAccess> lastAccesses = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Stripe(int maxBidders) {
+      this.maxBidders = maxBidders;
+    }
+
+    /**
+     * Tracks the bidder, whose results are written, and evicts expired and least recently used bidders.
+     */
+    private void write(String bidderUuid, long now) {
+      evictExpired(now);
+      LastAccess lastAccess = lastAccesses.get(bidderUuid);
+      if (lastAccess == null) {
+        lastAccess = new LastAccess();
+        lastAccesses.put(bidderUuid, lastAccess);
+        evictOverCapacity();
+      }
+      lastAccess.millis = now;
+    }
+
+    /**
+     * Updates the last access of a tracked bidder, bidders, which are only read, aren't tracked.
+     */
+    private void read(String bidderUuid, long now) {
+      evictExpired(now);
+      LastAccess lastAccess = lastAccesses.get(bidderUuid);
+      if (lastAccess != null) {
+        lastAccess.millis = now;
+      }
+    }
+
+    private void evictExpired(long now) {
+      Iterator<Map.Entry<String, LastAccess>> iterator = lastAccesses.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, LastAccess> eldest = iterator.next();
+        if (now - eldest.getValue().millis < ttlMillis) {
+          return;
+        }
+        iterator.remove();
+        delegate.removeRoundResultsForBidder(eldest.getKey());
+        expirationEvictionCount.increment();
+      }
+    }
+
+    private void evictOverCapacity() {
+      Iterator<Map.Entry<String, LastAccess>> iterator = lastAccesses.entrySet().iterator();
+      while (lastAccesses.size() > maxBidders) {
+        Map.Entry<String, LastAccess> eldest = iterator.next();
+        iterator.remove();
+        delegate.removeRoundResultsForBidder(eldest.getKey());
+        capacityEvictionCount.increment();
+      }
+    }
+  }
+
+  private static final class LastAccess {
+
+    private long millis;
+  }
+}
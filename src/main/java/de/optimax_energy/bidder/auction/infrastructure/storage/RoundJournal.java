@@ -0,0 +1,193 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only, memory-mapped journal of rounds of one bidder. The first record is the header with initial quantity and
+ * cash of the auction, every round is a fixed-size record after it, written directly into the mapped file. The
+ * sequence number of the record is written last and the sequence number of the next record is invalidated before it,
+ * so the journal is recovered up to the last complete record of the current auction, the rest of the pre-allocated
+ * file and rounds of previous auctions are ignored. Records are aligned to their size of 32 bytes, so a record never
+ * straddles a page or a disk sector and the write of the page with its sequence number also writes the rest of it.
+ * <p>
+ * The journal doesn't keep a copy of its rounds, they are read from the mapping. The file channel is open only while
+ * the file is mapped, the mapping stays valid after it's closed, so journals of many bidders don't hold file handles.
+ */
+class RoundJournal implements Closeable {
+
+  static final int RECORD_SIZE = 8 * Integer.BYTES;
+
+  private static final int SEQUENCE_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+  private static final int HEADER_SIZE = RECORD_SIZE;
+
+  private static final int HEADER_WRITTEN = 1;
+
+  private static final int INITIAL_CAPACITY_IN_RECORDS = 1024;
+
+  private final Path path;
+
+  private final int syncInterval;
+
+  private final List<RoundResult> history = new MappedRoundHistory();
+
+  private MappedByteBuffer buffer;
+
+  private int size;
+
+  private int appendsSinceSync;
+
+  private RoundJournal(Path path, int syncInterval) {
+    this.path = path;
+    this.syncInterval = syncInterval;
+  }
+
+  /**
+   * Opens journal and counts its complete records.
+   *
+   * @param path         journal file, created if it doesn't exist
+   * @param syncInterval number of appends after which mapped buffer is forced to disk, 0 leaves it to OS
+   * @return opened journal
+   */
+  static RoundJournal open(Path path, int syncInterval) {
+    RoundJournal roundJournal = new RoundJournal(path, syncInterval);
+    roundJournal.map(INITIAL_CAPACITY_IN_RECORDS * (long) RECORD_SIZE);
+    roundJournal.recover();
+    return roundJournal;
+  }
+
+  /**
+   * Starts a new auction, rounds of the previous one are discarded.
+   */
+  void init(int initialQuantity, int initialCash) {
+    size = 0;
+    invalidate(0);
+    buffer.putInt(0, initialQuantity);
+    buffer.putInt(Integer.BYTES, initialCash);
+    buffer.putInt(SEQUENCE_OFFSET, HEADER_WRITTEN);
+  }
+
+  /**
+   * @return initial quantity and cash of the auction, null if they were never written
+   */
+  InitialAuctionState getInitialAuctionState() {
+    if (buffer.getInt(SEQUENCE_OFFSET) != HEADER_WRITTEN) {
+      return null;
+    }
+    return new InitialAuctionState(buffer.getInt(0), buffer.getInt(Integer.BYTES));
+  }
+
+  void append(RoundResult roundResult) {
+    append(roundResult.getMyBid(), roundResult.getMyWonQuantity(), roundResult.getOpponentBid(),
+      roundResult.getOpponentRemainingCash(), roundResult.getOpponentWonQuantity());
+  }
+
+  void append(int myBid, int myWonQuantity, int opponentBid, int opponentRemainingCash, int opponentWonQuantity) {
+    int position = getPosition(size);
+    if (position + RECORD_SIZE > buffer.capacity()) {
+      map(2L * buffer.capacity());
+    }
+    buffer.putInt(position, myBid);
+    buffer.putInt(position + Integer.BYTES, myWonQuantity);
+    buffer.putInt(position + 2 * Integer.BYTES, opponentBid);
+    buffer.putInt(position + 3 * Integer.BYTES, opponentRemainingCash);
+    buffer.putInt(position + 4 * Integer.BYTES, opponentWonQuantity);
+    invalidate(size + 1);
+    buffer.putInt(position + SEQUENCE_OFFSET, size + 1);
+    size++;
+
+    if (syncInterval > 0 && ++appendsSinceSync >= syncInterval) {
+      sync();
+    }
+  }
+
+  /**
+   * @return unmodifiable view of the rounds, which reads them from the mapping
+   */
+  List<RoundResult> getHistory() {
+    return history;
+  }
+
+  void sync() {
+    buffer.force();
+    appendsSinceSync = 0;
+  }
+
+  @Override
+  public void close() {
+    sync();
+  }
+
+  private void recover() {
+    int capacityInRecords = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+    while (size < capacityInRecords && buffer.getInt(getPosition(size) + SEQUENCE_OFFSET) == size + 1) {
+      size++;
+    }
+  }
+
+  /**
+   * Clears the sequence number of the record, so it isn't recovered, e.g. a round of a previous auction.
+   */
+  private void invalidate(int index) {
+    int position = getPosition(index);
+    if (position + RECORD_SIZE <= buffer.capacity()) {
+      buffer.putInt(position + SEQUENCE_OFFSET, 0);
+    }
+  }
+
+  private static int getPosition(int index) {
+    return HEADER_SIZE + index * RECORD_SIZE;
+  }
+
+  /**
+   * Maps the whole file, but at least the given capacity, the file is extended to it.
+   */
+  private void map(long minCapacity) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long capacity = Math.max(channel.size(), minCapacity);
+      if (capacity > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Round journal exceeds maximum size");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not map round journal " + path, e);
+    }
+  }
+
+  private final class MappedRoundHistory extends AbstractList<RoundResult> implements RandomAccess {
+
+    @Override
+    public RoundResult get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+      }
+      int position = getPosition(index);
+      return RoundResult.builder()
+        .withMyBid(buffer.getInt(position))
+        .withMyWonQuantity(buffer.getInt(position + Integer.BYTES))
+        .withOpponentBid(buffer.getInt(position + 2 * Integer.BYTES))
+        .withOpponentRemainingCash(buffer.getInt(position + 3 * Integer.BYTES))
+        .withOpponentWonQuantity(buffer.getInt(position + 4 * Integer.BYTES))
+        .build();
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
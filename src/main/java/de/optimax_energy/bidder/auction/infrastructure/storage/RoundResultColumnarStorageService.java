@@ -0,0 +1,37 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class RoundResultColumnarStorageService implements RoundResultStorageOperations {
+
+  private final Map<String, ColumnarRoundHistory> roundResults = new HashMap<>();
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, RoundResult roundResult) {
+    roundResults.computeIfAbsent(bidderUuid, uuid -> new ColumnarRoundHistory()).add(roundResult);
+  }
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, int myBid, int myWonQuantity, int opponentBid,
+                                      int opponentRemainingCash, int opponentWonQuantity) {
+    roundResults.computeIfAbsent(bidderUuid, uuid -> new ColumnarRoundHistory())
+      .append(myBid, myWonQuantity, opponentBid, opponentRemainingCash, opponentWonQuantity);
+  }
+
+  @Override
+  public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
+    return Optional.<List<RoundResult>>ofNullable(roundResults.get(bidderUuid)).orElseGet(Collections::emptyList);
+  }
+
+  @Override
+  public void removeRoundResultsForBidder(String bidderUuid) {
+    roundResults.remove(bidderUuid);
+  }
+}
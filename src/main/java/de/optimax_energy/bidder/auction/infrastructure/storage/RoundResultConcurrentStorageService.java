@@ -0,0 +1,38 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage, which can be shared by any number of bidders running on different threads. Every bidder has its own
+ * append log, so bidders don't contend with each other, and the returned lists are immutable snapshots.
+ */
+public class RoundResultConcurrentStorageService implements RoundResultStorageOperations {
+
+  private final Map<String, ConcurrentRoundLog> roundResults = new ConcurrentHashMap<>();
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, RoundResult roundResult) {
+    ConcurrentRoundLog roundLog = roundResults.get(bidderUuid);
+    if (roundLog == null) {
+      roundLog = roundResults.computeIfAbsent(bidderUuid, uuid -> new ConcurrentRoundLog());
+    }
+    roundLog.append(roundResult);
+  }
+
+  @Override
+  public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
+    ConcurrentRoundLog roundLog = roundResults.get(bidderUuid);
+    return roundLog == null ? Collections.emptyList() : roundLog.snapshot();
+  }
+
+  @Override
+  public void removeRoundResultsForBidder(String bidderUuid) {
+    roundResults.remove(bidderUuid);
+  }
+}
@@ -25,4 +25,9 @@ public class RoundResultInMemoryStorageService implements RoundResultStorageOper
   public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
     return Optional.ofNullable(roundResults.get(bidderUuid)).orElseGet(Collections::emptyList);
   }
+
+  @Override
+  public void removeRoundResultsForBidder(String bidderUuid) {
+    roundResults.remove(bidderUuid);
+  }
 }
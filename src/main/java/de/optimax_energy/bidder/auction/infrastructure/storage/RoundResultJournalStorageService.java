@@ -0,0 +1,129 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Storage, which survives restarts. Initial quantity and cash and round results of every bidder are written to its own
+ * memory-mapped journal in the given directory, all journals are mapped again when the storage is created. Rounds are
+ * read from the mappings, no file is kept open between calls.
+ */
+public class RoundResultJournalStorageService implements RoundResultStorageOperations, Closeable {
+
+  private static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+  private static final Pattern BIDDER_UUID_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+  private final Map<String, RoundJournal> roundJournals = new HashMap<>();
+
+  private final Path directory;
+
+  private final int syncInterval;
+
+  /**
+   * @param directory    directory with journals
+   * @param syncInterval number of appends of one bidder after which journal is forced to disk, 0 leaves it to OS
+   */
+  public RoundResultJournalStorageService(Path directory, int syncInterval) {
+    if (syncInterval < 0) {
+      throw new IllegalArgumentException("Sync interval should not be negative");
+    }
+    this.directory = directory;
+    this.syncInterval = syncInterval;
+    recover();
+  }
+
+  @Override
+  public void initAuctionForBidder(String bidderUuid, int initialQuantity, int initialCash) {
+    roundJournals.computeIfAbsent(bidderUuid, this::openJournal).init(initialQuantity, initialCash);
+  }
+
+  @Override
+  public Optional<InitialAuctionState> getInitialAuctionStateForBidder(String bidderUuid) {
+    RoundJournal roundJournal = roundJournals.get(bidderUuid);
+    return roundJournal == null ? Optional.empty() : Optional.ofNullable(roundJournal.getInitialAuctionState());
+  }
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, RoundResult roundResult) {
+    roundJournals.computeIfAbsent(bidderUuid, this::openJournal).append(roundResult);
+  }
+
+  @Override
+  public void addRoundResultForBidder(String bidderUuid, int myBid, int myWonQuantity, int opponentBid,
+                                      int opponentRemainingCash, int opponentWonQuantity) {
+    roundJournals.computeIfAbsent(bidderUuid, this::openJournal)
+      .append(myBid, myWonQuantity, opponentBid, opponentRemainingCash, opponentWonQuantity);
+  }
+
+  @Override
+  public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
+    RoundJournal roundJournal = roundJournals.get(bidderUuid);
+    return roundJournal == null ? Collections.emptyList() : roundJournal.getHistory();
+  }
+
+  /**
+   * Closes the journal of the bidder and deletes its file.
+   *
+   * @param bidderUuid uuid of the bidder
+   */
+  @Override
+  public void removeRoundResultsForBidder(String bidderUuid) {
+    RoundJournal roundJournal = roundJournals.remove(bidderUuid);
+    if (roundJournal == null) {
+      return;
+    }
+    try {
+      roundJournal.close();
+      Files.deleteIfExists(directory.resolve(bidderUuid + JOURNAL_FILE_EXTENSION));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not remove round journal of bidder " + bidderUuid, e);
+    }
+  }
+
+  public void sync() {
+    roundJournals.values().forEach(RoundJournal::sync);
+  }
+
+  @Override
+  public void close() {
+    roundJournals.values().forEach(RoundJournal::close);
+    roundJournals.clear();
+  }
+
+  private void recover() {
+    try {
+      Files.createDirectories(directory);
+      try (DirectoryStream<Path> journalFiles = Files.newDirectoryStream(directory, "*" + JOURNAL_FILE_EXTENSION)) {
+        for (Path journalFile : journalFiles) {
+          String fileName = journalFile.getFileName().toString();
+          String bidderUuid = fileName.substring(0, fileName.length() - JOURNAL_FILE_EXTENSION.length());
+          roundJournals.put(bidderUuid, RoundJournal.open(journalFile, syncInterval));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not recover round journals from " + directory, e);
+    }
+  }
+
+  private RoundJournal openJournal(String bidderUuid) {
+    if (!BIDDER_UUID_PATTERN.matcher(bidderUuid).matches()) {
+      throw new IllegalArgumentException("Bidder uuid can't be used as journal name: " + bidderUuid);
+    }
+    return RoundJournal.open(directory.resolve(bidderUuid + JOURNAL_FILE_EXTENSION), syncInterval);
+  }
+}
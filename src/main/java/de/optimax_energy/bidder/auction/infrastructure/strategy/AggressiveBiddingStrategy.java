@@ -1,22 +1,36 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
-
-import java.util.List;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
 
 class AggressiveBiddingStrategy implements BiddingStrategy {
 
-  private final StatisticsService statisticsService;
+  /**
+   * Probability of outbidding the opponent, which the one sigma multiplier targets for normally distributed bids.
+   */
+  static final double TARGET_WIN_PROBABILITY = 0.84;
+
+  static final int MIN_NUMBER_OF_BIDS_IN_SKETCH = 3;
+
+  private final double oneSigmaMultiplier;
+
+  private final int maxBidMultiplier;
 
-  AggressiveBiddingStrategy(StatisticsService statisticsService) {
-    this.statisticsService = statisticsService;
+  AggressiveBiddingStrategy() {
+    this(StrategyParameters.DEFAULT);
+  }
+
+  AggressiveBiddingStrategy(StrategyParameters strategyParameters) {
+    this.oneSigmaMultiplier = strategyParameters.getOneSigmaMultiplier();
+    this.maxBidMultiplier = strategyParameters.getMaxBidMultiplier();
   }
 
   @Override
-  public int placeBid(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    return calculateBid(roundResults, initialQuantity, initialCash);
+  public int placeBid(AuctionState auctionState) {
+    return calculateBid(auctionState);
   }
 
   @Override
@@ -25,21 +39,20 @@ class AggressiveBiddingStrategy implements BiddingStrategy {
   }
 
   /**
-   * This method calculates bid. The main idea to bid 1.34 times higher than opponent's average bid.
-   * The assumption is that opponent bids obey normal law.
+   * This method calculates bid. The main idea to bid 1.34 (one sigma multiplier) times higher than opponent's predicted
+   * bid. The assumption is that opponent bids obey normal law. When enough opponent's bids are known, the bid, which
+   * beats 84% of them, is taken from their distribution instead.
    *
-   * @param roundResults results of previous rounds
-   * @param initialQuantity initial amount of QU
-   * @param initialCash  initial amount of MU
+   * @param auctionState snapshot of the auction
    * @return bid
    */
-  private int calculateBid(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    int opponentQuantity = statisticsService.calculateOpponentQuantity(roundResults);
-    int myCurrentQuantity = statisticsService.calculateMyQuantity(roundResults);
-    int remainingQuantity = initialQuantity - myCurrentQuantity - opponentQuantity;
-    int myRemainingCash = statisticsService.calculateMyRemainingCash(roundResults, initialCash);
-    int requiredQuantityNotToLoose = initialQuantity / 2;
-    int opponentRemainingCash = statisticsService.calculateOpponentRemainingCash(roundResults, initialCash);
+  private int calculateBid(AuctionState auctionState) {
+    int opponentQuantity = auctionState.getOpponentQuantity();
+    int myCurrentQuantity = auctionState.getMyQuantity();
+    int remainingQuantity = auctionState.getRemainingQuantity();
+    int myRemainingCash = auctionState.getMyRemainingCash();
+    int requiredQuantityNotToLoose = auctionState.getInitialQuantity() / 2;
+    int opponentRemainingCash = auctionState.getOpponentRemainingCash();
 
     if (doesOpponentNeedOneQUToWin(requiredQuantityNotToLoose, opponentQuantity)) {
       return Math.min(opponentRemainingCash + 1, myRemainingCash);
@@ -47,24 +60,30 @@ class AggressiveBiddingStrategy implements BiddingStrategy {
 
     // the assumption is: if the bid ~1.34 times higher than average, then bot's bid should be higher in ~84% of cases
     // due to normal distribution of the opponent's bids
-    double oneSigmaMultiplier = 1.34;
-    int maxBidMultiplier = 3;
     int maxBid = maxBidMultiplier * (myRemainingCash / (requiredQuantityNotToLoose / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND));
-    int opponentAverageBid = statisticsService.calculateOpponentAverageBid(roundResults);
-    int bid = Math.min((int) Math.round(opponentAverageBid * oneSigmaMultiplier), maxBid);
+    int predictedOpponentBid = auctionState.getPredictedOpponentBid();
+    int bid = Math.min(calculateBidToBeat(auctionState), maxBid);
 
     if (isThereChanceToWin(requiredQuantityNotToLoose, myCurrentQuantity, remainingQuantity)
       && opponentRemainingCash < bid) {
       return opponentRemainingCash + 1;
     }
 
-    if (opponentAverageBid < MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY) {
-      bid = opponentAverageBid + 2;
+    if (predictedOpponentBid < MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY) {
+      bid = predictedOpponentBid + 2;
     }
 
     return bid;
   }
 
+  private int calculateBidToBeat(AuctionState auctionState) {
+    RoundStatistics roundStatistics = auctionState.getRoundStatistics();
+    if (roundStatistics != null && roundStatistics.getOpponentBidSketch().getCount() >= MIN_NUMBER_OF_BIDS_IN_SKETCH) {
+      return roundStatistics.getOpponentBidSketch().getBidToBeat(TARGET_WIN_PROBABILITY);
+    }
+    return (int) Math.round(auctionState.getPredictedOpponentBid() * oneSigmaMultiplier);
+  }
+
   private boolean isThereChanceToWin(int requiredQuantityNotToLoose, int myCurrentQuantity, int remainingQuantity) {
     return requiredQuantityNotToLoose <= myCurrentQuantity + remainingQuantity;
   }
@@ -0,0 +1,27 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * The opponent spends its cash faster than evenly. While its pace is too high to outbid in all needed rounds, the bot
+ * bids nothing and lets it run out of cash, then it outbids the pace.
+ */
+class AggressiveCounterStrategy extends CounterBiddingStrategy {
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    return outbidIfAffordable(getOpponentPace(auctionState, auctionState.getOpponentProfile().getRatioMean()), auctionState);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.COUNTER_AGGRESSIVE;
+  }
+
+  @Override
+  OpponentClass getOpponentClass() {
+    return OpponentClass.AGGRESSIVE;
+  }
+}
@@ -0,0 +1,102 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BatchBidder;
+import de.optimax_energy.bidder.auction.api.dto.BatchAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY;
+
+/**
+ * Plays a frozen rule set for a batch of auctions: maximum bid in the last round, minimum bid in the first round, zero
+ * bid when the auction is decided, minimum bid when opponent has no money, otherwise aggressive or default strategy.
+ * These are the rules of {@link StrategySelector}, which need no more state than {@link BatchAuctionState} keeps: its
+ * bids equal the bids of the selector for an auction state without round statistics and opponent's profile, where the
+ * selector doesn't force the end game. Everything, which needs per-auction objects, is left out on purpose, so a batch
+ * stays a struct of arrays: policies, end game, counter strategies of classified opponents, bandit, lookahead, the
+ * estimators of {@link de.optimax_energy.bidder.auction.api.dto.OpponentBidPredictor}, opponent's bid is predicted by
+ * the average of its last two bids, and the quantile sketch, the aggressive strategy multiplies the prediction by the
+ * one sigma multiplier. New rules of the selector aren't played here, until they are added to this loop.
+ * <p>
+ * Bids of all auctions are calculated in one loop over the arrays without calls and with conditional moves instead of
+ * branches: all rules are evaluated for every auction and the rule with the highest priority is applied last.
+ */
+public class BatchRuleBidder implements BatchBidder {
+
+  private final double oneSigmaMultiplier;
+
+  private final int maxBidMultiplier;
+
+  private final int aggressiveStrategyThreshold;
+
+  public BatchRuleBidder() {
+    this(StrategyParameters.DEFAULT);
+  }
+
+  public BatchRuleBidder(StrategyParameters strategyParameters) {
+    this.oneSigmaMultiplier = strategyParameters.getOneSigmaMultiplier();
+    this.maxBidMultiplier = strategyParameters.getMaxBidMultiplier();
+    this.aggressiveStrategyThreshold = strategyParameters.getAggressiveStrategyThreshold();
+  }
+
+  @Override
+  public void placeBids(BatchAuctionState batchAuctionState, int[] bids) {
+    int size = batchAuctionState.getSize();
+    if (bids.length < size) {
+      throw new IllegalArgumentException("Bids should have at least " + size + " elements");
+    }
+    int[] initialQuantities = batchAuctionState.getInitialQuantities();
+    int[] initialCashes = batchAuctionState.getInitialCashes();
+    int[] numbersOfRounds = batchAuctionState.getNumbersOfRounds();
+    int[] myQuantities = batchAuctionState.getMyQuantities();
+    int[] opponentQuantities = batchAuctionState.getOpponentQuantities();
+    int[] myRemainingCashes = batchAuctionState.getMyRemainingCashes();
+    int[] opponentRemainingCashes = batchAuctionState.getOpponentRemainingCashes();
+    int[] lastOpponentBids = batchAuctionState.getLastOpponentBids();
+    int[] previousOpponentBids = batchAuctionState.getPreviousOpponentBids();
+
+    for (int auction = 0; auction < size; auction++) {
+      int initialQuantity = initialQuantities[auction];
+      int initialCash = initialCashes[auction];
+      int numberOfRounds = numbersOfRounds[auction];
+      int myQuantity = myQuantities[auction];
+      int opponentQuantity = opponentQuantities[auction];
+      int myRemainingCash = myRemainingCashes[auction];
+      int opponentRemainingCash = opponentRemainingCashes[auction];
+      int lastOpponentBid = lastOpponentBids[auction];
+      int previousOpponentBid = previousOpponentBids[auction];
+
+      int remainingQuantity = initialQuantity - myQuantity - opponentQuantity;
+      int requiredQuantityNotToLoose = initialQuantity / 2;
+      boolean isFirstRound = numberOfRounds == 0;
+      boolean isEnoughQuantityToWin = myQuantity >= requiredQuantityNotToLoose + 1;
+      boolean isAlreadyLost = myQuantity + remainingQuantity < requiredQuantityNotToLoose;
+      // rounded average of two bids without overflow
+      int averageOfTwoBids = (lastOpponentBid >> 1) + (previousOpponentBid >> 1) + ((lastOpponentBid | previousOpponentBid) & 1);
+      int predictedOpponentBid = numberOfRounds > 1 ? averageOfTwoBids : lastOpponentBid;
+
+      int numberOfBidsToWin = initialQuantity / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2 + 1;
+      int defaultBid = initialCash / numberOfBidsToWin / 2;
+      defaultBid = opponentRemainingCash < defaultBid ? opponentRemainingCash + 1 : defaultBid;
+
+      int maxBid = maxBidMultiplier * (myRemainingCash / Math.max(1, requiredQuantityNotToLoose / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND));
+      int bidToBeat = Math.min((int) Math.round(predictedOpponentBid * oneSigmaMultiplier), maxBid);
+      int aggressiveBid = predictedOpponentBid < MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY ? predictedOpponentBid + 2 : bidToBeat;
+      aggressiveBid = requiredQuantityNotToLoose <= myQuantity + remainingQuantity && opponentRemainingCash < bidToBeat
+        ? opponentRemainingCash + 1 : aggressiveBid;
+      aggressiveBid = requiredQuantityNotToLoose == opponentQuantity ? Math.min(opponentRemainingCash + 1, myRemainingCash) : aggressiveBid;
+
+      int requiredQuantityLeftToWin = requiredQuantityNotToLoose + 1 - myQuantity;
+      boolean shouldBidMoreAggressively = (opponentQuantity > myQuantity && opponentRemainingCash > myRemainingCash)
+        || requiredQuantityLeftToWin * 100.0 / remainingQuantity >= aggressiveStrategyThreshold;
+
+      int bid = shouldBidMoreAggressively ? aggressiveBid : defaultBid;
+      bid = !isFirstRound && opponentRemainingCash == 0 ? 1 : bid;
+      bid = isEnoughQuantityToWin || isAlreadyLost ? 0 : bid;
+      bid = isFirstRound && initialQuantity > MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY ? 1 : bid;
+      bid = initialQuantity == AMOUNT_OF_PRODUCTS_IN_ONE_ROUND || remainingQuantity == AMOUNT_OF_PRODUCTS_IN_ONE_ROUND
+        ? initialCash : bid;
+      bids[auction] = Math.min(bid, myRemainingCash);
+    }
+  }
+}
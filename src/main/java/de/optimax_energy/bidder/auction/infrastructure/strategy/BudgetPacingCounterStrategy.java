@@ -0,0 +1,32 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * The opponent spreads its remaining cash evenly with small deviations, so the bot outbids the upper edge of its pace,
+ * two coefficients of variation above the average.
+ */
+class BudgetPacingCounterStrategy extends CounterBiddingStrategy {
+
+  private static final double NUMBER_OF_DEVIATIONS = 2;
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    OpponentProfile opponentProfile = auctionState.getOpponentProfile();
+    double ratio = opponentProfile.getRatioMean() * (1 + NUMBER_OF_DEVIATIONS * opponentProfile.getRatioVariation());
+    return outbidIfAffordable(getOpponentPace(auctionState, ratio), auctionState);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.COUNTER_BUDGET_PACING;
+  }
+
+  @Override
+  OpponentClass getOpponentClass() {
+    return OpponentClass.BUDGET_PACING;
+  }
+}
@@ -0,0 +1,26 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * The opponent bids the same amount in every round, so its next bid is its last one, limited by its remaining cash.
+ */
+class ConstantCounterStrategy extends CounterBiddingStrategy {
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    return outbidIfAffordable(auctionState.getOpponentProfile().getLastBid(), auctionState);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.COUNTER_CONSTANT;
+  }
+
+  @Override
+  OpponentClass getOpponentClass() {
+    return OpponentClass.CONSTANT;
+  }
+}
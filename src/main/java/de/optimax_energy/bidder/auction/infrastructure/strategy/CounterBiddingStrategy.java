@@ -0,0 +1,46 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+
+/**
+ * Base of strategies, which counter one {@link OpponentClass}. The selector applies them only when the auction state
+ * has an {@link OpponentProfile} of the class, so the profile is never null.
+ */
+abstract class CounterBiddingStrategy implements BiddingStrategy {
+
+  /**
+   * @return the class of opponents, which is countered by the strategy
+   */
+  abstract OpponentClass getOpponentClass();
+
+  /**
+   * Outbids the predicted bid of the opponent, if the bot can afford to outbid it in all rounds, which it still needs
+   * to win, otherwise lets the opponent spend its cash.
+   */
+  int outbidIfAffordable(int predictedOpponentBid, AuctionState auctionState) {
+    int bid = Math.min(predictedOpponentBid, auctionState.getOpponentRemainingCash()) + 1;
+    return (long) bid * getNeededRounds(auctionState) <= auctionState.getMyRemainingCash() ? bid : 0;
+  }
+
+  /**
+   * @return number of rounds, which the bot still has to win to get more than half of initial QU
+   */
+  int getNeededRounds(AuctionState auctionState) {
+    int requiredQuantityLeftToWin = auctionState.getInitialQuantity() / 2 + 1 - auctionState.getMyQuantity();
+    return Math.max(1, (requiredQuantityLeftToWin + AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - 1) / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+  }
+
+  int getRemainingRounds(AuctionState auctionState) {
+    return Math.max(1, auctionState.getRemainingQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+  }
+
+  /**
+   * @return opponent's remaining cash spent evenly over the remaining rounds and multiplied by the ratio
+   */
+  int getOpponentPace(AuctionState auctionState, double ratio) {
+    return (int) Math.round(ratio * auctionState.getOpponentRemainingCash() / getRemainingRounds(auctionState));
+  }
+}
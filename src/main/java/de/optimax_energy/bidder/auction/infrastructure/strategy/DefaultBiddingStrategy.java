@@ -1,22 +1,14 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 
-import java.util.List;
-
 class DefaultBiddingStrategy implements BiddingStrategy {
 
-  private final StatisticsService statisticsService;
-
-  DefaultBiddingStrategy(StatisticsService statisticsService) {
-    this.statisticsService = statisticsService;
-  }
-
   @Override
-  public int placeBid(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    return calculateAveragePriceOfBidToWin(roundResults, initialQuantity, initialCash);
+  public int placeBid(AuctionState auctionState) {
+    return calculateAveragePriceOfBidToWin(auctionState);
   }
 
   @Override
@@ -33,11 +25,11 @@ class DefaultBiddingStrategy implements BiddingStrategy {
    *
    * @return bid amount
    */
-  private int calculateAveragePriceOfBidToWin(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    int numberOfBidsToWin = (initialQuantity / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2) + 1;
-    int bid = initialCash / numberOfBidsToWin / 2;
+  private int calculateAveragePriceOfBidToWin(AuctionState auctionState) {
+    int numberOfBidsToWin = (auctionState.getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2) + 1;
+    int bid = auctionState.getInitialCash() / numberOfBidsToWin / 2;
 
-    int opponentRemainingCash = statisticsService.calculateOpponentRemainingCash(roundResults, initialCash);
+    int opponentRemainingCash = auctionState.getOpponentRemainingCash();
     if (opponentRemainingCash < bid) {
       return opponentRemainingCash + 1;
     }
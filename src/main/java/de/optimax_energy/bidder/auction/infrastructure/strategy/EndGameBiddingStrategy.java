@@ -0,0 +1,50 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * Plays the last rounds exactly with {@link EndGameSolver}. The strategy is applied only when the solver proves a win
+ * against any opponent: in other positions the worst-case opponent sees through every bid, while heuristics still win
+ * against real ones.
+ */
+class EndGameBiddingStrategy implements BiddingStrategy {
+
+  private final EndGameSolver endGameSolver;
+
+  EndGameBiddingStrategy(EndGameSolver endGameSolver) {
+    this.endGameSolver = endGameSolver;
+  }
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    return endGameSolver.findBid(getRemainingRounds(auctionState), getQuantityDifference(auctionState),
+      auctionState.getMyRemainingCash(), auctionState.getOpponentRemainingCash());
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.END_GAME;
+  }
+
+  /**
+   * @param auctionState snapshot of the auction
+   * @return whether the remaining rounds can be solved within the budget and the bot wins them whatever opponent bids
+   */
+  boolean isWinForced(AuctionState auctionState) {
+    int remainingRounds = getRemainingRounds(auctionState);
+    int myRemainingCash = auctionState.getMyRemainingCash();
+    int opponentRemainingCash = auctionState.getOpponentRemainingCash();
+    return endGameSolver.isSolvable(remainingRounds, myRemainingCash, opponentRemainingCash)
+      && endGameSolver.solve(remainingRounds, getQuantityDifference(auctionState), myRemainingCash, opponentRemainingCash) == EndGameSolver.WIN;
+  }
+
+  private int getRemainingRounds(AuctionState auctionState) {
+    return auctionState.getRemainingQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+  }
+
+  private int getQuantityDifference(AuctionState auctionState) {
+    return auctionState.getMyQuantity() - auctionState.getOpponentQuantity();
+  }
+}
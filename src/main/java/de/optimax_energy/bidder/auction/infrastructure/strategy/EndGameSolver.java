@@ -0,0 +1,162 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Exact solver of the last rounds of an auction against a worst-case opponent, which knows the bid before placing its
+ * own. Such an opponent has only three sensible replies: bid 0 and lose the round, tie, or outbid by 1 MU, any other
+ * bid spends more MU for the same result. Likewise, bidding more than opponent's cash + 1 never helps. The value of a
+ * position is {@link #WIN}, {@link #DRAW} or {@link #LOSS} of the whole auction, the auction is won by more QU and then
+ * by more remaining MU.
+ * <p>
+ * Positions are memoised in a transposition table of primitive entries, which is shared by all threads and reused
+ * across auctions: every entry holds its own key and value in one long, so a lost write or an overwritten entry only
+ * costs a recomputation. The size of a search is bounded before it starts, so a bid never takes longer than solving
+ * {@code maxNodes} positions without any help from the table, and the result doesn't depend on the table contents.
+ */
+class EndGameSolver {
+
+  static final int WIN = 1;
+
+  static final int DRAW = 0;
+
+  static final int LOSS = -1;
+
+  static final int DEFAULT_MAX_ROUNDS = 3;
+
+  static final int DEFAULT_MAX_NODES = 20_000;
+
+  static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+  private static final int MAX_CASH = (1 << 24) - 1;
+
+  private static final int QUANTITY_DIFFERENCE_OFFSET = 64;
+
+  private final int maxRounds;
+
+  private final long maxNodes;
+
+  private final AtomicLongArray table;
+
+  private final int mask;
+
+  EndGameSolver() {
+    this(DEFAULT_MAX_ROUNDS, DEFAULT_MAX_NODES, DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * @param maxRounds maximum number of remaining rounds to solve, not greater than 15
+   * @param maxNodes  maximum number of positions, which a search may visit
+   * @param tableSize number of entries of the transposition table, rounded up to a power of two
+   */
+  EndGameSolver(int maxRounds, long maxNodes, int tableSize) {
+    if (maxRounds < 1 || maxRounds > 15) {
+      throw new IllegalArgumentException("Max rounds should be between 1 and 15");
+    }
+    if (maxNodes < 1) {
+      throw new IllegalArgumentException("Max nodes should be positive");
+    }
+    if (tableSize < 1) {
+      throw new IllegalArgumentException("Table size should be positive");
+    }
+    this.maxRounds = maxRounds;
+    this.maxNodes = maxNodes;
+    int capacity = tableSize == 1 ? 1 : Integer.highestOneBit(tableSize - 1) << 1;
+    this.table = new AtomicLongArray(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * @return whether the position is small enough to be solved within the node budget
+   */
+  boolean isSolvable(int rounds, int myCash, int opponentCash) {
+    if (rounds < 1 || rounds > maxRounds || myCash < 0 || opponentCash < 0 || myCash > MAX_CASH || opponentCash > MAX_CASH) {
+      return false;
+    }
+    long bidsPerRound = Math.min(myCash, opponentCash) + 2L;
+    long nodes = bidsPerRound;
+    for (int round = 1; round < rounds; round++) {
+      nodes *= 3 * bidsPerRound;
+      if (nodes > maxNodes) {
+        return false;
+      }
+    }
+    return nodes <= maxNodes;
+  }
+
+  /**
+   * @param rounds             remaining rounds
+   * @param quantityDifference my QU minus opponent's QU
+   * @param myCash             my remaining MU
+   * @param opponentCash       opponent's remaining MU
+   * @return value of the position, if both bidders play optimally
+   */
+  int solve(int rounds, int quantityDifference, int myCash, int opponentCash) {
+    if (quantityDifference > 2 * rounds) {
+      return WIN;
+    }
+    if (quantityDifference < -2 * rounds) {
+      return LOSS;
+    }
+    if (rounds == 0) {
+      return quantityDifference == 0 ? Integer.signum(myCash - opponentCash) : Integer.signum(quantityDifference);
+    }
+
+    long key = key(rounds, quantityDifference, myCash, opponentCash);
+    int index = index(key);
+    long entry = table.getOpaque(index);
+    if (entry >>> 2 == key) {
+      return (int) (entry & 3) - 2;
+    }
+
+    int value = LOSS;
+    int maxBid = Math.min(myCash, opponentCash + 1);
+    for (int bid = 0; bid <= maxBid && value != WIN; bid++) {
+      value = Math.max(value, solveBid(rounds, quantityDifference, myCash, opponentCash, bid));
+    }
+    table.setOpaque(index, key << 2 | (value + 2));
+    return value;
+  }
+
+  /**
+   * @return the cheapest bid, which keeps the value of the position
+   */
+  int findBid(int rounds, int quantityDifference, int myCash, int opponentCash) {
+    int value = solve(rounds, quantityDifference, myCash, opponentCash);
+    int maxBid = Math.min(myCash, opponentCash + 1);
+    for (int bid = 0; bid < maxBid; bid++) {
+      if (solveBid(rounds, quantityDifference, myCash, opponentCash, bid) == value) {
+        return bid;
+      }
+    }
+    return maxBid;
+  }
+
+  /**
+   * @return value of the position after the bid, when the opponent chooses the reply, which is worst for me
+   */
+  private int solveBid(int rounds, int quantityDifference, int myCash, int opponentCash, int bid) {
+    int value = bid == 0
+      ? solve(rounds - 1, quantityDifference, myCash, opponentCash)
+      : solve(rounds - 1, quantityDifference + 2, myCash - bid, opponentCash);
+    if (value != LOSS && bid > 0 && opponentCash >= bid) {
+      value = Math.min(value, solve(rounds - 1, quantityDifference, myCash - bid, opponentCash - bid));
+    }
+    if (value != LOSS && opponentCash > bid) {
+      value = Math.min(value, solve(rounds - 1, quantityDifference - 2, myCash - bid, opponentCash - bid - 1));
+    }
+    return value;
+  }
+
+  private long key(int rounds, int quantityDifference, int myCash, int opponentCash) {
+    return (long) rounds << 55
+      | (long) (quantityDifference + QUANTITY_DIFFERENCE_OFFSET) << 48
+      | (long) myCash << 24
+      | opponentCash;
+  }
+
+  private int index(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ hash >>> 32) & mask;
+  }
+}
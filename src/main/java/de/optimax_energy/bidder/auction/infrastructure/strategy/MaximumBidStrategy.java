@@ -1,16 +1,14 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 
-import java.util.List;
-
 class MaximumBidStrategy implements BiddingStrategy {
 
   @Override
-  public int placeBid(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    return initialCash;
+  public int placeBid(AuctionState auctionState) {
+    return auctionState.getInitialCash();
   }
 
   @Override
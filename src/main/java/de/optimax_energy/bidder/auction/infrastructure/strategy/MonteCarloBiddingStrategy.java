@@ -0,0 +1,298 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Evaluates candidate bids by simulating the rest of the auction many times against a model of the opponent. The model
+ * is built from the last rounds of the auction: opponent's bid is divided by the even spend of its remaining cash over
+ * the remaining rounds, and the simulated opponent bids its own even spend multiplied by one of these ratios. Without
+ * history the ratio is uniform from 0.5 to 1.5, the same ratio is used for my bids after the candidate bid.
+ * <p>
+ * The search is anytime: the calling thread and idle workers of the pool simulate until the deadline or until the
+ * maximum number of samples, then the cheapest bid with the best score found so far is returned. The deadline is
+ * {@link #SAFETY_MARGIN_PERCENT} of the time budget before its end. The calling thread checks the deadline before every
+ * simulation and doesn't wait for helpers, so the margin has to cover only one simulation, the rest of the bid and
+ * delays of the scheduler, however busy the pool is.
+ * <p>
+ * {@link #placeBidAsync(AuctionState)} doesn't use the calling thread: the search runs on workers of the pool only and
+ * its bid is completed, when the last of them has stopped, or at the deadline by a task, which a timer submits to the
+ * pool. The bid is always completed on a worker of the pool, so its dependents, e.g. the next round, never run on the
+ * timer thread, which is shared with timeouts of the host. A pool, whose workers are all blocked, completes the bid,
+ * when one of them is free.
+ */
+public class MonteCarloBiddingStrategy implements BiddingStrategy {
+
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(5);
+
+  public static final int DEFAULT_MAX_SAMPLES = 20_000;
+
+  /**
+   * Share of the time budget, which is left for the rest of the bid, so a bid with a budget of the bid timeout doesn't
+   * time out.
+   */
+  public static final int SAFETY_MARGIN_PERCENT = 20;
+
+  private static final double[] EVEN_SPEND_MULTIPLIERS = {0.25, 0.5, 0.75, 1, 1.25, 1.5, 2, 3};
+
+  private static final int BATCH_SIZE = 32;
+
+  private static final int MODEL_WINDOW_SIZE = RoundStatistics.OPPONENT_BID_HISTORY_SIZE;
+
+  private static final double MIN_PRIOR_RATIO = 0.5;
+
+  private static final double MAX_PRIOR_RATIO = 1.5;
+
+  private static final int WIN_POINTS = 2;
+
+  private static final int DRAW_POINTS = 1;
+
+  private final ForkJoinPool forkJoinPool;
+
+  private final long searchTimeNanos;
+
+  private final int maxSamples;
+
+  public MonteCarloBiddingStrategy(ForkJoinPool forkJoinPool) {
+    this(forkJoinPool, DEFAULT_TIME_BUDGET, DEFAULT_MAX_SAMPLES);
+  }
+
+  /**
+   * @param forkJoinPool pool, whose idle workers help the calling thread with simulations
+   * @param timeBudget   maximum duration of one bid, e.g.
+   *                     {@link de.optimax_energy.bidder.auction.AuctionHost#getBidTimeout()}, the search stops
+   *                     {@link #SAFETY_MARGIN_PERCENT} of it earlier
+   * @param maxSamples   number of simulations, after which the search stops before the deadline
+   */
+  public MonteCarloBiddingStrategy(ForkJoinPool forkJoinPool, Duration timeBudget, int maxSamples) {
+    if (timeBudget.isNegative()) {
+      throw new IllegalArgumentException("Time budget should not be negative");
+    }
+    if (maxSamples < 1) {
+      throw new IllegalArgumentException("Max samples should be positive");
+    }
+    this.forkJoinPool = forkJoinPool;
+    this.searchTimeNanos = timeBudget.toNanos() / 100 * (100 - SAFETY_MARGIN_PERCENT);
+    this.maxSamples = maxSamples;
+  }
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    Search search = new Search(auctionState, System.nanoTime() + searchTimeNanos);
+    int helpers = Math.min(getIdleWorkers(), maxSamples / BATCH_SIZE);
+    for (int helper = 0; helper < helpers; helper++) {
+      forkJoinPool.execute(search);
+    }
+    search.run();
+    return search.getBestBid();
+  }
+
+  @Override
+  public CompletableFuture<Integer> placeBidAsync(AuctionState auctionState) {
+    Search search = new Search(auctionState, System.nanoTime() + searchTimeNanos);
+    CompletableFuture<Integer> bid = new CompletableFuture<>();
+    int searchers = Math.max(1, Math.min(getIdleWorkers(), maxSamples / BATCH_SIZE));
+    AtomicInteger runningSearchers = new AtomicInteger(searchers);
+    Runnable searcher = () -> {
+      try {
+        search.run();
+      } finally {
+        if (runningSearchers.decrementAndGet() == 0) {
+          bid.complete(search.getBestBid());
+        }
+      }
+    };
+    for (int i = 0; i < searchers; i++) {
+      forkJoinPool.execute(searcher);
+    }
+    CompletableFuture.delayedExecutor(searchTimeNanos, TimeUnit.NANOSECONDS, forkJoinPool)
+      .execute(() -> bid.complete(search.getBestBid()));
+    return bid;
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.MONTE_CARLO;
+  }
+
+  private int getIdleWorkers() {
+    return Math.max(0, forkJoinPool.getParallelism() - forkJoinPool.getActiveThreadCount());
+  }
+
+  /**
+   * @return ratios of opponent's bids to the even spend of its cash in the last rounds, null if there is no history
+   */
+  static double[] calculateOpponentRatios(AuctionState auctionState) {
+    RoundStatistics roundStatistics = auctionState.getRoundStatistics();
+    if (roundStatistics == null || roundStatistics.isEmpty()) {
+      return null;
+    }
+    int numberOfRounds = roundStatistics.getNumberOfRounds();
+    int totalRounds = auctionState.getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+    double[] ratios = new double[Math.min(numberOfRounds, MODEL_WINDOW_SIZE)];
+    int numberOfRatios = 0;
+    for (int round = numberOfRounds - ratios.length; round < numberOfRounds; round++) {
+      int cashBeforeBid = roundStatistics.getOpponentCashBeforeBid(round);
+      if (cashBeforeBid > 0) {
+        int remainingRounds = Math.max(1, totalRounds - round);
+        ratios[numberOfRatios++] = (double) roundStatistics.getOpponentBid(round) * remainingRounds / cashBeforeBid;
+      }
+    }
+    return numberOfRatios == 0 ? null : Arrays.copyOf(ratios, numberOfRatios);
+  }
+
+  /**
+   * One search of a bid. The state is copied, because the bidder reuses its auction state, while helpers may still
+   * finish their last simulation after the bid was placed.
+   */
+  private final class Search implements Runnable {
+
+    private final int initialQuantity;
+
+    private final int myQuantity;
+
+    private final int opponentQuantity;
+
+    private final int myCash;
+
+    private final int opponentCash;
+
+    private final int rounds;
+
+    private final long deadline;
+
+    private final double[] opponentRatios;
+
+    private final int[] candidates;
+
+    /**
+     * Points in the high half and number of simulations in the low half of every entry, so both are read consistently.
+     */
+    private final AtomicLongArray results;
+
+    private final AtomicInteger reservedSamples = new AtomicInteger();
+
+    private Search(AuctionState auctionState, long deadline) {
+      this.initialQuantity = auctionState.getInitialQuantity();
+      this.myQuantity = auctionState.getMyQuantity();
+      this.opponentQuantity = auctionState.getOpponentQuantity();
+      this.myCash = Math.max(0, auctionState.getMyRemainingCash());
+      this.opponentCash = Math.max(0, auctionState.getOpponentRemainingCash());
+      this.rounds = Math.max(1, auctionState.getRemainingQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+      this.deadline = deadline;
+      this.opponentRatios = calculateOpponentRatios(auctionState);
+      this.candidates = createCandidates(auctionState.getPredictedOpponentBid());
+      this.results = new AtomicLongArray(candidates.length);
+    }
+
+    /**
+     * Candidates are multiples of the even spend of my cash and bids just above opponent's predicted bid and cash.
+     * Bidding more than opponent's cash + 1 never wins more, so all candidates are limited by it.
+     */
+    private int[] createCandidates(int predictedOpponentBid) {
+      int maxBid = (int) Math.min(myCash, opponentCash + 1L);
+      int[] bids = new int[EVEN_SPEND_MULTIPLIERS.length + 3];
+      for (int i = 0; i < EVEN_SPEND_MULTIPLIERS.length; i++) {
+        bids[i] = (int) Math.min(maxBid, Math.round(EVEN_SPEND_MULTIPLIERS[i] * myCash / rounds));
+      }
+      bids[EVEN_SPEND_MULTIPLIERS.length] = 0;
+      bids[EVEN_SPEND_MULTIPLIERS.length + 1] = Math.min(maxBid, Math.max(0, predictedOpponentBid) + 1);
+      bids[EVEN_SPEND_MULTIPLIERS.length + 2] = maxBid;
+      return Arrays.stream(bids).sorted().distinct().toArray();
+    }
+
+    @Override
+    public void run() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int candidate = random.nextInt(candidates.length);
+      while (System.nanoTime() - deadline < 0 && reservedSamples.getAndAdd(BATCH_SIZE) < maxSamples) {
+        int points = 0;
+        int samples = 0;
+        while (samples < BATCH_SIZE && System.nanoTime() - deadline < 0) {
+          points += simulate(candidates[candidate], random);
+          samples++;
+        }
+        results.addAndGet(candidate, (long) points << 32 | samples);
+        candidate = candidate + 1 == candidates.length ? 0 : candidate + 1;
+      }
+    }
+
+    /**
+     * @return points of the simulated auction, which starts with the given bid
+     */
+    private int simulate(int firstBid, ThreadLocalRandom random) {
+      int simulatedMyQuantity = myQuantity;
+      int simulatedOpponentQuantity = opponentQuantity;
+      int simulatedMyCash = myCash;
+      int simulatedOpponentCash = opponentCash;
+      for (int round = 0; round < rounds; round++) {
+        if (2 * simulatedMyQuantity > initialQuantity || 2 * simulatedOpponentQuantity > initialQuantity) {
+          break;
+        }
+        int remainingRounds = rounds - round;
+        int myBid = round == 0
+          ? firstBid
+          : getEvenSpend(simulatedMyCash, remainingRounds, random.nextDouble(MIN_PRIOR_RATIO, MAX_PRIOR_RATIO));
+        int opponentBid = getEvenSpend(simulatedOpponentCash, remainingRounds, getOpponentRatio(random));
+        simulatedMyCash -= myBid;
+        simulatedOpponentCash -= opponentBid;
+        if (myBid > opponentBid) {
+          simulatedMyQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+        } else if (myBid < opponentBid) {
+          simulatedOpponentQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+        } else {
+          simulatedMyQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+          simulatedOpponentQuantity += AMOUNT_OF_PRODUCTS_IN_ONE_ROUND / 2;
+        }
+      }
+      if (simulatedMyQuantity != simulatedOpponentQuantity) {
+        return simulatedMyQuantity > simulatedOpponentQuantity ? WIN_POINTS : 0;
+      }
+      if (simulatedMyCash != simulatedOpponentCash) {
+        return simulatedMyCash > simulatedOpponentCash ? WIN_POINTS : 0;
+      }
+      return DRAW_POINTS;
+    }
+
+    private double getOpponentRatio(ThreadLocalRandom random) {
+      return opponentRatios == null
+        ? random.nextDouble(MIN_PRIOR_RATIO, MAX_PRIOR_RATIO)
+        : opponentRatios[random.nextInt(opponentRatios.length)];
+    }
+
+    private int getEvenSpend(int cash, int remainingRounds, double ratio) {
+      return (int) Math.min(cash, Math.round(ratio * cash / remainingRounds));
+    }
+
+    /**
+     * @return the cheapest candidate with the best average points, even spend of my cash if nothing was simulated
+     */
+    private int getBestBid() {
+      int bestBid = getEvenSpend(myCash, rounds, 1);
+      long bestPoints = 0;
+      long bestSamples = 0;
+      for (int candidate = 0; candidate < candidates.length; candidate++) {
+        long result = results.get(candidate);
+        long points = result >>> 32;
+        long samples = result & 0xFFFFFFFFL;
+        if (samples > 0 && (bestSamples == 0 || points * bestSamples > bestPoints * samples)) {
+          bestBid = candidates[candidate];
+          bestPoints = points;
+          bestSamples = samples;
+        }
+      }
+      return bestBid;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * Answers bids from a precomputed {@link PolicyTable}: the regime is searched once per auction and kept in the auction
+ * state, and the bid is one read from the mapped file, so the cost doesn't depend on the solver, which has produced the
+ * table.
+ */
+class PolicyBiddingStrategy implements BiddingStrategy {
+
+  private final PolicyTable policyTable;
+
+  PolicyBiddingStrategy(PolicyTable policyTable) {
+    this.policyTable = policyTable;
+  }
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    int regime = resolveRegime(auctionState);
+    if (regime < 0) {
+      throw new IllegalStateException("Policy table has no policy for the auction");
+    }
+    return policyTable.getBid(regime, auctionState);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.POLICY;
+  }
+
+  boolean hasPolicy(AuctionState auctionState) {
+    return resolveRegime(auctionState) >= 0;
+  }
+
+  /**
+   * @return regime of the auction, which is kept in the state, until the auction has other initial quantity or cash; -1
+   * if the table has no policy for it, the miss is kept as well
+   */
+  private int resolveRegime(AuctionState auctionState) {
+    int initialQuantity = auctionState.getInitialQuantity();
+    int initialCash = auctionState.getInitialCash();
+    if (!auctionState.isPolicyRegimeResolved(initialQuantity, initialCash)) {
+      auctionState.withPolicyRegime(policyTable.findRegime(initialQuantity, initialCash), initialQuantity, initialCash);
+    }
+    return auctionState.getPolicyRegime();
+  }
+}
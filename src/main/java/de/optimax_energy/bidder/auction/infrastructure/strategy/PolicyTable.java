@@ -0,0 +1,262 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only view of a policy file written by {@link PolicyTableGenerator}. The file is memory-mapped, so tables stay
+ * off-heap and are paged in by the OS on demand. A policy maps the discretised state of an auction of one
+ * (initialQuantity, initialCash) regime to a bid rule.
+ * <p>
+ * File layout, all values are little-endian ints: magic, version, number of regimes, then for every regime initial
+ * quantity, initial cash, number of cash buckets, number of average bid buckets and byte offset of its rules, then the
+ * rules. Rules of a regime are indexed by my QU, opponent's QU, bucket of my cash, bucket of opponent's cash and bucket
+ * of opponent's average bid, the last index changes fastest. The loader checks offsets and sizes of all regimes, so a
+ * corrupt file fails with {@link IllegalArgumentException} and a loaded table never reads outside of the file. Regimes
+ * are indexed by (initialQuantity, initialCash), so a regime is found by binary search.
+ * <p>
+ * A rule keeps its kind in the lowest 2 bits and a signed value in the rest: a fixed bid, opponent's remaining cash plus
+ * the value, or opponent's average bid multiplied by the value in thousandths. Bids of strategies often follow the
+ * opponent, so such rules stay exact inside a bucket, where a fixed bid would be off by up to the width of the bucket.
+ */
+public class PolicyTable {
+
+  static final int MAGIC = 0x504F4C59;
+
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+  static final int REGIME_HEADER_SIZE = 5 * Integer.BYTES;
+
+  static final int FIXED_BID = 0;
+
+  static final int OPPONENT_CASH_PLUS = 1;
+
+  static final int AVERAGE_BID_MULTIPLIED = 2;
+
+  static final int MULTIPLIER_SCALE = 1000;
+
+  private final MappedByteBuffer buffer;
+
+  private final int[] initialQuantities;
+
+  private final int[] initialCashes;
+
+  private final int[] cashBuckets;
+
+  private final int[] averageBidBuckets;
+
+  private final int[] offsets;
+
+  private final long[] regimeKeys;
+
+  private final int[] regimesByKey;
+
+  private PolicyTable(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("File is not a policy table");
+    }
+    if (buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IllegalArgumentException("Unsupported version of policy table " + buffer.getInt(Integer.BYTES));
+    }
+    int numberOfRegimes = buffer.getInt(2 * Integer.BYTES);
+    if (numberOfRegimes < 0) {
+      throw new IllegalArgumentException("Number of regimes should not be negative");
+    }
+    long rulesStart = HEADER_SIZE + (long) numberOfRegimes * REGIME_HEADER_SIZE;
+    if (rulesStart > buffer.capacity()) {
+      throw new IllegalArgumentException("Policy table is truncated");
+    }
+    this.initialQuantities = new int[numberOfRegimes];
+    this.initialCashes = new int[numberOfRegimes];
+    this.cashBuckets = new int[numberOfRegimes];
+    this.averageBidBuckets = new int[numberOfRegimes];
+    this.offsets = new int[numberOfRegimes];
+    for (int regime = 0; regime < numberOfRegimes; regime++) {
+      int position = HEADER_SIZE + regime * REGIME_HEADER_SIZE;
+      initialQuantities[regime] = buffer.getInt(position);
+      initialCashes[regime] = buffer.getInt(position + Integer.BYTES);
+      cashBuckets[regime] = buffer.getInt(position + 2 * Integer.BYTES);
+      averageBidBuckets[regime] = buffer.getInt(position + 3 * Integer.BYTES);
+      offsets[regime] = buffer.getInt(position + 4 * Integer.BYTES);
+      validateRegime(regime, rulesStart);
+    }
+    this.regimeKeys = new long[numberOfRegimes];
+    this.regimesByKey = new int[numberOfRegimes];
+    indexRegimes();
+  }
+
+  private void validateRegime(int regime, long rulesStart) {
+    if (initialQuantities[regime] < 0 || initialCashes[regime] < 0) {
+      throw new IllegalArgumentException("Initial quantity and cash of regime " + regime + " should not be negative");
+    }
+    if (cashBuckets[regime] < 1 || averageBidBuckets[regime] < 1) {
+      throw new IllegalArgumentException("Number of buckets of regime " + regime + " should be positive");
+    }
+    if (offsets[regime] < rulesStart) {
+      throw new IllegalArgumentException("Rules of regime " + regime + " should start after the headers");
+    }
+    long quantities = initialQuantities[regime] + 1L;
+    long cashes = cashBuckets[regime];
+    long sizeOfRules;
+    try {
+      sizeOfRules = Math.multiplyExact(Math.multiplyExact(quantities * quantities, cashes * cashes),
+        (long) averageBidBuckets[regime] * Integer.BYTES);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Policy table is truncated");
+    }
+    if (sizeOfRules > buffer.capacity() - (long) offsets[regime]) {
+      throw new IllegalArgumentException("Policy table is truncated");
+    }
+  }
+
+  private void indexRegimes() {
+    for (int regime = 0; regime < regimeKeys.length; regime++) {
+      regimeKeys[regime] = getKey(initialQuantities[regime], initialCashes[regime]);
+    }
+    Arrays.sort(regimeKeys);
+    for (int i = 1; i < regimeKeys.length; i++) {
+      if (regimeKeys[i] == regimeKeys[i - 1]) {
+        throw new IllegalArgumentException("Policy table has duplicate regime " + (int) (regimeKeys[i] >>> 32) + " QU, "
+          + (int) regimeKeys[i] + " MU");
+      }
+    }
+    for (int regime = 0; regime < regimeKeys.length; regime++) {
+      regimesByKey[Arrays.binarySearch(regimeKeys, getKey(initialQuantities[regime], initialCashes[regime]))] = regime;
+    }
+  }
+
+  /**
+   * Maps the policy file into memory, the file can be removed or replaced afterwards.
+   *
+   * @param path policy file
+   * @return loaded table
+   */
+  public static PolicyTable load(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Policy table exceeds maximum size");
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      return new PolicyTable(buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not load policy table " + path, e);
+    }
+  }
+
+  public int getNumberOfRegimes() {
+    return initialQuantities.length;
+  }
+
+  /**
+   * @return index of the regime or -1, if the table has no policy for it
+   */
+  public int findRegime(int initialQuantity, int initialCash) {
+    int index = Arrays.binarySearch(regimeKeys, getKey(initialQuantity, initialCash));
+    return index < 0 ? -1 : regimesByKey[index];
+  }
+
+  /**
+   * @param regime       index of the regime of the auction
+   * @param auctionState snapshot of the auction
+   * @return bid of the rule in the bucket of the state
+   */
+  public int getBid(int regime, AuctionState auctionState) {
+    return applyRule(getRule(regime, auctionState), auctionState);
+  }
+
+  /**
+   * @return encoded rule of the bucket of the state
+   */
+  int getRule(int regime, AuctionState auctionState) {
+    int initialQuantity = initialQuantities[regime];
+    int initialCash = initialCashes[regime];
+    int index = getIndex(initialQuantity, cashBuckets[regime], averageBidBuckets[regime],
+      clamp(auctionState.getMyQuantity(), initialQuantity),
+      clamp(auctionState.getOpponentQuantity(), initialQuantity),
+      getBucket(auctionState.getMyRemainingCash(), initialCash, cashBuckets[regime]),
+      getBucket(auctionState.getOpponentRemainingCash(), initialCash, cashBuckets[regime]),
+      getBucket(auctionState.getOpponentAverageBid(), initialCash, averageBidBuckets[regime]));
+    return buffer.getInt(offsets[regime] + index * Integer.BYTES);
+  }
+
+  static int encodeRule(int kind, int value) {
+    return value << 2 | kind;
+  }
+
+  static int applyRule(int rule, AuctionState auctionState) {
+    int value = rule >> 2;
+    long bid;
+    switch (rule & 3) {
+      case OPPONENT_CASH_PLUS:
+        bid = (long) auctionState.getOpponentRemainingCash() + value;
+        break;
+      case AVERAGE_BID_MULTIPLIED:
+        bid = ((long) auctionState.getOpponentAverageBid() * value + MULTIPLIER_SCALE / 2) / MULTIPLIER_SCALE;
+        break;
+      default:
+        bid = value;
+    }
+    return (int) Math.max(0, Math.min(bid, Integer.MAX_VALUE));
+  }
+
+  static int getNumberOfRules(int initialQuantity, int cashBuckets, int averageBidBuckets) {
+    return (initialQuantity + 1) * (initialQuantity + 1) * cashBuckets * cashBuckets * averageBidBuckets;
+  }
+
+  static int getIndex(int initialQuantity, int cashBuckets, int averageBidBuckets, int myQuantity, int opponentQuantity,
+                      int myCashBucket, int opponentCashBucket, int averageBidBucket) {
+    return (((myQuantity * (initialQuantity + 1) + opponentQuantity) * cashBuckets + myCashBucket) * cashBuckets
+      + opponentCashBucket) * averageBidBuckets + averageBidBucket;
+  }
+
+  /**
+   * Keeps 0 in its own bucket, strategies treat an opponent without cash and the first round specially, and splits
+   * [1, initialCash] into the other buckets of equal width.
+   */
+  static int getBucket(int cash, int initialCash, int buckets) {
+    if (cash <= 0 || buckets == 1) {
+      return 0;
+    }
+    return 1 + (int) ((long) (clamp(cash, initialCash) - 1) * (buckets - 1) / Math.max(initialCash, 1));
+  }
+
+  /**
+   * @return the lowest value of the bucket, greater than {@link #getBucketHigh} if the bucket is empty
+   */
+  static int getBucketLow(int bucket, int initialCash, int buckets) {
+    if (bucket == 0 || buckets == 1) {
+      return 0;
+    }
+    return 1 + (int) (((long) (bucket - 1) * initialCash + buckets - 2) / (buckets - 1));
+  }
+
+  static int getBucketHigh(int bucket, int initialCash, int buckets) {
+    if (buckets == 1) {
+      return initialCash;
+    }
+    if (bucket == 0) {
+      return 0;
+    }
+    return (int) (((long) bucket * initialCash + buckets - 2) / (buckets - 1));
+  }
+
+  private static long getKey(int initialQuantity, int initialCash) {
+    return (long) initialQuantity << 32 | initialCash & 0xFFFFFFFFL;
+  }
+
+  private static int clamp(int value, int max) {
+    return Math.max(0, Math.min(value, max));
+  }
+}
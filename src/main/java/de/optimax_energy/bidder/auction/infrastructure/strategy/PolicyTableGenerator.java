@@ -0,0 +1,215 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyNotFoundException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Offline generator of policy files for {@link PolicyTable}. For every bucket of the state, the policy is asked for
+ * bids in the middle and at the ends of the bucket, so the cost of the policy is paid once, when the file is generated.
+ */
+public class PolicyTableGenerator {
+
+  public static final int DEFAULT_CASH_BUCKETS = 8;
+
+  public static final int DEFAULT_AVERAGE_BID_BUCKETS = 8;
+
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  private final int cashBuckets;
+
+  private final int averageBidBuckets;
+
+  private final List<Regime> regimes = new ArrayList<>();
+
+  public PolicyTableGenerator() {
+    this(DEFAULT_CASH_BUCKETS, DEFAULT_AVERAGE_BID_BUCKETS);
+  }
+
+  /**
+   * @param cashBuckets       number of buckets of my and opponent's remaining cash
+   * @param averageBidBuckets number of buckets of opponent's average bid
+   */
+  public PolicyTableGenerator(int cashBuckets, int averageBidBuckets) {
+    if (cashBuckets < 1 || averageBidBuckets < 1) {
+      throw new IllegalArgumentException("Number of buckets should be positive");
+    }
+    this.cashBuckets = cashBuckets;
+    this.averageBidBuckets = averageBidBuckets;
+  }
+
+  /**
+   * Uses decisions of the selector as the policy, e.g. of a selector with parameters optimized for the regime.
+   */
+  public static ToIntFunction<AuctionState> strategySelectorPolicy(StrategySelector strategySelector) {
+    return auctionState -> strategySelector.select(auctionState)
+      .orElseThrow(() -> new StrategyNotFoundException("Could not select strategy"))
+      .placeBid(auctionState);
+  }
+
+  /**
+   * @param initialQuantity initial amount of QU of the regime
+   * @param initialCash     initial amount of MU of the regime
+   * @param policy          bid in the given state
+   * @return this generator
+   */
+  public PolicyTableGenerator withRegime(int initialQuantity, int initialCash, ToIntFunction<AuctionState> policy) {
+    if (initialQuantity < 1 || initialCash < 0) {
+      throw new IllegalArgumentException("Initial quantity should be positive and initial cash should not be negative");
+    }
+    long numberOfRules = (long) (initialQuantity + 1) * (initialQuantity + 1) * cashBuckets * cashBuckets * averageBidBuckets;
+    if (numberOfRules * Integer.BYTES > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Policy of regime exceeds maximum size");
+    }
+    regimes.add(new Regime(initialQuantity, initialCash, policy));
+    return this;
+  }
+
+  public void write(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+      StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.putInt(PolicyTable.MAGIC).putInt(PolicyTable.VERSION).putInt(regimes.size());
+      long offset = PolicyTable.HEADER_SIZE + (long) regimes.size() * PolicyTable.REGIME_HEADER_SIZE;
+      for (Regime regime : regimes) {
+        putInt(channel, buffer, regime.initialQuantity);
+        putInt(channel, buffer, regime.initialCash);
+        putInt(channel, buffer, cashBuckets);
+        putInt(channel, buffer, averageBidBuckets);
+        putInt(channel, buffer, Math.toIntExact(offset));
+        offset += (long) PolicyTable.getNumberOfRules(regime.initialQuantity, cashBuckets, averageBidBuckets) * Integer.BYTES;
+      }
+      for (Regime regime : regimes) {
+        writeRules(channel, buffer, regime);
+      }
+      flush(channel, buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write policy table " + path, e);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Policy table exceeds maximum size", e);
+    }
+  }
+
+  private void writeRules(FileChannel channel, ByteBuffer buffer, Regime regime) throws IOException {
+    int initialQuantity = regime.initialQuantity;
+    int initialCash = regime.initialCash;
+    AuctionState auctionState = new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(initialCash);
+    for (int myQuantity = 0; myQuantity <= initialQuantity; myQuantity++) {
+      for (int opponentQuantity = 0; opponentQuantity <= initialQuantity; opponentQuantity++) {
+        boolean reachable = myQuantity + opponentQuantity <= initialQuantity;
+        auctionState
+          .withMyQuantity(myQuantity)
+          .withOpponentQuantity(opponentQuantity)
+          .withNumberOfRounds((myQuantity + opponentQuantity) / 2);
+        for (int myCashBucket = 0; myCashBucket < cashBuckets; myCashBucket++) {
+          auctionState.withMyRemainingCash(getMiddleOfBucket(myCashBucket, initialCash, cashBuckets));
+          for (int opponentCashBucket = 0; opponentCashBucket < cashBuckets; opponentCashBucket++) {
+            for (int averageBidBucket = 0; averageBidBucket < averageBidBuckets; averageBidBucket++) {
+              int rule = reachable
+                ? createRule(regime.policy, auctionState, initialCash, opponentCashBucket, averageBidBucket)
+                : PolicyTable.encodeRule(PolicyTable.FIXED_BID, 0);
+              putInt(channel, buffer, rule);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Asks the policy for bids at the middle and at both ends of the bucket. If the bid follows opponent's cash or
+   * average bid along the bucket, the rule follows it as well, otherwise the bid in the middle is fixed.
+   */
+  private int createRule(ToIntFunction<AuctionState> policy, AuctionState auctionState, int initialCash,
+                         int opponentCashBucket, int averageBidBucket) {
+    int opponentCashLow = PolicyTable.getBucketLow(opponentCashBucket, initialCash, cashBuckets);
+    int opponentCashHigh = PolicyTable.getBucketHigh(opponentCashBucket, initialCash, cashBuckets);
+    int averageBidLow = PolicyTable.getBucketLow(averageBidBucket, initialCash, averageBidBuckets);
+    int averageBidHigh = PolicyTable.getBucketHigh(averageBidBucket, initialCash, averageBidBuckets);
+    if (opponentCashLow > opponentCashHigh || averageBidLow > averageBidHigh) {
+      return PolicyTable.encodeRule(PolicyTable.FIXED_BID, 0);
+    }
+    int opponentCash = (opponentCashLow + opponentCashHigh) / 2;
+    int averageBid = (averageBidLow + averageBidHigh) / 2;
+    int bid = Math.max(0, getBid(policy, auctionState, opponentCash, averageBid));
+
+    if (opponentCashLow < opponentCashHigh) {
+      int bidAtOpponentCashLow = getBid(policy, auctionState, opponentCashLow, averageBid);
+      int bidAtOpponentCashHigh = getBid(policy, auctionState, opponentCashHigh, averageBid);
+      if (bidAtOpponentCashHigh - bidAtOpponentCashLow == opponentCashHigh - opponentCashLow
+        && bid - bidAtOpponentCashLow == opponentCash - opponentCashLow) {
+        return PolicyTable.encodeRule(PolicyTable.OPPONENT_CASH_PLUS, bid - opponentCash);
+      }
+    }
+    if (averageBidLow < averageBidHigh && averageBid > 0) {
+      int bidAtAverageBidLow = getBid(policy, auctionState, opponentCash, averageBidLow);
+      int bidAtAverageBidHigh = getBid(policy, auctionState, opponentCash, averageBidHigh);
+      if (bidAtAverageBidLow < bid && bid < bidAtAverageBidHigh) {
+        return PolicyTable.encodeRule(PolicyTable.AVERAGE_BID_MULTIPLIED,
+          (int) Math.round((double) bid * PolicyTable.MULTIPLIER_SCALE / averageBid));
+      }
+    }
+    return PolicyTable.encodeRule(PolicyTable.FIXED_BID, bid);
+  }
+
+  /**
+   * Opponent's predicted bid is probed with the average bid, the table is keyed by the average bid only.
+   */
+  private int getBid(ToIntFunction<AuctionState> policy, AuctionState auctionState, int opponentCash, int averageBid) {
+    return policy.applyAsInt(auctionState
+      .withOpponentRemainingCash(opponentCash)
+      .withOpponentAverageBid(averageBid)
+      .withPredictedOpponentBid(averageBid));
+  }
+
+  /**
+   * @return middle value of the bucket of {@link PolicyTable#getBucket}, 0 for empty buckets
+   */
+  static int getMiddleOfBucket(int bucket, int initialCash, int buckets) {
+    int low = PolicyTable.getBucketLow(bucket, initialCash, buckets);
+    int high = PolicyTable.getBucketHigh(bucket, initialCash, buckets);
+    return low > high ? 0 : (low + high) / 2;
+  }
+
+  private void putInt(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+    if (buffer.remaining() < Integer.BYTES) {
+      flush(channel, buffer);
+    }
+    buffer.putInt(value);
+  }
+
+  private void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private static final class Regime {
+
+    private final int initialQuantity;
+
+    private final int initialCash;
+
+    private final ToIntFunction<AuctionState> policy;
+
+    private Regime(int initialQuantity, int initialCash, ToIntFunction<AuctionState> policy) {
+      this.initialQuantity = initialQuantity;
+      this.initialCash = initialCash;
+      this.policy = policy;
+    }
+  }
+}
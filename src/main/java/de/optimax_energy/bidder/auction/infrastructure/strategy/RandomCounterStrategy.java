@@ -0,0 +1,37 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * The opponent bids uniformly from 0 to an unknown maximum, so a bid wins with the probability of its share of the
+ * maximum. The bot estimates the maximum from the largest bid so far and bids the share of the rounds, which it still
+ * needs to win, with a margin, but never more than the maximum + 1 and than it can afford in all needed rounds.
+ */
+class RandomCounterStrategy extends CounterBiddingStrategy {
+
+  private static final double MARGIN = 1.25;
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    OpponentProfile opponentProfile = auctionState.getOpponentProfile();
+    int numberOfRounds = opponentProfile.getNumberOfRounds();
+    double maxBid = (double) opponentProfile.getMaxBid() * (numberOfRounds + 1) / numberOfRounds;
+    int neededRounds = getNeededRounds(auctionState);
+    double share = Math.min(1, MARGIN * neededRounds / getRemainingRounds(auctionState));
+    int bid = (int) Math.round(share * maxBid) + 1;
+    return Math.min(Math.min(bid, (int) Math.ceil(maxBid) + 1), auctionState.getMyRemainingCash() / neededRounds);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.COUNTER_RANDOM_UNIFORM;
+  }
+
+  @Override
+  OpponentClass getOpponentClass() {
+    return OpponentClass.RANDOM_UNIFORM;
+  }
+}
@@ -1,52 +1,83 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
-
-import java.util.List;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentBidPredictor;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
 
 public class StatisticsService {
 
-  public int calculateOpponentQuantity(List<RoundResult> roundResults) {
-    return roundResults.stream()
-      .map(RoundResult::getOpponentWonQuantity)
-      .reduce(0, Integer::sum);
+  private final int opponentBidWindowSize;
+
+  public StatisticsService() {
+    this(RoundStatistics.DEFAULT_OPPONENT_BID_WINDOW_SIZE);
+  }
+
+  /**
+   * @param opponentBidWindowSize number of last rounds, on which opponent's average bid is calculated
+   */
+  public StatisticsService(int opponentBidWindowSize) {
+    if (opponentBidWindowSize < 1 || opponentBidWindowSize > OpponentBidPredictor.MAX_WINDOW_SIZE) {
+      throw new IllegalArgumentException("Opponent bid window size should be between 1 and " + OpponentBidPredictor.MAX_WINDOW_SIZE);
+    }
+    this.opponentBidWindowSize = opponentBidWindowSize;
+  }
+
+  /**
+   * @return empty statistics with the window of opponent's bids used by this service
+   */
+  public RoundStatistics createRoundStatistics() {
+    return new RoundStatistics(opponentBidWindowSize);
+  }
+
+  /**
+   * Calculates snapshot of the auction, which is used by strategy selector and strategies for the next bid.
+   *
+   * @param auctionState    reusable state to be overwritten
+   * @param roundStatistics statistics of previous rounds
+   * @param initialQuantity initial amount of QU
+   * @param initialCash     initial amount of MU
+   * @return given auction state
+   */
+  public AuctionState updateAuctionState(AuctionState auctionState, RoundStatistics roundStatistics, int initialQuantity, int initialCash) {
+    return auctionState
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(initialCash)
+      .withNumberOfRounds(roundStatistics.getNumberOfRounds())
+      .withMyQuantity(calculateMyQuantity(roundStatistics))
+      .withOpponentQuantity(calculateOpponentQuantity(roundStatistics))
+      .withMyRemainingCash(calculateMyRemainingCash(roundStatistics, initialCash))
+      .withOpponentRemainingCash(calculateOpponentRemainingCash(roundStatistics, initialCash))
+      .withOpponentAverageBid(calculateOpponentAverageBid(roundStatistics))
+      .withPredictedOpponentBid(calculatePredictedOpponentBid(roundStatistics))
+      .withRoundStatistics(roundStatistics);
+  }
+
+  public int calculateOpponentQuantity(RoundStatistics roundStatistics) {
+    return roundStatistics.getOpponentQuantity();
   }
 
-  public int calculateMyQuantity(List<RoundResult> roundResults) {
-    return roundResults.stream()
-      .map(RoundResult::getMyWonQuantity)
-      .reduce(0, Integer::sum);
+  public int calculateMyQuantity(RoundStatistics roundStatistics) {
+    return roundStatistics.getMyQuantity();
   }
 
-  public int calculateMyRemainingCash(List<RoundResult> roundResults, int initialCash) {
-    return initialCash - calculateMySpentCash(roundResults);
+  public int calculateMyRemainingCash(RoundStatistics roundStatistics, int initialCash) {
+    return initialCash - roundStatistics.getMySpentCash();
   }
 
-  public int calculateOpponentRemainingCash(List<RoundResult> roundResults, int initialCash) {
-    return roundResults.isEmpty() ? initialCash
-      : roundResults.get(roundResults.size() - 1).getOpponentRemainingCash();
+  public int calculateOpponentRemainingCash(RoundStatistics roundStatistics, int initialCash) {
+    return roundStatistics.isEmpty() ? initialCash : roundStatistics.getOpponentRemainingCash();
   }
 
-  public int calculateOpponentAverageBid(List<RoundResult> roundResults) {
-    int numberOfLastBids = 2;
-    List<RoundResult> roundResultsForAverageCalculation = (roundResults.size() >= numberOfLastBids)
-      ? roundResults.subList(roundResults.size() - numberOfLastBids, roundResults.size())
-      : roundResults;
+  public int calculateOpponentAverageBid(RoundStatistics roundStatistics) {
+    int numberOfLastBids = roundStatistics.getOpponentBidWindowCount();
+    if (numberOfLastBids == 0) {
+      return 0;
+    }
 
-    return roundResultsForAverageCalculation.stream()
-      .map(RoundResult::getOpponentBid)
-      .mapToInt(o -> o)
-      .average()
-      .stream()
-      .mapToLong(Math::round)
-      .mapToInt(i -> (int) i)
-      .findFirst()
-      .orElse(0);
+    return (int) Math.round((double) roundStatistics.getOpponentBidWindowSum() / numberOfLastBids);
   }
 
-  private int calculateMySpentCash(List<RoundResult> roundResults) {
-    return roundResults.stream()
-      .map(RoundResult::getMyBid)
-      .reduce(0, Integer::sum);
+  public int calculatePredictedOpponentBid(RoundStatistics roundStatistics) {
+    return roundStatistics.getOpponentBidPredictor().getPrediction();
   }
-}
\ No newline at end of file
+}
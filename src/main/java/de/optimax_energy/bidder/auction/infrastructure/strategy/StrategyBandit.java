@@ -0,0 +1,235 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contextual multi-armed bandit over strategies, which learns from results of auctions, which strategy to play in which
+ * situation. A situation is a coarse bucket of the auction state: phase of the auction, whether the bot leads in QU and
+ * whether it has more MU. Strategies are chosen by UCB1: the average reward of a strategy in the bucket plus an
+ * exploration bonus, which shrinks with the number of its selections. Selections are counted, when a decision is
+ * recorded, and include pending decisions of running auctions, so bots, which start together, spread over the arms
+ * instead of all playing the first one until an auction finishes. A strategy with pending decisions only is assumed to
+ * win, until it's rewarded.
+ * <p>
+ * One bandit is meant to be shared by all bots in the JVM. Plays and rewards are kept in {@link LongAdder}s, which are
+ * lock-free and striped under contention, so concurrent auctions update the model without blocking each other. Every
+ * counter is read on its own, so a selection may see a play without its reward, which only shifts one estimate by one
+ * play for a moment.
+ */
+public class StrategyBandit {
+
+  public static final List<StrategyName> DEFAULT_ARMS = List.of(StrategyName.AGGRESSIVE, StrategyName.DEFAULT,
+    StrategyName.MINIMUM_BID, StrategyName.ZERO_BID);
+
+  public static final double DEFAULT_EXPLORATION_WEIGHT = Math.sqrt(2);
+
+  static final int NUMBER_OF_PHASES = 3;
+
+  static final int NUMBER_OF_LEADS = 3;
+
+  public static final int NUMBER_OF_CONTEXTS = NUMBER_OF_PHASES * NUMBER_OF_LEADS * NUMBER_OF_LEADS;
+
+  static final int WIN_POINTS = 2;
+
+  static final int DRAW_POINTS = 1;
+
+  /**
+   * Share of MU, within which cash of both bidders is considered equal.
+   */
+  private static final double CASH_TOLERANCE = 0.1;
+
+  private final StrategyName[] arms;
+
+  private final double explorationWeight;
+
+  private final LongAdder[] selections;
+
+  private final LongAdder[] plays;
+
+  private final LongAdder[] points;
+
+  public StrategyBandit() {
+    this(DEFAULT_ARMS, DEFAULT_EXPLORATION_WEIGHT);
+  }
+
+  /**
+   * @param arms              strategies to choose from, the selector must have all of them
+   * @param explorationWeight weight of the exploration bonus, 0 plays the best known strategy only
+   */
+  public StrategyBandit(List<StrategyName> arms, double explorationWeight) {
+    if (arms.isEmpty()) {
+      throw new IllegalArgumentException("Arms should not be empty");
+    }
+    if (arms.stream().distinct().count() != arms.size()) {
+      throw new IllegalArgumentException("Arms should be distinct");
+    }
+    if (explorationWeight < 0) {
+      throw new IllegalArgumentException("Exploration weight should not be negative");
+    }
+    this.arms = arms.toArray(new StrategyName[0]);
+    this.explorationWeight = explorationWeight;
+    this.selections = createCounters(NUMBER_OF_CONTEXTS * this.arms.length);
+    this.plays = createCounters(NUMBER_OF_CONTEXTS * this.arms.length);
+    this.points = createCounters(NUMBER_OF_CONTEXTS * this.arms.length);
+  }
+
+  private static LongAdder[] createCounters(int size) {
+    LongAdder[] counters = new LongAdder[size];
+    Arrays.setAll(counters, counter -> new LongAdder());
+    return counters;
+  }
+
+  public List<StrategyName> getArms() {
+    return List.of(arms);
+  }
+
+  /**
+   * @return bucket of the state: phase by the share of remaining rounds, lead in QU and lead in MU
+   */
+  public int getContext(AuctionState auctionState) {
+    int remainingQuantity = auctionState.getRemainingQuantity();
+    int initialQuantity = Math.max(1, auctionState.getInitialQuantity());
+    int phase = Math.min(NUMBER_OF_PHASES - 1, NUMBER_OF_PHASES * (initialQuantity - remainingQuantity) / initialQuantity);
+    int quantityLead = Integer.signum(auctionState.getMyQuantity() - auctionState.getOpponentQuantity()) + 1;
+    int cashDifference = auctionState.getMyRemainingCash() - auctionState.getOpponentRemainingCash();
+    int cashLead = Math.abs(cashDifference) <= CASH_TOLERANCE * auctionState.getInitialCash()
+      ? 1
+      : Integer.signum(cashDifference) + 1;
+    return (phase * NUMBER_OF_LEADS + quantityLead) * NUMBER_OF_LEADS + cashLead;
+  }
+
+  /**
+   * Selections are read twice, an arm, which was selected in the first pass, may have less selections in the second
+   * one only if its episode was reset meanwhile, so they are read as at least 1 and selection doesn't allocate.
+   *
+   * @return index of the arm with the highest upper confidence bound in the context, the first arm, which was never
+   * selected, if there is one
+   */
+  public int selectArm(int context) {
+    int firstCell = context * arms.length;
+    long totalSelections = 0;
+    for (int arm = 0; arm < arms.length; arm++) {
+      long armSelections = selections[firstCell + arm].sum();
+      if (armSelections <= 0) {
+        return arm;
+      }
+      totalSelections += armSelections;
+    }
+    double logTotalSelections = Math.log(totalSelections);
+    int bestArm = 0;
+    double bestBound = Double.NEGATIVE_INFINITY;
+    for (int arm = 0; arm < arms.length; arm++) {
+      long armSelections = Math.max(1, selections[firstCell + arm].sum());
+      long armPlays = plays[firstCell + arm].sum();
+      double averageReward = armPlays == 0 ? 1 : points[firstCell + arm].sum() / (double) (WIN_POINTS * armPlays);
+      double bound = averageReward + explorationWeight * Math.sqrt(logTotalSelections / armSelections);
+      if (bound > bestBound) {
+        bestArm = arm;
+        bestBound = bound;
+      }
+    }
+    return bestArm;
+  }
+
+  public StrategyName getArm(int arm) {
+    return arms[arm];
+  }
+
+  /**
+   * @return number of rewarded decisions of the arm in the context
+   */
+  public long getPlays(int context, StrategyName arm) {
+    return plays[getCell(context, arm)].sum();
+  }
+
+  /**
+   * @return average points of the arm in the context, from 0 for losses to 2 for wins, 0 if it was never played
+   */
+  public double getAveragePoints(int context, StrategyName arm) {
+    int cell = getCell(context, arm);
+    long armPlays = plays[cell].sum();
+    return armPlays == 0 ? 0 : points[cell].sum() / (double) armPlays;
+  }
+
+  private int getCell(int context, StrategyName arm) {
+    for (int index = 0; index < arms.length; index++) {
+      if (arms[index] == arm) {
+        return context * arms.length + index;
+      }
+    }
+    throw new IllegalArgumentException("Strategy " + arm + " is not an arm of the bandit");
+  }
+
+  /**
+   * @return empty record of the decisions of one bidder in one auction
+   */
+  public Episode createEpisode() {
+    return new Episode();
+  }
+
+  /**
+   * Decisions of one bidder in the current auction, which are rewarded by the result of the auction. It's owned by one
+   * bidder and is not thread safe, it touches the shared counters, which are thread safe, only to count selections and
+   * rewards.
+   */
+  public final class Episode {
+
+    private int[] cells = new int[16];
+
+    private int numberOfDecisions;
+
+    private Episode() {
+    }
+
+    void record(int context, int arm) {
+      if (numberOfDecisions == cells.length) {
+        cells = Arrays.copyOf(cells, 2 * numberOfDecisions);
+      }
+      cells[numberOfDecisions] = context * arms.length + arm;
+      selections[cells[numberOfDecisions]].increment();
+      numberOfDecisions++;
+    }
+
+    public int getNumberOfDecisions() {
+      return numberOfDecisions;
+    }
+
+    /**
+     * Rewards all decisions of the auction by its result: 2 points for a win, 1 for a draw and 0 for a loss, then
+     * forgets them.
+     */
+    public void finish(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash) {
+      int reward = calculatePoints(myQuantity, opponentQuantity, myRemainingCash, opponentRemainingCash);
+      for (int decision = 0; decision < numberOfDecisions; decision++) {
+        plays[cells[decision]].increment();
+        points[cells[decision]].add(reward);
+      }
+      numberOfDecisions = 0;
+    }
+
+    /**
+     * Forgets decisions of an unfinished auction without rewarding them, they aren't counted as selections anymore.
+     */
+    public void reset() {
+      for (int decision = 0; decision < numberOfDecisions; decision++) {
+        selections[cells[decision]].decrement();
+      }
+      numberOfDecisions = 0;
+    }
+
+    private int calculatePoints(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash) {
+      if (myQuantity != opponentQuantity) {
+        return myQuantity > opponentQuantity ? WIN_POINTS : 0;
+      }
+      if (myRemainingCash != opponentRemainingCash) {
+        return myRemainingCash > opponentRemainingCash ? WIN_POINTS : 0;
+      }
+      return DRAW_POINTS;
+    }
+  }
+}
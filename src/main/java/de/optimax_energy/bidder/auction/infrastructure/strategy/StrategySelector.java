@@ -1,13 +1,12 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
 
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -16,70 +15,200 @@ import static de.optimax_energy.bidder.auction.api.BiddingStrategy.MINIMUM_INITI
 
 public class StrategySelector {
 
-  private static final int AGGRESSIVE_STRATEGY_THRESHOLD = 20;
+  /**
+   * End game positions don't depend on strategy parameters, so the transposition table is shared by all selectors.
+   */
+  private static final EndGameSolver END_GAME_SOLVER = new EndGameSolver();
+
+  private final Map<StrategyName, Optional<BiddingStrategy>> strategyMap = new EnumMap<>(StrategyName.class);
+
+  private final Map<OpponentClass, Optional<BiddingStrategy>> counterStrategyMap = new EnumMap<>(OpponentClass.class);
+
+  private final StrategyParameters strategyParameters;
+
+  private final EndGameBiddingStrategy endGameBiddingStrategy = new EndGameBiddingStrategy(END_GAME_SOLVER);
+
+  private final PolicyBiddingStrategy policyBiddingStrategy;
 
-  private static final Map<StrategyName, BiddingStrategy> STRATEGY_MAP = new EnumMap<>(StrategyName.class);
+  private final MonteCarloBiddingStrategy monteCarloBiddingStrategy;
 
-  private final Logger logger = LoggerFactory.getLogger(getClass());
+  private final StrategyBandit strategyBandit;
 
-  private final StatisticsService statisticsService;
+  public StrategySelector() {
+    this(StrategyParameters.DEFAULT);
+  }
 
-  public StrategySelector(StatisticsService statisticsService) {
-    this.statisticsService = statisticsService;
-    initStrategyMap(statisticsService);
+  /**
+   * @param strategyParameters coefficients of the strategies, every selector owns its strategies, so selectors with
+   *                           different parameters can be used side by side
+   */
+  public StrategySelector(StrategyParameters strategyParameters) {
+    this(strategyParameters, null);
   }
 
-  public Optional<BiddingStrategy> select(List<RoundResult> roundResults, int initialQuantity, int initialCash) {
-    int opponentQuantity = statisticsService.calculateOpponentQuantity(roundResults);
-    int myWonQuantity = statisticsService.calculateMyQuantity(roundResults);
-    int remainingQuantity = initialQuantity - myWonQuantity - opponentQuantity;
+  /**
+   * @param strategyParameters coefficients of the strategies
+   * @param policyTable        precomputed policies, which are used for all bids of their regimes, other regimes are
+   *                           played by the strategies; null if there are no policies
+   */
+  public StrategySelector(StrategyParameters strategyParameters, PolicyTable policyTable) {
+    this(strategyParameters, policyTable, null);
+  }
+
+  /**
+   * @param strategyParameters        coefficients of the strategies
+   * @param policyTable               precomputed policies; null if there are no policies
+   * @param monteCarloBiddingStrategy lookahead, which replaces aggressive and default strategies in the middle of the
+   *                                  auction; null if bids should not be simulated
+   */
+  public StrategySelector(StrategyParameters strategyParameters, PolicyTable policyTable,
+                          MonteCarloBiddingStrategy monteCarloBiddingStrategy) {
+    this(strategyParameters, policyTable, monteCarloBiddingStrategy, null);
+  }
+
+  /**
+   * @param strategyParameters        coefficients of the strategies
+   * @param policyTable               precomputed policies; null if there are no policies
+   * @param monteCarloBiddingStrategy lookahead, which can be an arm of the bandit; null if bids should not be simulated
+   * @param strategyBandit            model, which replaces lookahead, aggressive and default strategies in the middle of
+   *                                  the auction by one of its arms and learns from results of auctions, it may be
+   *                                  shared by selectors; null if strategies should be chosen by fixed rules
+   */
+  public StrategySelector(StrategyParameters strategyParameters, PolicyTable policyTable,
+                          MonteCarloBiddingStrategy monteCarloBiddingStrategy, StrategyBandit strategyBandit) {
+    this.strategyParameters = strategyParameters;
+    this.policyBiddingStrategy = policyTable == null ? null : new PolicyBiddingStrategy(policyTable);
+    this.monteCarloBiddingStrategy = monteCarloBiddingStrategy;
+    this.strategyBandit = strategyBandit;
+    initStrategyMap();
+    if (strategyBandit != null) {
+      for (StrategyName arm : strategyBandit.getArms()) {
+        if (!strategyMap.containsKey(arm)) {
+          throw new IllegalArgumentException("Strategy " + arm + " of bandit is not available");
+        }
+      }
+    }
+  }
+
+  /**
+   * @return record of the decisions of one bidder for {@link #select(AuctionState, StrategyBandit.Episode)}, null if
+   * the selector doesn't learn
+   */
+  public StrategyBandit.Episode createBanditEpisode() {
+    return strategyBandit == null ? null : strategyBandit.createEpisode();
+  }
+
+  public Optional<BiddingStrategy> select(AuctionState auctionState) {
+    return select(auctionState, null);
+  }
+
+  /**
+   * @param auctionState  snapshot of the auction
+   * @param banditEpisode decisions of the bidder in the auction, to which a decision of the bandit is added; null if
+   *                      the decision should not be rewarded
+   * @return strategy for the next bid
+   */
+  public Optional<BiddingStrategy> select(AuctionState auctionState, StrategyBandit.Episode banditEpisode) {
+    int initialQuantity = auctionState.getInitialQuantity();
+    int myWonQuantity = auctionState.getMyQuantity();
+    int remainingQuantity = auctionState.getRemainingQuantity();
+
+    if (policyBiddingStrategy != null && policyBiddingStrategy.hasPolicy(auctionState)) {
+      return getStrategy(StrategyName.POLICY);
+    }
+
+    if (!isEnoughQuantityToWin(initialQuantity, myWonQuantity) && endGameBiddingStrategy.isWinForced(auctionState)) {
+      return getStrategy(StrategyName.END_GAME);
+    }
 
     if (initialQuantity == AMOUNT_OF_PRODUCTS_IN_ONE_ROUND || isLastRound(remainingQuantity)) {
-      logger.info("Selected maximumBidStrategy");
-      return Optional.ofNullable(STRATEGY_MAP.get(StrategyName.MAXIMUM_BID));
+      return getStrategy(StrategyName.MAXIMUM_BID);
     }
 
-    if (roundResults.isEmpty() && (initialQuantity > MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY)) {
-      logger.info("It's first round, minimum bid strategy has been chosen");
-      return Optional.ofNullable(STRATEGY_MAP.get(StrategyName.MINIMUM_BID));
+    if (auctionState.isFirstRound() && (initialQuantity > MINIMUM_INITIAL_QUANTITY_TO_APPLY_MINIMUM_BID_STRATEGY)) {
+      return getStrategy(StrategyName.MINIMUM_BID);
     }
 
     if (isEnoughQuantityToWin(initialQuantity, myWonQuantity)
       || isAlreadyLost(initialQuantity, myWonQuantity + remainingQuantity)) {
-      logger.info("Zero bid strategy has been chosen");
-      return Optional.ofNullable(STRATEGY_MAP.get(StrategyName.ZERO_BID));
+      return getStrategy(StrategyName.ZERO_BID);
+    }
+
+    if (!isEnoughQuantityToWin(initialQuantity, myWonQuantity) && opponentHasNoMoney(auctionState)) {
+      return getStrategy(StrategyName.MINIMUM_BID);
+    }
+
+    OpponentClass opponentClass = auctionState.getOpponentClass();
+    if (opponentClass != OpponentClass.UNKNOWN) {
+      return counterStrategyMap.getOrDefault(opponentClass, Optional.empty());
+    }
+
+    if (strategyBandit != null) {
+      return selectByBandit(auctionState, banditEpisode);
     }
 
-    if (!isEnoughQuantityToWin(initialQuantity, myWonQuantity) && opponentHasNoMoney(roundResults)) {
-      logger.info("Opponent has no money, I can spend minimum amount of money");
-      return Optional.ofNullable(STRATEGY_MAP.get(StrategyName.MINIMUM_BID));
+    if (monteCarloBiddingStrategy != null) {
+      return getStrategy(StrategyName.MONTE_CARLO);
     }
 
-    if (shouldBidMoreAggressively(initialQuantity, initialCash, myWonQuantity, roundResults)) {
-      logger.info("Looks like I am loosing, choosing more aggressive bid strategy");
-      return Optional.ofNullable(STRATEGY_MAP.get(StrategyName.AGGRESSIVE));
+    if (shouldBidMoreAggressively(auctionState)) {
+      return getStrategy(StrategyName.AGGRESSIVE);
     }
 
-    BiddingStrategy strategy = STRATEGY_MAP.get(StrategyName.DEFAULT);
-    logger.info("Default strategy has been chosen");
+    return getStrategy(StrategyName.DEFAULT);
+  }
+
+  private Optional<BiddingStrategy> selectByBandit(AuctionState auctionState, StrategyBandit.Episode banditEpisode) {
+    int context = strategyBandit.getContext(auctionState);
+    int arm = strategyBandit.selectArm(context);
+    if (banditEpisode != null) {
+      banditEpisode.record(context, arm);
+    }
+    return getStrategy(strategyBandit.getArm(arm));
+  }
+
+  /**
+   * Strategies are wrapped into {@link Optional} once, so that selection doesn't allocate on every bid.
+   */
+  private void initStrategyMap() {
+    putStrategy(new ZeroBiddingStrategy());
+    putStrategy(new MinimumBidStrategy());
+    putStrategy(new MaximumBidStrategy());
+    putStrategy(new AggressiveBiddingStrategy(strategyParameters));
+    putStrategy(new DefaultBiddingStrategy());
+    putStrategy(endGameBiddingStrategy);
+    if (policyBiddingStrategy != null) {
+      putStrategy(policyBiddingStrategy);
+    }
+    if (monteCarloBiddingStrategy != null) {
+      putStrategy(monteCarloBiddingStrategy);
+    }
+    putCounterStrategy(new ConstantCounterStrategy());
+    putCounterStrategy(new RandomCounterStrategy());
+    putCounterStrategy(new TrendFollowingCounterStrategy());
+    putCounterStrategy(new AggressiveCounterStrategy());
+    putCounterStrategy(new BudgetPacingCounterStrategy());
+  }
+
+  private void putStrategy(BiddingStrategy strategy) {
+    strategyMap.put(strategy.getStrategyName(), Optional.of(strategy));
+  }
 
-    return Optional.ofNullable(strategy);
+  private void putCounterStrategy(CounterBiddingStrategy strategy) {
+    putStrategy(strategy);
+    counterStrategyMap.put(strategy.getOpponentClass(), strategyMap.get(strategy.getStrategyName()));
   }
 
-  private void initStrategyMap(StatisticsService statisticsService) {
-    STRATEGY_MAP.put(StrategyName.ZERO_BID, new ZeroBiddingStrategy());
-    STRATEGY_MAP.put(StrategyName.MINIMUM_BID, new MinimumBidStrategy());
-    STRATEGY_MAP.put(StrategyName.MAXIMUM_BID, new MaximumBidStrategy());
-    STRATEGY_MAP.put(StrategyName.AGGRESSIVE, new AggressiveBiddingStrategy(statisticsService));
-    STRATEGY_MAP.put(StrategyName.DEFAULT, new DefaultBiddingStrategy(statisticsService));
+  private Optional<BiddingStrategy> getStrategy(StrategyName strategyName) {
+    return strategyMap.getOrDefault(strategyName, Optional.empty());
   }
 
   private boolean isLastRound(int remainingQuantity) {
     return remainingQuantity == AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
   }
 
-  private boolean opponentHasNoMoney(List<RoundResult> roundResults) {
-    return !roundResults.isEmpty() && roundResults.get(roundResults.size() - 1).getOpponentRemainingCash() == 0;
+  private boolean opponentHasNoMoney(AuctionState auctionState) {
+    return !auctionState.isFirstRound() && auctionState.getOpponentRemainingCash() == 0;
   }
 
   private boolean isEnoughQuantityToWin(int initialQuantity, int myWonQuantity) {
@@ -95,22 +224,21 @@ public class StrategySelector {
    * 1. if bot has less money and QU than opponent. It means opponent bids higher and wins.
    * 2. if the ratio of amount of QU left to win and remaining QU higher than given threshold
    *
-   * @param initialQuantity amount of initial QU
-   * @param initialCash     amount of initial MU
-   * @param myWonQuantity   amount of QU won by this bot
-   * @param roundResults    list of results of all rounds
+   * @param auctionState snapshot of the auction
    * @return whether more aggressive strategy should be chosen or not
    */
-  private boolean shouldBidMoreAggressively(int initialQuantity, int initialCash, int myWonQuantity, List<RoundResult> roundResults) {
-    int opponentQuantity = statisticsService.calculateOpponentQuantity(roundResults);
-    int remainingQuantity = initialQuantity - myWonQuantity - opponentQuantity;
+  private boolean shouldBidMoreAggressively(AuctionState auctionState) {
+    int initialQuantity = auctionState.getInitialQuantity();
+    int myWonQuantity = auctionState.getMyQuantity();
+    int opponentQuantity = auctionState.getOpponentQuantity();
+    int remainingQuantity = auctionState.getRemainingQuantity();
     int requiredQuantityNotToLoose = initialQuantity / 2;
     int requiredQuantityLeftToWin = requiredQuantityNotToLoose + 1 - myWonQuantity;
-    int opponentRemainingCash = statisticsService.calculateOpponentRemainingCash(roundResults, initialCash);
-    int myRemainingCash = statisticsService.calculateMyRemainingCash(roundResults, initialCash);
+    int opponentRemainingCash = auctionState.getOpponentRemainingCash();
+    int myRemainingCash = auctionState.getMyRemainingCash();
 
     return doesOpponentHaveMoreQuAndCash(opponentQuantity, myWonQuantity, opponentRemainingCash, myRemainingCash)
-      || (requiredQuantityLeftToWin * 100.0 / remainingQuantity >= AGGRESSIVE_STRATEGY_THRESHOLD);
+      || (requiredQuantityLeftToWin * 100.0 / remainingQuantity >= strategyParameters.getAggressiveStrategyThreshold());
   }
 
   private boolean doesOpponentHaveMoreQuAndCash(int opponentQuantity, int myCurrentQuantity, int opponentRemainingCash, int myRemainingCash) {
@@ -0,0 +1,36 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+
+/**
+ * The opponent bids my previous bid plus a small increment, so its next bid is known. The bot outbids it by 1, which
+ * raises the next bid of the opponent, until the bid reaches the even spend of my cash over the remaining rounds. Then
+ * the bot bids nothing once, and the opponent follows it down to the increment.
+ */
+class TrendFollowingCounterStrategy extends CounterBiddingStrategy {
+
+  @Override
+  public int placeBid(AuctionState auctionState) {
+    OpponentProfile opponentProfile = auctionState.getOpponentProfile();
+    int trendIncrement = opponentProfile.getTrendIncrement();
+    int predictedOpponentBid = opponentProfile.getLastMyBid() + trendIncrement;
+    int evenSpend = auctionState.getMyRemainingCash() / getRemainingRounds(auctionState);
+    if (predictedOpponentBid > Math.max(evenSpend, trendIncrement)) {
+      return 0;
+    }
+    return outbidIfAffordable(predictedOpponentBid, auctionState);
+  }
+
+  @Override
+  public StrategyName getStrategyName() {
+    return StrategyName.COUNTER_TREND_FOLLOWING;
+  }
+
+  @Override
+  OpponentClass getOpponentClass() {
+    return OpponentClass.TREND_FOLLOWING;
+  }
+}
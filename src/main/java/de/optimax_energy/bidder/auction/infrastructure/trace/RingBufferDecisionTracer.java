@@ -0,0 +1,246 @@
+package de.optimax_energy.bidder.auction.infrastructure.trace;
+
+import de.optimax_energy.bidder.auction.api.DecisionTracer;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Decision tracer, which writes rounds into preallocated columns of a ring buffer and leaves formatting and logging to
+ * a background thread. Recording never blocks and doesn't allocate: when the drainer falls behind, the oldest rounds are
+ * overwritten and counted as missed. The ring always keeps the last {@code capacity} rounds for a dump, while only every
+ * {@code samplingInterval}-th round is logged during normal operation.
+ */
+public class RingBufferDecisionTracer implements DecisionTracer, Closeable {
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final int capacity;
+
+  private final int mask;
+
+  private final int samplingInterval;
+
+  private final long drainIntervalNanos;
+
+  private final Consumer<String> sink;
+
+  private final String[] bidderUuids;
+
+  private final StrategyName[] strategyNames;
+
+  private final int[] numbersOfRounds;
+
+  private final int[] myBids;
+
+  private final int[] opponentBids;
+
+  private final int[] myQuantities;
+
+  private final int[] opponentQuantities;
+
+  private final int[] myRemainingCash;
+
+  private final int[] opponentRemainingCash;
+
+  private final int[] opponentAverageBids;
+
+  /**
+   * Sequence + 1 of the round, which is completely written to the slot, 0 while the slot is being written.
+   */
+  private final AtomicLongArray publishedSequences;
+
+  private final AtomicLong nextSequence = new AtomicLong();
+
+  private final AtomicReference<String> dumpReason = new AtomicReference<>();
+
+  private final Thread drainer;
+
+  private volatile boolean running = true;
+
+  private volatile long missedCount;
+
+  private long drainedSequence;
+
+  public RingBufferDecisionTracer(int capacity, int samplingInterval, Duration drainInterval) {
+    this(capacity, samplingInterval, drainInterval, null);
+  }
+
+  RingBufferDecisionTracer(int capacity, int samplingInterval, Duration drainInterval, Consumer<String> sink) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity should be positive");
+    }
+    if (samplingInterval < 1) {
+      throw new IllegalArgumentException("Sampling interval should be positive");
+    }
+    if (drainInterval.isNegative() || drainInterval.isZero()) {
+      throw new IllegalArgumentException("Drain interval should be positive");
+    }
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.samplingInterval = samplingInterval;
+    this.drainIntervalNanos = drainInterval.toNanos();
+    this.sink = sink == null ? logger::info : sink;
+    this.bidderUuids = new String[this.capacity];
+    this.strategyNames = new StrategyName[this.capacity];
+    this.numbersOfRounds = new int[this.capacity];
+    this.myBids = new int[this.capacity];
+    this.opponentBids = new int[this.capacity];
+    this.myQuantities = new int[this.capacity];
+    this.opponentQuantities = new int[this.capacity];
+    this.myRemainingCash = new int[this.capacity];
+    this.opponentRemainingCash = new int[this.capacity];
+    this.opponentAverageBids = new int[this.capacity];
+    this.publishedSequences = new AtomicLongArray(this.capacity);
+
+    this.drainer = new Thread(this::drainContinuously, "decision-trace-drainer");
+    this.drainer.setDaemon(true);
+    this.drainer.start();
+  }
+
+  @Override
+  public void record(String bidderUuid, StrategyName strategyName, AuctionState auctionState, int myBid, int opponentBid) {
+    long sequence = nextSequence.getAndIncrement();
+    int slot = (int) (sequence & mask);
+    publishedSequences.set(slot, 0);
+    VarHandle.releaseFence();
+
+    bidderUuids[slot] = bidderUuid;
+    strategyNames[slot] = strategyName;
+    numbersOfRounds[slot] = auctionState.getNumberOfRounds();
+    myBids[slot] = myBid;
+    opponentBids[slot] = opponentBid;
+    myQuantities[slot] = auctionState.getMyQuantity();
+    opponentQuantities[slot] = auctionState.getOpponentQuantity();
+    myRemainingCash[slot] = auctionState.getMyRemainingCash();
+    opponentRemainingCash[slot] = auctionState.getOpponentRemainingCash();
+    opponentAverageBids[slot] = auctionState.getOpponentAverageBid();
+
+    publishedSequences.setRelease(slot, sequence + 1);
+  }
+
+  @Override
+  public void dump(String reason) {
+    dumpReason.set(reason);
+    LockSupport.unpark(drainer);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getRecordedCount() {
+    return nextSequence.get();
+  }
+
+  public long getMissedCount() {
+    return missedCount;
+  }
+
+  /**
+   * Stops the drainer thread, the rounds recorded so far and a requested dump are written before return.
+   */
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(drainer);
+    try {
+      drainer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    drainOnce();
+  }
+
+  private void drainContinuously() {
+    while (running) {
+      LockSupport.parkNanos(this, drainIntervalNanos);
+      try {
+        drainOnce();
+      } catch (RuntimeException e) {
+        logger.warn("Could not write decision trace", e);
+      }
+    }
+  }
+
+  private synchronized void drainOnce() {
+    drainSampled();
+    String reason = dumpReason.getAndSet(null);
+    if (reason != null) {
+      dumpRetained(reason);
+    }
+  }
+
+  private void drainSampled() {
+    long head = nextSequence.get();
+    if (head - drainedSequence > capacity) {
+      missedCount += head - capacity - drainedSequence;
+      drainedSequence = head - capacity;
+    }
+    while (drainedSequence < head) {
+      long publishedSequence = publishedSequences.get((int) (drainedSequence & mask));
+      if (publishedSequence <= drainedSequence) {
+        // the round is still being written, it's drained next time
+        return;
+      }
+      if (drainedSequence % samplingInterval == 0) {
+        String event = format(drainedSequence);
+        if (event == null) {
+          missedCount++;
+        } else {
+          sink.accept(event);
+        }
+      }
+      drainedSequence++;
+    }
+  }
+
+  private void dumpRetained(String reason) {
+    long head = nextSequence.get();
+    long from = Math.max(0, head - capacity);
+    sink.accept("Decision trace dump (" + reason + "), rounds " + from + ".." + head);
+    for (long sequence = from; sequence < head; sequence++) {
+      String event = format(sequence);
+      if (event != null) {
+        sink.accept(event);
+      }
+    }
+  }
+
+  /**
+   * Reads the round from its slot, the round is ignored if it was overwritten while being read.
+   *
+   * @param sequence sequence of the round
+   * @return formatted round or null, if the slot doesn't contain the round
+   */
+  private String format(long sequence) {
+    int slot = (int) (sequence & mask);
+    if (publishedSequences.getAcquire(slot) != sequence + 1) {
+      return null;
+    }
+    String event = "Decision #" + sequence +
+      ": bidder=" + bidderUuids[slot] +
+      ", round=" + (numbersOfRounds[slot] + 1) +
+      ", strategy=" + strategyNames[slot] +
+      ", myBid=" + myBids[slot] +
+      ", opponentBid=" + opponentBids[slot] +
+      ", myQuantity=" + myQuantities[slot] +
+      ", opponentQuantity=" + opponentQuantities[slot] +
+      ", myRemainingCash=" + myRemainingCash[slot] +
+      ", opponentRemainingCash=" + opponentRemainingCash[slot] +
+      ", opponentAverageBid=" + opponentAverageBids[slot];
+    VarHandle.acquireFence();
+
+    return publishedSequences.get(slot) == sequence + 1 ? event : null;
+  }
+}
@@ -0,0 +1,75 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AsyncBidderAdapterUnitTest extends UnitTest {
+
+  @Mock
+  private Bidder bidder;
+
+  private final List<Runnable> tasks = new ArrayList<>();
+
+  private final Executor executor = tasks::add;
+
+  @Test
+  @DisplayName("Should place bid in task of executor")
+  void shouldPlaceBidInTaskOfExecutor() {
+    // given
+    when(bidder.placeBid()).thenReturn(7);
+    AsyncBidder asyncBidder = new AsyncBidderAdapter(bidder, executor);
+
+    // when
+    CompletableFuture<Integer> bid = asyncBidder.placeBidAsync();
+
+    // then
+    assertThat(bid).isNotDone();
+    verifyNoInteractions(bidder);
+    tasks.forEach(Runnable::run);
+    assertThat(bid).isCompletedWithValue(7);
+  }
+
+  @Test
+  @DisplayName("Should pass init and bids to bidder")
+  void shouldPassInitAndBidsToBidder() {
+    // given
+    AsyncBidder asyncBidder = new AsyncBidderAdapter(bidder, executor);
+
+    // when
+    asyncBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+    asyncBidder.bids(3, 4);
+
+    // then
+    verify(bidder).init(INITIAL_QUANTITY, INITIAL_CASH);
+    verify(bidder).bids(3, 4);
+  }
+
+  @Test
+  @DisplayName("Should complete bid exceptionally, when bidder fails")
+  void shouldCompleteBidExceptionallyWhenBidderFails() {
+    // given
+    when(bidder.placeBid()).thenThrow(new IllegalStateException("failed"));
+    AsyncBidder asyncBidder = new AsyncBidderAdapter(bidder, executor);
+
+    // when
+    CompletableFuture<Integer> bid = asyncBidder.placeBidAsync();
+    tasks.forEach(Runnable::run);
+
+    // then
+    assertThat(bid).isCompletedExceptionally();
+  }
+}
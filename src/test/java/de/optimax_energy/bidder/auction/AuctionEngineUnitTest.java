@@ -0,0 +1,171 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.AuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.InvalidBidException;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionEngineUnitTest extends UnitTest {
+
+  private final AuctionEngine auctionEngine = new AuctionEngine();
+
+  @ParameterizedTest(name = "Should run auction between constant bidders. firstBid={0}, secondBid={1}")
+  @CsvSource({"3, 2, 10, 0, 985, 990, true, false",
+    "2, 3, 0, 10, 990, 985, false, true",
+    "2, 2, 5, 5, 990, 990, false, false"})
+  void shouldRunAuctionBetweenConstantBidders(int firstBid,
+                                              int secondBid,
+                                              int expectedFirstBidderQuantity,
+                                              int expectedSecondBidderQuantity,
+                                              int expectedFirstBidderRemainingCash,
+                                              int expectedSecondBidderRemainingCash,
+                                              boolean expectedFirstBidderWinner,
+                                              boolean expectedSecondBidderWinner) {
+    // given
+    Bidder firstBidder = givenConstantBidder(firstBid);
+    Bidder secondBidder = givenConstantBidder(secondBid);
+
+    // when
+    AuctionResult auctionResult = auctionEngine.run(firstBidder, secondBidder, INITIAL_QUANTITY, INITIAL_CASH);
+
+    // then
+    assertThat(auctionResult.getNumberOfRounds()).isEqualTo(INITIAL_QUANTITY / 2);
+    assertThat(auctionResult.getFirstBidderQuantity()).isEqualTo(expectedFirstBidderQuantity);
+    assertThat(auctionResult.getSecondBidderQuantity()).isEqualTo(expectedSecondBidderQuantity);
+    assertThat(auctionResult.getFirstBidderRemainingCash()).isEqualTo(expectedFirstBidderRemainingCash);
+    assertThat(auctionResult.getSecondBidderRemainingCash()).isEqualTo(expectedSecondBidderRemainingCash);
+    assertThat(auctionResult.isFirstBidderWinner()).isEqualTo(expectedFirstBidderWinner);
+    assertThat(auctionResult.isSecondBidderWinner()).isEqualTo(expectedSecondBidderWinner);
+  }
+
+  @Test
+  @DisplayName("Should choose winner by remaining cash, when quantities are equal")
+  void shouldChooseWinnerByRemainingCashWhenQuantitiesAreEqual() {
+    // given
+    Bidder firstBidder = mock(Bidder.class);
+    Bidder secondBidder = mock(Bidder.class);
+    when(firstBidder.placeBid()).thenReturn(5, 0);
+    when(secondBidder.placeBid()).thenReturn(0, 1);
+
+    // when
+    AuctionResult auctionResult = auctionEngine.run(firstBidder, secondBidder, 4, INITIAL_CASH);
+
+    // then
+    assertThat(auctionResult.getFirstBidderQuantity()).isEqualTo(2);
+    assertThat(auctionResult.getSecondBidderQuantity()).isEqualTo(2);
+    assertThat(auctionResult.isSecondBidderWinner()).isTrue();
+    assertThat(auctionResult.isDraw()).isFalse();
+    var inOrder = inOrder(firstBidder, secondBidder);
+    inOrder.verify(firstBidder).init(4, INITIAL_CASH);
+    inOrder.verify(secondBidder).init(4, INITIAL_CASH);
+    inOrder.verify(firstBidder).bids(5, 0);
+    inOrder.verify(secondBidder).bids(0, 5);
+    inOrder.verify(firstBidder).bids(0, 1);
+    inOrder.verify(secondBidder).bids(1, 0);
+  }
+
+  @Test
+  @DisplayName("Should not auction last QU, when initial quantity is odd")
+  void shouldNotAuctionLastQuantityWhenInitialQuantityIsOdd() {
+    // when
+    AuctionResult auctionResult = auctionEngine.run(givenConstantBidder(1), givenConstantBidder(0), 5, INITIAL_CASH);
+
+    // then
+    assertThat(auctionResult.getNumberOfRounds()).isEqualTo(2);
+    assertThat(auctionResult.getFirstBidderQuantity()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when bidder bids more than remaining cash")
+  void shouldThrowExceptionWhenBidderBidsMoreThanRemainingCash() {
+    // when - then
+    assertThatThrownBy(() -> auctionEngine.run(givenConstantBidder(1), givenConstantBidder(400), INITIAL_QUANTITY, INITIAL_CASH))
+      .isExactlyInstanceOf(InvalidBidException.class)
+      .hasMessage("Second bidder placed bid 400, but has 200 MU");
+  }
+
+  @Test
+  @DisplayName("Should finish auction of sessions and asynchronous bidders, when auction has ended")
+  void shouldFinishAuctionOfSessionsAndAsynchronousBiddersWhenAuctionHasEnded() {
+    // given
+    AuctionSession session = mock(AuctionSession.class);
+    when(session.placeBid()).thenReturn(2);
+    AsyncBidder asyncBidder = mock(AsyncBidder.class);
+    when(asyncBidder.placeBidAsync()).thenReturn(CompletableFuture.completedFuture(1));
+
+    // when
+    AuctionResult auctionResult = auctionEngine.run(session, new BlockingBidderAdapter(asyncBidder), INITIAL_QUANTITY, INITIAL_CASH);
+
+    // then
+    assertThat(auctionResult.isFirstBidderWinner()).isTrue();
+    InOrder inOrder = inOrder(session);
+    inOrder.verify(session).bids(2, 1);
+    inOrder.verify(session).finishAuction();
+    verify(asyncBidder).finishAuction();
+  }
+
+  @Test
+  @DisplayName("Should finish auction of session, when bidder has placed invalid bid")
+  void shouldFinishAuctionOfSessionWhenBidderHasPlacedInvalidBid() {
+    // given
+    AuctionSession session = mock(AuctionSession.class);
+    when(session.placeBid()).thenReturn(1);
+
+    // when - then
+    assertThatThrownBy(() -> auctionEngine.run(session, givenConstantBidder(400), INITIAL_QUANTITY, INITIAL_CASH))
+      .isExactlyInstanceOf(InvalidBidException.class);
+    verify(session).finishAuction();
+  }
+
+  @Test
+  @DisplayName("Should let trading bot win constant bidder")
+  void shouldLetTradingBotWinConstantBidder() {
+    // given
+    TradingBot tradingBot = new TradingBot(new StrategySelector(), new RoundResultInMemoryStorageService(), new StatisticsService());
+
+    // when
+    AuctionResult auctionResult = auctionEngine.run(tradingBot, givenConstantBidder(INITIAL_CASH / INITIAL_QUANTITY), INITIAL_QUANTITY, INITIAL_CASH);
+
+    // then
+    assertThat(auctionResult.isFirstBidderWinner()).isTrue();
+    assertThat(auctionResult.getFirstBidderQuantity()).isEqualTo(tradingBot.getQuantity());
+    assertThat(auctionResult.getFirstBidderRemainingCash()).isEqualTo(tradingBot.getRemainingCash());
+  }
+
+  private Bidder givenConstantBidder(int bid) {
+    return new Bidder() {
+
+      @Override
+      public void init(int quantity, int cash) {
+      }
+
+      @Override
+      public int placeBid() {
+        return bid;
+      }
+
+      @Override
+      public void bids(int own, int other) {
+      }
+    };
+  }
+}
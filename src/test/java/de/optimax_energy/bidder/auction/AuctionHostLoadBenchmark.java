@@ -0,0 +1,65 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Submits all auctions to {@link AuctionHost} at once, sessions of one {@link BidderFactory} play against random
+ * opponents, and reports throughput, concurrent auctions, round latency and timeouts. Run with
+ * {@code gradle auctionHostLoadBenchmark --args="<auctions> <quantity> <threads> <bid timeout ms>"}, the bid timeout
+ * is {@link AuctionHost#DEFAULT_BID_TIMEOUT} by default.
+ */
+public class AuctionHostLoadBenchmark {
+
+  private static final int CASH = 1_000;
+
+  public static void main(String[] args) {
+    int numberOfAuctions = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int quantity = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+    Duration bidTimeout = args.length > 3 ? Duration.ofMillis(Long.parseLong(args[3])) : AuctionHost.DEFAULT_BID_TIMEOUT;
+
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    LongAdder completedAuctions = new LongAdder();
+    LongAdder timedOutAuctions = new LongAdder();
+    AuctionHost auctionHost = new AuctionHost(executorService, bidTimeout, hostedAuctionResult -> {
+      if (hostedAuctionResult.isCompleted()) {
+        completedAuctions.increment();
+      } else if (hostedAuctionResult.getStatus() == HostedAuctionResult.Status.FIRST_BIDDER_TIMED_OUT
+        || hostedAuctionResult.getStatus() == HostedAuctionResult.Status.SECOND_BIDDER_TIMED_OUT) {
+        timedOutAuctions.increment();
+      }
+    });
+    BidderFactory bidderFactory = new BidderFactory();
+
+    long start = System.nanoTime();
+    CompletableFuture<?>[] results = new CompletableFuture<?>[numberOfAuctions];
+    for (int auction = 0; auction < numberOfAuctions; auction++) {
+      results[auction] = auctionHost.submit(bidderFactory.createSession(), new OpponentLibrary(auction).random(), quantity, CASH);
+    }
+    long maxActiveAuctions = auctionHost.getActiveAuctions();
+    CompletableFuture<Void> allResults = CompletableFuture.allOf(results);
+    while (!allResults.isDone()) {
+      maxActiveAuctions = Math.max(maxActiveAuctions, auctionHost.getActiveAuctions());
+      LockSupport.parkNanos(1_000_000);
+    }
+    allResults.join();
+    long elapsedNanos = System.nanoTime() - start;
+    executorService.shutdown();
+
+    System.out.printf("auctions=%d quantity=%d threads=%d bid timeout=%s max concurrent auctions=%d%n",
+      numberOfAuctions, quantity, threads, bidTimeout, maxActiveAuctions);
+    System.out.printf("auctions/s=%.0f rounds/s=%.0f completed=%d timed out=%d%n",
+      numberOfAuctions * 1_000_000_000.0 / elapsedNanos, auctionHost.getNumberOfRounds() * 1_000_000_000.0 / elapsedNanos,
+      completedAuctions.sum(), timedOutAuctions.sum());
+    System.out.printf("round latency p50=%s p99=%s p999=%s%n",
+      auctionHost.getRoundLatency(0.5), auctionHost.getRoundLatency(0.99), auctionHost.getRoundLatency(0.999));
+  }
+}
@@ -0,0 +1,290 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.AuctionResultSink;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.InvalidBidException;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.ConstantBidder;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.MonteCarloBiddingStrategy;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionHostUnitTest extends UnitTest {
+
+  private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+  private final Queue<HostedAuctionResult> sinkResults = new ConcurrentLinkedQueue<>();
+
+  private final AuctionHost auctionHost = new AuctionHost(executorService, Duration.ofSeconds(5), sinkResults::add);
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Should play auction like auction engine and pass result to sink")
+  void shouldPlayAuctionLikeAuctionEngineAndPassResultToSink() {
+    // given
+    String expectedResult = new AuctionEngine()
+      .run(new OpponentLibrary(1).random(), new OpponentLibrary(2).random(), INITIAL_QUANTITY, INITIAL_CASH)
+      .toString();
+
+    // when
+    HostedAuctionResult hostedAuctionResult = auctionHost
+      .submit(new OpponentLibrary(1).random(), new OpponentLibrary(2).random(), INITIAL_QUANTITY, INITIAL_CASH)
+      .join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.COMPLETED);
+    assertThat(hostedAuctionResult.getAuctionResult()).hasToString(expectedResult);
+    assertThat(sinkResults).containsExactly(hostedAuctionResult);
+    assertThat(auctionHost.getNumberOfRounds()).isEqualTo(INITIAL_QUANTITY / 2);
+    assertThat(auctionHost.getRoundLatency(0.99)).isPositive();
+    assertThat(auctionHost.getActiveAuctions()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should stop auction, when bidder doesn't bid within timeout")
+  void shouldStopAuctionWhenBidderDoesNotBidWithinTimeout() {
+    // given
+    AuctionHost givenHost = new AuctionHost(executorService, Duration.ofMillis(20), AuctionResultSink.NO_OP);
+    Bidder slowBidder = mock(Bidder.class);
+    when(slowBidder.placeBid()).thenAnswer(invocation -> {
+      Thread.sleep(1_000);
+      return 1;
+    });
+
+    // when
+    HostedAuctionResult hostedAuctionResult = givenHost
+      .submit(new OpponentLibrary(1).constant(1), slowBidder, INITIAL_QUANTITY, INITIAL_CASH)
+      .join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.SECOND_BIDDER_TIMED_OUT);
+    assertThat(hostedAuctionResult.getAuctionResult().getNumberOfRounds()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should finish auction and pass result to sink on thread of executor, when bid times out")
+  void shouldFinishAuctionOnThreadOfExecutorWhenBidTimesOut() {
+    // given
+    ExecutorService hostExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "host"));
+    CompletableFuture<Thread> sinkThread = new CompletableFuture<>();
+    AuctionHost givenHost = new AuctionHost(hostExecutor, Duration.ofMillis(20),
+      hostedAuctionResult -> sinkThread.complete(Thread.currentThread()));
+    AsyncBidder givenBidder = mock(AsyncBidder.class);
+    when(givenBidder.placeBidAsync()).thenReturn(CompletableFuture.completedFuture(1));
+    CompletableFuture<Thread> finishAuctionThread = new CompletableFuture<>();
+    doAnswer(invocation -> finishAuctionThread.complete(Thread.currentThread())).when(givenBidder).finishAuction();
+    AsyncBidder silentBidder = mock(AsyncBidder.class);
+    when(silentBidder.placeBidAsync()).thenReturn(new CompletableFuture<>());
+
+    // when
+    HostedAuctionResult hostedAuctionResult = givenHost.submit(givenBidder, silentBidder, INITIAL_QUANTITY, INITIAL_CASH).join();
+    hostExecutor.shutdownNow();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.SECOND_BIDDER_TIMED_OUT);
+    assertThat(sinkThread.join().getName()).isEqualTo("host");
+    assertThat(finishAuctionThread.join().getName()).isEqualTo("host");
+  }
+
+  @Test
+  @DisplayName("Should not charge time waiting for a thread of the executor to bid timeout")
+  void shouldNotChargeTimeWaitingForThreadOfExecutorToBidTimeout() {
+    // given
+    ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    AuctionHost givenHost = new AuctionHost(singleThreadExecutor, Duration.ofMillis(50), AuctionResultSink.NO_OP);
+    int numberOfAuctions = 20;
+    List<CompletableFuture<HostedAuctionResult>> results = new ArrayList<>(numberOfAuctions);
+
+    // when
+    // every bid takes 5 ms, so bids of the last auctions wait for the thread much longer than the timeout
+    for (int auction = 0; auction < numberOfAuctions; auction++) {
+      results.add(givenHost.submit(slowBidder(5), slowBidder(5), 4, INITIAL_CASH));
+    }
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+    singleThreadExecutor.shutdownNow();
+
+    // then
+    assertThat(results).allMatch(result -> result.join().isCompleted());
+  }
+
+  @Test
+  @DisplayName("Should finish auction of sessions, when auction has ended")
+  void shouldFinishAuctionOfSessionsWhenAuctionHasEnded() {
+    // given
+    RoundResultInMemoryStorageService roundResultStorage = new RoundResultInMemoryStorageService();
+    AuctionSession firstSession = new TradingBot(new StrategySelector(), roundResultStorage, new StatisticsService());
+    AuctionSession secondSession = new TradingBot(new StrategySelector(), roundResultStorage, new StatisticsService());
+
+    // when
+    HostedAuctionResult hostedAuctionResult = auctionHost.submit(firstSession, secondSession, INITIAL_QUANTITY, INITIAL_CASH).join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.COMPLETED);
+    assertThat(roundResultStorage.getRoundResultsForBidder(firstSession.getUuid())).isEmpty();
+    assertThat(roundResultStorage.getRoundResultsForBidder(secondSession.getUuid())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should finish auction of session only after its late bid has returned")
+  void shouldFinishAuctionOfSessionOnlyAfterItsLateBidHasReturned() {
+    // given
+    AuctionHost givenHost = new AuctionHost(executorService, Duration.ofMillis(20), AuctionResultSink.NO_OP);
+    AuctionSession slowSession = mock(AuctionSession.class);
+    CountDownLatch bidReturns = new CountDownLatch(1);
+    when(slowSession.placeBid()).thenAnswer(invocation -> {
+      bidReturns.await();
+      return 1;
+    });
+
+    // when
+    HostedAuctionResult hostedAuctionResult = givenHost
+      .submit(new OpponentLibrary(1).constant(1), slowSession, INITIAL_QUANTITY, INITIAL_CASH)
+      .join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.SECOND_BIDDER_TIMED_OUT);
+    verify(slowSession, never()).finishAuction();
+    bidReturns.countDown();
+    verify(slowSession, timeout(5_000)).finishAuction();
+  }
+
+  @Test
+  @DisplayName("Should not time out session, whose lookahead has bid timeout of host as time budget")
+  void shouldNotTimeOutSessionWhoseLookaheadHasBidTimeoutOfHostAsTimeBudget() {
+    // given
+    AuctionHost givenHost = new AuctionHost(executorService, Duration.ofMillis(200), AuctionResultSink.NO_OP);
+    MonteCarloBiddingStrategy monteCarloBiddingStrategy = new MonteCarloBiddingStrategy(ForkJoinPool.commonPool(),
+      givenHost.getBidTimeout(), Integer.MAX_VALUE);
+    StrategySelector strategySelector = new StrategySelector(StrategyParameters.DEFAULT, null, monteCarloBiddingStrategy);
+    TradingBot session = new TradingBot(strategySelector, new RoundResultInMemoryStorageService(), new StatisticsService());
+
+    // when
+    HostedAuctionResult hostedAuctionResult = givenHost
+      .submit(session, new OpponentLibrary(1).random(), INITIAL_QUANTITY, INITIAL_CASH)
+      .join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.COMPLETED);
+    assertThat(hostedAuctionResult.getAuctionResult().getNumberOfRounds()).isEqualTo(INITIAL_QUANTITY / 2);
+  }
+
+  @Test
+  @DisplayName("Should stop auction, when bidder places invalid bid")
+  void shouldStopAuctionWhenBidderPlacesInvalidBid() {
+    // given
+    Bidder greedyBidder = mock(Bidder.class);
+    when(greedyBidder.placeBid()).thenReturn(INITIAL_CASH / 2 + 1);
+
+    // when
+    HostedAuctionResult hostedAuctionResult = auctionHost
+      .submit(greedyBidder, new OpponentLibrary(2).constant(1), INITIAL_QUANTITY, INITIAL_CASH)
+      .join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.FIRST_BIDDER_FAILED);
+    assertThat(hostedAuctionResult.getFailure())
+      .isExactlyInstanceOf(InvalidBidException.class)
+      .hasMessage("First bidder placed bid 501, but has 499 MU");
+    assertThat(hostedAuctionResult.getAuctionResult().getNumberOfRounds()).isEqualTo(1);
+    assertThat(hostedAuctionResult.getAuctionResult().getFirstBidderQuantity()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should play many concurrent auctions of sessions on few threads")
+  void shouldPlayManyConcurrentAuctionsOfSessionsOnFewThreads() {
+    // given
+    BidderFactory bidderFactory = new BidderFactory();
+    int numberOfAuctions = 10_000;
+    List<CompletableFuture<HostedAuctionResult>> results = new ArrayList<>(numberOfAuctions);
+
+    // when
+    for (int auction = 0; auction < numberOfAuctions; auction++) {
+      results.add(auctionHost.submit(bidderFactory.createSession(), new OpponentLibrary(auction).random(), INITIAL_QUANTITY, INITIAL_CASH));
+    }
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+    // then
+    assertThat(results).allMatch(result -> result.join().isCompleted());
+    assertThat(sinkResults).hasSize(numberOfAuctions);
+    assertThat(auctionHost.getNumberOfRounds()).isEqualTo((long) numberOfAuctions * INITIAL_QUANTITY / 2);
+    assertThat(auctionHost.getActiveAuctions()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should play auction of asynchronous bidders, which complete bids themselves, without blocking adapters")
+  void shouldPlayAuctionOfAsynchronousBiddersWhichCompleteBidsThemselves() {
+    // given
+    int quantity = 20_000;
+    String expectedResult = new AuctionEngine()
+      .run(new OpponentLibrary(1).random(), new OpponentLibrary(2).constant(2), quantity, INITIAL_CASH)
+      .toString();
+    Bidder firstBidder = new BlockingBidderAdapter(completingBidder(new OpponentLibrary(1).random()));
+    Bidder secondBidder = new BlockingBidderAdapter(completingBidder(new OpponentLibrary(2).constant(2)));
+
+    // when
+    HostedAuctionResult hostedAuctionResult = auctionHost.submit(firstBidder, secondBidder, quantity, INITIAL_CASH).join();
+
+    // then
+    assertThat(hostedAuctionResult.getStatus()).isEqualTo(HostedAuctionResult.Status.COMPLETED);
+    assertThat(hostedAuctionResult.getAuctionResult()).hasToString(expectedResult);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when bid timeout is not positive")
+  void shouldThrowExceptionWhenBidTimeoutIsNotPositive() {
+    // when - then
+    assertThatThrownBy(() -> new AuctionHost(executorService, Duration.ZERO, AuctionResultSink.NO_OP))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Bid timeout should be positive");
+  }
+
+  private Bidder slowBidder(long bidMillis) {
+    return new ConstantBidder(1) {
+
+      @Override
+      protected int calculateBid() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(bidMillis));
+        return super.calculateBid();
+      }
+    };
+  }
+
+  private AsyncBidder completingBidder(Bidder bidder) {
+    return new AsyncBidderAdapter(bidder, Runnable::run);
+  }
+}
@@ -2,8 +2,10 @@ package de.optimax_energy.bidder.auction;
 
 import de.optimax_energy.bidder.IntegrationTest;
 import de.optimax_energy.bidder.application.TestApplication;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
 import de.optimax_energy.bidder.auction.api.Bidder;
 import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.AuctionResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,31 +21,34 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ContextConfiguration(classes = {BidderTestConfiguration.class, TestApplication.class})
 class AuctionIntegrationTest extends IntegrationTest {
 
-  private static final int AMOUNT_OF_PRODUCTS_IN_ONE_ROUND = 2;
-
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
   @Autowired
   @Qualifier("tradingBot")
-  private TradingBot tradingBot;
+  private AuctionSession tradingBot;
 
   @Autowired
   @Qualifier("dummyBidder")
-  private TradingBot dummyBidder;
+  private Bidder dummyBidder;
 
   @Autowired
   @Qualifier("randomBidder")
-  private TradingBot randomBidder;
+  private Bidder randomBidder;
 
   @Autowired
   @Qualifier("aggressiveBidder")
-  private TradingBot aggressiveBidder;
+  private Bidder aggressiveBidder;
 
   @Autowired
   private RoundResultStorageOperations roundResultStorageOperations;
 
+  @Autowired
+  private AuctionEngine auctionEngine;
+
   private int initialQuantity;
 
+  private int initialCash;
+
   @ParameterizedTest(name = "Should win dummy bidder. initialQuantity={0}, initialCash={1}")
   @CsvSource({"50, 100", "100, 10000", "100, 1000", "10, 1000", "2, 200"})
   void shouldWinDummyBidder(int initialQuantity, int initialCash) {
@@ -83,37 +88,28 @@ class AuctionIntegrationTest extends IntegrationTest {
     Bidder bidder = startAuction(tradingBot, aggressiveBidder);
 
     // then
+    // the aggressive bidder bids the same amount in every round, so the trading bot outbids it in the rounds it needs
     assertThat(bidder).isEqualTo(tradingBot);
   }
 
   private void setUp(int initialQuantity, int initialCash) {
     this.initialQuantity = initialQuantity;
-    tradingBot.init(initialQuantity, initialCash);
-    dummyBidder.init(initialQuantity, initialCash);
-    randomBidder.init(initialQuantity, initialCash);
-    roundResultStorageOperations.getRoundResultsForBidder(tradingBot.getUuid()).clear();
+    this.initialCash = initialCash;
+    roundResultStorageOperations.removeRoundResultsForBidder(tradingBot.getUuid());
   }
 
-  private Bidder startAuction(TradingBot tradingBot, TradingBot dummyBot) {
-    int roundIndex = 1;
-    int quantityToPlay = initialQuantity;
-    while (quantityToPlay >= AMOUNT_OF_PRODUCTS_IN_ONE_ROUND) {
-      int tradingBotBid = tradingBot.placeBid();
-      int dummyBidderBid = dummyBot.placeBid();
-
-      tradingBot.bids(tradingBotBid, dummyBidderBid);
-      dummyBot.bids(dummyBidderBid, tradingBotBid);
-      quantityToPlay -= AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+  private Bidder startAuction(AuctionSession tradingBot, Bidder opponent) {
+    AuctionResult auctionResult = auctionEngine.run(tradingBot, opponent, initialQuantity, initialCash);
+    logger.info("Auction has finished: {}", auctionResult);
 
-      logger.info("Round {}. Trading bot remaining cash: {}, dummy bot remaining cash: {}", roundIndex, tradingBot.getRemainingCash(), dummyBot.getRemainingCash());
-      logger.info("Round {}. Trading bot quantity: {}, dummy bot quantity: {}", roundIndex, tradingBot.getQuantity(), dummyBot.getQuantity());
-      roundIndex++;
+    if (auctionResult.isFirstBidderWinner()) {
+      return tradingBot;
     }
 
-    return chooseWinner(tradingBot, dummyBot);
+    return auctionResult.isSecondBidderWinner() ? opponent : null;
   }
 
-  private int runAuctionMultipleTimesAndReturnNumberOfWinsOfFirstBidder(TradingBot tradingBot, TradingBot randomBidder, int numberOfTests, int initialQuantity, int initialCash) {
+  private int runAuctionMultipleTimesAndReturnNumberOfWinsOfFirstBidder(AuctionSession tradingBot, Bidder randomBidder, int numberOfTests, int initialQuantity, int initialCash) {
     int numberOfTradingBotWins = 0;
     for (int i = 0; i < numberOfTests; i++) {
       setUp(initialQuantity, initialCash);
@@ -126,28 +122,4 @@ class AuctionIntegrationTest extends IntegrationTest {
 
     return numberOfTradingBotWins;
   }
-
-  private Bidder chooseWinner(TradingBot firstBidder, TradingBot secondBidder) {
-    if (firstBidder.getQuantity() > secondBidder.getQuantity()) {
-      return firstBidder;
-    }
-
-    if (firstBidder.getQuantity() < secondBidder.getQuantity()) {
-      return secondBidder;
-    }
-
-    return chooseWinnerBasedOnLeftAmountOfCash(firstBidder, secondBidder);
-  }
-
-  private Bidder chooseWinnerBasedOnLeftAmountOfCash(TradingBot firstBidder, TradingBot secondBidder) {
-    if (firstBidder.getRemainingCash() > secondBidder.getRemainingCash()) {
-      return firstBidder;
-    }
-
-    if (firstBidder.getRemainingCash() < secondBidder.getRemainingCash()) {
-      return secondBidder;
-    }
-
-    return null;
-  }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultJournalStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static de.optimax_energy.bidder.auction.api.BiddingStrategy.AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidderFactoryUnitTest extends UnitTest {
+
+  private static final int NUMBER_OF_AUCTIONS = 400;
+
+  private final BidderFactory bidderFactory = new BidderFactory();
+
+  private final AuctionEngine auctionEngine = new AuctionEngine();
+
+  @Test
+  @DisplayName("Should create sessions with distinct ids")
+  void shouldCreateSessionsWithDistinctIds() {
+    // given
+    Set<String> uuids = new HashSet<>();
+
+    // when
+    for (int session = 0; session < 1_000; session++) {
+      uuids.add(bidderFactory.createSession().getUuid());
+    }
+    AuctionSession restoredSession = bidderFactory.createSession("restored");
+
+    // then
+    assertThat(uuids).hasSize(1_000);
+    assertThat(restoredSession.getUuid()).isEqualTo("restored");
+  }
+
+  @Test
+  @DisplayName("Should keep state of interleaved sessions apart")
+  void shouldKeepStateOfInterleavedSessionsApart() {
+    // given
+    AuctionSession winningSession = bidderFactory.createSession();
+    AuctionSession losingSession = bidderFactory.createSession();
+    winningSession.init(INITIAL_QUANTITY, INITIAL_CASH);
+    losingSession.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    for (int round = 0; round < INITIAL_QUANTITY / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND; round++) {
+      winningSession.bids(1, 0);
+      losingSession.bids(0, 1);
+    }
+
+    // then
+    assertThat(winningSession.getQuantity()).isEqualTo(INITIAL_QUANTITY);
+    assertThat(winningSession.getRemainingCash()).isEqualTo(INITIAL_CASH - INITIAL_QUANTITY / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+    assertThat(losingSession.getQuantity()).isZero();
+    assertThat(losingSession.getRemainingCash()).isEqualTo(INITIAL_CASH);
+  }
+
+  @Test
+  @DisplayName("Should restore session from journal after restart without initializing it again")
+  void shouldRestoreSessionFromJournalAfterRestartWithoutInitializingItAgain(@TempDir Path directory) {
+    // given
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      AuctionSession session = new BidderFactory(new StrategySelector(), storageService, new StatisticsService())
+        .createSession("restored");
+      session.init(INITIAL_QUANTITY, INITIAL_CASH);
+      session.bids(10, 5);
+      session.bids(3, 7);
+    }
+
+    // when
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      AuctionSession restoredSession = new BidderFactory(new StrategySelector(), storageService, new StatisticsService())
+        .createSession("restored");
+      restoredSession.restore();
+
+      // then
+      assertThat(restoredSession.getQuantity()).isEqualTo(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+      assertThat(restoredSession.getRemainingCash()).isEqualTo(INITIAL_CASH - 13);
+      assertThat(restoredSession.placeBid()).isBetween(0, INITIAL_CASH - 13);
+    }
+  }
+
+  @Test
+  @DisplayName("Should not restore rounds of previous auction, when session was initialized again without finishing it")
+  void shouldNotRestoreRoundsOfPreviousAuctionWhenSessionWasInitializedAgain(@TempDir Path directory) {
+    // given
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      AuctionSession session = new BidderFactory(new StrategySelector(), storageService, new StatisticsService())
+        .createSession("reinitialized");
+      session.init(INITIAL_QUANTITY, INITIAL_CASH);
+      session.bids(10, 5);
+      session.bids(3, 7);
+      session.init(INITIAL_QUANTITY, INITIAL_CASH);
+      session.bids(4, 6);
+    }
+
+    // when
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      AuctionSession restoredSession = new BidderFactory(new StrategySelector(), storageService, new StatisticsService())
+        .createSession("reinitialized");
+      restoredSession.restore();
+
+      // then
+      assertThat(restoredSession.getQuantity()).isZero();
+      assertThat(restoredSession.getRemainingCash()).isEqualTo(INITIAL_CASH - 4);
+    }
+  }
+
+  @Test
+  @DisplayName("Should play concurrent sessions of one factory like sequential ones")
+  void shouldPlayConcurrentSessionsOfOneFactoryLikeSequentialOnes() throws Exception {
+    // given
+    List<String> sequentialResults = new ArrayList<>();
+    for (int auction = 0; auction < NUMBER_OF_AUCTIONS; auction++) {
+      sequentialResults.add(playAuction(auction));
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    List<Callable<String>> auctions = new ArrayList<>();
+    for (int auction = 0; auction < NUMBER_OF_AUCTIONS; auction++) {
+      int seed = auction;
+      auctions.add(() -> playAuction(seed));
+    }
+
+    // when
+    List<String> concurrentResults = new ArrayList<>();
+    for (Future<String> future : executorService.invokeAll(auctions)) {
+      concurrentResults.add(future.get());
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(concurrentResults).isEqualTo(sequentialResults);
+  }
+
+  private String playAuction(long seed) {
+    Bidder opponent = new OpponentLibrary(seed).random();
+    try (AuctionSession auctionSession = bidderFactory.createSession()) {
+      return auctionEngine.run(auctionSession, opponent, 2 * INITIAL_QUANTITY, INITIAL_CASH).toString();
+    }
+  }
+}
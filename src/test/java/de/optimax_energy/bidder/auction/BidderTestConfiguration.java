@@ -2,27 +2,36 @@ package de.optimax_energy.bidder.auction;
 
 import de.optimax_energy.bidder.auction.api.Bidder;
 import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
 import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
-import java.util.Random;
-
 @TestConfiguration
 public class BidderTestConfiguration {
 
-  private static final int AMOUNT_OF_PRODUCTS_IN_ONE_ROUND = 2;
+  private static final long OPPONENT_SEED = 42;
 
   @Bean
-  public Bidder tradingBot(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
-    return new TradingBot(strategySelector, roundResultStorageOperations, statisticsService);
+  public BidderFactory bidderFactory(StrategySelector strategySelector, RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
+    return new BidderFactory(strategySelector, roundResultStorageOperations, statisticsService);
   }
 
   @Bean
-  public StrategySelector strategySelector(StatisticsService statisticsService) {
-    return new StrategySelector(statisticsService);
+  public Bidder tradingBot(BidderFactory bidderFactory) {
+    return bidderFactory.createSession();
+  }
+
+  @Bean
+  public AuctionEngine auctionEngine() {
+    return new AuctionEngine();
+  }
+
+  @Bean
+  public StrategySelector strategySelector() {
+    return new StrategySelector();
   }
 
   @Bean
@@ -36,38 +45,22 @@ public class BidderTestConfiguration {
   }
 
   @Bean
-  public Bidder dummyBidder(RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
-    return new TradingBot(null, roundResultStorageOperations, statisticsService) {
-      @Override
-      public int placeBid() {
-        int bid = getInitialCash() / getInitialQuantity();
-        return Math.min(getRemainingCash(), bid);
-      }
-    };
+  public OpponentLibrary opponentLibrary() {
+    return new OpponentLibrary(OPPONENT_SEED);
   }
 
   @Bean
-  public Bidder randomBidder(RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
-    return new TradingBot(null, roundResultStorageOperations, statisticsService) {
+  public Bidder dummyBidder(OpponentLibrary opponentLibrary) {
+    return opponentLibrary.dummy();
+  }
 
-      @Override
-      public int placeBid() {
-        int halfOfBids = getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND;
-        double botMaxBidMultiplier = 1.5;
-        int bid = new Random().nextInt((int) (botMaxBidMultiplier * getInitialCash() / halfOfBids));
-        return Math.min(getRemainingCash(), bid);
-      }
-    };
+  @Bean
+  public Bidder randomBidder(OpponentLibrary opponentLibrary) {
+    return opponentLibrary.random();
   }
 
   @Bean
-  public Bidder aggressiveBidder(RoundResultStorageOperations roundResultStorageOperations, StatisticsService statisticsService) {
-    return new TradingBot(null, roundResultStorageOperations, statisticsService) {
-      @Override
-      public int placeBid() {
-        int bid = getInitialCash() / (getInitialQuantity() / AMOUNT_OF_PRODUCTS_IN_ONE_ROUND - 1);
-        return Math.min(getRemainingCash(), bid);
-      }
-    };
+  public Bidder aggressiveBidder(OpponentLibrary opponentLibrary) {
+    return opponentLibrary.aggressive();
   }
 }
\ No newline at end of file
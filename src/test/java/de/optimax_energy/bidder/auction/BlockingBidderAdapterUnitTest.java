@@ -0,0 +1,77 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AsyncBidder;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockingBidderAdapterUnitTest extends UnitTest {
+
+  @Mock
+  private AsyncBidder asyncBidder;
+
+  @Test
+  @DisplayName("Should wait for bid of asynchronous bidder")
+  void shouldWaitForBidOfAsynchronousBidder() {
+    // given
+    when(asyncBidder.placeBidAsync()).thenReturn(CompletableFuture.completedFuture(5));
+    Bidder bidder = new BlockingBidderAdapter(asyncBidder);
+
+    // when
+    bidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+    int bid = bidder.placeBid();
+    bidder.bids(5, 6);
+
+    // then
+    assertThat(bid).isEqualTo(5);
+    verify(asyncBidder).init(INITIAL_QUANTITY, INITIAL_CASH);
+    verify(asyncBidder).bids(5, 6);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, with which bid was completed")
+  void shouldThrowExceptionWithWhichBidWasCompleted() {
+    // given
+    when(asyncBidder.placeBidAsync()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("failed")));
+    Bidder bidder = new BlockingBidderAdapter(asyncBidder);
+
+    // when - then
+    assertThatThrownBy(bidder::placeBid)
+      .isExactlyInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+  }
+
+  @Test
+  @DisplayName("Should play auction like wrapped bidder, when adapters are chained")
+  void shouldPlayAuctionLikeWrappedBidderWhenAdaptersAreChained() {
+    // given
+    AuctionEngine auctionEngine = new AuctionEngine();
+    BidderFactory bidderFactory = new BidderFactory();
+    String expectedResult = auctionEngine
+      .run(bidderFactory.createSession(), new OpponentLibrary(1).random(), INITIAL_QUANTITY, INITIAL_CASH)
+      .toString();
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    // when
+    String result = auctionEngine
+      .run(new BlockingBidderAdapter(new AsyncBidderAdapter(bidderFactory.createSession(), executorService)),
+        new OpponentLibrary(1).random(), INITIAL_QUANTITY, INITIAL_CASH)
+      .toString();
+    executorService.shutdown();
+
+    // then
+    assertThat(result).isEqualTo(expectedResult);
+  }
+}
@@ -0,0 +1,96 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OptimizationResult;
+import de.optimax_energy.bidder.auction.api.dto.ParameterSpace;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import de.optimax_energy.bidder.auction.api.dto.Tournament;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import de.optimax_energy.bidder.auction.api.dto.TournamentResult;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultColumnarStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.PolicyTable;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.PolicyTableGenerator;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
+
+/**
+ * Optimizes strategy parameters per regime, writes decisions of the optimized selectors as candidate policy tables and
+ * compares the bot playing them with the default bot. A regime is kept in the policy file only if its policy scores
+ * higher than the default bot, the selector prefers a policy to its rules, so a weaker one would make the bot worse. Run
+ * with {@code gradle generatePolicyTables}, optionally with the path of the policy file as the argument.
+ */
+public class PolicyTableGeneration {
+
+  private static final int[] QUANTITIES = {10, 50, 100};
+
+  private static final int[] CASHES = {100, 1000, 10000};
+
+  private static final int NUMBER_OF_AUCTIONS = 256;
+
+  private static final long SEED = 42;
+
+  public static void main(String[] args) {
+    Path path = Path.of(args.length > 0 ? args[0] : "build/policy-tables.bin");
+    ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    TournamentRunner tournamentRunner = new TournamentRunner(forkJoinPool);
+    ParameterSpace parameterSpace = ParameterSpace.builder()
+      .withOneSigmaMultipliers(1.0, 1.1, 1.2, 1.34, 1.5, 1.75, 2.0)
+      .withMaxBidMultipliers(1, 2, 3, 4, 6)
+      .withAggressiveStrategyThresholds(0, 10, 20, 30, 50, 75)
+      .build();
+    OptimizationResult optimizationResult = new StrategyParameterOptimizer(tournamentRunner,
+      OpponentLibrary.tournamentOpponents(), NUMBER_OF_AUCTIONS, SEED)
+      .evolutionarySearch(parameterSpace, QUANTITIES, CASHES, 16, 6);
+
+    long start = System.nanoTime();
+    Path candidatePath = path.resolveSibling(path.getFileName() + ".candidate");
+    PolicyTableGenerator candidateGenerator = new PolicyTableGenerator();
+    for (int quantityIndex = 0; quantityIndex < QUANTITIES.length; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < CASHES.length; cashIndex++) {
+        candidateGenerator.withRegime(QUANTITIES[quantityIndex], CASHES[cashIndex], getPolicy(optimizationResult, quantityIndex, cashIndex));
+      }
+    }
+    candidateGenerator.write(candidatePath);
+    System.out.printf("Candidate policy tables are written to %s in %.1f s%n", candidatePath,
+      (System.nanoTime() - start) / 1_000_000_000.0);
+
+    StrategySelector policySelector = new StrategySelector(StrategyParameters.DEFAULT, PolicyTable.load(candidatePath));
+    StatisticsService statisticsService = new StatisticsService();
+    Tournament.Builder tournament = Tournament.builder()
+      .withStrategy(TournamentRunner.tradingBot("default"))
+      .withStrategy(new TournamentParticipant("policy",
+        seed -> new TradingBot(policySelector, new RoundResultColumnarStorageService(), statisticsService, "policy")))
+      .withQuantities(QUANTITIES)
+      .withCashes(CASHES)
+      .withNumberOfAuctions(NUMBER_OF_AUCTIONS)
+      .withSeed(SEED + 1);
+    OpponentLibrary.tournamentOpponents().forEach(tournament::withOpponent);
+    TournamentResult tournamentResult = tournamentRunner.run(tournament.build());
+    PolicyTableGenerator policyTableGenerator = new PolicyTableGenerator();
+    for (int quantityIndex = 0; quantityIndex < QUANTITIES.length; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < CASHES.length; cashIndex++) {
+        double defaultScore = tournamentResult.getScore(0, quantityIndex, cashIndex);
+        double policyScore = tournamentResult.getScore(1, quantityIndex, cashIndex);
+        boolean kept = policyScore > defaultScore;
+        if (kept) {
+          policyTableGenerator.withRegime(QUANTITIES[quantityIndex], CASHES[cashIndex], getPolicy(optimizationResult, quantityIndex, cashIndex));
+        }
+        System.out.printf("QU=%d MU=%d default=%.1f%% policy=%.1f%% %s%n", QUANTITIES[quantityIndex], CASHES[cashIndex],
+          100 * defaultScore, 100 * policyScore, kept ? "kept" : "left out");
+      }
+    }
+    policyTableGenerator.write(path);
+    System.out.printf("Policy tables of regimes, which beat the default bot, are written to %s%n", path);
+    forkJoinPool.shutdown();
+  }
+
+  private static ToIntFunction<AuctionState> getPolicy(OptimizationResult optimizationResult, int quantityIndex, int cashIndex) {
+    StrategyParameters strategyParameters = optimizationResult.getBestParameters(quantityIndex, cashIndex);
+    return PolicyTableGenerator.strategySelectorPolicy(new StrategySelector(strategyParameters));
+  }
+}
@@ -0,0 +1,49 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.dto.OptimizationResult;
+import de.optimax_energy.bidder.auction.api.dto.ParameterSpace;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Searches strategy parameters against the opponent library with grid and evolutionary search and prints the best
+ * parameters per regime. Run with {@code gradle optimizeStrategyParameters}, optionally with the number of auctions per
+ * cell as the argument.
+ */
+public class StrategyParameterOptimization {
+
+  private static final int[] QUANTITIES = {10, 50, 100};
+
+  private static final int[] CASHES = {100, 1000, 10000};
+
+  private static final long SEED = 42;
+
+  public static void main(String[] args) {
+    int numberOfAuctions = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+    ParameterSpace parameterSpace = ParameterSpace.builder()
+      .withOneSigmaMultipliers(1.0, 1.1, 1.2, 1.34, 1.5, 1.75, 2.0)
+      .withMaxBidMultipliers(1, 2, 3, 4, 6)
+      .withAggressiveStrategyThresholds(0, 10, 20, 30, 50, 75)
+      .withOpponentBidWindowSizes(1, 2, 3, 5)
+      .build();
+    ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    StrategyParameterOptimizer optimizer = new StrategyParameterOptimizer(new TournamentRunner(forkJoinPool),
+      OpponentLibrary.tournamentOpponents(), numberOfAuctions, SEED);
+
+    long start = System.nanoTime();
+    OptimizationResult gridResult = optimizer.gridSearch(parameterSpace, QUANTITIES, CASHES);
+    print("Grid search of " + parameterSpace.getSize() + " candidates", gridResult, start);
+
+    start = System.nanoTime();
+    OptimizationResult evolutionResult = optimizer.evolutionarySearch(parameterSpace, QUANTITIES, CASHES, 24, 8);
+    print("Evolutionary search", evolutionResult, start);
+    forkJoinPool.shutdown();
+  }
+
+  private static void print(String title, OptimizationResult optimizationResult, long start) {
+    double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    System.out.printf("%s: %d auctions in %.1f s%n%s%n%n", title, optimizationResult.getNumberOfPlayedAuctions(),
+      elapsedSeconds, optimizationResult);
+  }
+}
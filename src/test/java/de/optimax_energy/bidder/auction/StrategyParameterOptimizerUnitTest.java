@@ -0,0 +1,91 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.OptimizationResult;
+import de.optimax_energy.bidder.auction.api.dto.ParameterSpace;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StrategyParameterOptimizerUnitTest extends UnitTest {
+
+  private static final int[] QUANTITIES = {INITIAL_QUANTITY, 20};
+
+  private static final int[] CASHES = {INITIAL_CASH};
+
+  private final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+  private final List<TournamentParticipant> opponents = OpponentLibrary.tournamentOpponents();
+
+  private final ParameterSpace parameterSpace = ParameterSpace.builder()
+    .withOneSigmaMultipliers(1.0, 1.34, 2.0)
+    .withAggressiveStrategyThresholds(0, 20, 100)
+    .withOpponentBidWindowSizes(1, 2)
+    .build();
+
+  private final StrategyParameterOptimizer optimizer =
+    new StrategyParameterOptimizer(new TournamentRunner(forkJoinPool), opponents, 64, 42);
+
+  @AfterEach
+  void tearDown() {
+    forkJoinPool.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should find parameters not worse than default ones in every regime")
+  void shouldFindParametersNotWorseThanDefault() {
+    // when
+    OptimizationResult optimizationResult = optimizer.gridSearch(parameterSpace, QUANTITIES, CASHES);
+
+    // then
+    assertThat(optimizationResult.getNumberOfPlayedAuctions()).isEqualTo(18L * opponents.size() * 2 * 64);
+    for (int quantityIndex = 0; quantityIndex < QUANTITIES.length; quantityIndex++) {
+      assertThat(optimizationResult.getBestScore(quantityIndex, 0))
+        .isGreaterThanOrEqualTo(optimizationResult.getDefaultScore(quantityIndex, 0))
+        .isBetween(0.0, 1.0);
+      assertThat(parameterSpace.getGrid()).contains(optimizationResult.getBestParameters(quantityIndex, 0));
+    }
+  }
+
+  @Test
+  @DisplayName("Should return default parameters, when space contains only them")
+  void shouldReturnDefaultParametersWhenSpaceContainsOnlyThem() {
+    // when
+    OptimizationResult optimizationResult = optimizer.gridSearch(ParameterSpace.builder().build(), QUANTITIES, CASHES);
+
+    // then
+    assertThat(optimizationResult.getBestParameters(1, 0)).isEqualTo(StrategyParameters.DEFAULT);
+    assertThat(optimizationResult.getBestScore(1, 0)).isEqualTo(optimizationResult.getDefaultScore(1, 0));
+  }
+
+  @Test
+  @DisplayName("Should reproduce evolutionary search with same seed")
+  void shouldReproduceEvolutionarySearch() {
+    // when
+    OptimizationResult optimizationResult = optimizer.evolutionarySearch(parameterSpace, QUANTITIES, CASHES, 6, 3);
+    OptimizationResult sameSeedResult = optimizer.evolutionarySearch(parameterSpace, QUANTITIES, CASHES, 6, 3);
+
+    // then
+    assertThat(optimizationResult.toString()).isEqualTo(sameSeedResult.toString());
+    assertThat(optimizationResult.getNumberOfPlayedAuctions()).isPositive();
+    assertThat(parameterSpace.getGrid()).contains(optimizationResult.getBestParameters(0, 0));
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when population is too small")
+  void shouldThrowExceptionWhenPopulationIsTooSmall() {
+    // when - then
+    assertThatThrownBy(() -> optimizer.evolutionarySearch(parameterSpace, QUANTITIES, CASHES, 1, 3))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Population size should be at least 2");
+  }
+}
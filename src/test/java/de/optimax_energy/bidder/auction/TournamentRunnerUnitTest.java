@@ -0,0 +1,261 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.InvalidBidException;
+import de.optimax_energy.bidder.auction.api.dto.Tournament;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import de.optimax_energy.bidder.auction.api.dto.TournamentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TournamentRunnerUnitTest extends UnitTest {
+
+  private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+  private final TournamentRunner tournamentRunner = new TournamentRunner(forkJoinPool);
+
+  @AfterEach
+  void tearDown() {
+    forkJoinPool.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should count wins, draws and losses per cell")
+  void shouldCountWinsDrawsAndLossesPerCell() {
+    // given
+    Tournament tournament = Tournament.builder()
+      .withStrategy(givenConstantBidder("two", 2))
+      .withOpponent(givenConstantBidder("one", 1))
+      .withOpponent(givenConstantBidder("two", 2))
+      .withOpponent(givenConstantBidder("three", 3))
+      .withQuantities(INITIAL_QUANTITY)
+      .withCashes(INITIAL_CASH)
+      .withNumberOfAuctions(300)
+      .build();
+
+    // when
+    TournamentResult tournamentResult = tournamentRunner.run(tournament);
+
+    // then
+    assertThat(tournamentResult.getWins(0, 0, 0, 0)).isEqualTo(300);
+    assertThat(tournamentResult.getDraws(0, 1, 0, 0)).isEqualTo(300);
+    assertThat(tournamentResult.getLosses(0, 2, 0, 0)).isEqualTo(300);
+    assertThat(tournamentResult.getWinRate(0, 0)).isEqualTo(1.0);
+    assertThat(tournamentResult.getWinRate(0, 2)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should return same results regardless of parallelism")
+  void shouldReturnSameResultsRegardlessOfParallelism() {
+    // given
+    Tournament tournament = Tournament.builder()
+      .withStrategy(TournamentRunner.tradingBot("tradingBot"))
+      .withOpponent(givenRandomBidder())
+      .withQuantities(10, 50)
+      .withCashes(100, 1000)
+      .withNumberOfAuctions(600)
+      .withSeed(42)
+      .build();
+    ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+
+    // when
+    TournamentResult parallelResult = tournamentRunner.run(tournament);
+    TournamentResult sequentialResult = new TournamentRunner(singleThreadPool).run(tournament);
+    singleThreadPool.shutdown();
+
+    // then
+    for (int quantityIndex = 0; quantityIndex < 2; quantityIndex++) {
+      for (int cashIndex = 0; cashIndex < 2; cashIndex++) {
+        assertThat(parallelResult.getWins(0, 0, quantityIndex, cashIndex))
+          .isEqualTo(sequentialResult.getWins(0, 0, quantityIndex, cashIndex));
+        assertThat(parallelResult.getDraws(0, 0, quantityIndex, cashIndex))
+          .isEqualTo(sequentialResult.getDraws(0, 0, quantityIndex, cashIndex));
+        assertThat(parallelResult.getWins(0, 0, quantityIndex, cashIndex) + parallelResult.getDraws(0, 0, quantityIndex, cashIndex)
+          + parallelResult.getLosses(0, 0, quantityIndex, cashIndex)).isEqualTo(600);
+      }
+    }
+    assertThat(parallelResult.getWinRate(0, 0)).isGreaterThan(0.5);
+  }
+
+  @Test
+  @DisplayName("Should seed opponents of cells independently and alike for all strategies of a cell")
+  void shouldSeedOpponentsOfCellsIndependentlyAndAlikeForAllStrategiesOfCell() {
+    // given
+    Set<String> opponentSeeds = ConcurrentHashMap.newKeySet();
+    TournamentParticipant recordingOpponent = new TournamentParticipant("recording", seed -> new TestBidder() {
+      @Override
+      public void init(int quantity, int cash) {
+        super.init(quantity, cash);
+        opponentSeeds.add(quantity + " " + cash + " " + seed);
+      }
+
+      @Override
+      public int placeBid() {
+        return 1;
+      }
+    });
+    Tournament tournament = Tournament.builder()
+      .withStrategy(givenConstantBidder("one", 1))
+      .withStrategy(givenConstantBidder("two", 2))
+      .withOpponent(recordingOpponent)
+      .withQuantities(10, 20)
+      .withCashes(100, 1000)
+      .withNumberOfAuctions(10)
+      .withSeed(42)
+      .build();
+
+    // when
+    tournamentRunner.run(tournament);
+
+    // then
+    assertThat(opponentSeeds).hasSize(4);
+    assertThat(opponentSeeds.stream().map(cellSeed -> cellSeed.split(" ")[2]).distinct()).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("Should finish auction of sessions after every auction")
+  void shouldFinishAuctionOfSessionsAfterEveryAuction() {
+    // given
+    AuctionSession session = mock(AuctionSession.class);
+    when(session.placeBid()).thenReturn(2);
+    Tournament tournament = Tournament.builder()
+      .withStrategy(new TournamentParticipant("session", seed -> session))
+      .withOpponent(givenConstantBidder("one", 1))
+      .withQuantities(INITIAL_QUANTITY)
+      .withCashes(INITIAL_CASH)
+      .withNumberOfAuctions(100)
+      .build();
+
+    // when
+    TournamentResult tournamentResult = tournamentRunner.run(tournament);
+
+    // then
+    assertThat(tournamentResult.getWins(0, 0, 0, 0)).isEqualTo(100);
+    verify(session, times(100)).finishAuction();
+    verify(session).close();
+  }
+
+  @Test
+  @DisplayName("Should create trading bots with distinct uuids")
+  void shouldCreateTradingBotsWithDistinctUuids() {
+    // given
+    TournamentParticipant participant = TournamentRunner.tradingBot("tradingBot");
+
+    // when
+    AuctionSession firstBot = (AuctionSession) participant.createBidder(1);
+    AuctionSession secondBot = (AuctionSession) participant.createBidder(1);
+
+    // then
+    assertThat(firstBot.getUuid()).isNotEqualTo(secondBot.getUuid()).isNotEqualTo("tradingBot");
+  }
+
+  @Test
+  @DisplayName("Should format win rate table")
+  void shouldFormatWinRateTable() {
+    // given
+    Tournament tournament = Tournament.builder()
+      .withStrategy(givenConstantBidder("two", 2))
+      .withOpponent(givenConstantBidder("one", 1))
+      .withQuantities(2, 10)
+      .withCashes(100, 1000)
+      .build();
+
+    // when
+    TournamentResult tournamentResult = tournamentRunner.run(tournament);
+
+    // then
+    assertThat(tournamentResult.formatWinRateTable(0, 0)).isEqualTo(String.join(System.lineSeparator(),
+      "two vs one",
+      "   QU \\ MU       100      1000",
+      "         2    100.0%    100.0%",
+      "        10    100.0%    100.0%"));
+  }
+
+  @Test
+  @DisplayName("Should rethrow exception of failed auction")
+  void shouldRethrowExceptionOfFailedAuction() {
+    // given
+    Tournament tournament = Tournament.builder()
+      .withStrategy(givenConstantBidder("tooHigh", INITIAL_CASH + 1))
+      .withOpponent(givenConstantBidder("one", 1))
+      .withQuantities(INITIAL_QUANTITY)
+      .withCashes(INITIAL_CASH)
+      .build();
+
+    // when - then
+    assertThatThrownBy(() -> tournamentRunner.run(tournament))
+      .isExactlyInstanceOf(InvalidBidException.class);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when tournament has no opponents")
+  void shouldThrowExceptionWhenTournamentHasNoOpponents() {
+    // when - then
+    assertThatThrownBy(() -> Tournament.builder()
+      .withStrategy(givenConstantBidder("one", 1))
+      .withQuantities(INITIAL_QUANTITY)
+      .withCashes(INITIAL_CASH)
+      .build())
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Tournament should have strategies, opponents, quantities and cashes");
+  }
+
+  private TournamentParticipant givenConstantBidder(String name, int bid) {
+    return new TournamentParticipant(name, seed -> new TestBidder() {
+      @Override
+      public int placeBid() {
+        return bid;
+      }
+    });
+  }
+
+  private TournamentParticipant givenRandomBidder() {
+    return new TournamentParticipant("random", seed -> new TestBidder() {
+
+      private final SplittableRandom random = new SplittableRandom(seed);
+
+      @Override
+      public int placeBid() {
+        int halfOfBids = quantity / 2;
+        int bid = random.nextInt((int) (1.5 * cash / halfOfBids));
+        return Math.min(remainingCash, bid);
+      }
+    });
+  }
+
+  private abstract static class TestBidder implements Bidder {
+
+    protected int quantity;
+
+    protected int cash;
+
+    protected int remainingCash;
+
+    @Override
+    public void init(int quantity, int cash) {
+      this.quantity = quantity;
+      this.cash = cash;
+      this.remainingCash = cash;
+    }
+
+    @Override
+    public void bids(int own, int other) {
+      remainingCash -= own;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.auction.api.dto.Tournament;
+import de.optimax_energy.bidder.auction.api.dto.TournamentResult;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures auctions per second of {@link TournamentRunner} with 1..N workers, trading bot plays against itself.
+ * Run with {@code gradle tournamentScalingBenchmark}.
+ */
+public class TournamentScalingBenchmark {
+
+  private static final int NUMBER_OF_AUCTIONS = 20_000;
+
+  private static final int NUMBER_OF_ITERATIONS = 5;
+
+  public static void main(String[] args) {
+    int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+    Tournament tournament = Tournament.builder()
+      .withStrategy(TournamentRunner.tradingBot("tradingBot"))
+      .withOpponent(TournamentRunner.tradingBot("opponent"))
+      .withQuantities(10, 50, 100)
+      .withCashes(100, 1000, 10000)
+      .withNumberOfAuctions(NUMBER_OF_AUCTIONS)
+      .build();
+
+    double singleThreadThroughput = 0;
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      double throughput = measure(tournament, threads);
+      if (threads == 1) {
+        singleThreadThroughput = throughput;
+      }
+      System.out.printf("threads=%d auctions/s=%.0f scaling=%.2f%n", threads, throughput, throughput / singleThreadThroughput);
+    }
+  }
+
+  private static double measure(Tournament tournament, int threads) {
+    ForkJoinPool forkJoinPool = new ForkJoinPool(threads);
+    TournamentRunner tournamentRunner = new TournamentRunner(forkJoinPool);
+    double bestThroughput = 0;
+    for (int iteration = 0; iteration < NUMBER_OF_ITERATIONS; iteration++) {
+      long start = System.nanoTime();
+      TournamentResult tournamentResult = tournamentRunner.run(tournament);
+      long elapsedNanos = System.nanoTime() - start;
+      if (tournamentResult.getWinRate(0, 0) < 0) {
+        throw new IllegalStateException("Unexpected win rate");
+      }
+      long auctions = (long) tournament.getNumberOfCells() * tournament.getNumberOfAuctions();
+      bestThroughput = Math.max(bestThroughput, auctions * 1_000_000_000.0 / elapsedNanos);
+    }
+    forkJoinPool.shutdown();
+    return bestThroughput;
+  }
+}
@@ -0,0 +1,192 @@
+package de.optimax_energy.bidder.auction;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.DecisionTracer;
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentBidder;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Allocation of the bidding path depends on what the JIT compiled before, so the class is run in a JVM of its own by
+ * the {@code allocationTest} task, not by {@code test}.
+ */
+class TradingBotAllocationUnitTest extends UnitTest {
+
+  private static final int WARM_UP_ITERATIONS = 50_000;
+
+  private static final int MEASURED_ITERATIONS = 10_000;
+
+  private static final int MEASUREMENT_ATTEMPTS = 5;
+
+  private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final RecordingDecisionTracer decisionTracer = new RecordingDecisionTracer();
+
+  private TradingBot tradingBot;
+
+  @BeforeEach
+  void setUp() {
+    assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+    tradingBot = new TradingBot(new StrategySelector(), new RoundResultInMemoryStorageService(), new StatisticsService(),
+      decisionTracer, "allocation");
+  }
+
+  @AfterEach
+  void tearDown() {
+    tradingBot.close();
+  }
+
+  @ParameterizedTest(name = "Should not allocate on placeBid, {0}")
+  @CsvSource({
+    "maximum bid, 2, 100, '', '', MAXIMUM_BID, UNKNOWN",
+    "minimum bid, 20, 100, '', '', MINIMUM_BID, UNKNOWN",
+    "zero bid, 10, 100, '10 10 10', '0 0 0', ZERO_BID, CONSTANT",
+    "aggressive bid, 20, 100, '0 0', '10 10', AGGRESSIVE, UNKNOWN",
+    "default bid, 100, 1000, '10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10 10', '4 7 4 7 4 7 4 7 4 7 4 7 4 7 4 7 4 7 4 7 4 7', DEFAULT, UNKNOWN",
+    "end game bid, 8, 100, '3 3', '40 40', END_GAME, UNKNOWN",
+    "counter constant bid, 100, 1000, '10 10 10 10', '5 5 5 5', COUNTER_CONSTANT, CONSTANT",
+    "counter random uniform bid, 100, 1000, '10 10 10 10 10 10', '0 30 5 25 40 3', COUNTER_RANDOM_UNIFORM, RANDOM_UNIFORM",
+    "counter trend following bid, 100, 1000, '10 12 14 16 18', '8 11 13 15 17', COUNTER_TREND_FOLLOWING, TREND_FOLLOWING",
+    "counter aggressive bid, 100, 1000, '10 10 10 10', '40 45 42 48', COUNTER_AGGRESSIVE, AGGRESSIVE",
+    "counter budget pacing bid, 100, 1000, '10 10 10 10 10', '20 21 19 20 21', COUNTER_BUDGET_PACING, BUDGET_PACING"
+  })
+  void shouldNotAllocateOnPlaceBid(String scenario, int quantity, int cash, String myBids, String opponentBids,
+                                   StrategyName expectedStrategyName, OpponentClass expectedOpponentClass) {
+    // given
+    tradingBot.init(quantity, cash);
+    int[] givenMyBids = parseBids(myBids);
+    int[] givenOpponentBids = parseBids(opponentBids);
+    for (int round = 0; round < givenMyBids.length; round++) {
+      tradingBot.bids(givenMyBids[round], givenOpponentBids[round]);
+    }
+    int bid = 0;
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      bid += tradingBot.placeBid();
+    }
+
+    // when
+    // one-off allocations of the JVM itself, e.g. on recompilation, are not regressions, so the best attempt counts
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int attempt = 0; attempt < MEASUREMENT_ATTEMPTS && allocatedBytes > 0; attempt++) {
+      long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+        bid += tradingBot.placeBid();
+      }
+      allocatedBytes = Math.min(allocatedBytes, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore);
+    }
+
+    // then
+    assertThat(bid).isNotNegative();
+    assertThat(allocatedBytes).isZero();
+    tradingBot.bids(0, 0);
+    assertThat(decisionTracer.strategyName).isEqualTo(expectedStrategyName);
+    assertThat(decisionTracer.opponentClass).isEqualTo(expectedOpponentClass);
+  }
+
+  @Test
+  @DisplayName("Should not allocate on a full round")
+  void shouldNotAllocateOnFullRound() {
+    // given
+    TradingBot givenTradingBot = new TradingBot(new StrategySelector(), new DiscardingRoundResultStorageService(),
+      new StatisticsService(), "full-round");
+    OpponentBidder opponent = new OpponentLibrary(1).budgetPacer(0.2);
+    int rounds = WARM_UP_ITERATIONS + MEASUREMENT_ATTEMPTS * MEASURED_ITERATIONS;
+    int quantity = 4 * rounds;
+    int cash = 100 * rounds;
+    givenTradingBot.init(quantity, cash);
+    opponent.init(quantity, cash);
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      playRound(givenTradingBot, opponent);
+    }
+
+    // when
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int attempt = 0; attempt < MEASUREMENT_ATTEMPTS && allocatedBytes > 0; attempt++) {
+      long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+        playRound(givenTradingBot, opponent);
+      }
+      allocatedBytes = Math.min(allocatedBytes, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore);
+    }
+
+    // then
+    assertThat(givenTradingBot.getRemainingCash()).isPositive();
+    assertThat(allocatedBytes).isZero();
+  }
+
+  private void playRound(TradingBot givenTradingBot, OpponentBidder opponent) {
+    int myBid = givenTradingBot.placeBid();
+    int opponentBid = opponent.placeBid();
+    givenTradingBot.bids(myBid, opponentBid);
+    opponent.bids(opponentBid, myBid);
+  }
+
+  private int[] parseBids(String bids) {
+    return bids.isEmpty() ? new int[0] : Arrays.stream(bids.split(" ")).mapToInt(Integer::parseInt).toArray();
+  }
+
+  /**
+   * Keeps the strategy and the opponent's class of the last recorded round, the class is read before the round updates
+   * the opponent's profile.
+   */
+  private static final class RecordingDecisionTracer implements DecisionTracer {
+
+    private StrategyName strategyName;
+
+    private OpponentClass opponentClass;
+
+    @Override
+    public void record(String bidderUuid, StrategyName strategyName, AuctionState auctionState, int myBid, int opponentBid) {
+      this.strategyName = strategyName;
+      this.opponentClass = auctionState.getOpponentClass();
+    }
+
+    @Override
+    public void dump(String reason) {
+    }
+  }
+
+  private static final class DiscardingRoundResultStorageService implements RoundResultStorageOperations {
+
+    @Override
+    public void addRoundResultForBidder(String bidderUuid, RoundResult roundResult) {
+    }
+
+    @Override
+    public void addRoundResultForBidder(String bidderUuid, int myBid, int myWonQuantity, int opponentBid,
+                                        int opponentRemainingCash, int opponentWonQuantity) {
+    }
+
+    @Override
+    public List<RoundResult> getRoundResultsForBidder(String bidderUuid) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public void removeRoundResultsForBidder(String bidderUuid) {
+    }
+  }
+}
@@ -2,29 +2,34 @@ package de.optimax_energy.bidder.auction;
 
 import de.optimax_energy.bidder.UnitTest;
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.DecisionTracer;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
 import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 import de.optimax_energy.bidder.auction.api.dto.StrategyNotFoundException;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
 import de.optimax_energy.bidder.auction.infrastructure.storage.RoundResultInMemoryStorageService;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StatisticsService;
+import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategyBandit;
 import de.optimax_energy.bidder.auction.infrastructure.strategy.StrategySelector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -36,6 +41,8 @@ class TradingBotUnitTest extends UnitTest {
 
   private static final int INITIAL_QUANTITY = 10;
 
+  private static final String BIDDER_UUID = "0";
+
   @Mock
   private StatisticsService statisticsService;
 
@@ -45,35 +52,36 @@ class TradingBotUnitTest extends UnitTest {
   @Mock
   private RoundResultInMemoryStorageService auctionResultInMemoryStorageService;
 
-  @InjectMocks
-  private TradingBot tradingBot;
+  @Mock
+  private DecisionTracer decisionTracer;
 
-  @Captor
-  private ArgumentCaptor<RoundResult> roundResultArgumentCaptor;
+  private TradingBot tradingBot;
 
   @BeforeEach
   void setUp() {
+    when(statisticsService.createRoundStatistics()).thenReturn(new RoundStatistics());
+    tradingBot = new TradingBot(strategySelector, auctionResultInMemoryStorageService, statisticsService, decisionTracer, BIDDER_UUID);
     tradingBot.init(INITIAL_QUANTITY, INITIAL_CASH);
+    verify(statisticsService).createRoundStatistics();
+    verify(auctionResultInMemoryStorageService).initAuctionForBidder(BIDDER_UUID, INITIAL_QUANTITY, INITIAL_CASH);
   }
 
   @Test
   @DisplayName("Should place bid")
   void shouldPlaceBid() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
-    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(anyString())).thenReturn(roundResults);
     BiddingStrategy givenStrategy = mock(BiddingStrategy.class);
-    when(givenStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH)).thenReturn(0);
-    when(strategySelector.select(refEq(roundResults), anyInt(), anyInt())).thenReturn(Optional.of(givenStrategy));
+    when(givenStrategy.placeBid(any(AuctionState.class))).thenReturn(0);
+    when(strategySelector.select(any(AuctionState.class), isNull())).thenReturn(Optional.of(givenStrategy));
 
     // when
     int bid = tradingBot.placeBid();
 
     // then
     assertThat(bid).isZero();
-    verify(auctionResultInMemoryStorageService).getRoundResultsForBidder(anyString());
-    verify(strategySelector).select(refEq(roundResults), anyInt(), anyInt());
-    verify(givenStrategy).placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    verify(statisticsService).updateAuctionState(any(AuctionState.class), any(RoundStatistics.class), eq(INITIAL_QUANTITY), eq(INITIAL_CASH));
+    verify(strategySelector).select(any(AuctionState.class), isNull());
+    verify(givenStrategy).placeBid(any(AuctionState.class));
     verifyNoMoreInteractions(statisticsService, auctionResultInMemoryStorageService, statisticsService);
   }
 
@@ -81,38 +89,55 @@ class TradingBotUnitTest extends UnitTest {
   @DisplayName("Should return remaining cash, when bid is higher")
   void shouldReturnRemainingCashIfBidIsHigher() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
-    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(anyString())).thenReturn(roundResults);
     BiddingStrategy givenStrategy = mock(BiddingStrategy.class);
-    when(givenStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH)).thenReturn(0);
-    when(strategySelector.select(refEq(roundResults), anyInt(), anyInt())).thenReturn(Optional.of(givenStrategy));
+    when(givenStrategy.placeBid(any(AuctionState.class))).thenReturn(0);
+    when(strategySelector.select(any(AuctionState.class), isNull())).thenReturn(Optional.of(givenStrategy));
 
     // when
     int bid = tradingBot.placeBid();
 
     // then
     assertThat(bid).isZero();
-    verify(auctionResultInMemoryStorageService).getRoundResultsForBidder(anyString());
-    verify(strategySelector).select(refEq(roundResults), anyInt(), anyInt());
-    verify(givenStrategy).placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    verify(statisticsService).updateAuctionState(any(AuctionState.class), any(RoundStatistics.class), eq(INITIAL_QUANTITY), eq(INITIAL_CASH));
+    verify(strategySelector).select(any(AuctionState.class), isNull());
+    verify(givenStrategy).placeBid(any(AuctionState.class));
     verifyNoMoreInteractions(statisticsService, auctionResultInMemoryStorageService, statisticsService);
   }
 
+  @Test
+  @DisplayName("Should place bid of strategy asynchronously and limit it by remaining cash")
+  void shouldPlaceBidOfStrategyAsynchronouslyAndLimitItByRemainingCash() {
+    // given
+    BiddingStrategy givenStrategy = mock(BiddingStrategy.class);
+    CompletableFuture<Integer> strategyBid = new CompletableFuture<>();
+    when(givenStrategy.placeBidAsync(any(AuctionState.class))).thenReturn(strategyBid);
+    when(strategySelector.select(any(AuctionState.class), isNull())).thenReturn(Optional.of(givenStrategy));
+
+    // when
+    CompletableFuture<Integer> bid = tradingBot.placeBidAsync();
+    boolean completedBeforeStrategy = bid.isDone();
+    strategyBid.complete(INITIAL_CASH + 1);
+
+    // then
+    assertThat(completedBeforeStrategy).isFalse();
+    assertThat(bid.join()).isEqualTo(INITIAL_CASH);
+    verify(givenStrategy).placeBidAsync(any(AuctionState.class));
+  }
+
   @Test
   @DisplayName("Should throw exception when strategy is not found")
   void shouldThrowExceptionWhenStrategyIsNotFound() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
-    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(anyString())).thenReturn(roundResults);
-    when(strategySelector.select(refEq(roundResults), anyInt(), anyInt())).thenReturn(Optional.empty());
+    when(strategySelector.select(any(AuctionState.class), isNull())).thenReturn(Optional.empty());
 
     // when - then
     assertThatThrownBy(() -> tradingBot.placeBid())
       .isExactlyInstanceOf(StrategyNotFoundException.class)
       .hasMessage("Could not select strategy");
 
-    verify(auctionResultInMemoryStorageService).getRoundResultsForBidder(anyString());
-    verify(strategySelector).select(refEq(roundResults), anyInt(), anyInt());
+    verify(decisionTracer).dump("Could not select strategy for bidder " + BIDDER_UUID);
+    verify(statisticsService).updateAuctionState(any(AuctionState.class), any(RoundStatistics.class), eq(INITIAL_QUANTITY), eq(INITIAL_CASH));
+    verify(strategySelector).select(any(AuctionState.class), isNull());
     verifyNoMoreInteractions(statisticsService, auctionResultInMemoryStorageService, statisticsService);
   }
 
@@ -127,31 +152,120 @@ class TradingBotUnitTest extends UnitTest {
                              int expectedOpponentRemainingCash,
                              int expectedOpponentWonQuantity) {
     // given
-    List<RoundResult> givenRoundResults = givenRoundResults();
-    RoundResult expectedRoundResult = RoundResult.builder()
-      .withMyBid(myBid)
-      .withMyWonQuantity(expectedMyWonQuantity)
-      .withOpponentBid(opponentBid)
-      .withOpponentRemainingCash(expectedOpponentRemainingCash)
-      .withOpponentWonQuantity(expectedOpponentWonQuantity)
-      .build();
-    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(anyString())).thenReturn(givenRoundResults);
-    when(statisticsService.calculateOpponentRemainingCash(givenRoundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
+    when(statisticsService.calculateOpponentRemainingCash(any(RoundStatistics.class), eq(INITIAL_CASH))).thenReturn(INITIAL_CASH);
 
     // when
     tradingBot.bids(myBid, opponentBid);
 
     // then
-    verify(auctionResultInMemoryStorageService).addRoundResultForBidder(anyString(), roundResultArgumentCaptor.capture());
-    RoundResult roundResult = roundResultArgumentCaptor.getValue();
-    assertThat(roundResult).usingRecursiveComparison().isEqualTo(expectedRoundResult);
+    verify(auctionResultInMemoryStorageService).addRoundResultForBidder(BIDDER_UUID, myBid, expectedMyWonQuantity, opponentBid,
+      expectedOpponentRemainingCash, expectedOpponentWonQuantity);
     assertThat(tradingBot.getRemainingCash()).isEqualTo(myExpectedRemainingCash);
-    verify(auctionResultInMemoryStorageService).getRoundResultsForBidder(anyString());
-    verify(statisticsService).calculateOpponentRemainingCash(givenRoundResults, INITIAL_CASH);
-    verifyNoMoreInteractions(statisticsService, auctionResultInMemoryStorageService, statisticsService);
+    verify(statisticsService).calculateOpponentRemainingCash(any(RoundStatistics.class), eq(INITIAL_CASH));
+    verify(decisionTracer).record(eq(BIDDER_UUID), isNull(), any(AuctionState.class), eq(myBid), eq(opponentBid));
+    verifyNoMoreInteractions(statisticsService, auctionResultInMemoryStorageService, decisionTracer);
+  }
+
+  @Test
+  @DisplayName("Should trace strategy, which placed the bid")
+  void shouldTraceStrategyWhichPlacedBid() {
+    // given
+    BiddingStrategy givenStrategy = mock(BiddingStrategy.class);
+    when(givenStrategy.placeBid(any(AuctionState.class))).thenReturn(5);
+    when(givenStrategy.getStrategyName()).thenReturn(StrategyName.AGGRESSIVE);
+    when(strategySelector.select(any(AuctionState.class), isNull())).thenReturn(Optional.of(givenStrategy));
+
+    // when
+    int bid = tradingBot.placeBid();
+    tradingBot.bids(bid, 3);
+
+    // then
+    verify(decisionTracer).record(eq(BIDDER_UUID), eq(StrategyName.AGGRESSIVE), any(AuctionState.class), eq(5), eq(3));
+  }
+
+  @Test
+  @DisplayName("Should restore state of auction from stored round results")
+  void shouldRestoreStateFromStoredRoundResults() {
+    // given
+    List<RoundResult> givenRoundResults = List.of(
+      RoundResult.builder().withMyBid(10).withMyWonQuantity(2).withOpponentBid(5).withOpponentRemainingCash(95).build(),
+      RoundResult.builder().withMyBid(7).withOpponentBid(9).withOpponentRemainingCash(86).withOpponentWonQuantity(2).build());
+    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(BIDDER_UUID)).thenReturn(givenRoundResults);
+    when(statisticsService.calculateOpponentRemainingCash(any(RoundStatistics.class), eq(INITIAL_CASH))).thenReturn(86);
+
+    // when
+    tradingBot.restore();
+
+    // then
+    assertThat(tradingBot.getQuantity()).isEqualTo(2);
+    assertThat(tradingBot.getRemainingCash()).isEqualTo(INITIAL_CASH - 17);
+    tradingBot.bids(1, 6);
+    verify(auctionResultInMemoryStorageService).addRoundResultForBidder(BIDDER_UUID, 1, 0, 6, 80, 2);
+  }
+
+  @Test
+  @DisplayName("Should restore initial quantity and cash of auction from storage")
+  void shouldRestoreInitialQuantityAndCashOfAuctionFromStorage() {
+    // given
+    TradingBot restartedTradingBot = new TradingBot(strategySelector, auctionResultInMemoryStorageService, statisticsService,
+      decisionTracer, BIDDER_UUID);
+    when(auctionResultInMemoryStorageService.getInitialAuctionStateForBidder(BIDDER_UUID))
+      .thenReturn(Optional.of(new InitialAuctionState(2 * INITIAL_QUANTITY, 2 * INITIAL_CASH)));
+    when(auctionResultInMemoryStorageService.getRoundResultsForBidder(BIDDER_UUID)).thenReturn(List.of(
+      RoundResult.builder().withMyBid(10).withMyWonQuantity(2).withOpponentBid(5).withOpponentRemainingCash(195).build()));
+
+    // when
+    restartedTradingBot.restore();
+
+    // then
+    assertThat(restartedTradingBot.getInitialQuantity()).isEqualTo(2 * INITIAL_QUANTITY);
+    assertThat(restartedTradingBot.getInitialCash()).isEqualTo(2 * INITIAL_CASH);
+    assertThat(restartedTradingBot.getQuantity()).isEqualTo(2);
+    assertThat(restartedTradingBot.getRemainingCash()).isEqualTo(2 * INITIAL_CASH - 10);
+  }
+
+  @Test
+  @DisplayName("Should remove round results, when auction is finished")
+  void shouldRemoveRoundResultsWhenAuctionIsFinished() {
+    // when
+    tradingBot.finishAuction();
+
+    // then
+    verify(auctionResultInMemoryStorageService).removeRoundResultsForBidder(BIDDER_UUID);
+    verifyNoMoreInteractions(auctionResultInMemoryStorageService);
+  }
+
+  @Test
+  @DisplayName("Should reward decisions of bandit once, when the last round is played")
+  void shouldRewardDecisionsOfBanditOnceWhenLastRoundIsPlayed() {
+    // given
+    StrategyBandit strategyBandit = new StrategyBandit();
+    TradingBot givenBot = new TradingBot(new StrategySelector(StrategyParameters.DEFAULT, null, null, strategyBandit),
+      new RoundResultInMemoryStorageService(), new StatisticsService());
+    givenBot.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    for (int round = 0; round < INITIAL_QUANTITY / 2 - 1; round++) {
+      givenBot.bids(givenBot.placeBid(), 5);
+    }
+    long playsBeforeLastRound = countPlays(strategyBandit);
+    givenBot.bids(givenBot.placeBid(), 5);
+    long playsAfterAuction = countPlays(strategyBandit);
+    givenBot.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // then
+    assertThat(playsBeforeLastRound).isZero();
+    assertThat(playsAfterAuction).isPositive();
+    assertThat(countPlays(strategyBandit)).isEqualTo(playsAfterAuction);
   }
 
-  private List<RoundResult> givenRoundResults() {
-    return List.of(RoundResult.builder().build());
+  private long countPlays(StrategyBandit strategyBandit) {
+    long plays = 0;
+    for (int context = 0; context < StrategyBandit.NUMBER_OF_CONTEXTS; context++) {
+      for (StrategyName arm : strategyBandit.getArms()) {
+        plays += strategyBandit.getPlays(context, arm);
+      }
+    }
+    return plays;
   }
 }
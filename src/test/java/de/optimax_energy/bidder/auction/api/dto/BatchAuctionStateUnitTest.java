@@ -0,0 +1,63 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchAuctionStateUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should keep account of every auction at its index")
+  void shouldKeepAccountOfEveryAuctionAtItsIndex() {
+    // given
+    BatchAuctionState batchAuctionState = new BatchAuctionState(3);
+    for (int auction = 0; auction < 3; auction++) {
+      batchAuctionState.init(auction, INITIAL_QUANTITY, INITIAL_CASH);
+    }
+
+    // when
+    batchAuctionState.bids(0, 5, 3);
+    batchAuctionState.bids(0, 2, 4);
+    batchAuctionState.bids(1, 7, 7);
+
+    // then
+    assertThat(batchAuctionState.getNumbersOfRounds()).containsExactly(2, 1, 0);
+    assertThat(batchAuctionState.getMyQuantities()).containsExactly(2, 1, 0);
+    assertThat(batchAuctionState.getOpponentQuantities()).containsExactly(2, 1, 0);
+    assertThat(batchAuctionState.getMyRemainingCashes()).containsExactly(INITIAL_CASH - 7, INITIAL_CASH - 7, INITIAL_CASH);
+    assertThat(batchAuctionState.getOpponentRemainingCashes()).containsExactly(INITIAL_CASH - 7, INITIAL_CASH - 7, INITIAL_CASH);
+    assertThat(batchAuctionState.getLastOpponentBids()).containsExactly(4, 7, 0);
+    assertThat(batchAuctionState.getPreviousOpponentBids()).containsExactly(3, 0, 0);
+  }
+
+  @Test
+  @DisplayName("Should reset auction, when it's initialized again")
+  void shouldResetAuctionWhenItIsInitializedAgain() {
+    // given
+    BatchAuctionState batchAuctionState = new BatchAuctionState(1);
+    batchAuctionState.init(0, INITIAL_QUANTITY, INITIAL_CASH);
+    batchAuctionState.bids(0, 5, 3);
+
+    // when
+    batchAuctionState.init(0, 2 * INITIAL_QUANTITY, 2 * INITIAL_CASH);
+
+    // then
+    assertThat(batchAuctionState.getInitialQuantities()).containsExactly(2 * INITIAL_QUANTITY);
+    assertThat(batchAuctionState.getNumbersOfRounds()).containsExactly(0);
+    assertThat(batchAuctionState.getMyQuantities()).containsExactly(0);
+    assertThat(batchAuctionState.getMyRemainingCashes()).containsExactly(2 * INITIAL_CASH);
+    assertThat(batchAuctionState.getLastOpponentBids()).containsExactly(0);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when size is not positive")
+  void shouldThrowExceptionWhenSizeIsNotPositive() {
+    // when - then
+    assertThatThrownBy(() -> new BatchAuctionState(0))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Size should be positive");
+  }
+}
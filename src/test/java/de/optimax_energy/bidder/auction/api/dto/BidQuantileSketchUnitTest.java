@@ -0,0 +1,99 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidQuantileSketchUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should return exact quantiles of small bids")
+  void shouldReturnExactQuantilesOfSmallBids() {
+    // given
+    BidQuantileSketch bidQuantileSketch = new BidQuantileSketch();
+
+    // when
+    for (int bid = 1; bid <= 20; bid++) {
+      bidQuantileSketch.add(bid);
+    }
+
+    // then
+    assertThat(bidQuantileSketch.getCount()).isEqualTo(20);
+    assertThat(bidQuantileSketch.getQuantile(0.5)).isEqualTo(10);
+    assertThat(bidQuantileSketch.getBidToBeat(0.5)).isEqualTo(11);
+    assertThat(bidQuantileSketch.getBidToBeat(1)).isEqualTo(21);
+    assertThat(bidQuantileSketch.getBidToBeat(0)).isZero();
+  }
+
+  @ParameterizedTest(name = "Should beat at least the given share of bids within width of bucket. probability={0}")
+  @ValueSource(doubles = {0.1, 0.5, 0.84, 0.99})
+  void shouldBeatAtLeastGivenShareOfBidsWithinWidthOfBucket(double probability) {
+    // given
+    BidQuantileSketch bidQuantileSketch = new BidQuantileSketch();
+    SplittableRandom random = new SplittableRandom(42);
+    int[] bids = random.ints(10_000, 0, 1_000_000).toArray();
+    for (int bid : bids) {
+      bidQuantileSketch.add(bid);
+    }
+
+    // when
+    int bidToBeat = bidQuantileSketch.getBidToBeat(probability);
+
+    // then
+    long beatenBids = Arrays.stream(bids).filter(bid -> bid < bidToBeat).count();
+    long beatenBidsOfSmallerBid = Arrays.stream(bids).filter(bid -> bid < bidToBeat * 15 / 16).count();
+    assertThat(beatenBids).isGreaterThanOrEqualTo((long) Math.ceil(probability * bids.length));
+    assertThat(beatenBidsOfSmallerBid).isLessThan((long) Math.ceil(probability * bids.length));
+  }
+
+  @Test
+  @DisplayName("Should keep every bid in bucket, which contains it")
+  void shouldKeepEveryBidInBucketWhichContainsIt() {
+    // when - then
+    for (int bid : new int[]{0, 31, 32, 33, 63, 64, 1000, 123_456_789, Integer.MAX_VALUE}) {
+      int bucket = BidQuantileSketch.getBucket(bid);
+      assertThat(bucket).isBetween(0, BidQuantileSketch.NUMBER_OF_BUCKETS - 1);
+      assertThat(BidQuantileSketch.getUpperBound(bucket)).isGreaterThanOrEqualTo(bid);
+      assertThat(bucket == 0 || BidQuantileSketch.getUpperBound(bucket - 1) < bid).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("Should grow buckets, when bid is higher than all previous bids")
+  void shouldGrowBucketsWhenBidIsHigherThanAllPreviousBids() {
+    // given
+    BidQuantileSketch bidQuantileSketch = new BidQuantileSketch();
+    bidQuantileSketch.add(10);
+
+    // when
+    bidQuantileSketch.add(Integer.MAX_VALUE);
+    bidQuantileSketch.add(1000);
+
+    // then
+    assertThat(bidQuantileSketch.getQuantile(0)).isEqualTo(10);
+    assertThat(bidQuantileSketch.getQuantile(0.5)).isBetween(1000, 1000 + 1000 / 16);
+    assertThat(bidQuantileSketch.getBidToBeat(1)).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @Test
+  @DisplayName("Should reset sketch")
+  void shouldResetSketch() {
+    // given
+    BidQuantileSketch bidQuantileSketch = new BidQuantileSketch();
+    bidQuantileSketch.add(100);
+
+    // when
+    bidQuantileSketch.reset();
+
+    // then
+    assertThat(bidQuantileSketch.getCount()).isZero();
+    assertThat(bidQuantileSketch.getBidToBeat(0.84)).isZero();
+  }
+}
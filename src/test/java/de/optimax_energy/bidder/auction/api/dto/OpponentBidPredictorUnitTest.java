@@ -0,0 +1,147 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.OpponentBidPredictor.Estimator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class OpponentBidPredictorUnitTest extends UnitTest {
+
+  private final OpponentBidPredictor opponentBidPredictor = new OpponentBidPredictor();
+
+  @Test
+  @DisplayName("Should predict 0, when no bids were added")
+  void shouldPredictZeroWhenNoBidsWereAdded() {
+    // when
+    int prediction = opponentBidPredictor.getPrediction();
+
+    // then
+    assertThat(prediction).isZero();
+    assertThat(opponentBidPredictor.getBestEstimator()).isEqualTo(OpponentBidPredictor.DEFAULT_ESTIMATOR);
+  }
+
+  @Test
+  @DisplayName("Should predict constant bid by all estimators without error")
+  void shouldPredictConstantBidByAllEstimatorsWithoutError() {
+    // when
+    for (int round = 0; round < 10; round++) {
+      opponentBidPredictor.add(42);
+    }
+
+    // then
+    assertThat(opponentBidPredictor.getPrediction()).isEqualTo(42);
+    for (Estimator estimator : Estimator.values()) {
+      assertThat(opponentBidPredictor.predict(estimator)).isEqualTo(42);
+      assertThat(opponentBidPredictor.getError(estimator)).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("Should average only the bids of the window")
+  void shouldAverageOnlyBidsOfWindow() {
+    // when
+    for (int bid = 1; bid <= 10; bid++) {
+      opponentBidPredictor.add(bid);
+    }
+
+    // then
+    assertThat(opponentBidPredictor.getCount()).isEqualTo(10);
+    assertThat(opponentBidPredictor.predict(Estimator.LAST_BID)).isEqualTo(10);
+    assertThat(opponentBidPredictor.predict(Estimator.AVERAGE_OF_2)).isEqualTo(9.5);
+    assertThat(opponentBidPredictor.predict(Estimator.AVERAGE_OF_4)).isEqualTo(8.5);
+    assertThat(opponentBidPredictor.predict(Estimator.AVERAGE_OF_8)).isEqualTo(6.5);
+  }
+
+  @Test
+  @DisplayName("Should select linear trend, when opponent raises bids evenly")
+  void shouldSelectLinearTrendWhenOpponentRaisesBidsEvenly() {
+    // when
+    for (int bid = 10; bid <= 200; bid += 10) {
+      opponentBidPredictor.add(bid);
+    }
+
+    // then
+    assertThat(opponentBidPredictor.getBestEstimator()).isEqualTo(Estimator.LINEAR_TREND);
+    assertThat(opponentBidPredictor.getPrediction()).isCloseTo(210, within(2));
+  }
+
+  @Test
+  @DisplayName("Should keep average of 2 bids of default window, when opponent alternates bids")
+  void shouldKeepAverageOfTwoBidsOfDefaultWindowWhenOpponentAlternatesBids() {
+    // when
+    for (int round = 0; round < 20; round++) {
+      opponentBidPredictor.add(round % 2 == 0 ? 10 : 100);
+    }
+
+    // then
+    assertThat(opponentBidPredictor.getBestEstimator()).isEqualTo(Estimator.AVERAGE_OF_WINDOW);
+    assertThat(opponentBidPredictor.getPrediction()).isEqualTo(55);
+  }
+
+  @Test
+  @DisplayName("Should average bids of configured window by default estimator")
+  void shouldAverageBidsOfConfiguredWindowByDefaultEstimator() {
+    // given
+    OpponentBidPredictor givenPredictor = new OpponentBidPredictor(3);
+
+    // when
+    for (int bid = 1; bid <= 10; bid++) {
+      givenPredictor.add(bid);
+    }
+
+    // then
+    assertThat(givenPredictor.predict(Estimator.AVERAGE_OF_WINDOW)).isEqualTo(9);
+    assertThat(givenPredictor.predict(Estimator.AVERAGE_OF_2)).isEqualTo(9.5);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when window is larger than ring of bids")
+  void shouldThrowExceptionWhenWindowIsLargerThanRingOfBids() {
+    // when - then
+    assertThatThrownBy(() -> new OpponentBidPredictor(OpponentBidPredictor.MAX_WINDOW_SIZE + 1))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Window size should be between 1 and 8");
+  }
+
+  @Test
+  @DisplayName("Should switch to last bid, when opponent changes level of bids")
+  void shouldSwitchToLastBidWhenOpponentChangesLevelOfBids() {
+    // given
+    for (int round = 0; round < 20; round++) {
+      opponentBidPredictor.add(round % 2 == 0 ? 10 : 100);
+    }
+
+    // when
+    for (int round = 0; round < 10; round++) {
+      opponentBidPredictor.add(300);
+    }
+
+    // then
+    assertThat(opponentBidPredictor.getBestEstimator()).isEqualTo(Estimator.LAST_BID);
+    assertThat(opponentBidPredictor.getPrediction()).isEqualTo(300);
+  }
+
+  @Test
+  @DisplayName("Should forget bids after reset")
+  void shouldForgetBidsAfterReset() {
+    // given
+    for (int round = 0; round < 20; round++) {
+      opponentBidPredictor.add(round % 2 == 0 ? 10 : 100);
+    }
+
+    // when
+    opponentBidPredictor.reset();
+    opponentBidPredictor.add(7);
+
+    // then
+    assertThat(opponentBidPredictor.getCount()).isEqualTo(1);
+    assertThat(opponentBidPredictor.getBestEstimator()).isEqualTo(OpponentBidPredictor.DEFAULT_ESTIMATOR);
+    for (Estimator estimator : Estimator.values()) {
+      assertThat(opponentBidPredictor.predict(estimator)).isEqualTo(7);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpponentProfileUnitTest extends UnitTest {
+
+  @ParameterizedTest(name = "Should classify opponent. myBids={0}, opponentBids={1}")
+  @CsvSource({
+    "0 0, 50 60, UNKNOWN",
+    "0 0 0, 50 50 50, CONSTANT",
+    "10 20 30 40, 5 11 21 31, TREND_FOLLOWING",
+    "0 0 0, 200 160 190, AGGRESSIVE",
+    "0 0 0, 100 110 90, BUDGET_PACING",
+    "0 0 0 0, 5 140 60 100, RANDOM_UNIFORM"
+  })
+  void shouldClassifyOpponent(String myBids, String opponentBids, OpponentClass expectedOpponentClass) {
+    // given
+    OpponentProfile opponentProfile = new OpponentProfile();
+
+    // when
+    givenRounds(opponentProfile, toBids(myBids), toBids(opponentBids));
+
+    // then
+    assertThat(opponentProfile.getOpponentClass()).isEqualTo(expectedOpponentClass);
+  }
+
+  @Test
+  @DisplayName("Should calculate statistics of opponent's bids")
+  void shouldCalculateStatisticsOfOpponentBids() {
+    // given
+    OpponentProfile opponentProfile = new OpponentProfile();
+
+    // when
+    givenRounds(opponentProfile, new int[]{10, 20, 30, 40}, new int[]{5, 11, 21, 31});
+
+    // then
+    assertThat(opponentProfile.getNumberOfRounds()).isEqualTo(4);
+    assertThat(opponentProfile.getLastBid()).isEqualTo(31);
+    assertThat(opponentProfile.getLastMyBid()).isEqualTo(40);
+    assertThat(opponentProfile.getMaxBid()).isEqualTo(31);
+    assertThat(opponentProfile.getBidMean()).isEqualTo(17.0);
+    assertThat(opponentProfile.getTrendIncrement()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should reset profile")
+  void shouldResetProfile() {
+    // given
+    OpponentProfile opponentProfile = new OpponentProfile();
+    givenRounds(opponentProfile, new int[]{0, 0, 0}, new int[]{50, 50, 50});
+
+    // when
+    opponentProfile.reset();
+
+    // then
+    assertThat(opponentProfile.getOpponentClass()).isEqualTo(OpponentClass.UNKNOWN);
+    assertThat(opponentProfile.getNumberOfRounds()).isZero();
+    assertThat(opponentProfile.getMaxBid()).isZero();
+    assertThat(opponentProfile.getRatioMean()).isZero();
+  }
+
+  /**
+   * Opponent starts with initial cash and initial quantity, so its cash and the remaining rounds follow from the bids.
+   */
+  private void givenRounds(OpponentProfile opponentProfile, int[] myBids, int[] opponentBids) {
+    int opponentCash = INITIAL_CASH;
+    for (int round = 0; round < opponentBids.length; round++) {
+      opponentProfile.update(myBids[round], opponentBids[round], opponentCash, INITIAL_QUANTITY - round);
+      opponentCash -= opponentBids[round];
+    }
+  }
+
+  private int[] toBids(String bids) {
+    return Arrays.stream(bids.split(" ")).mapToInt(Integer::parseInt).toArray();
+  }
+}
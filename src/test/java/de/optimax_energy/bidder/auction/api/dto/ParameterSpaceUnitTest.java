@@ -0,0 +1,69 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterSpaceUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should contain only default parameters, when no values are given")
+  void shouldContainOnlyDefaultParameters() {
+    // when
+    List<StrategyParameters> grid = ParameterSpace.builder().build().getGrid();
+
+    // then
+    assertThat(grid).containsExactly(StrategyParameters.DEFAULT);
+  }
+
+  @Test
+  @DisplayName("Should enumerate all combinations of values")
+  void shouldEnumerateAllCombinationsOfValues() {
+    // given
+    ParameterSpace parameterSpace = ParameterSpace.builder()
+      .withOneSigmaMultipliers(1.0, 2.0)
+      .withAggressiveStrategyThresholds(10, 20, 30)
+      .withOpponentBidWindowSizes(1, 4)
+      .build();
+
+    // when
+    List<StrategyParameters> grid = parameterSpace.getGrid();
+
+    // then
+    assertThat(parameterSpace.getSize()).isEqualTo(12);
+    assertThat(parameterSpace.getAxisSizes()).containsExactly(2, 1, 3, 2);
+    assertThat(grid).hasSize(12).doesNotHaveDuplicates();
+    assertThat(grid.get(1)).isEqualTo(StrategyParameters.builder()
+      .withOneSigmaMultiplier(1.0)
+      .withAggressiveStrategyThreshold(10)
+      .withOpponentBidWindowSize(4)
+      .build());
+    assertThat(grid.get(11)).isEqualTo(parameterSpace.getParameters(new int[]{1, 0, 2, 1}));
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when parameter has no values")
+  void shouldThrowExceptionWhenParameterHasNoValues() {
+    // when - then
+    assertThatThrownBy(() -> ParameterSpace.builder().withMaxBidMultipliers().build())
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Parameter space should have at least one value of every parameter");
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when parameter is invalid")
+  void shouldThrowExceptionWhenParameterIsInvalid() {
+    // given
+    ParameterSpace parameterSpace = ParameterSpace.builder().withOpponentBidWindowSizes(0).build();
+
+    // when - then
+    assertThatThrownBy(parameterSpace::getGrid)
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Opponent bid window size should be between 1 and 8");
+  }
+}
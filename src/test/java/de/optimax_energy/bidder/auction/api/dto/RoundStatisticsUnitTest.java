@@ -0,0 +1,105 @@
+package de.optimax_energy.bidder.auction.api.dto;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoundStatisticsUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should accumulate round results")
+  void shouldAccumulateRoundResults() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics();
+
+    // when
+    roundStatistics.add(givenRoundResult(5, 2, 3, 95, 0));
+    roundStatistics.add(givenRoundResult(7, 0, 9, 86, 2));
+
+    // then
+    assertThat(roundStatistics.isEmpty()).isFalse();
+    assertThat(roundStatistics.getNumberOfRounds()).isEqualTo(2);
+    assertThat(roundStatistics.getMyQuantity()).isEqualTo(2);
+    assertThat(roundStatistics.getOpponentQuantity()).isEqualTo(2);
+    assertThat(roundStatistics.getMySpentCash()).isEqualTo(12);
+    assertThat(roundStatistics.getOpponentRemainingCash()).isEqualTo(86);
+  }
+
+  @Test
+  @DisplayName("Should keep only last opponent bids in window")
+  void shouldKeepOnlyLastOpponentBidsInWindow() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics(2);
+
+    // when
+    roundStatistics.add(givenRoundResult(0, 0, 100, 0, 0));
+    roundStatistics.add(givenRoundResult(0, 0, 10, 0, 0));
+    roundStatistics.add(givenRoundResult(0, 0, 20, 0, 0));
+
+    // then
+    assertThat(roundStatistics.getOpponentBidWindowCount()).isEqualTo(2);
+    assertThat(roundStatistics.getOpponentBidWindowSum()).isEqualTo(30);
+  }
+
+  @Test
+  @DisplayName("Should keep opponent bids of last rounds")
+  void shouldKeepOpponentBidsOfLastRounds() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics();
+
+    // when
+    for (int round = 0; round < 40; round++) {
+      roundStatistics.add(givenRoundResult(0, 0, round, INITIAL_CASH - round * (round + 1) / 2, 2));
+    }
+
+    // then
+    assertThat(roundStatistics.getOpponentBid(24)).isEqualTo(24);
+    assertThat(roundStatistics.getOpponentBid(39)).isEqualTo(39);
+    assertThat(roundStatistics.getOpponentCashBeforeBid(24)).isEqualTo(INITIAL_CASH - 24 * 23 / 2);
+    assertThat(roundStatistics.getOpponentCashBeforeBid(39)).isEqualTo(INITIAL_CASH - 39 * 38 / 2);
+    assertThatThrownBy(() -> roundStatistics.getOpponentBid(40))
+      .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> roundStatistics.getOpponentBid(23))
+      .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+      .hasMessage("Round 23 is not kept, only last 16 rounds are");
+  }
+
+  @Test
+  @DisplayName("Should reset statistics")
+  void shouldResetStatistics() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics();
+    roundStatistics.add(givenRoundResult(5, 2, 3, 95, 0));
+
+    // when
+    roundStatistics.reset();
+
+    // then
+    assertThat(roundStatistics.isEmpty()).isTrue();
+    assertThat(roundStatistics.getMySpentCash()).isZero();
+    assertThat(roundStatistics.getOpponentBidWindowCount()).isZero();
+    assertThat(roundStatistics.getOpponentBidWindowSum()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should throw exception when window size is not positive")
+  void shouldThrowExceptionWhenWindowSizeIsNotPositive() {
+    // when - then
+    assertThatThrownBy(() -> new RoundStatistics(0))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Opponent bid window size should be between 1 and 8");
+  }
+
+  private RoundResult givenRoundResult(int myBid, int myWonQuantity, int opponentBid, int opponentRemainingCash, int opponentWonQuantity) {
+    return RoundResult.builder()
+      .withMyBid(myBid)
+      .withMyWonQuantity(myWonQuantity)
+      .withOpponentBid(opponentBid)
+      .withOpponentRemainingCash(opponentRemainingCash)
+      .withOpponentWonQuantity(opponentWonQuantity)
+      .build();
+  }
+}
@@ -0,0 +1,115 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+import de.optimax_energy.bidder.auction.BidderFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures round-trip latency of requests to {@link BidderServer} over loopback with one client and messages per
+ * second with 1..N clients, every client plays auctions of its own bidder. Run with
+ * {@code gradle bidderServerBenchmark --args="<max clients>"}.
+ */
+public class BidderServerBenchmark {
+
+  private static final int QUANTITY = 100;
+
+  private static final int CASH = 10_000;
+
+  private static final int WARMUP_AUCTIONS = 2_000;
+
+  private static final int MEASURED_AUCTIONS = 2_000;
+
+  private static final long THROUGHPUT_DURATION_NANOS = TimeUnit.SECONDS.toNanos(3);
+
+  public static void main(String[] args) throws Exception {
+    int maxClients = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+    BidderFactory bidderFactory = new BidderFactory();
+    try (BidderServer bidderServer = new BidderServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+      bidderFactory::createSession).start()) {
+      measureLatency(bidderServer.getLocalAddress());
+      for (int clients = 1; clients <= maxClients; clients *= 2) {
+        measureThroughput(bidderServer.getLocalAddress(), clients);
+      }
+    }
+  }
+
+  private static void measureLatency(SocketAddress address) {
+    try (BidderClient bidderClient = new BidderClient(address)) {
+      RemoteBidder remoteBidder = bidderClient.createBidder();
+      playAuctions(remoteBidder, WARMUP_AUCTIONS, null);
+      long[] roundTrips = new long[MEASURED_AUCTIONS * (QUANTITY + 1)];
+      int numberOfRoundTrips = playAuctions(remoteBidder, MEASURED_AUCTIONS, roundTrips);
+      Arrays.sort(roundTrips, 0, numberOfRoundTrips);
+      System.out.printf("round trip p50=%.1f us p99=%.1f us p999=%.1f us%n",
+        getQuantile(roundTrips, numberOfRoundTrips, 0.5), getQuantile(roundTrips, numberOfRoundTrips, 0.99),
+        getQuantile(roundTrips, numberOfRoundTrips, 0.999));
+    }
+  }
+
+  private static void measureThroughput(SocketAddress address, int clients) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(clients);
+    List<Future<Long>> futures = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int client = 0; client < clients; client++) {
+      futures.add(executorService.submit(() -> {
+        long messages = 0;
+        try (BidderClient bidderClient = new BidderClient(address)) {
+          RemoteBidder remoteBidder = bidderClient.createBidder();
+          while (System.nanoTime() - start < THROUGHPUT_DURATION_NANOS) {
+            messages += playAuctions(remoteBidder, 1, null);
+          }
+        }
+        return messages;
+      }));
+    }
+    long messages = 0;
+    for (Future<Long> future : futures) {
+      messages += future.get();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    executorService.shutdown();
+    System.out.printf("clients=%d messages/s=%.0f%n", clients, messages * 1_000_000_000.0 / elapsedNanos);
+  }
+
+  /**
+   * @param roundTrips round trips of all requests in nanoseconds, null if they should not be recorded
+   * @return number of requests
+   */
+  private static int playAuctions(RemoteBidder remoteBidder, int numberOfAuctions, long[] roundTrips) {
+    int requests = 0;
+    for (int auction = 0; auction < numberOfAuctions; auction++) {
+      long start = System.nanoTime();
+      remoteBidder.init(QUANTITY, CASH);
+      requests = record(roundTrips, requests, start);
+      for (int round = 0; round < QUANTITY / 2; round++) {
+        start = System.nanoTime();
+        int bid = remoteBidder.placeBid();
+        requests = record(roundTrips, requests, start);
+        start = System.nanoTime();
+        remoteBidder.bids(bid, (auction + round * 37) % 300);
+        requests = record(roundTrips, requests, start);
+      }
+    }
+    return requests;
+  }
+
+  private static int record(long[] roundTrips, int requests, long start) {
+    if (roundTrips != null) {
+      roundTrips[requests] = System.nanoTime() - start;
+    }
+    return requests + 1;
+  }
+
+  private static double getQuantile(long[] sortedRoundTrips, int numberOfRoundTrips, double quantile) {
+    return sortedRoundTrips[(int) Math.min(numberOfRoundTrips - 1, quantile * numberOfRoundTrips)] / 1_000.0;
+  }
+}
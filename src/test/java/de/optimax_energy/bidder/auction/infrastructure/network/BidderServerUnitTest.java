@@ -0,0 +1,246 @@
+package de.optimax_energy.bidder.auction.infrastructure.network;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.AuctionEngine;
+import de.optimax_energy.bidder.auction.AuctionHost;
+import de.optimax_energy.bidder.auction.BidderFactory;
+import de.optimax_energy.bidder.auction.api.AuctionResultSink;
+import de.optimax_energy.bidder.auction.api.AuctionSession;
+import de.optimax_energy.bidder.auction.api.dto.HostedAuctionResult;
+import de.optimax_energy.bidder.auction.api.dto.RemoteBidderException;
+import de.optimax_energy.bidder.auction.infrastructure.opponent.OpponentLibrary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.FRAME_SIZE;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.INIT;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.PLACE_BID;
+import static de.optimax_energy.bidder.auction.infrastructure.network.BidderProtocol.STATUS_OK;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BidderServerUnitTest extends UnitTest {
+
+  private static final InetSocketAddress LOOPBACK = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+  private final BidderFactory bidderFactory = new BidderFactory();
+
+  private final AuctionEngine auctionEngine = new AuctionEngine();
+
+  private BidderServer bidderServer;
+
+  @AfterEach
+  void tearDown() {
+    if (bidderServer != null) {
+      bidderServer.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should play auction of remote bidder like local session")
+  void shouldPlayAuctionOfRemoteBidderLikeLocalSession() {
+    // given
+    String expectedResult = auctionEngine
+      .run(bidderFactory.createSession(), new OpponentLibrary(1).random(), 10 * INITIAL_QUANTITY, INITIAL_CASH)
+      .toString();
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+
+    // when
+    String result;
+    try (BidderClient bidderClient = new BidderClient(bidderServer.getLocalAddress())) {
+      result = auctionEngine
+        .run(bidderClient.createBidder(), new OpponentLibrary(1).random(), 10 * INITIAL_QUANTITY, INITIAL_CASH)
+        .toString();
+    }
+
+    // then
+    assertThat(result).isEqualTo(expectedResult);
+  }
+
+  @Test
+  @DisplayName("Should play interleaved sessions of several clients on one port")
+  void shouldPlayInterleavedSessionsOfSeveralClientsOnOnePort() {
+    // given
+    List<String> expectedResults = new ArrayList<>();
+    for (int auction = 0; auction < 4; auction++) {
+      expectedResults.add(auctionEngine
+        .run(bidderFactory.createSession(), new OpponentLibrary(auction).random(), 2, INITIAL_CASH)
+        .toString());
+    }
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+
+    // when
+    List<String> results = new ArrayList<>();
+    try (BidderClient firstClient = new BidderClient(bidderServer.getLocalAddress());
+         BidderClient secondClient = new BidderClient(bidderServer.getLocalAddress())) {
+      List<RemoteBidder> remoteBidders = List.of(firstClient.createBidder(), secondClient.createBidder(),
+        firstClient.createBidder(), secondClient.createBidder());
+      for (int auction = 0; auction < remoteBidders.size(); auction++) {
+        results.add(auctionEngine.run(remoteBidders.get(auction), new OpponentLibrary(auction).random(), 2, INITIAL_CASH)
+          .toString());
+      }
+    }
+
+    // then
+    assertThat(results).isEqualTo(expectedResults);
+  }
+
+  @Test
+  @DisplayName("Should play concurrent auctions of remote bidders of one client on auction host")
+  void shouldPlayConcurrentAuctionsOfRemoteBiddersOfOneClientOnAuctionHost() {
+    // given
+    int numberOfAuctions = 20;
+    List<String> expectedResults = new ArrayList<>();
+    for (int auction = 0; auction < numberOfAuctions; auction++) {
+      expectedResults.add(auctionEngine
+        .run(bidderFactory.createSession(), new OpponentLibrary(auction).random(), INITIAL_QUANTITY, INITIAL_CASH)
+        .toString());
+    }
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    AuctionHost auctionHost = new AuctionHost(executorService, Duration.ofSeconds(5), AuctionResultSink.NO_OP);
+
+    // when
+    List<HostedAuctionResult> results = new ArrayList<>();
+    try (BidderClient bidderClient = new BidderClient(bidderServer.getLocalAddress())) {
+      List<CompletableFuture<HostedAuctionResult>> futures = new ArrayList<>();
+      for (int auction = 0; auction < numberOfAuctions; auction++) {
+        futures.add(auctionHost.submit(bidderClient.createBidder(), new OpponentLibrary(auction).random(), INITIAL_QUANTITY, INITIAL_CASH));
+      }
+      futures.forEach(future -> results.add(future.join()));
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    // then
+    assertThat(results).allMatch(HostedAuctionResult::isCompleted);
+    assertThat(results).extracting(result -> result.getAuctionResult().toString()).isEqualTo(expectedResults);
+  }
+
+  @Test
+  @DisplayName("Should stop reading requests of client, which doesn't read responses, and answer all of them later")
+  void shouldStopReadingRequestsOfClientWhichDoesNotReadResponsesAndAnswerAllOfThemLater() throws Exception {
+    // given
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+    // far more than the buffers of the connection and of both sockets
+    int numberOfRequests = 1_000_000;
+    ByteBuffer requests = ByteBuffer.allocate(numberOfRequests * FRAME_SIZE);
+    requests.putInt(INIT).putInt(0).putInt(INITIAL_QUANTITY).putInt(INITIAL_CASH);
+    while (requests.hasRemaining()) {
+      requests.putInt(PLACE_BID).putInt(0).putInt(0).putInt(0);
+    }
+    requests.flip();
+
+    try (SocketChannel stalledClient = SocketChannel.open();
+         BidderClient otherClient = new BidderClient(bidderServer.getLocalAddress())) {
+      stalledClient.setOption(StandardSocketOptions.SO_RCVBUF, 4 * 1024);
+      stalledClient.connect(bidderServer.getLocalAddress());
+
+      // when
+      CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+        try {
+          while (requests.hasRemaining()) {
+            stalledClient.write(requests);
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      RemoteBidder otherBidder = otherClient.createBidder();
+      otherBidder.init(2, INITIAL_CASH);
+
+      // then
+      assertThat(otherBidder.placeBid()).isEqualTo(INITIAL_CASH);
+      assertThatThrownBy(() -> writer.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+      ByteBuffer responses = ByteBuffer.allocate(numberOfRequests * FRAME_SIZE);
+      while (responses.hasRemaining()) {
+        assertThat(stalledClient.read(responses)).isNotNegative();
+      }
+      writer.get(5, TimeUnit.SECONDS);
+      responses.flip();
+      for (int response = 0; response < numberOfRequests; response++) {
+        assertThat(responses.getInt()).isEqualTo(response == 0 ? INIT : PLACE_BID);
+        assertThat(responses.getInt()).isZero();
+        assertThat(responses.getInt()).isEqualTo(STATUS_OK);
+        responses.getInt();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should fail initialization of session, whose id is out of range")
+  void shouldFailInitializationOfSessionWhoseIdIsOutOfRange() {
+    // given
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+
+    try (BidderClient bidderClient = new BidderClient(bidderServer.getLocalAddress())) {
+      // when - then
+      assertThatThrownBy(() -> bidderClient.send(INIT, BidderServer.MAX_SESSIONS_PER_CONNECTION, 2, INITIAL_CASH))
+        .isExactlyInstanceOf(RemoteBidderException.class)
+        .hasMessage("Bidder server failed init of session 65536");
+      assertThatThrownBy(() -> bidderClient.send(INIT, -1, 2, INITIAL_CASH))
+        .isExactlyInstanceOf(RemoteBidderException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when remote session fails request")
+  void shouldThrowExceptionWhenRemoteSessionFailsRequest() {
+    // given
+    bidderServer = new BidderServer(LOOPBACK, bidderFactory::createSession).start();
+
+    try (BidderClient bidderClient = new BidderClient(bidderServer.getLocalAddress())) {
+      RemoteBidder remoteBidder = bidderClient.createBidder();
+
+      // when - then
+      assertThatThrownBy(remoteBidder::placeBid)
+        .isExactlyInstanceOf(RemoteBidderException.class)
+        .hasMessage("Bidder server failed placeBid of session 0");
+      remoteBidder.init(2, INITIAL_CASH);
+      assertThat(remoteBidder.placeBid()).isEqualTo(INITIAL_CASH);
+    }
+  }
+
+  @Test
+  @DisplayName("Should close sessions of connection, when client closes it")
+  void shouldCloseSessionsOfConnectionWhenClientClosesIt() {
+    // given
+    AuctionSession auctionSession = mock(AuctionSession.class);
+    @SuppressWarnings("unchecked")
+    Supplier<AuctionSession> sessionFactory = mock(Supplier.class);
+    when(sessionFactory.get()).thenReturn(auctionSession);
+    bidderServer = new BidderServer(LOOPBACK, sessionFactory).start();
+    BidderClient bidderClient = new BidderClient(bidderServer.getLocalAddress());
+    bidderClient.createBidder().init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    bidderClient.close();
+
+    // then
+    verify(auctionSession).init(INITIAL_QUANTITY, INITIAL_CASH);
+    verify(auctionSession, timeout(1_000)).close();
+  }
+}
@@ -0,0 +1,138 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpponentBidderUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should limit bid by remaining cash and keep state of auction")
+  void shouldLimitBidByRemainingCash() {
+    // given
+    ConstantBidder constantBidder = new ConstantBidder(600);
+    constantBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    int firstBid = constantBidder.placeBid();
+    constantBidder.bids(firstBid, 100);
+    int secondBid = constantBidder.placeBid();
+    constantBidder.bids(secondBid, 400);
+
+    // then
+    assertThat(firstBid).isEqualTo(600);
+    assertThat(secondBid).isEqualTo(400);
+    assertThat(constantBidder.getRemainingCash()).isZero();
+    assertThat(constantBidder.getQuantity()).isEqualTo(3);
+    assertThat(constantBidder.getLastOpponentBid()).isEqualTo(400);
+    assertThat(constantBidder.getRemainingRounds()).isEqualTo(3);
+  }
+
+  @ParameterizedTest(name = "Should bid average price of QU. initialQuantity={0}, initialCash={1}")
+  @CsvSource({"10, 1000, 100", "3, 10, 3", "0, 10, 10"})
+  void shouldBidAveragePriceOfQuantity(int initialQuantity, int initialCash, int expectedBid) {
+    // given
+    DummyBidder dummyBidder = new DummyBidder();
+    dummyBidder.init(initialQuantity, initialCash);
+
+    // when
+    int bid = dummyBidder.placeBid();
+
+    // then
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @ParameterizedTest(name = "Should spend cash on all rounds but one. initialQuantity={0}, initialCash={1}")
+  @CsvSource({"100, 10000, 204", "2, 200, 200"})
+  void shouldSpendCashOnAllRoundsButOne(int initialQuantity, int initialCash, int expectedBid) {
+    // given
+    AggressiveBidder aggressiveBidder = new AggressiveBidder();
+    aggressiveBidder.init(initialQuantity, initialCash);
+
+    // when
+    int bid = aggressiveBidder.placeBid();
+
+    // then
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @Test
+  @DisplayName("Should bid random amount up to 1.5 times of average price of round")
+  void shouldBidRandomAmount() {
+    // given
+    RandomBidder randomBidder = new RandomBidder(new SplittableRandom(1));
+    randomBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    for (int i = 0; i < 1000; i++) {
+      // when
+      int bid = randomBidder.placeBid();
+
+      // then
+      assertThat(bid).isBetween(0, 299);
+    }
+  }
+
+  @Test
+  @DisplayName("Should pace remaining cash on remaining rounds")
+  void shouldPaceRemainingCash() {
+    // given
+    BudgetPacerBidder budgetPacerBidder = new BudgetPacerBidder(new SplittableRandom(1), 0);
+    budgetPacerBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    int firstBid = budgetPacerBidder.placeBid();
+    budgetPacerBidder.bids(400, 0);
+    int secondBid = budgetPacerBidder.placeBid();
+
+    // then
+    assertThat(firstBid).isEqualTo(200);
+    assertThat(secondBid).isEqualTo(150);
+  }
+
+  @Test
+  @DisplayName("Should repeat last bid of opponent increased by increment")
+  void shouldRepeatLastBidOfOpponent() {
+    // given
+    LastBidMimickerBidder lastBidMimickerBidder = new LastBidMimickerBidder(2);
+    lastBidMimickerBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    int firstBid = lastBidMimickerBidder.placeBid();
+    lastBidMimickerBidder.bids(firstBid, 37);
+    int secondBid = lastBidMimickerBidder.placeBid();
+
+    // then
+    assertThat(firstBid).isEqualTo(100);
+    assertThat(secondBid).isEqualTo(39);
+  }
+
+  @Test
+  @DisplayName("Should shade value of round")
+  void shouldShadeValueOfRound() {
+    // given
+    ShadingBidder shadingBidder = new ShadingBidder(new SplittableRandom(1), 0.5, 0);
+    shadingBidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    int bid = shadingBidder.placeBid();
+
+    // then
+    assertThat(bid).isEqualTo(167);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when shading factor is out of range")
+  void shouldThrowExceptionWhenShadingFactorIsOutOfRange() {
+    // when - then
+    assertThatThrownBy(() -> new ShadingBidder(new SplittableRandom(1), 1.5, 0))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Shading factor should be greater than 0 and not greater than 1");
+  }
+}
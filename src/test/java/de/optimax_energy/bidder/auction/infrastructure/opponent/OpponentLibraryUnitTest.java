@@ -0,0 +1,76 @@
+package de.optimax_energy.bidder.auction.infrastructure.opponent;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.Bidder;
+import de.optimax_energy.bidder.auction.api.dto.TournamentParticipant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpponentLibraryUnitTest extends UnitTest {
+
+  private static final long SEED = 42;
+
+  private static final int NUMBER_OF_ROUNDS = INITIAL_QUANTITY / 2;
+
+  @Test
+  @DisplayName("Should create opponents with same bids from same master seed")
+  void shouldCreateOpponentsWithSameBidsFromSameMasterSeed() {
+    // given
+    Function<OpponentLibrary, Bidder> secondRandomOpponent = opponentLibrary -> {
+      opponentLibrary.budgetPacer(0.5);
+      return opponentLibrary.random();
+    };
+
+    // when
+    int[] bids = playAgainstZeroBidder(secondRandomOpponent.apply(new OpponentLibrary(SEED)));
+    int[] sameSeedBids = playAgainstZeroBidder(secondRandomOpponent.apply(new OpponentLibrary(SEED)));
+    int[] otherSeedBids = playAgainstZeroBidder(secondRandomOpponent.apply(new OpponentLibrary(SEED + 1)));
+
+    // then
+    assertThat(bids).isEqualTo(sameSeedBids);
+    assertThat(bids).isNotEqualTo(otherSeedBids);
+  }
+
+  @Test
+  @DisplayName("Should give own random stream to every opponent")
+  void shouldGiveOwnRandomStreamToEveryOpponent() {
+    // given
+    OpponentLibrary opponentLibrary = new OpponentLibrary(SEED);
+
+    // when
+    int[] firstOpponentBids = playAgainstZeroBidder(opponentLibrary.random());
+    int[] secondOpponentBids = playAgainstZeroBidder(opponentLibrary.random());
+
+    // then
+    assertThat(firstOpponentBids).isNotEqualTo(secondOpponentBids);
+  }
+
+  @Test
+  @DisplayName("Should create reproducible tournament opponents")
+  void shouldCreateReproducibleTournamentOpponents() {
+    for (TournamentParticipant participant : OpponentLibrary.tournamentOpponents()) {
+      // when
+      int[] bids = playAgainstZeroBidder(participant.createBidder(SEED));
+      int[] sameSeedBids = playAgainstZeroBidder(participant.createBidder(SEED));
+
+      // then
+      assertThat(bids).as(participant.getName()).isEqualTo(sameSeedBids);
+    }
+    assertThat(OpponentLibrary.tournamentOpponents()).extracting(TournamentParticipant::getName)
+      .containsExactly("dummy", "aggressive", "random", "budgetPacer", "lastBidMimicker", "shading");
+  }
+
+  private int[] playAgainstZeroBidder(Bidder bidder) {
+    int[] bids = new int[NUMBER_OF_ROUNDS];
+    bidder.init(INITIAL_QUANTITY, INITIAL_CASH);
+    for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+      bids[round] = bidder.placeBid();
+      bidder.bids(bids[round], 0);
+    }
+    return bids;
+  }
+}
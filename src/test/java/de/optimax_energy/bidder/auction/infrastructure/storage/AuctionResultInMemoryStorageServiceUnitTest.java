@@ -66,4 +66,17 @@ class AuctionResultInMemoryStorageServiceUnitTest extends UnitTest {
     assertThat(roundResultsForBidder).hasSize(1);
     assertThat(roundResultsForBidder.get(0)).isEqualTo(givenRoundResult);
   }
+
+  @Test
+  @DisplayName("Should remove round results")
+  void shouldRemoveRoundResultsForBidder() {
+    // given
+    auctionResultInMemoryStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+
+    // when
+    auctionResultInMemoryStorageService.removeRoundResultsForBidder(UUID);
+
+    // then
+    assertThat(auctionResultInMemoryStorageService.getRoundResultsForBidder(UUID)).isEmpty();
+  }
 }
@@ -0,0 +1,79 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarRoundHistoryUnitTest extends UnitTest {
+
+  @Test
+  @DisplayName("Should grow columns and keep all rounds")
+  void shouldGrowColumnsAndKeepAllRounds() {
+    // given
+    ColumnarRoundHistory columnarRoundHistory = new ColumnarRoundHistory(1);
+    int numberOfRounds = 100;
+
+    // when
+    for (int i = 0; i < numberOfRounds; i++) {
+      columnarRoundHistory.append(i, 2, i + 1, INITIAL_CASH - i, 0);
+    }
+
+    // then
+    assertThat(columnarRoundHistory).hasSize(numberOfRounds);
+    for (int i = 0; i < numberOfRounds; i++) {
+      assertThat(columnarRoundHistory.getMyBid(i)).isEqualTo(i);
+      assertThat(columnarRoundHistory.getOpponentBid(i)).isEqualTo(i + 1);
+      assertThat(columnarRoundHistory.getOpponentRemainingCash(i)).isEqualTo(INITIAL_CASH - i);
+    }
+  }
+
+  @Test
+  @DisplayName("Should materialize round result from columns")
+  void shouldMaterializeRoundResult() {
+    // given
+    ColumnarRoundHistory columnarRoundHistory = new ColumnarRoundHistory();
+    RoundResult givenRoundResult = RoundResult.builder()
+      .withMyBid(1)
+      .withMyWonQuantity(1)
+      .withOpponentBid(1)
+      .withOpponentRemainingCash(99)
+      .withOpponentWonQuantity(1)
+      .build();
+
+    // when
+    columnarRoundHistory.add(givenRoundResult);
+
+    // then
+    assertThat(columnarRoundHistory.get(0)).usingRecursiveComparison().isEqualTo(givenRoundResult);
+  }
+
+  @Test
+  @DisplayName("Should clear history")
+  void shouldClearHistory() {
+    // given
+    ColumnarRoundHistory columnarRoundHistory = new ColumnarRoundHistory();
+    columnarRoundHistory.append(1, 2, 0, 100, 0);
+
+    // when
+    columnarRoundHistory.clear();
+
+    // then
+    assertThat(columnarRoundHistory).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should throw exception when index is out of bounds")
+  void shouldThrowExceptionWhenIndexIsOutOfBounds() {
+    // given
+    ColumnarRoundHistory columnarRoundHistory = new ColumnarRoundHistory();
+
+    // when - then
+    assertThatThrownBy(() -> columnarRoundHistory.getMyBid(0))
+      .isExactlyInstanceOf(IndexOutOfBoundsException.class)
+      .hasMessage("Index: 0, size: 0");
+  }
+}
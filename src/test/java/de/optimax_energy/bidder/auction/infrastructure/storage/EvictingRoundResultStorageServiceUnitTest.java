@@ -0,0 +1,190 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EvictingRoundResultStorageServiceUnitTest extends UnitTest {
+
+  private static final String UUID = "0";
+
+  private static final String ANOTHER_UUID = "1";
+
+  private static final String THIRD_UUID = "2";
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final RoundResultStorageOperations delegate = new RoundResultInMemoryStorageService();
+
+  @Mock
+  private Clock clock;
+
+  private EvictingRoundResultStorageService evictingRoundResultStorageService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(clock.millis()).thenReturn(0L);
+    evictingRoundResultStorageService = new EvictingRoundResultStorageService(delegate, 2, TTL, clock);
+  }
+
+  @Test
+  @DisplayName("Should evict least recently used bidder, when maximum number of bidders is exceeded")
+  void shouldEvictLeastRecentlyUsedBidder() {
+    // given
+    evictingRoundResultStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+    evictingRoundResultStorageService.addRoundResultForBidder(ANOTHER_UUID, RoundResult.builder().build());
+    evictingRoundResultStorageService.getRoundResultsForBidder(UUID);
+
+    // when
+    evictingRoundResultStorageService.addRoundResultForBidder(THIRD_UUID, RoundResult.builder().build());
+
+    // then
+    assertThat(delegate.getRoundResultsForBidder(UUID)).hasSize(1);
+    assertThat(delegate.getRoundResultsForBidder(ANOTHER_UUID)).isEmpty();
+    assertThat(delegate.getRoundResultsForBidder(THIRD_UUID)).hasSize(1);
+    assertThat(evictingRoundResultStorageService.getNumberOfBidders()).isEqualTo(2);
+    assertThat(evictingRoundResultStorageService.getCapacityEvictionCount()).isOne();
+  }
+
+  @Test
+  @DisplayName("Should track bidder and pass round to delegate, when round is given by its fields")
+  void shouldTrackBidderWhenRoundIsGivenByItsFields() {
+    // given
+    RoundResultStorageOperations mockedDelegate = mock(RoundResultStorageOperations.class);
+    EvictingRoundResultStorageService storageService = new EvictingRoundResultStorageService(mockedDelegate, 1, TTL, clock);
+
+    // when
+    storageService.addRoundResultForBidder(UUID, 5, 2, 3, 97, 0);
+    storageService.addRoundResultForBidder(ANOTHER_UUID, 5, 2, 3, 97, 0);
+
+    // then
+    verify(mockedDelegate).addRoundResultForBidder(UUID, 5, 2, 3, 97, 0);
+    verify(mockedDelegate).removeRoundResultsForBidder(UUID);
+    assertThat(storageService.getNumberOfBidders()).isOne();
+  }
+
+  @Test
+  @DisplayName("Should evict bidders, which were not accessed longer than TTL")
+  void shouldEvictExpiredBidders() {
+    // given
+    evictingRoundResultStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+    when(clock.millis()).thenReturn(TTL.toMillis() - 1);
+    evictingRoundResultStorageService.addRoundResultForBidder(ANOTHER_UUID, RoundResult.builder().build());
+    when(clock.millis()).thenReturn(TTL.toMillis());
+
+    // when
+    evictingRoundResultStorageService.getRoundResultsForBidder(ANOTHER_UUID);
+
+    // then
+    assertThat(delegate.getRoundResultsForBidder(UUID)).isEmpty();
+    assertThat(delegate.getRoundResultsForBidder(ANOTHER_UUID)).hasSize(1);
+    assertThat(evictingRoundResultStorageService.getExpirationEvictionCount()).isOne();
+    assertThat(evictingRoundResultStorageService.getCapacityEvictionCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict expired bidders of all stripes, when they are not accessed again")
+  void shouldEvictExpiredBiddersOfAllStripesWhenTheyAreNotAccessedAgain() {
+    // given
+    EvictingRoundResultStorageService storageService = new EvictingRoundResultStorageService(delegate, 1_024, TTL, clock);
+    for (int bidder = 0; bidder < 100; bidder++) {
+      storageService.addRoundResultForBidder(String.valueOf(bidder), RoundResult.builder().build());
+    }
+    when(clock.millis()).thenReturn(TTL.toMillis());
+
+    // when
+    storageService.evictExpired();
+
+    // then
+    assertThat(storageService.getNumberOfStripes()).isEqualTo(EvictingRoundResultStorageService.MAX_STRIPES);
+    assertThat(storageService.getNumberOfBidders()).isZero();
+    assertThat(storageService.getExpirationEvictionCount()).isEqualTo(100);
+    assertThat(delegate.getRoundResultsForBidder("0")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should keep number of bidders bounded, when many threads add round results concurrently")
+  void shouldKeepNumberOfBiddersBoundedWhenManyThreadsAddRoundResultsConcurrently() {
+    // given
+    int maxBidders = 1_024;
+    int threads = 4;
+    int biddersPerThread = 10_000;
+    RoundResultStorageOperations concurrentDelegate = new RoundResultConcurrentStorageService();
+    EvictingRoundResultStorageService storageService = new EvictingRoundResultStorageService(concurrentDelegate,
+      maxBidders, TTL, clock);
+
+    // when
+    CompletableFuture<?>[] writers = new CompletableFuture<?>[threads];
+    for (int thread = 0; thread < threads; thread++) {
+      int firstBidder = thread * biddersPerThread;
+      writers[thread] = CompletableFuture.runAsync(() -> {
+        for (int bidder = firstBidder; bidder < firstBidder + biddersPerThread; bidder++) {
+          storageService.addRoundResultForBidder(String.valueOf(bidder), RoundResult.builder().build());
+          storageService.getRoundResultsForBidder(String.valueOf(bidder));
+        }
+      });
+    }
+    CompletableFuture.allOf(writers).join();
+
+    // then
+    assertThat(storageService.getNumberOfBidders()).isBetween(1, maxBidders);
+    assertThat(storageService.getNumberOfBidders() + storageService.getCapacityEvictionCount())
+      .isEqualTo((long) threads * biddersPerThread);
+  }
+
+  @Test
+  @DisplayName("Should remove round results of bidder on request")
+  void shouldRemoveRoundResultsForBidder() {
+    // given
+    evictingRoundResultStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+
+    // when
+    evictingRoundResultStorageService.removeRoundResultsForBidder(UUID);
+
+    // then
+    assertThat(delegate.getRoundResultsForBidder(UUID)).isEmpty();
+    assertThat(evictingRoundResultStorageService.getNumberOfBidders()).isZero();
+    assertThat(evictingRoundResultStorageService.getRemovalCount()).isOne();
+  }
+
+  @Test
+  @DisplayName("Should not remove delegate results, when bidder is only read")
+  void shouldNotTrackBidderWhichIsOnlyRead() {
+    // given
+    RoundResultStorageOperations mockedDelegate = mock(RoundResultStorageOperations.class);
+    EvictingRoundResultStorageService storageService = new EvictingRoundResultStorageService(mockedDelegate, 1, TTL, clock);
+
+    // when
+    storageService.getRoundResultsForBidder(UUID);
+    storageService.getRoundResultsForBidder(ANOTHER_UUID);
+
+    // then
+    assertThat(storageService.getNumberOfBidders()).isZero();
+    verify(mockedDelegate, never()).removeRoundResultsForBidder(UUID);
+  }
+
+  @Test
+  @DisplayName("Should throw exception when maximum number of bidders is not positive")
+  void shouldThrowExceptionWhenMaximumNumberOfBiddersIsNotPositive() {
+    // when - then
+    assertThatThrownBy(() -> new EvictingRoundResultStorageService(delegate, 0, TTL, clock))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Maximum number of bidders should be positive");
+  }
+}
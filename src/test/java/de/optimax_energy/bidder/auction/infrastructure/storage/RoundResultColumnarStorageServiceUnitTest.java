@@ -0,0 +1,99 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoundResultColumnarStorageServiceUnitTest extends UnitTest {
+
+  private static final String UUID = "0";
+
+  private static final String ANOTHER_UUID = "1";
+
+  private final RoundResultColumnarStorageService roundResultColumnarStorageService = new RoundResultColumnarStorageService();
+
+  @Test
+  @DisplayName("Should add round result")
+  void shouldAddRoundResultForBidder() {
+    // given
+    RoundResult givenRoundResult = givenRoundResult(5);
+
+    // when
+    roundResultColumnarStorageService.addRoundResultForBidder(UUID, givenRoundResult);
+
+    // then
+    List<RoundResult> roundResultsForBidder = roundResultColumnarStorageService.getRoundResultsForBidder(UUID);
+    assertThat(roundResultsForBidder).hasSize(1);
+    assertThat(roundResultsForBidder.get(0)).usingRecursiveComparison().isEqualTo(givenRoundResult);
+  }
+
+  @Test
+  @DisplayName("Should add round result for different bidders")
+  void shouldAddRoundResultForDifferentBidders() {
+    // given
+    RoundResult givenRoundResult = givenRoundResult(5);
+    RoundResult givenSecondRoundResult = givenRoundResult(999);
+
+    // when
+    roundResultColumnarStorageService.addRoundResultForBidder(UUID, givenRoundResult);
+    roundResultColumnarStorageService.addRoundResultForBidder(ANOTHER_UUID, givenSecondRoundResult);
+
+    // then
+    List<RoundResult> roundResultsForFirstBidder = roundResultColumnarStorageService.getRoundResultsForBidder(UUID);
+    List<RoundResult> roundResultsForSecondBidder = roundResultColumnarStorageService.getRoundResultsForBidder(ANOTHER_UUID);
+    assertThat(roundResultsForFirstBidder).hasSize(1);
+    assertThat(roundResultsForFirstBidder.get(0)).usingRecursiveComparison().isEqualTo(givenRoundResult);
+    assertThat(roundResultsForSecondBidder).hasSize(1);
+    assertThat(roundResultsForSecondBidder.get(0)).usingRecursiveComparison().isEqualTo(givenSecondRoundResult);
+  }
+
+  @Test
+  @DisplayName("Should add round result given by its fields")
+  void shouldAddRoundResultGivenByItsFields() {
+    // when
+    roundResultColumnarStorageService.addRoundResultForBidder(UUID, 5, 2, 3, 97, 0);
+
+    // then
+    List<RoundResult> roundResultsForBidder = roundResultColumnarStorageService.getRoundResultsForBidder(UUID);
+    assertThat(roundResultsForBidder).hasSize(1);
+    assertThat(roundResultsForBidder.get(0)).usingRecursiveComparison().isEqualTo(givenRoundResult(5));
+  }
+
+  @Test
+  @DisplayName("Should return empty list for unknown bidder")
+  void shouldReturnEmptyListForUnknownBidder() {
+    // when
+    List<RoundResult> roundResultsForBidder = roundResultColumnarStorageService.getRoundResultsForBidder(UUID);
+
+    // then
+    assertThat(roundResultsForBidder).isEmpty();
+  }
+
+  private RoundResult givenRoundResult(int myBid) {
+    return RoundResult.builder()
+      .withMyBid(myBid)
+      .withMyWonQuantity(2)
+      .withOpponentBid(3)
+      .withOpponentRemainingCash(97)
+      .withOpponentWonQuantity(0)
+      .build();
+  }
+
+  @Test
+  @DisplayName("Should remove round results")
+  void shouldRemoveRoundResultsForBidder() {
+    // given
+    roundResultColumnarStorageService.addRoundResultForBidder(UUID, givenRoundResult(5));
+
+    // when
+    roundResultColumnarStorageService.removeRoundResultsForBidder(UUID);
+
+    // then
+    assertThat(roundResultColumnarStorageService.getRoundResultsForBidder(UUID)).isEmpty();
+  }
+}
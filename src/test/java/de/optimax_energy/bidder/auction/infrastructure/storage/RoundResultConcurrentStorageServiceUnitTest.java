@@ -0,0 +1,105 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoundResultConcurrentStorageServiceUnitTest extends UnitTest {
+
+  private static final String UUID = "0";
+
+  private static final String ANOTHER_UUID = "1";
+
+  private final RoundResultConcurrentStorageService roundResultConcurrentStorageService = new RoundResultConcurrentStorageService();
+
+  @Test
+  @DisplayName("Should add round result for different bidders")
+  void shouldAddRoundResultForDifferentBidders() {
+    // given
+    RoundResult givenRoundResult = RoundResult.builder().withMyBid(5).build();
+    RoundResult givenSecondRoundResult = RoundResult.builder().withMyBid(999).build();
+
+    // when
+    roundResultConcurrentStorageService.addRoundResultForBidder(UUID, givenRoundResult);
+    roundResultConcurrentStorageService.addRoundResultForBidder(ANOTHER_UUID, givenSecondRoundResult);
+
+    // then
+    assertThat(roundResultConcurrentStorageService.getRoundResultsForBidder(UUID)).containsExactly(givenRoundResult);
+    assertThat(roundResultConcurrentStorageService.getRoundResultsForBidder(ANOTHER_UUID)).containsExactly(givenSecondRoundResult);
+  }
+
+  @Test
+  @DisplayName("Should return immutable snapshot, which doesn't see later round results")
+  void shouldReturnImmutableSnapshot() {
+    // given
+    roundResultConcurrentStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+    List<RoundResult> snapshot = roundResultConcurrentStorageService.getRoundResultsForBidder(UUID);
+
+    // when
+    roundResultConcurrentStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+
+    // then
+    assertThat(snapshot).hasSize(1);
+    assertThat(roundResultConcurrentStorageService.getRoundResultsForBidder(UUID)).hasSize(2);
+    assertThatThrownBy(snapshot::clear).isExactlyInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @DisplayName("Should keep all round results, when bidders append concurrently")
+  void shouldKeepAllRoundResultsWhenBiddersAppendConcurrently() throws Exception {
+    // given
+    int numberOfBidders = 8;
+    int numberOfRounds = 10_000;
+    ExecutorService executorService = Executors.newFixedThreadPool(numberOfBidders);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    for (int bidder = 0; bidder < numberOfBidders; bidder++) {
+      String bidderUuid = String.valueOf(bidder);
+      futures.add(executorService.submit(() -> {
+        startLatch.await();
+        for (int round = 0; round < numberOfRounds; round++) {
+          roundResultConcurrentStorageService.addRoundResultForBidder(bidderUuid, RoundResult.builder().withMyBid(round).build());
+        }
+        return null;
+      }));
+    }
+    startLatch.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // then
+    for (int bidder = 0; bidder < numberOfBidders; bidder++) {
+      List<RoundResult> roundResults = roundResultConcurrentStorageService.getRoundResultsForBidder(String.valueOf(bidder));
+      assertThat(roundResults).hasSize(numberOfRounds);
+      assertThat(roundResults.get(numberOfRounds - 1).getMyBid()).isEqualTo(numberOfRounds - 1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should remove round results")
+  void shouldRemoveRoundResultsForBidder() {
+    // given
+    roundResultConcurrentStorageService.addRoundResultForBidder(UUID, RoundResult.builder().build());
+
+    // when
+    roundResultConcurrentStorageService.removeRoundResultsForBidder(UUID);
+
+    // then
+    assertThat(roundResultConcurrentStorageService.getRoundResultsForBidder(UUID)).isEmpty();
+  }
+}
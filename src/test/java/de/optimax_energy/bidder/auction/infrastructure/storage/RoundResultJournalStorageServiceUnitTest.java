@@ -0,0 +1,223 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.InitialAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class RoundResultJournalStorageServiceUnitTest extends UnitTest {
+
+  private static final String UUID = "0";
+
+  private static final String ANOTHER_UUID = "1";
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("Should add round result for different bidders")
+  void shouldAddRoundResultForDifferentBidders() throws IOException {
+    // given
+    RoundResult givenRoundResult = givenRoundResult(5);
+    RoundResult givenSecondRoundResult = givenRoundResult(999);
+
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // when
+      storageService.addRoundResultForBidder(UUID, givenRoundResult);
+      storageService.addRoundResultForBidder(ANOTHER_UUID, givenSecondRoundResult);
+
+      // then
+      assertThat(storageService.getRoundResultsForBidder(UUID)).singleElement()
+        .usingRecursiveComparison().isEqualTo(givenRoundResult);
+      assertThat(storageService.getRoundResultsForBidder(ANOTHER_UUID)).singleElement()
+        .usingRecursiveComparison().isEqualTo(givenSecondRoundResult);
+    }
+  }
+
+  @Test
+  @DisplayName("Should add round result given by its fields")
+  void shouldAddRoundResultGivenByItsFields() {
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // when
+      storageService.addRoundResultForBidder(UUID, 5, 2, 4, INITIAL_CASH - 5, 0);
+
+      // then
+      assertThat(storageService.getRoundResultsForBidder(UUID)).singleElement()
+        .usingRecursiveComparison().isEqualTo(givenRoundResult(5));
+    }
+  }
+
+  @ParameterizedTest(name = "Should recover round results after restart. syncInterval={0}")
+  @ValueSource(ints = {0, 1, 100})
+  void shouldRecoverRoundResultsAfterRestart(int syncInterval) throws IOException {
+    // given
+    int numberOfRounds = 5_000;
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, syncInterval)) {
+      for (int round = 0; round < numberOfRounds; round++) {
+        storageService.addRoundResultForBidder(UUID, givenRoundResult(round));
+      }
+    }
+
+    // when
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, syncInterval)) {
+      // then
+      List<RoundResult> roundResults = storageService.getRoundResultsForBidder(UUID);
+      assertThat(roundResults).hasSize(numberOfRounds);
+      assertThat(roundResults.get(numberOfRounds - 1)).usingRecursiveComparison().isEqualTo(givenRoundResult(numberOfRounds - 1));
+
+      storageService.addRoundResultForBidder(UUID, givenRoundResult(numberOfRounds));
+      assertThat(storageService.getRoundResultsForBidder(UUID)).hasSize(numberOfRounds + 1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should discard rounds of previous auction, when auction is initialized again")
+  void shouldDiscardRoundsOfPreviousAuctionWhenAuctionIsInitializedAgain() {
+    // given
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      storageService.initAuctionForBidder(UUID, INITIAL_QUANTITY, INITIAL_CASH);
+      for (int round = 1; round <= 3; round++) {
+        storageService.addRoundResultForBidder(UUID, givenRoundResult(round));
+      }
+
+      // when
+      storageService.initAuctionForBidder(UUID, 2 * INITIAL_QUANTITY, 2 * INITIAL_CASH);
+
+      // then
+      assertThat(storageService.getRoundResultsForBidder(UUID)).isEmpty();
+      storageService.addRoundResultForBidder(UUID, givenRoundResult(10));
+    }
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      assertThat(storageService.getRoundResultsForBidder(UUID)).singleElement()
+        .usingRecursiveComparison().isEqualTo(givenRoundResult(10));
+      assertThat(storageService.getInitialAuctionStateForBidder(UUID)).hasValueSatisfying(state -> {
+        assertThat(state.getInitialQuantity()).isEqualTo(2 * INITIAL_QUANTITY);
+        assertThat(state.getInitialCash()).isEqualTo(2 * INITIAL_CASH);
+      });
+    }
+  }
+
+  @Test
+  @DisplayName("Should recover initial quantity and cash of auction after restart")
+  void shouldRecoverInitialQuantityAndCashOfAuctionAfterRestart() {
+    // given
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      storageService.initAuctionForBidder(UUID, INITIAL_QUANTITY, INITIAL_CASH);
+      storageService.addRoundResultForBidder(UUID, givenRoundResult(1));
+      storageService.addRoundResultForBidder(ANOTHER_UUID, givenRoundResult(1));
+    }
+
+    // when
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 1)) {
+      Optional<InitialAuctionState> initialAuctionState = storageService.getInitialAuctionStateForBidder(UUID);
+
+      // then
+      assertThat(initialAuctionState).hasValueSatisfying(state -> {
+        assertThat(state.getInitialQuantity()).isEqualTo(INITIAL_QUANTITY);
+        assertThat(state.getInitialCash()).isEqualTo(INITIAL_CASH);
+      });
+      assertThat(storageService.getRoundResultsForBidder(UUID)).hasSize(1);
+      assertThat(storageService.getInitialAuctionStateForBidder(ANOTHER_UUID)).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Should not keep journal files open between calls")
+  void shouldNotKeepJournalFilesOpenBetweenCalls() throws IOException {
+    // given
+    Path fileDescriptors = Path.of("/proc/self/fd");
+    assumeThat(fileDescriptors).isDirectory();
+
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // when
+      for (int bidder = 0; bidder < 100; bidder++) {
+        storageService.addRoundResultForBidder(String.valueOf(bidder), givenRoundResult(bidder));
+      }
+
+      // then
+      assertThat(countOpenFilesInDirectory(fileDescriptors)).isZero();
+      assertThat(storageService.getRoundResultsForBidder("99")).singleElement()
+        .usingRecursiveComparison().isEqualTo(givenRoundResult(99));
+    }
+  }
+
+  @Test
+  @DisplayName("Should return empty list for unknown bidder")
+  void shouldReturnEmptyListForUnknownBidder() throws IOException {
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // when
+      List<RoundResult> roundResults = storageService.getRoundResultsForBidder(UUID);
+
+      // then
+      assertThat(roundResults).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject bidder uuid, which can't be used as file name")
+  void shouldRejectInvalidBidderUuid() throws IOException {
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // when - then
+      assertThatThrownBy(() -> storageService.addRoundResultForBidder("../0", givenRoundResult(1)))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Bidder uuid can't be used as journal name: ../0");
+    }
+  }
+
+  private long countOpenFilesInDirectory(Path fileDescriptors) throws IOException {
+    Path realDirectory = directory.toRealPath();
+    try (Stream<Path> descriptors = Files.list(fileDescriptors)) {
+      return descriptors
+        .map(descriptor -> {
+          try {
+            return Files.readSymbolicLink(descriptor);
+          } catch (IOException e) {
+            return descriptor;
+          }
+        })
+        .filter(target -> target.startsWith(realDirectory))
+        .count();
+    }
+  }
+
+  private RoundResult givenRoundResult(int myBid) {
+    return RoundResult.builder()
+      .withMyBid(myBid)
+      .withMyWonQuantity(2)
+      .withOpponentBid(myBid - 1)
+      .withOpponentRemainingCash(INITIAL_CASH - myBid)
+      .withOpponentWonQuantity(0)
+      .build();
+  }
+
+  @Test
+  @DisplayName("Should remove round results and journal file")
+  void shouldRemoveRoundResultsForBidder() throws IOException {
+    try (RoundResultJournalStorageService storageService = new RoundResultJournalStorageService(directory, 0)) {
+      // given
+      storageService.addRoundResultForBidder(UUID, givenRoundResult(1));
+
+      // when
+      storageService.removeRoundResultsForBidder(UUID);
+
+      // then
+      assertThat(storageService.getRoundResultsForBidder(UUID)).isEmpty();
+      assertThat(directory.resolve(UUID + ".journal")).doesNotExist();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package de.optimax_energy.bidder.auction.infrastructure.storage;
+
+import de.optimax_energy.bidder.auction.api.RoundResultStorageOperations;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures append + read throughput of {@link RoundResultConcurrentStorageService} with 1..N threads, every thread
+ * plays its own bidders. Run with {@code gradle storageThroughputBenchmark}.
+ */
+public class RoundResultStorageThroughputBenchmark {
+
+  private static final int BIDDERS_PER_THREAD = 100;
+
+  private static final int ROUNDS_PER_BIDDER = 2_000;
+
+  private static final int NUMBER_OF_ITERATIONS = 5;
+
+  public static void main(String[] args) throws Exception {
+    int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+    double singleThreadThroughput = 0;
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      double throughput = measure(threads);
+      if (threads == 1) {
+        singleThreadThroughput = throughput;
+      }
+      System.out.printf("threads=%d ops/s=%.0f scaling=%.2f%n", threads, throughput, throughput / singleThreadThroughput);
+    }
+  }
+
+  private static double measure(int threads) throws Exception {
+    double bestThroughput = 0;
+    for (int iteration = 0; iteration < NUMBER_OF_ITERATIONS; iteration++) {
+      RoundResultStorageOperations storage = new RoundResultConcurrentStorageService();
+      ExecutorService executorService = Executors.newFixedThreadPool(threads);
+      CountDownLatch startLatch = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < threads; thread++) {
+        int threadIndex = thread;
+        futures.add(executorService.submit(() -> {
+          startLatch.await();
+          playRounds(storage, threadIndex);
+          return null;
+        }));
+      }
+
+      long start = System.nanoTime();
+      startLatch.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      long elapsedNanos = System.nanoTime() - start;
+      executorService.shutdown();
+
+      long operations = (long) threads * BIDDERS_PER_THREAD * ROUNDS_PER_BIDDER;
+      bestThroughput = Math.max(bestThroughput, operations * 1_000_000_000.0 / elapsedNanos);
+    }
+    return bestThroughput;
+  }
+
+  private static void playRounds(RoundResultStorageOperations storage, int threadIndex) {
+    RoundResult roundResult = RoundResult.builder().withMyBid(1).withOpponentBid(2).build();
+    String[] bidderUuids = new String[BIDDERS_PER_THREAD];
+    for (int bidder = 0; bidder < BIDDERS_PER_THREAD; bidder++) {
+      bidderUuids[bidder] = threadIndex + "-" + bidder;
+    }
+
+    for (int round = 0; round < ROUNDS_PER_BIDDER; round++) {
+      for (String bidderUuid : bidderUuids) {
+        storage.addRoundResultForBidder(bidderUuid, roundResult);
+        storage.getRoundResultsForBidder(bidderUuid);
+      }
+    }
+  }
+}
@@ -1,121 +1,126 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
-import org.junit.jupiter.api.BeforeEach;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
-
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 class AggressiveBiddingStrategyUnitTest extends UnitTest {
 
-  @Mock
-  private StatisticsService statisticsService;
-
-  private AggressiveBiddingStrategy aggressiveBiddingStrategy;
-
-  @BeforeEach
-  void setUp() {
-    aggressiveBiddingStrategy = new AggressiveBiddingStrategy(statisticsService);
-  }
+  private final AggressiveBiddingStrategy aggressiveBiddingStrategy = new AggressiveBiddingStrategy();
 
   @Test
   @DisplayName("Should return bid, which bigger by 1 than opponent remaining cash, if opponent needs one QU to win")
   void shouldReturnBidWhichMoreThanOpponentRemainingCash() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
     int opponentRemainingCash = 1;
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(opponentRemainingCash);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(INITIAL_QUANTITY / 2);
-    when(statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(opponentRemainingCash)
+      .withOpponentQuantity(INITIAL_QUANTITY / 2);
 
     // when
-    int bid = aggressiveBiddingStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    int bid = aggressiveBiddingStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isEqualTo(opponentRemainingCash + 1);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should return bid, which equals tot remaining cash, if opponent needs one QU to win")
   void shouldReturnBidWhichEqualsToRemainingCash() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(INITIAL_QUANTITY / 2);
-    when(statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(INITIAL_CASH)
+      .withOpponentQuantity(INITIAL_QUANTITY / 2);
 
     // when
-    int bid = aggressiveBiddingStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    int bid = aggressiveBiddingStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isEqualTo(INITIAL_CASH);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should adjust bid and make it larger by 1 than opponent remaining cash, if opponent remaining cash less than calculated bid")
   void shouldDecreaseBidIfItIsLargerThanOpponentRemainingCash() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
     int opponentRemainingCash = 1;
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(opponentRemainingCash);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(0);
-    when(statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
-    when(statisticsService.calculateOpponentAverageBid(roundResults)).thenReturn(INITIAL_CASH / INITIAL_QUANTITY);
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(opponentRemainingCash)
+      .withOpponentQuantity(0)
+      .withPredictedOpponentBid(INITIAL_CASH / INITIAL_QUANTITY);
 
     // when
-    int bid = aggressiveBiddingStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    int bid = aggressiveBiddingStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isEqualTo(opponentRemainingCash + 1);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verify(statisticsService).calculateOpponentAverageBid(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
-  @DisplayName("Should increase bid in 1.34 times opponent's average bid")
-  void shouldIncreaseBidDependingOnOpponentAverageBid() {
+  @DisplayName("Should increase bid in 1.34 times opponent's predicted bid")
+  void shouldIncreaseBidDependingOnPredictedOpponentBid() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
     double bidMultiplier = 1.34;
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(1);
-    when(statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
-    when(statisticsService.calculateOpponentAverageBid(roundResults)).thenReturn(INITIAL_CASH / INITIAL_QUANTITY);
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(INITIAL_CASH)
+      .withOpponentQuantity(1)
+      .withPredictedOpponentBid(INITIAL_CASH / INITIAL_QUANTITY);
 
     // when
-    int bid = aggressiveBiddingStrategy.placeBid(roundResults, INITIAL_QUANTITY, INITIAL_CASH);
+    int bid = aggressiveBiddingStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isEqualTo((int) (bidMultiplier * INITIAL_CASH / INITIAL_QUANTITY));
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verify(statisticsService).calculateOpponentAverageBid(roundResults);
-    verifyNoMoreInteractions(statisticsService);
+  }
+
+  @Test
+  @DisplayName("Should increase bid by given multiplier, but not higher than given max bid multiplier")
+  void shouldIncreaseBidByGivenMultipliers() {
+    // given
+    AggressiveBiddingStrategy givenStrategy = new AggressiveBiddingStrategy(StrategyParameters.builder()
+      .withOneSigmaMultiplier(2)
+      .withMaxBidMultiplier(1)
+      .build());
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(INITIAL_CASH)
+      .withOpponentQuantity(1);
+
+    // when
+    int doubledBid = givenStrategy.placeBid(auctionState.withPredictedOpponentBid(100));
+    int limitedBid = givenStrategy.placeBid(auctionState.withPredictedOpponentBid(300));
+
+    // then
+    assertThat(doubledBid).isEqualTo(200);
+    assertThat(limitedBid).isEqualTo(INITIAL_CASH / (INITIAL_QUANTITY / 2 / 2));
+  }
+
+  @Test
+  @DisplayName("Should bid to beat 84% of opponent's bids, when enough bids are known")
+  void shouldBidToBeatOpponentBidsWhenEnoughBidsAreKnown() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics();
+    for (int opponentBid = 10; opponentBid <= 100; opponentBid += 10) {
+      roundStatistics.add(RoundResult.builder().withOpponentBid(opponentBid).withOpponentRemainingCash(INITIAL_CASH).build());
+    }
+    AuctionState auctionState = givenAuctionState()
+      .withOpponentRemainingCash(INITIAL_CASH)
+      .withOpponentQuantity(1)
+      .withPredictedOpponentBid(95)
+      .withRoundStatistics(roundStatistics);
+
+    // when
+    int bid = aggressiveBiddingStrategy.placeBid(auctionState);
+
+    // then
+    // 9 of 10 bids are not higher than 90, which is in the bucket [88, 91] of the sketch
+    assertThat(bid).isEqualTo(92);
   }
 
   @Test
@@ -128,7 +133,11 @@ class AggressiveBiddingStrategyUnitTest extends UnitTest {
     assertThat(strategyName).isEqualTo(StrategyName.AGGRESSIVE);
   }
 
-  private List<RoundResult> givenRoundResults() {
-    return List.of(RoundResult.builder().build());
+  private AuctionState givenAuctionState() {
+    return new AuctionState()
+      .withInitialQuantity(INITIAL_QUANTITY)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds(1)
+      .withMyRemainingCash(INITIAL_CASH);
   }
 }
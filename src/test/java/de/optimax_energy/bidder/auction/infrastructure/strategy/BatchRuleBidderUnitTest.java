@@ -0,0 +1,119 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.BatchAuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchRuleBidderUnitTest extends UnitTest {
+
+  private static final int BATCH_SIZE = 256;
+
+  private final BatchRuleBidder batchRuleBidder = new BatchRuleBidder();
+
+  @Test
+  @DisplayName("Should place same bids as strategy selector without end game")
+  void shouldPlaceSameBidsAsStrategySelectorWithoutEndGame() {
+    // given
+    StrategySelector strategySelector = new StrategySelector();
+    Random random = new Random(42);
+    BatchAuctionState batchAuctionState = new BatchAuctionState(BATCH_SIZE);
+    int[] quantities = {2, 10, 20, 50, 100};
+    int[] cashes = {10, 100, 1000, 10000};
+    for (int auction = 0; auction < BATCH_SIZE; auction++) {
+      batchAuctionState.init(auction, quantities[auction % quantities.length], cashes[auction % cashes.length]);
+    }
+    int[] bids = new int[BATCH_SIZE];
+    int comparedBids = 0;
+
+    // when - then
+    for (int round = 0; round < 50; round++) {
+      batchRuleBidder.placeBids(batchAuctionState, bids);
+      for (int auction = 0; auction < BATCH_SIZE; auction++) {
+        AuctionState auctionState = toAuctionState(batchAuctionState, auction);
+        if (auctionState.getRemainingQuantity() == 0) {
+          continue;
+        }
+        BiddingStrategy strategy = strategySelector.select(auctionState).orElseThrow();
+        if (strategy.getStrategyName() != StrategyName.END_GAME) {
+          int expectedBid = Math.min(strategy.placeBid(auctionState), auctionState.getMyRemainingCash());
+          assertThat(bids[auction]).as("bid of %s", auctionState).isEqualTo(expectedBid);
+          comparedBids++;
+        }
+        int opponentRemainingCash = batchAuctionState.getOpponentRemainingCashes()[auction];
+        int opponentBid = random.nextInt(Math.min(opponentRemainingCash, 3 * auctionState.getInitialCash() / auctionState.getInitialQuantity()) + 1);
+        batchAuctionState.bids(auction, bids[auction], opponentBid);
+      }
+    }
+    assertThat(comparedBids).isGreaterThan(1_000);
+  }
+
+  @Test
+  @DisplayName("Should place maximum bid in last round and minimum bid in first round")
+  void shouldPlaceMaximumBidInLastRoundAndMinimumBidInFirstRound() {
+    // given
+    BatchAuctionState batchAuctionState = new BatchAuctionState(2);
+    batchAuctionState.init(0, 2 * INITIAL_QUANTITY, INITIAL_CASH);
+    batchAuctionState.init(1, 2, INITIAL_CASH);
+    int[] bids = new int[2];
+
+    // when
+    batchRuleBidder.placeBids(batchAuctionState, bids);
+
+    // then
+    assertThat(bids).containsExactly(1, INITIAL_CASH);
+  }
+
+  @Test
+  @DisplayName("Should place zero bid, when auction is won")
+  void shouldPlaceZeroBidWhenAuctionIsWon() {
+    // given
+    BatchAuctionState batchAuctionState = new BatchAuctionState(1);
+    batchAuctionState.init(0, INITIAL_QUANTITY, INITIAL_CASH);
+    for (int round = 0; round < 3; round++) {
+      batchAuctionState.bids(0, 10, 1);
+    }
+    int[] bids = new int[1];
+
+    // when
+    batchRuleBidder.placeBids(batchAuctionState, bids);
+
+    // then
+    assertThat(bids).containsExactly(0);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when bids array is shorter than batch")
+  void shouldThrowExceptionWhenBidsArrayIsShorterThanBatch() {
+    // when - then
+    assertThatThrownBy(() -> batchRuleBidder.placeBids(new BatchAuctionState(2), new int[1]))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Bids should have at least 2 elements");
+  }
+
+  private AuctionState toAuctionState(BatchAuctionState batchAuctionState, int auction) {
+    int numberOfRounds = batchAuctionState.getNumbersOfRounds()[auction];
+    int lastOpponentBid = batchAuctionState.getLastOpponentBids()[auction];
+    int previousOpponentBid = batchAuctionState.getPreviousOpponentBids()[auction];
+    int predictedOpponentBid = numberOfRounds > 1
+      ? (int) Math.round((lastOpponentBid + previousOpponentBid) / 2.0)
+      : lastOpponentBid;
+    return new AuctionState()
+      .withInitialQuantity(batchAuctionState.getInitialQuantities()[auction])
+      .withInitialCash(batchAuctionState.getInitialCashes()[auction])
+      .withNumberOfRounds(numberOfRounds)
+      .withMyQuantity(batchAuctionState.getMyQuantities()[auction])
+      .withOpponentQuantity(batchAuctionState.getOpponentQuantities()[auction])
+      .withMyRemainingCash(batchAuctionState.getMyRemainingCashes()[auction])
+      .withOpponentRemainingCash(batchAuctionState.getOpponentRemainingCashes()[auction])
+      .withPredictedOpponentBid(predictedOpponentBid);
+  }
+}
@@ -0,0 +1,115 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentClass;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBiddingStrategyUnitTest extends UnitTest {
+
+  @ParameterizedTest(name = "Should outbid constant opponent, if it is affordable. myRemainingCash={0}")
+  @CsvSource({"500, 51", "100, 0"})
+  void shouldOutbidConstantOpponentIfItIsAffordable(int myRemainingCash, int expectedBid) {
+    // given
+    AuctionState auctionState = givenAuctionState(INITIAL_QUANTITY, myRemainingCash, 850,
+      givenOpponentProfile(new int[]{0, 0, 0}, new int[]{50, 50, 50}));
+
+    // when
+    int bid = new ConstantCounterStrategy().placeBid(auctionState);
+
+    // then
+    assertThat(auctionState.getOpponentClass()).isEqualTo(OpponentClass.CONSTANT);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @ParameterizedTest(name = "Should outbid pace of aggressive opponent, if it is affordable. myRemainingCash={0}")
+  @CsvSource({"1000, 451", "500, 0"})
+  void shouldOutbidPaceOfAggressiveOpponentIfItIsAffordable(int myRemainingCash, int expectedBid) {
+    // given
+    AuctionState auctionState = givenAuctionState(INITIAL_QUANTITY, myRemainingCash, 450,
+      givenOpponentProfile(new int[]{0, 0, 0}, new int[]{200, 160, 190}));
+
+    // when
+    int bid = new AggressiveCounterStrategy().placeBid(auctionState);
+
+    // then
+    assertThat(auctionState.getOpponentClass()).isEqualTo(OpponentClass.AGGRESSIVE);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @ParameterizedTest(name = "Should outbid upper edge of pace of budget pacing opponent. myRemainingCash={0}")
+  @CsvSource({"1000, 418", "800, 0"})
+  void shouldOutbidUpperEdgeOfPaceOfBudgetPacingOpponent(int myRemainingCash, int expectedBid) {
+    // given
+    AuctionState auctionState = givenAuctionState(INITIAL_QUANTITY, myRemainingCash, 700,
+      givenOpponentProfile(new int[]{0, 0, 0}, new int[]{100, 110, 90}));
+
+    // when
+    int bid = new BudgetPacingCounterStrategy().placeBid(auctionState);
+
+    // then
+    assertThat(auctionState.getOpponentClass()).isEqualTo(OpponentClass.BUDGET_PACING);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @ParameterizedTest(name = "Should bid share of estimated maximum of random opponent. myRemainingCash={0}")
+  @CsvSource({"1000, 147", "400, 100"})
+  void shouldBidShareOfEstimatedMaximumOfRandomOpponent(int myRemainingCash, int expectedBid) {
+    // given
+    AuctionState auctionState = givenAuctionState(2 * INITIAL_QUANTITY, myRemainingCash, 695,
+      givenOpponentProfile(new int[]{0, 0, 0, 0}, new int[]{5, 140, 60, 100}));
+
+    // when
+    int bid = new RandomCounterStrategy().placeBid(auctionState);
+
+    // then
+    assertThat(auctionState.getOpponentClass()).isEqualTo(OpponentClass.RANDOM_UNIFORM);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @ParameterizedTest(name = "Should outbid trend following opponent up to even spend of cash. myRemainingCash={0}")
+  @CsvSource({"600, 42", "200, 0"})
+  void shouldOutbidTrendFollowingOpponentUpToEvenSpendOfCash(int myRemainingCash, int expectedBid) {
+    // given
+    AuctionState auctionState = givenAuctionState(2 * INITIAL_QUANTITY, myRemainingCash, 932,
+      givenOpponentProfile(new int[]{10, 20, 30, 40}, new int[]{5, 11, 21, 31}));
+
+    // when
+    int bid = new TrendFollowingCounterStrategy().placeBid(auctionState);
+
+    // then
+    assertThat(auctionState.getOpponentClass()).isEqualTo(OpponentClass.TREND_FOLLOWING);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  private OpponentProfile givenOpponentProfile(int[] myBids, int[] opponentBids) {
+    OpponentProfile opponentProfile = new OpponentProfile();
+    int opponentCash = INITIAL_CASH;
+    for (int round = 0; round < opponentBids.length; round++) {
+      opponentProfile.update(myBids[round], opponentBids[round], opponentCash, INITIAL_QUANTITY - round);
+      opponentCash -= opponentBids[round];
+    }
+    return opponentProfile;
+  }
+
+  /**
+   * Both bidders have played a round per bid of the profile and the opponent has won 2 QU more than the bot.
+   */
+  private AuctionState givenAuctionState(int initialQuantity, int myRemainingCash, int opponentRemainingCash,
+                                         OpponentProfile opponentProfile) {
+    int playedQuantity = 2 * opponentProfile.getNumberOfRounds();
+    return new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds(opponentProfile.getNumberOfRounds())
+      .withMyQuantity(playedQuantity / 2 - 1)
+      .withOpponentQuantity(playedQuantity / 2 + 1)
+      .withMyRemainingCash(myRemainingCash)
+      .withOpponentRemainingCash(opponentRemainingCash)
+      .withOpponentProfile(opponentProfile);
+  }
+}
@@ -0,0 +1,69 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndGameBiddingStrategyUnitTest extends UnitTest {
+
+  private final EndGameBiddingStrategy endGameBiddingStrategy = new EndGameBiddingStrategy(new EndGameSolver());
+
+  @ParameterizedTest(name = "Should check if win is forced. myQuantity={0}, opponentQuantity={1}, myRemainingCash={2}, opponentRemainingCash={3}")
+  @CsvSource({
+    "2, 4, 1000, 10, true",
+    "2, 4, 20, 10, false",
+    "0, 4, 1000, 100, false",
+    "0, 0, 1000, 1000, false"
+  })
+  void shouldCheckIfWinIsForced(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash,
+                                boolean expectedWinForced) {
+    // given
+    AuctionState auctionState = givenAuctionState(myQuantity, opponentQuantity, myRemainingCash, opponentRemainingCash);
+
+    // when
+    boolean winForced = endGameBiddingStrategy.isWinForced(auctionState);
+
+    // then
+    assertThat(winForced).isEqualTo(expectedWinForced);
+  }
+
+  @Test
+  @DisplayName("Should place the cheapest bid, which forces win")
+  void shouldPlaceCheapestBidWhichForcesWin() {
+    // given
+    AuctionState auctionState = givenAuctionState(2, 4, 1000, 10);
+
+    // when
+    int bid = endGameBiddingStrategy.placeBid(auctionState);
+
+    // then
+    assertThat(bid).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should return strategy name")
+  void shouldReturnStrategyName() {
+    // when
+    StrategyName strategyName = endGameBiddingStrategy.getStrategyName();
+
+    // then
+    assertThat(strategyName).isEqualTo(StrategyName.END_GAME);
+  }
+
+  private AuctionState givenAuctionState(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash) {
+    return new AuctionState()
+      .withInitialQuantity(INITIAL_QUANTITY)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds(3)
+      .withMyQuantity(myQuantity)
+      .withOpponentQuantity(opponentQuantity)
+      .withMyRemainingCash(myRemainingCash)
+      .withOpponentRemainingCash(opponentRemainingCash);
+  }
+}
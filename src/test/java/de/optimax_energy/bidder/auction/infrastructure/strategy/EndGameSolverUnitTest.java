@@ -0,0 +1,125 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndGameSolverUnitTest extends UnitTest {
+
+  private final EndGameSolver endGameSolver = new EndGameSolver();
+
+  @ParameterizedTest(name = "Should solve end game. rounds={0}, quantityDifference={1}, myCash={2}, opponentCash={3}")
+  @CsvSource({
+    "1, 0, 101, 100, 1, 100",
+    "1, 0, 100, 100, 0, 100",
+    "1, 0, 99, 100, -1, 0",
+    "2, -2, 1000, 10, 1, 10",
+    "2, -2, 20, 10, 0, 10",
+    "2, 6, 0, 1000, 1, 0",
+    "3, -8, 1000, 0, -1, 0"
+  })
+  void shouldSolveEndGame(int rounds, int quantityDifference, int myCash, int opponentCash, int expectedValue, int expectedBid) {
+    // when
+    int value = endGameSolver.solve(rounds, quantityDifference, myCash, opponentCash);
+    int bid = endGameSolver.findBid(rounds, quantityDifference, myCash, opponentCash);
+
+    // then
+    assertThat(value).isEqualTo(expectedValue);
+    assertThat(bid).isEqualTo(expectedBid);
+  }
+
+  @Test
+  @DisplayName("Should return same values regardless of transposition table size")
+  void shouldReturnSameValuesRegardlessOfTableSize() {
+    // given
+    EndGameSolver solverWithoutTable = new EndGameSolver(EndGameSolver.DEFAULT_MAX_ROUNDS, EndGameSolver.DEFAULT_MAX_NODES, 1);
+
+    for (int rounds = 1; rounds <= 3; rounds++) {
+      for (int quantityDifference = -6; quantityDifference <= 6; quantityDifference += 2) {
+        for (int myCash = 0; myCash <= 6; myCash++) {
+          for (int opponentCash = 0; opponentCash <= 6; opponentCash++) {
+            // when
+            int value = endGameSolver.solve(rounds, quantityDifference, myCash, opponentCash);
+            int valueWithoutTable = solverWithoutTable.solve(rounds, quantityDifference, myCash, opponentCash);
+
+            // then
+            assertThat(value).isEqualTo(valueWithoutTable);
+            assertThat(endGameSolver.findBid(rounds, quantityDifference, myCash, opponentCash))
+              .isEqualTo(solverWithoutTable.findBid(rounds, quantityDifference, myCash, opponentCash));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should return same values as minimax over all bids of both bidders")
+  void shouldReturnSameValuesAsMinimaxOverAllBids() {
+    for (int rounds = 1; rounds <= 2; rounds++) {
+      for (int quantityDifference = -6; quantityDifference <= 6; quantityDifference += 2) {
+        for (int myCash = 0; myCash <= 8; myCash++) {
+          for (int opponentCash = 0; opponentCash <= 8; opponentCash++) {
+            // when
+            int value = endGameSolver.solve(rounds, quantityDifference, myCash, opponentCash);
+
+            // then
+            assertThat(value)
+              .as("rounds=%d, quantityDifference=%d, myCash=%d, opponentCash=%d", rounds, quantityDifference, myCash, opponentCash)
+              .isEqualTo(minimax(rounds, quantityDifference, myCash, opponentCash));
+          }
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest(name = "Should check size of end game. rounds={0}, myCash={1}, opponentCash={2}")
+  @CsvSource({
+    "1, 100, 100000, true",
+    "2, 79, 1000, true",
+    "2, 80, 1000, false",
+    "4, 0, 0, false",
+    "0, 0, 0, false",
+    "1, 16777216, 0, false"
+  })
+  void shouldCheckSizeOfEndGame(int rounds, int myCash, int opponentCash, boolean expectedSolvable) {
+    // when
+    boolean solvable = endGameSolver.isSolvable(rounds, myCash, opponentCash);
+
+    // then
+    assertThat(solvable).isEqualTo(expectedSolvable);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when max rounds don't fit into transposition table")
+  void shouldThrowExceptionWhenMaxRoundsAreTooLarge() {
+    // when - then
+    assertThatThrownBy(() -> new EndGameSolver(16, EndGameSolver.DEFAULT_MAX_NODES, EndGameSolver.DEFAULT_TABLE_SIZE))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Max rounds should be between 1 and 15");
+  }
+
+  /**
+   * Plays every bid of mine against every reply of an opponent, which knows my bid, both bidders pay their bids.
+   */
+  private int minimax(int rounds, int quantityDifference, int myCash, int opponentCash) {
+    if (rounds == 0) {
+      return quantityDifference == 0 ? Integer.signum(myCash - opponentCash) : Integer.signum(quantityDifference);
+    }
+    int value = EndGameSolver.LOSS;
+    for (int myBid = 0; myBid <= myCash; myBid++) {
+      int bidValue = EndGameSolver.WIN;
+      for (int opponentBid = 0; opponentBid <= opponentCash; opponentBid++) {
+        int wonQuantityDifference = Integer.compare(myBid, opponentBid) * 2;
+        bidValue = Math.min(bidValue,
+          minimax(rounds - 1, quantityDifference + wonQuantityDifference, myCash - myBid, opponentCash - opponentBid));
+      }
+      value = Math.max(value, bidValue);
+    }
+    return value;
+  }
+}
@@ -1,14 +1,11 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collections;
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 class MaximumBidStrategyUnitTest extends UnitTest {
@@ -19,11 +16,11 @@ class MaximumBidStrategyUnitTest extends UnitTest {
   @DisplayName("Should return maximum bid")
   void shouldReturnMinimalBid() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
     int initialCash = 999;
+    AuctionState auctionState = new AuctionState().withInitialQuantity(2).withInitialCash(initialCash);
 
     // when
-    int bid = maximumBidStrategy.placeBid(roundResults, 2, initialCash);
+    int bid = maximumBidStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isEqualTo(initialCash);
@@ -1,14 +1,11 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collections;
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 class MinimumBidStrategyUnitTest extends UnitTest {
@@ -19,10 +16,10 @@ class MinimumBidStrategyUnitTest extends UnitTest {
   @DisplayName("Should return minimum bid")
   void shouldReturnMinimumBid() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    AuctionState auctionState = new AuctionState();
 
     // when
-    int bid = minimumBidStrategy.placeBid(roundResults, 0, 0);
+    int bid = minimumBidStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isOne();
@@ -0,0 +1,198 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonteCarloBiddingStrategyUnitTest extends UnitTest {
+
+  private final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+  private final MonteCarloBiddingStrategy monteCarloBiddingStrategy = new MonteCarloBiddingStrategy(forkJoinPool,
+    Duration.ofSeconds(10), 4_000);
+
+  @AfterEach
+  void tearDown() {
+    forkJoinPool.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should place the cheapest bid, which wins in all simulations")
+  void shouldPlaceCheapestBidWhichWinsInAllSimulations() {
+    // given
+    AuctionState auctionState = givenAuctionState(4, 4, 100, 50);
+
+    // when
+    int bid = monteCarloBiddingStrategy.placeBid(auctionState);
+
+    // then
+    assertThat(bid).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("Should model opponent by previous rounds")
+  void shouldModelOpponentByPreviousRounds() {
+    // given
+    RoundStatistics roundStatistics = new RoundStatistics();
+    roundStatistics.add(givenRoundResult(50, 0));
+    roundStatistics.add(givenRoundResult(50, 0));
+    AuctionState auctionState = givenAuctionState(4, 0, INITIAL_CASH - 100, INITIAL_CASH)
+      .withNumberOfRounds(2)
+      .withRoundStatistics(roundStatistics);
+
+    // when
+    double[] opponentRatios = MonteCarloBiddingStrategy.calculateOpponentRatios(auctionState);
+    int bid = monteCarloBiddingStrategy.placeBid(auctionState);
+
+    // then
+    assertThat(opponentRatios).containsExactly(0.0, 0.0);
+    assertThat(bid).isZero();
+  }
+
+  @Test
+  @DisplayName("Should return within time budget")
+  void shouldReturnWithinTimeBudget() {
+    // given
+    Duration timeBudget = Duration.ofMillis(100);
+    MonteCarloBiddingStrategy givenStrategy = new MonteCarloBiddingStrategy(forkJoinPool, timeBudget, Integer.MAX_VALUE);
+    AuctionState auctionState = new AuctionState()
+      .withInitialQuantity(1000)
+      .withInitialCash(INITIAL_CASH)
+      .withMyRemainingCash(INITIAL_CASH)
+      .withOpponentRemainingCash(INITIAL_CASH);
+
+    // when
+    long start = System.nanoTime();
+    int bid = givenStrategy.placeBid(auctionState);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // then
+    assertThat(bid).isBetween(0, INITIAL_CASH);
+    assertThat(elapsed).isLessThan(timeBudget);
+  }
+
+  @Test
+  @DisplayName("Should search on workers of pool only, when bid is placed asynchronously")
+  void shouldSearchOnWorkersOfPoolOnlyWhenBidIsPlacedAsynchronously() {
+    // given
+    Duration timeBudget = Duration.ofMillis(200);
+    MonteCarloBiddingStrategy givenStrategy = new MonteCarloBiddingStrategy(forkJoinPool, timeBudget, Integer.MAX_VALUE);
+    AuctionState auctionState = givenAuctionState(4, 4, 100, 50);
+
+    // when
+    long start = System.nanoTime();
+    CompletableFuture<Integer> bid = givenStrategy.placeBidAsync(auctionState);
+    boolean completedOnReturn = bid.isDone();
+    CompletableFuture<Thread> completingThread = bid.thenApply(placedBid -> Thread.currentThread());
+    int placedBid = bid.join();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // then
+    assertThat(completedOnReturn).isFalse();
+    assertThat(placedBid).isEqualTo(50);
+    assertThat(elapsed).isLessThan(timeBudget);
+    assertThat(completingThread.join()).isInstanceOfSatisfying(ForkJoinWorkerThread.class,
+      thread -> assertThat(thread.getPool()).isSameAs(forkJoinPool));
+  }
+
+  @Test
+  @DisplayName("Should complete asynchronous bid on worker of pool, which is free after deadline")
+  void shouldCompleteAsynchronousBidOnWorkerOfPoolWhichIsFreeAfterDeadline() throws InterruptedException {
+    // given
+    ForkJoinPool busyPool = new ForkJoinPool(1);
+    CountDownLatch release = new CountDownLatch(1);
+    busyPool.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    Duration timeBudget = Duration.ofMillis(20);
+    MonteCarloBiddingStrategy givenStrategy = new MonteCarloBiddingStrategy(busyPool, timeBudget, 4_000);
+    AuctionState auctionState = givenAuctionState(4, 0, 900, INITIAL_CASH);
+
+    // when
+    CompletableFuture<Integer> bid = givenStrategy.placeBidAsync(auctionState);
+    CompletableFuture<Thread> completingThread = bid.thenApply(placedBid -> Thread.currentThread());
+    Thread.sleep(2 * timeBudget.toMillis());
+    boolean completedWhileBusy = bid.isDone();
+    release.countDown();
+
+    // then
+    assertThat(completedWhileBusy).isFalse();
+    assertThat(bid.join()).isEqualTo(300);
+    assertThat(completingThread.join()).isInstanceOf(ForkJoinWorkerThread.class);
+    busyPool.shutdown();
+    assertThat(busyPool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should place even spend of cash, when there is no time to simulate")
+  void shouldPlaceEvenSpendOfCashWhenThereIsNoTimeToSimulate() {
+    // given
+    MonteCarloBiddingStrategy givenStrategy = new MonteCarloBiddingStrategy(forkJoinPool, Duration.ZERO, 4_000);
+    AuctionState auctionState = givenAuctionState(4, 0, 900, INITIAL_CASH);
+
+    // when
+    int bid = givenStrategy.placeBid(auctionState);
+
+    // then
+    assertThat(bid).isEqualTo(300);
+  }
+
+  @Test
+  @DisplayName("Should return strategy name")
+  void shouldReturnStrategyName() {
+    // when
+    StrategyName strategyName = monteCarloBiddingStrategy.getStrategyName();
+
+    // then
+    assertThat(strategyName).isEqualTo(StrategyName.MONTE_CARLO);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when time budget is negative")
+  void shouldThrowExceptionWhenTimeBudgetIsNegative() {
+    // when - then
+    assertThatThrownBy(() -> new MonteCarloBiddingStrategy(forkJoinPool, Duration.ofMillis(-1), 1))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Time budget should not be negative");
+  }
+
+  private AuctionState givenAuctionState(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash) {
+    return new AuctionState()
+      .withInitialQuantity(INITIAL_QUANTITY)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds((myQuantity + opponentQuantity) / 2)
+      .withMyQuantity(myQuantity)
+      .withOpponentQuantity(opponentQuantity)
+      .withMyRemainingCash(myRemainingCash)
+      .withOpponentRemainingCash(opponentRemainingCash);
+  }
+
+  private RoundResult givenRoundResult(int myBid, int opponentBid) {
+    return RoundResult.builder()
+      .withMyBid(myBid)
+      .withMyWonQuantity(2)
+      .withOpponentBid(opponentBid)
+      .withOpponentRemainingCash(INITIAL_CASH - opponentBid)
+      .withOpponentWonQuantity(0)
+      .build();
+  }
+}
@@ -0,0 +1,125 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.BiddingStrategy;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class PolicyBiddingStrategyUnitTest extends UnitTest {
+
+  private static final int POLICY_BID = 42;
+
+  @TempDir
+  Path directory;
+
+  private PolicyTable policyTable;
+
+  @BeforeEach
+  void setUp() {
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator().withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> POLICY_BID).write(path);
+    policyTable = PolicyTable.load(path);
+  }
+
+  @Test
+  @DisplayName("Should place bid from policy table")
+  void shouldPlaceBidFromPolicyTable() {
+    // given
+    PolicyBiddingStrategy policyBiddingStrategy = new PolicyBiddingStrategy(policyTable);
+    AuctionState auctionState = givenAuctionState(INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    int bid = policyBiddingStrategy.placeBid(auctionState);
+
+    // then
+    assertThat(policyBiddingStrategy.hasPolicy(auctionState)).isTrue();
+    assertThat(bid).isEqualTo(POLICY_BID);
+    assertThat(policyBiddingStrategy.getStrategyName()).isEqualTo(StrategyName.POLICY);
+  }
+
+  @Test
+  @DisplayName("Should be selected for regime of policy table and fall back to strategies for other regimes")
+  void shouldBeSelectedForRegimeOfPolicyTable() {
+    // given
+    StrategySelector strategySelector = new StrategySelector(StrategyParameters.DEFAULT, policyTable);
+
+    // when
+    Optional<BiddingStrategy> knownRegimeStrategy = strategySelector.select(givenAuctionState(INITIAL_QUANTITY, INITIAL_CASH));
+    Optional<BiddingStrategy> unknownRegimeStrategy = strategySelector.select(givenAuctionState(INITIAL_QUANTITY, 2 * INITIAL_CASH));
+
+    // then
+    assertThat(knownRegimeStrategy).containsInstanceOf(PolicyBiddingStrategy.class);
+    assertThat(unknownRegimeStrategy).containsInstanceOf(AggressiveBiddingStrategy.class);
+  }
+
+  @Test
+  @DisplayName("Should resolve regime once per auction and again, when the auction state is reused for another auction")
+  void shouldResolveRegimeOncePerAuction() {
+    // given
+    Path path = directory.resolve("policies.bin");
+    new PolicyTableGenerator()
+      .withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> POLICY_BID)
+      .withRegime(2 * INITIAL_QUANTITY, INITIAL_CASH, auctionState -> POLICY_BID + 1)
+      .write(path);
+    PolicyBiddingStrategy policyBiddingStrategy = new PolicyBiddingStrategy(PolicyTable.load(path));
+    AuctionState auctionState = givenAuctionState(2 * INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    boolean hasPolicy = policyBiddingStrategy.hasPolicy(auctionState);
+    int resolvedRegime = auctionState.getPolicyRegime();
+    int bid = policyBiddingStrategy.placeBid(auctionState);
+    int nextAuctionBid = policyBiddingStrategy.placeBid(auctionState.withInitialQuantity(INITIAL_QUANTITY));
+    boolean hasPolicyOfUnknownAuction = policyBiddingStrategy.hasPolicy(auctionState.withInitialCash(2 * INITIAL_CASH));
+
+    // then
+    assertThat(hasPolicy).isTrue();
+    assertThat(resolvedRegime).isOne();
+    assertThat(bid).isEqualTo(POLICY_BID + 1);
+    assertThat(nextAuctionBid).isEqualTo(POLICY_BID);
+    assertThat(hasPolicyOfUnknownAuction).isFalse();
+    assertThat(auctionState.getPolicyRegime()).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("Should search regime once per auction, when table has no policy for it")
+  void shouldSearchRegimeOncePerAuctionWhenTableHasNoPolicyForIt() {
+    // given
+    PolicyTable spiedPolicyTable = spy(policyTable);
+    PolicyBiddingStrategy policyBiddingStrategy = new PolicyBiddingStrategy(spiedPolicyTable);
+    AuctionState auctionState = givenAuctionState(2 * INITIAL_QUANTITY, INITIAL_CASH);
+
+    // when
+    boolean hasPolicy = false;
+    for (int bid = 0; bid < 10; bid++) {
+      hasPolicy |= policyBiddingStrategy.hasPolicy(auctionState);
+    }
+    boolean hasPolicyOfNextAuction = policyBiddingStrategy.hasPolicy(auctionState.withInitialQuantity(INITIAL_QUANTITY));
+
+    // then
+    assertThat(hasPolicy).isFalse();
+    assertThat(hasPolicyOfNextAuction).isTrue();
+    verify(spiedPolicyTable).findRegime(2 * INITIAL_QUANTITY, INITIAL_CASH);
+    verify(spiedPolicyTable).findRegime(INITIAL_QUANTITY, INITIAL_CASH);
+  }
+
+  private AuctionState givenAuctionState(int initialQuantity, int initialCash) {
+    return new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(initialCash)
+      .withNumberOfRounds(1)
+      .withMyRemainingCash(initialCash)
+      .withOpponentRemainingCash(initialCash);
+  }
+}
@@ -0,0 +1,207 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PolicyTableUnitTest extends UnitTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  @DisplayName("Should read bids written by generator")
+  void shouldReadBidsWrittenByGenerator() {
+    // given
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator(4, 2)
+      .withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> auctionState.getMyQuantity() * 100
+        + auctionState.getOpponentQuantity() * 10 + auctionState.getMyRemainingCash() / 100)
+      .withRegime(2, 100, auctionState -> 7)
+      .write(path);
+
+    // when
+    PolicyTable policyTable = PolicyTable.load(path);
+
+    // then
+    assertThat(policyTable.getNumberOfRegimes()).isEqualTo(2);
+    assertThat(policyTable.findRegime(INITIAL_QUANTITY, INITIAL_CASH)).isZero();
+    assertThat(policyTable.findRegime(2, 100)).isEqualTo(1);
+    assertThat(policyTable.findRegime(2, 1000)).isEqualTo(-1);
+    // my cash 300 is in the bucket [1, 334], which is represented by 167
+    assertThat(policyTable.getBid(0, givenAuctionState(2, 4, 300))).isEqualTo(241);
+    assertThat(policyTable.getBid(0, givenAuctionState(6, 0, 0))).isEqualTo(600);
+    assertThat(policyTable.getBid(1, givenAuctionState(0, 0, 100))).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Should follow opponent in bucket, when bids of policy follow opponent")
+  void shouldFollowOpponentInBucketWhenBidsOfPolicyFollowOpponent() {
+    // given
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator(4, 2)
+      .withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> auctionState.getOpponentRemainingCash() + 1)
+      .withRegime(INITIAL_QUANTITY, 2 * INITIAL_CASH, auctionState -> 2 * auctionState.getOpponentAverageBid())
+      .write(path);
+    PolicyTable policyTable = PolicyTable.load(path);
+
+    // when
+    int opponentCashBid = policyTable.getBid(0, givenAuctionState(2, 4, 300)
+      .withOpponentRemainingCash(123));
+    int averageBidBid = policyTable.getBid(1, givenAuctionState(2, 4, 300)
+      .withInitialCash(2 * INITIAL_CASH)
+      .withOpponentRemainingCash(123)
+      .withOpponentAverageBid(37));
+
+    // then
+    assertThat(opponentCashBid).isEqualTo(124);
+    assertThat(averageBidBid).isEqualTo(74);
+  }
+
+  @Test
+  @DisplayName("Should follow opponent's average bid, when policy of strategy selector bids aggressively")
+  void shouldFollowOpponentsAverageBidWhenPolicyOfStrategySelectorBidsAggressively() {
+    // given
+    Path path = directory.resolve("policy.bin");
+    int initialQuantity = 20;
+    new PolicyTableGenerator()
+      .withRegime(initialQuantity, INITIAL_CASH, PolicyTableGenerator.strategySelectorPolicy(new StrategySelector()))
+      .write(path);
+    PolicyTable policyTable = PolicyTable.load(path);
+    // opponent has more QU and MU, so the selector plays the aggressive strategy
+    AuctionState auctionState = new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds(2)
+      .withMyQuantity(0)
+      .withOpponentQuantity(4)
+      .withMyRemainingCash(INITIAL_CASH / 2)
+      .withOpponentRemainingCash(INITIAL_CASH - 100);
+
+    // when
+    int rule = policyTable.getRule(0, auctionState.withOpponentAverageBid(200));
+
+    // then
+    assertThat(rule & 3).isEqualTo(PolicyTable.AVERAGE_BID_MULTIPLIED);
+    assertThat(policyTable.getBid(0, auctionState.withOpponentAverageBid(180)))
+      .isLessThan(policyTable.getBid(0, auctionState.withOpponentAverageBid(220)));
+  }
+
+  @ParameterizedTest(name = "Should split cash into buckets. cash={0}, initialCash={1}, buckets={2}")
+  @CsvSource({
+    "0, 1000, 4, 0, 0",
+    "1, 1000, 4, 1, 167",
+    "334, 1000, 4, 1, 167",
+    "335, 1000, 4, 2, 501",
+    "1000, 1000, 4, 3, 834",
+    "2000, 1000, 4, 3, 834",
+    "1, 1, 4, 1, 1",
+    "500, 1000, 1, 0, 500"
+  })
+  void shouldSplitCashIntoBuckets(int cash, int initialCash, int buckets, int expectedBucket, int expectedMiddle) {
+    // when
+    int bucket = PolicyTable.getBucket(cash, initialCash, buckets);
+
+    // then
+    assertThat(bucket).isEqualTo(expectedBucket);
+    assertThat(PolicyTableGenerator.getMiddleOfBucket(bucket, initialCash, buckets)).isEqualTo(expectedMiddle);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when file is not a policy table")
+  void shouldThrowExceptionWhenFileIsNotPolicyTable() throws IOException {
+    // given
+    Path path = Files.write(directory.resolve("policy.bin"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+    // when - then
+    assertThatThrownBy(() -> PolicyTable.load(path))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("File is not a policy table");
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when policy table is truncated")
+  void shouldThrowExceptionWhenPolicyTableIsTruncated() throws IOException {
+    // given
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator().withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> 1).write(path);
+    byte[] content = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(content, content.length - 1));
+
+    // when - then
+    assertThatThrownBy(() -> PolicyTable.load(path))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Policy table is truncated");
+  }
+
+  @ParameterizedTest(name = "Should throw exception, when header of policy table is corrupt, {0}")
+  @CsvSource({
+    "negative number of regimes, 8, -1, Number of regimes should not be negative",
+    "too many regimes, 8, 2147483647, Policy table is truncated",
+    "negative initial cash, 16, -1, Initial quantity and cash of regime 0 should not be negative",
+    "no average bid buckets, 24, 0, Number of buckets of regime 0 should be positive",
+    "offset inside of headers, 28, 4, Rules of regime 0 should start after the headers",
+    "negative offset, 28, -4, Rules of regime 0 should start after the headers",
+    "offset after end of file, 28, 2147483647, Policy table is truncated",
+    "rules overflowing int, 12, 2147483647, Policy table is truncated",
+    "rules overflowing long, 20, 2147483647, Policy table is truncated"
+  })
+  void shouldThrowExceptionWhenHeaderOfPolicyTableIsCorrupt(String scenario, int position, int value, String expectedMessage)
+    throws IOException {
+    // given
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator().withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> 1).write(path);
+    writeInt(path, position, value);
+
+    // when - then
+    assertThatThrownBy(() -> PolicyTable.load(path))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage(expectedMessage);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when policy table has duplicate regime")
+  void shouldThrowExceptionWhenPolicyTableHasDuplicateRegime() throws IOException {
+    // given
+    Path path = directory.resolve("policy.bin");
+    new PolicyTableGenerator()
+      .withRegime(INITIAL_QUANTITY, INITIAL_CASH, auctionState -> 1)
+      .withRegime(INITIAL_QUANTITY, 2 * INITIAL_CASH, auctionState -> 2)
+      .write(path);
+    writeInt(path, PolicyTable.HEADER_SIZE + PolicyTable.REGIME_HEADER_SIZE + Integer.BYTES, INITIAL_CASH);
+
+    // when - then
+    assertThatThrownBy(() -> PolicyTable.load(path))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Policy table has duplicate regime 10 QU, 1000 MU");
+  }
+
+  private void writeInt(Path path, int position, int value) throws IOException {
+    byte[] content = Files.readAllBytes(path);
+    ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN).putInt(position, value);
+    Files.write(path, content);
+  }
+
+  private AuctionState givenAuctionState(int myQuantity, int opponentQuantity, int myRemainingCash) {
+    return new AuctionState()
+      .withInitialQuantity(INITIAL_QUANTITY)
+      .withInitialCash(INITIAL_CASH)
+      .withMyQuantity(myQuantity)
+      .withOpponentQuantity(opponentQuantity)
+      .withMyRemainingCash(myRemainingCash);
+  }
+}
@@ -1,13 +1,12 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.RoundStatistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collections;
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 class StatisticsServiceUnitTest extends UnitTest {
@@ -24,14 +23,29 @@ class StatisticsServiceUnitTest extends UnitTest {
 
   private final int opponentWonQuantity = 12;
 
+  @Test
+  @DisplayName("Should calculate opponent average bid on given number of last rounds")
+  void shouldCalculateOpponentAverageBidOnGivenWindow() {
+    // given
+    RoundStatistics roundStatistics = new StatisticsService(1).createRoundStatistics();
+    roundStatistics.add(RoundResult.builder().withOpponentBid(10).build());
+    roundStatistics.add(RoundResult.builder().withOpponentBid(20).build());
+
+    // when
+    int averageBid = statisticsService.calculateOpponentAverageBid(roundStatistics);
+
+    // then
+    assertThat(averageBid).isEqualTo(20);
+  }
+
   @Test
   @DisplayName("Should calculate opponent quantity")
   void shouldCalculateOpponentQuantity() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
+    RoundStatistics roundStatistics = givenRoundStatistics();
 
     // when
-    int bid = statisticsService.calculateOpponentQuantity(roundResults);
+    int bid = statisticsService.calculateOpponentQuantity(roundStatistics);
 
     // then
     assertThat(bid).isEqualTo(opponentWonQuantity);
@@ -41,10 +55,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate opponent quantity when results are empty")
   void shouldCalculateOpponentQuantityWhenResultsAreEmpty() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    RoundStatistics roundStatistics = new RoundStatistics();
 
     // when
-    int bid = statisticsService.calculateOpponentQuantity(roundResults);
+    int bid = statisticsService.calculateOpponentQuantity(roundStatistics);
 
     // then
     assertThat(bid).isZero();
@@ -54,10 +68,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate my quantity")
   void shouldCalculateMyQuantity() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
+    RoundStatistics roundStatistics = givenRoundStatistics();
 
     // when
-    int bid = statisticsService.calculateMyQuantity(roundResults);
+    int bid = statisticsService.calculateMyQuantity(roundStatistics);
 
     // then
     assertThat(bid).isEqualTo(myWonQuantity);
@@ -67,10 +81,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate my quantity when results are empty")
   void shouldCalculateMyQuantityWhenResultsAreEmpty() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    RoundStatistics roundStatistics = new RoundStatistics();
 
     // when
-    int bid = statisticsService.calculateMyQuantity(roundResults);
+    int bid = statisticsService.calculateMyQuantity(roundStatistics);
 
     // then
     assertThat(bid).isZero();
@@ -80,10 +94,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate my remaining cash")
   void shouldCalculateMyRemainingCash() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
+    RoundStatistics roundStatistics = givenRoundStatistics();
 
     // when
-    int bid = statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH);
+    int bid = statisticsService.calculateMyRemainingCash(roundStatistics, INITIAL_CASH);
 
     // then
     assertThat(bid).isEqualTo(INITIAL_CASH - myBid);
@@ -93,10 +107,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate my remaining cash when results are empty")
   void shouldCalculateMyRemainingCashWhenResultsAreEmpty() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    RoundStatistics roundStatistics = new RoundStatistics();
 
     // when
-    int bid = statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH);
+    int bid = statisticsService.calculateMyRemainingCash(roundStatistics, INITIAL_CASH);
 
     // then
     assertThat(bid).isEqualTo(INITIAL_CASH);
@@ -106,10 +120,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate opponent remaining cash")
   void shouldCalculateOpponentRemainingCash() {
     // given
-    List<RoundResult> roundResults = givenRoundResults();
+    RoundStatistics roundStatistics = givenRoundStatistics();
 
     // when
-    int bid = statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
+    int bid = statisticsService.calculateOpponentRemainingCash(roundStatistics, INITIAL_CASH);
 
     // then
     assertThat(bid).isEqualTo(opponentRemainingCash);
@@ -119,10 +133,10 @@ class StatisticsServiceUnitTest extends UnitTest {
   @DisplayName("Should calculate opponent remaining cash when results are empty")
   void shouldCalculateOpponentRemainingCashWhenResultsAreEmpty() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    RoundStatistics roundStatistics = new RoundStatistics();
 
     // when
-    int bid = statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
+    int bid = statisticsService.calculateOpponentRemainingCash(roundStatistics, INITIAL_CASH);
 
     // then
     assertThat(bid).isEqualTo(INITIAL_CASH);
@@ -134,31 +148,88 @@ class StatisticsServiceUnitTest extends UnitTest {
     // given
     int firstBid = 10;
     int secondBid = 20;
-    List<RoundResult> roundResults = List.of(RoundResult.builder().withOpponentBid(firstBid).build(),
+    RoundStatistics roundStatistics = givenRoundStatistics(RoundResult.builder().withOpponentBid(firstBid).build(),
       RoundResult.builder().withOpponentBid(secondBid).build());
 
     // when
-    int bid = statisticsService.calculateOpponentAverageBid(roundResults);
+    int bid = statisticsService.calculateOpponentAverageBid(roundStatistics);
 
     // then
     assertThat(bid).isEqualTo((firstBid + secondBid) / 2);
   }
 
+  @Test
+  @DisplayName("Should calculate opponent average bid on last rounds only")
+  void shouldCalculateOpponentAverageBidOnLastRoundsOnly() {
+    // given
+    int secondBid = 20;
+    int thirdBid = 31;
+    RoundStatistics roundStatistics = givenRoundStatistics(RoundResult.builder().withOpponentBid(1000).build(),
+      RoundResult.builder().withOpponentBid(secondBid).build(),
+      RoundResult.builder().withOpponentBid(thirdBid).build());
+
+    // when
+    int bid = statisticsService.calculateOpponentAverageBid(roundStatistics);
+
+    // then
+    assertThat(bid).isEqualTo((int) Math.round((secondBid + thirdBid) / 2.0));
+  }
+
   @Test
   @DisplayName("Should calculate opponent average bid when results are empty")
   void shouldCalculateOpponentAverageBidWhenResultsAreEmpty() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    RoundStatistics roundStatistics = new RoundStatistics();
 
     // when
-    int bid = statisticsService.calculateOpponentAverageBid(roundResults);
+    int bid = statisticsService.calculateOpponentAverageBid(roundStatistics);
 
     // then
     assertThat(bid).isZero();
   }
 
-  private List<RoundResult> givenRoundResults() {
-    return List.of(RoundResult.builder()
+  @Test
+  @DisplayName("Should predict opponent bid by the best estimator")
+  void shouldPredictOpponentBidByBestEstimator() {
+    // given
+    RoundStatistics roundStatistics = givenRoundStatistics(RoundResult.builder().withOpponentBid(10).build(),
+      RoundResult.builder().withOpponentBid(20).build(),
+      RoundResult.builder().withOpponentBid(30).build(),
+      RoundResult.builder().withOpponentBid(40).build());
+
+    // when
+    int bid = statisticsService.calculatePredictedOpponentBid(roundStatistics);
+
+    // then
+    assertThat(bid).isEqualTo(roundStatistics.getOpponentBidPredictor().getPrediction()).isGreaterThanOrEqualTo(40);
+  }
+
+  @Test
+  @DisplayName("Should update auction state")
+  void shouldUpdateAuctionState() {
+    // given
+    RoundStatistics roundStatistics = givenRoundStatistics();
+    AuctionState auctionState = new AuctionState();
+
+    // when
+    AuctionState updatedAuctionState = statisticsService.updateAuctionState(auctionState, roundStatistics, INITIAL_QUANTITY * 2, INITIAL_CASH);
+
+    // then
+    assertThat(updatedAuctionState).isSameAs(auctionState);
+    assertThat(auctionState.getInitialQuantity()).isEqualTo(INITIAL_QUANTITY * 2);
+    assertThat(auctionState.getInitialCash()).isEqualTo(INITIAL_CASH);
+    assertThat(auctionState.isFirstRound()).isFalse();
+    assertThat(auctionState.getMyQuantity()).isEqualTo(myWonQuantity);
+    assertThat(auctionState.getOpponentQuantity()).isEqualTo(opponentWonQuantity);
+    assertThat(auctionState.getRemainingQuantity()).isEqualTo(INITIAL_QUANTITY * 2 - myWonQuantity - opponentWonQuantity);
+    assertThat(auctionState.getMyRemainingCash()).isEqualTo(INITIAL_CASH - myBid);
+    assertThat(auctionState.getOpponentRemainingCash()).isEqualTo(opponentRemainingCash);
+    assertThat(auctionState.getOpponentAverageBid()).isEqualTo(opponentBid);
+    assertThat(auctionState.getPredictedOpponentBid()).isEqualTo(opponentBid);
+  }
+
+  private RoundStatistics givenRoundStatistics() {
+    return givenRoundStatistics(RoundResult.builder()
       .withMyWonQuantity(myWonQuantity)
       .withOpponentRemainingCash(opponentRemainingCash)
       .withMyBid(myBid)
@@ -166,4 +237,12 @@ class StatisticsServiceUnitTest extends UnitTest {
       .withOpponentWonQuantity(opponentWonQuantity)
       .build());
   }
+
+  private RoundStatistics givenRoundStatistics(RoundResult... roundResults) {
+    RoundStatistics roundStatistics = new RoundStatistics();
+    for (RoundResult roundResult : roundResults) {
+      roundStatistics.add(roundResult);
+    }
+    return roundStatistics;
+  }
 }
@@ -0,0 +1,178 @@
+package de.optimax_energy.bidder.auction.infrastructure.strategy;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StrategyBanditUnitTest extends UnitTest {
+
+  private final StrategyBandit strategyBandit = new StrategyBandit();
+
+  @Test
+  @DisplayName("Should try every arm once before using rewards")
+  void shouldTryEveryArmOnceBeforeUsingRewards() {
+    // given
+    List<StrategyName> selectedArms = new ArrayList<>();
+
+    // when
+    for (int decision = 0; decision < StrategyBandit.DEFAULT_ARMS.size(); decision++) {
+      StrategyBandit.Episode episode = strategyBandit.createEpisode();
+      int arm = strategyBandit.selectArm(0);
+      episode.record(0, arm);
+      episode.finish(0, 0, 0, 0);
+      selectedArms.add(strategyBandit.getArm(arm));
+    }
+
+    // then
+    assertThat(selectedArms).isEqualTo(StrategyBandit.DEFAULT_ARMS);
+    assertThat(strategyBandit.getAveragePoints(0, StrategyName.DEFAULT)).isEqualTo(StrategyBandit.DRAW_POINTS);
+  }
+
+  @Test
+  @DisplayName("Should spread bots, which start together, over all arms")
+  void shouldSpreadBotsWhichStartTogetherOverAllArms() {
+    // given
+    List<StrategyBandit.Episode> episodes = new ArrayList<>();
+    List<StrategyName> selectedArms = new ArrayList<>();
+
+    // when
+    for (int bot = 0; bot < StrategyBandit.DEFAULT_ARMS.size(); bot++) {
+      StrategyBandit.Episode episode = strategyBandit.createEpisode();
+      int arm = strategyBandit.selectArm(0);
+      episode.record(0, arm);
+      episodes.add(episode);
+      selectedArms.add(strategyBandit.getArm(arm));
+    }
+
+    // then
+    assertThat(selectedArms).isEqualTo(StrategyBandit.DEFAULT_ARMS);
+    assertThat(strategyBandit.getPlays(0, StrategyName.AGGRESSIVE)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should forget selections of reset episode")
+  void shouldForgetSelectionsOfResetEpisode() {
+    // given
+    StrategyBandit.Episode episode = strategyBandit.createEpisode();
+    episode.record(0, strategyBandit.selectArm(0));
+
+    // when
+    episode.reset();
+
+    // then
+    assertThat(strategyBandit.getArm(strategyBandit.selectArm(0))).isEqualTo(StrategyBandit.DEFAULT_ARMS.get(0));
+  }
+
+  @Test
+  @DisplayName("Should play the arm, which wins, most often")
+  void shouldPlayArmWhichWinsMostOften() {
+    // given
+    int context = 5;
+    StrategyBandit.Episode episode = strategyBandit.createEpisode();
+
+    // when
+    for (int auction = 0; auction < 500; auction++) {
+      int arm = strategyBandit.selectArm(context);
+      episode.record(context, arm);
+      boolean won = strategyBandit.getArm(arm) == StrategyName.DEFAULT;
+      episode.finish(won ? 2 : 0, won ? 0 : 2, INITIAL_CASH, INITIAL_CASH);
+    }
+
+    // then
+    assertThat(strategyBandit.getPlays(context, StrategyName.DEFAULT)).isGreaterThan(400);
+    assertThat(strategyBandit.getAveragePoints(context, StrategyName.DEFAULT)).isEqualTo(StrategyBandit.WIN_POINTS);
+    assertThat(strategyBandit.getAveragePoints(context, StrategyName.AGGRESSIVE)).isZero();
+    assertThat(strategyBandit.getPlays(context + 1, StrategyName.DEFAULT)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should not lose updates of concurrent episodes")
+  void shouldNotLoseUpdatesOfConcurrentEpisodes() throws Exception {
+    // given
+    int threads = 8;
+    int auctionsPerThread = 2_000;
+    int decisionsPerAuction = 10;
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    for (int thread = 0; thread < threads; thread++) {
+      futures.add(executorService.submit(() -> {
+        StrategyBandit.Episode episode = strategyBandit.createEpisode();
+        for (int auction = 0; auction < auctionsPerThread; auction++) {
+          for (int decision = 0; decision < decisionsPerAuction; decision++) {
+            episode.record(0, 1);
+          }
+          boolean won = auction % 2 == 0;
+          episode.finish(won ? 2 : 0, won ? 0 : 2, 0, 0);
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(strategyBandit.getPlays(0, StrategyName.DEFAULT)).isEqualTo((long) threads * auctionsPerThread * decisionsPerAuction);
+    assertThat(strategyBandit.getAveragePoints(0, StrategyName.DEFAULT)).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Should bucket state by phase, lead in QU and lead in MU")
+  void shouldBucketStateByPhaseAndLeads() {
+    // given
+    AuctionState firstRound = givenAuctionState(0, 0, INITIAL_CASH, INITIAL_CASH);
+    AuctionState leadingInLastRound = givenAuctionState(6, 2, INITIAL_CASH, INITIAL_CASH / 2);
+    AuctionState behindWithSimilarCash = givenAuctionState(0, 4, INITIAL_CASH, INITIAL_CASH - INITIAL_CASH / 20);
+
+    // when
+    int firstRoundContext = strategyBandit.getContext(firstRound);
+    int leadingContext = strategyBandit.getContext(leadingInLastRound);
+    int behindContext = strategyBandit.getContext(behindWithSimilarCash);
+
+    // then
+    assertThat(firstRoundContext).isEqualTo(4);
+    assertThat(leadingContext).isEqualTo(StrategyBandit.NUMBER_OF_CONTEXTS - 1);
+    assertThat(behindContext).isEqualTo(StrategyBandit.NUMBER_OF_LEADS * StrategyBandit.NUMBER_OF_LEADS + 1);
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when arms are not distinct")
+  void shouldThrowExceptionWhenArmsAreNotDistinct() {
+    // when - then
+    assertThatThrownBy(() -> new StrategyBandit(List.of(StrategyName.DEFAULT, StrategyName.DEFAULT), 1))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Arms should be distinct");
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when strategy is not an arm")
+  void shouldThrowExceptionWhenStrategyIsNotArm() {
+    // when - then
+    assertThatThrownBy(() -> strategyBandit.getPlays(0, StrategyName.END_GAME))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Strategy END_GAME is not an arm of the bandit");
+  }
+
+  private AuctionState givenAuctionState(int myQuantity, int opponentQuantity, int myRemainingCash, int opponentRemainingCash) {
+    return new AuctionState()
+      .withInitialQuantity(INITIAL_QUANTITY)
+      .withInitialCash(INITIAL_CASH)
+      .withMyQuantity(myQuantity)
+      .withOpponentQuantity(opponentQuantity)
+      .withMyRemainingCash(myRemainingCash)
+      .withOpponentRemainingCash(opponentRemainingCash);
+  }
+}
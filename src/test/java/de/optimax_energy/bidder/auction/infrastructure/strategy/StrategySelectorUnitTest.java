@@ -2,23 +2,21 @@ package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
 import de.optimax_energy.bidder.auction.api.BiddingStrategy;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.OpponentProfile;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import de.optimax_energy.bidder.auction.api.dto.StrategyParameters;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StrategySelectorUnitTest extends UnitTest {
 
@@ -26,27 +24,19 @@ class StrategySelectorUnitTest extends UnitTest {
 
   private static final int INITIAL_CASH = 100;
 
-  @Mock
-  private StatisticsService statisticsService;
-
-  @InjectMocks
-  private StrategySelector strategySelector;
+  private final StrategySelector strategySelector = new StrategySelector();
 
   @Test
   @DisplayName("Should select MaximumBiddingStrategy when initial quantity is equal to 2")
   void shouldSelectMaximumBiddingStrategyWhenInitialQuantityIsEqualToTwo() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(0);
+    AuctionState auctionState = new AuctionState().withInitialQuantity(AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, AMOUNT_OF_PRODUCTS_IN_ONE_ROUND, 0);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(MaximumBidStrategy.class);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
@@ -54,17 +44,13 @@ class StrategySelectorUnitTest extends UnitTest {
   void shouldSelectMaximumBiddingStrategyWhenOnlyOneRoundLeft() {
     // given
     int initialQuantity = 20;
-    List<RoundResult> roundResults = givenRoundResults(initialQuantity - AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(initialQuantity - AMOUNT_OF_PRODUCTS_IN_ONE_ROUND);
+    AuctionState auctionState = givenAuctionState(initialQuantity, initialQuantity - AMOUNT_OF_PRODUCTS_IN_ONE_ROUND, 0);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, initialQuantity, 0);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(MaximumBidStrategy.class);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @ParameterizedTest(name = "Should select ZeroBiddingStrategy, myWonQuantity={0}, opponentWonQuantity={1}, leftQuantity={2}")
@@ -72,120 +58,85 @@ class StrategySelectorUnitTest extends UnitTest {
   void shouldSelectZeroBiddingStrategy(int myWonQuantity, int opponentWonQuantity, int leftQuantity) {
     // given
     int initialQuantity = calculateInitialQuantity(myWonQuantity, leftQuantity, opponentWonQuantity);
-    List<RoundResult> roundResults = givenRoundResults(myWonQuantity);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(opponentWonQuantity);
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(myWonQuantity);
+    AuctionState auctionState = givenAuctionState(initialQuantity, myWonQuantity, opponentWonQuantity);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, initialQuantity, 0);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(ZeroBiddingStrategy.class);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should select MinimumBiddingStrategy during first round")
   void shouldSelectMinimumBiddingStrategyDuringFirstRound() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(0);
+    AuctionState auctionState = new AuctionState().withInitialQuantity(12);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, 12, 0);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(MinimumBidStrategy.class);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should not select MinimumBiddingStrategy during first round if initial QU less than defined amount")
   void shouldNotSelectMinimumBiddingStrategyDuringFirstRoundIfInitialQuantityAmountIsLessThanDefined() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(0);
     int initialQuantity = 8;
+    AuctionState auctionState = new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(INITIAL_CASH)
+      .withMyRemainingCash(INITIAL_CASH)
+      .withOpponentRemainingCash(INITIAL_CASH);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, initialQuantity, INITIAL_CASH);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(AggressiveBiddingStrategy.class);
-    verify(statisticsService, times(2)).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should select MinimumBiddingStrategy, if yet not enough QU to win and opponent has no money")
   void shouldSelectMinimumBiddingStrategyIfNotEnoughToWin() {
     // given
-    List<RoundResult> roundResults = List.of(RoundResult.builder().withOpponentRemainingCash(0).build());
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(0);
+    AuctionState auctionState = givenAuctionState(0, 0, 0).withOpponentRemainingCash(0);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, 0, 0);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(MinimumBidStrategy.class);
-    verify(statisticsService).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
   @DisplayName("Should not select MinimumBiddingStrategy, if yet not enough QU to win and opponent has money")
   void shouldNotSelectMinimumBiddingStrategyIfNotEnoughToWinAndOpponentHasMoney() {
     // given
-    List<RoundResult> roundResults = List.of(RoundResult.builder().withOpponentRemainingCash(1).build());
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(0);
+    AuctionState auctionState = givenAuctionState(0, 0, 0).withOpponentRemainingCash(1);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, 0, INITIAL_CASH);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(AggressiveBiddingStrategy.class);
-    verify(statisticsService, times(2)).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @ParameterizedTest(name = "Should select aggressiveStrategy, myWonQuantity={0}, opponentQuantity={1}, leftQuantity={2}")
-  @CsvSource({"1, 3, 2", "10, 40, 40"})
+  @CsvSource({"2, 4, 6", "10, 40, 40"})
   void shouldSelectAggressiveStrategy(int myWonQuantity, int opponentQuantity, int leftQuantity) {
     // given
     int initialQuantity = calculateInitialQuantity(myWonQuantity, leftQuantity, opponentQuantity);
-    List<RoundResult> roundResults = List.of(
-      RoundResult.builder()
-        .withMyBid(5)
-        .withMyWonQuantity(myWonQuantity)
-        .withOpponentBid(0)
-        .withOpponentRemainingCash(INITIAL_CASH)
-        .withOpponentWonQuantity(opponentQuantity)
-        .build());
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(myWonQuantity);
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(INITIAL_CASH);
+    AuctionState auctionState = givenAuctionState(initialQuantity, myWonQuantity, opponentQuantity)
+      .withMyRemainingCash(INITIAL_CASH / 2);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, initialQuantity, INITIAL_CASH);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(AggressiveBiddingStrategy.class);
-    verify(statisticsService, times(2)).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
   }
 
   @Test
@@ -197,33 +148,137 @@ class StrategySelectorUnitTest extends UnitTest {
     int opponentWonQuantity = 10;
     int opponentRemainingCash = 5;
     int myRemainingCash = 10;
-    List<RoundResult> roundResults = List.of(RoundResult.builder()
-      .withMyWonQuantity(myWonQuantity)
+    AuctionState auctionState = givenAuctionState(initialQuantity, myWonQuantity, opponentWonQuantity)
       .withOpponentRemainingCash(opponentRemainingCash)
-      .withOpponentWonQuantity(opponentWonQuantity)
-      .build());
-    when(statisticsService.calculateMyQuantity(roundResults)).thenReturn(myWonQuantity);
-    when(statisticsService.calculateOpponentQuantity(roundResults)).thenReturn(opponentWonQuantity);
-    when(statisticsService.calculateOpponentRemainingCash(roundResults, INITIAL_CASH)).thenReturn(opponentWonQuantity);
-    when(statisticsService.calculateMyRemainingCash(roundResults, INITIAL_CASH)).thenReturn(myRemainingCash);
+      .withMyRemainingCash(myRemainingCash);
 
     // when
-    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(roundResults, initialQuantity, INITIAL_CASH);
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
 
     // then
     assertThat(biddingStrategy).containsInstanceOf(DefaultBiddingStrategy.class);
-    verify(statisticsService, times(2)).calculateOpponentQuantity(roundResults);
-    verify(statisticsService).calculateOpponentRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyRemainingCash(roundResults, INITIAL_CASH);
-    verify(statisticsService).calculateMyQuantity(roundResults);
-    verifyNoMoreInteractions(statisticsService);
+  }
+
+  @Test
+  @DisplayName("Should select EndGameBiddingStrategy, when win is forced in remaining rounds")
+  void shouldSelectEndGameBiddingStrategyWhenWinIsForced() {
+    // given
+    AuctionState auctionState = givenAuctionState(10, 2, 4).withOpponentRemainingCash(10);
+
+    // when
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
+
+    // then
+    assertThat(biddingStrategy).containsInstanceOf(EndGameBiddingStrategy.class);
+  }
+
+  @Test
+  @DisplayName("Should select MonteCarloBiddingStrategy instead of heuristics in the middle of auction, when it is given")
+  void shouldSelectMonteCarloBiddingStrategyWhenItIsGiven() {
+    // given
+    StrategySelector givenSelector = new StrategySelector(StrategyParameters.DEFAULT, null,
+      new MonteCarloBiddingStrategy(ForkJoinPool.commonPool()));
+
+    // when
+    Optional<BiddingStrategy> middleStrategy = givenSelector.select(givenAuctionState(120, 10, 10));
+    Optional<BiddingStrategy> lastRoundStrategy = givenSelector.select(givenAuctionState(120, 58, 60));
+
+    // then
+    assertThat(middleStrategy).containsInstanceOf(MonteCarloBiddingStrategy.class);
+    assertThat(lastRoundStrategy).containsInstanceOf(MaximumBidStrategy.class);
+  }
+
+  @Test
+  @DisplayName("Should select counter strategy of classified opponent")
+  void shouldSelectCounterStrategyOfClassifiedOpponent() {
+    // given
+    OpponentProfile opponentProfile = new OpponentProfile();
+    for (int round = 0; round < OpponentProfile.MIN_NUMBER_OF_ROUNDS; round++) {
+      opponentProfile.update(0, 5, INITIAL_CASH - 5 * round, 60 - round);
+    }
+    AuctionState auctionState = givenAuctionState(120, 10, 10).withOpponentProfile(opponentProfile);
+
+    // when
+    Optional<BiddingStrategy> biddingStrategy = strategySelector.select(auctionState);
+
+    // then
+    assertThat(biddingStrategy).containsInstanceOf(ConstantCounterStrategy.class);
+  }
+
+  @ParameterizedTest(name = "Should select strategy by aggressive strategy threshold. threshold={0}")
+  @CsvSource({"20, AggressiveBiddingStrategy", "60, DefaultBiddingStrategy"})
+  void shouldSelectStrategyByAggressiveStrategyThreshold(int aggressiveStrategyThreshold, String expectedStrategy) {
+    // given
+    StrategySelector givenSelector = new StrategySelector(StrategyParameters.builder()
+      .withAggressiveStrategyThreshold(aggressiveStrategyThreshold)
+      .build());
+    // 61 - 10 QU are left to win out of 100 remaining QU
+    AuctionState auctionState = givenAuctionState(120, 10, 10);
+
+    // when
+    Optional<BiddingStrategy> biddingStrategy = givenSelector.select(auctionState);
+
+    // then
+    assertThat(biddingStrategy).get().extracting(strategy -> strategy.getClass().getSimpleName()).isEqualTo(expectedStrategy);
+  }
+
+  @Test
+  @DisplayName("Should select strategy by bandit and record the decision, when rules don't force a strategy")
+  void shouldSelectStrategyByBanditAndRecordDecision() {
+    // given
+    StrategyBandit strategyBandit = new StrategyBandit();
+    StrategySelector givenSelector = new StrategySelector(StrategyParameters.DEFAULT, null, null, strategyBandit);
+    StrategyBandit.Episode episode = givenSelector.createBanditEpisode();
+    AuctionState auctionState = givenAuctionState(120, 10, 10);
+
+    // when
+    Optional<BiddingStrategy> biddingStrategy = givenSelector.select(auctionState, episode);
+
+    // then
+    assertThat(biddingStrategy).get().extracting(BiddingStrategy::getStrategyName).isEqualTo(StrategyName.AGGRESSIVE);
+    assertThat(episode.getNumberOfDecisions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not record decision of bandit, when rules force a strategy")
+  void shouldNotRecordDecisionOfBanditWhenRulesForceStrategy() {
+    // given
+    StrategySelector givenSelector = new StrategySelector(StrategyParameters.DEFAULT, null, null, new StrategyBandit());
+    StrategyBandit.Episode episode = givenSelector.createBanditEpisode();
+    AuctionState auctionState = givenAuctionState(10, 4, 4);
+
+    // when
+    Optional<BiddingStrategy> biddingStrategy = givenSelector.select(auctionState, episode);
+
+    // then
+    assertThat(biddingStrategy).containsInstanceOf(MaximumBidStrategy.class);
+    assertThat(episode.getNumberOfDecisions()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when arm of bandit is not available")
+  void shouldThrowExceptionWhenArmOfBanditIsNotAvailable() {
+    // given
+    StrategyBandit strategyBandit = new StrategyBandit(List.of(StrategyName.MONTE_CARLO), 1);
+
+    // when - then
+    assertThatThrownBy(() -> new StrategySelector(StrategyParameters.DEFAULT, null, null, strategyBandit))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Strategy MONTE_CARLO of bandit is not available");
   }
 
   private int calculateInitialQuantity(int myWonQuantity, int leftQuantity, int opponentQuantity) {
     return myWonQuantity + leftQuantity + opponentQuantity;
   }
 
-  private List<RoundResult> givenRoundResults(int myWonQuantity) {
-    return List.of(RoundResult.builder().withMyWonQuantity(myWonQuantity).build());
+  private AuctionState givenAuctionState(int initialQuantity, int myWonQuantity, int opponentWonQuantity) {
+    return new AuctionState()
+      .withInitialQuantity(initialQuantity)
+      .withInitialCash(INITIAL_CASH)
+      .withNumberOfRounds(1)
+      .withMyQuantity(myWonQuantity)
+      .withOpponentQuantity(opponentWonQuantity)
+      .withMyRemainingCash(INITIAL_CASH)
+      .withOpponentRemainingCash(INITIAL_CASH);
   }
 }
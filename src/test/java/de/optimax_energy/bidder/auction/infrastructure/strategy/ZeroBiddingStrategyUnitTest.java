@@ -1,14 +1,11 @@
 package de.optimax_energy.bidder.auction.infrastructure.strategy;
 
 import de.optimax_energy.bidder.UnitTest;
-import de.optimax_energy.bidder.auction.api.dto.RoundResult;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
 import de.optimax_energy.bidder.auction.api.dto.StrategyName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collections;
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ZeroBiddingStrategyUnitTest extends UnitTest {
@@ -19,10 +16,10 @@ class ZeroBiddingStrategyUnitTest extends UnitTest {
   @DisplayName("Should return 0 bid")
   void shouldReturnZeroBid() {
     // given
-    List<RoundResult> roundResults = Collections.emptyList();
+    AuctionState auctionState = new AuctionState();
 
     // when
-    int bid = zeroBiddingStrategy.placeBid(roundResults, 0, 0);
+    int bid = zeroBiddingStrategy.placeBid(auctionState);
 
     // then
     assertThat(bid).isZero();
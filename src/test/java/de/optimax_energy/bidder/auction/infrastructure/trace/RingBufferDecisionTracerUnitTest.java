@@ -0,0 +1,124 @@
+package de.optimax_energy.bidder.auction.infrastructure.trace;
+
+import de.optimax_energy.bidder.UnitTest;
+import de.optimax_energy.bidder.auction.api.dto.AuctionState;
+import de.optimax_energy.bidder.auction.api.dto.StrategyName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class RingBufferDecisionTracerUnitTest extends UnitTest {
+
+  private static final String UUID = "0";
+
+  private static final Duration DRAIN_INTERVAL = Duration.ofHours(1);
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  @Test
+  @DisplayName("Should write every sampled round, when tracer is closed")
+  void shouldWriteSampledRounds() {
+    // given
+    RingBufferDecisionTracer decisionTracer = new RingBufferDecisionTracer(16, 2, DRAIN_INTERVAL, events::add);
+    AuctionState auctionState = new AuctionState().withMyQuantity(4).withOpponentRemainingCash(90);
+
+    // when
+    for (int round = 0; round < 5; round++) {
+      decisionTracer.record(UUID, StrategyName.AGGRESSIVE, auctionState.withNumberOfRounds(round), round, round + 1);
+    }
+    decisionTracer.close();
+
+    // then
+    assertThat(events).containsExactly(
+      "Decision #0: bidder=0, round=1, strategy=AGGRESSIVE, myBid=0, opponentBid=1, myQuantity=4, opponentQuantity=0, myRemainingCash=0, opponentRemainingCash=90, opponentAverageBid=0",
+      "Decision #2: bidder=0, round=3, strategy=AGGRESSIVE, myBid=2, opponentBid=3, myQuantity=4, opponentQuantity=0, myRemainingCash=0, opponentRemainingCash=90, opponentAverageBid=0",
+      "Decision #4: bidder=0, round=5, strategy=AGGRESSIVE, myBid=4, opponentBid=5, myQuantity=4, opponentQuantity=0, myRemainingCash=0, opponentRemainingCash=90, opponentAverageBid=0");
+    assertThat(decisionTracer.getRecordedCount()).isEqualTo(5);
+    assertThat(decisionTracer.getMissedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should count rounds, which were overwritten before being written")
+  void shouldCountMissedRounds() {
+    // given
+    RingBufferDecisionTracer decisionTracer = new RingBufferDecisionTracer(4, 1, DRAIN_INTERVAL, events::add);
+
+    // when
+    for (int round = 0; round < 10; round++) {
+      decisionTracer.record(UUID, StrategyName.DEFAULT, new AuctionState().withNumberOfRounds(round), round, 0);
+    }
+    decisionTracer.close();
+
+    // then
+    assertThat(events).hasSize(4);
+    assertThat(events.get(0)).startsWith("Decision #6: bidder=0, round=7, strategy=DEFAULT, myBid=6");
+    assertThat(decisionTracer.getMissedCount()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("Should dump all retained rounds regardless of sampling")
+  void shouldDumpRetainedRounds() {
+    // given
+    RingBufferDecisionTracer decisionTracer = new RingBufferDecisionTracer(3, 100, DRAIN_INTERVAL, events::add);
+    for (int round = 0; round < 6; round++) {
+      decisionTracer.record(UUID, null, new AuctionState().withNumberOfRounds(round), round, 0);
+    }
+
+    // when
+    decisionTracer.dump("failure");
+    decisionTracer.close();
+
+    // then
+    assertThat(decisionTracer.getCapacity()).isEqualTo(4);
+    assertThat(events).hasSize(5);
+    assertThat(events.get(0)).isEqualTo("Decision trace dump (failure), rounds 2..6");
+    assertThat(events.get(1)).isEqualTo("Decision #2: bidder=0, round=3, strategy=null, myBid=2, opponentBid=0, myQuantity=0, opponentQuantity=0, myRemainingCash=0, opponentRemainingCash=0, opponentAverageBid=0");
+    assertThat(events.get(4)).startsWith("Decision #5:");
+    assertThat(decisionTracer.getMissedCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should not allocate, when round is recorded")
+  void shouldNotAllocateWhenRoundIsRecorded() {
+    // given
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    RingBufferDecisionTracer decisionTracer = new RingBufferDecisionTracer(1024, 1_000_000, DRAIN_INTERVAL, events::add);
+    AuctionState auctionState = new AuctionState();
+    for (int i = 0; i < 20_000; i++) {
+      decisionTracer.record(UUID, StrategyName.DEFAULT, auctionState, i, i);
+    }
+
+    // when
+    long allocatedBytes = Long.MAX_VALUE;
+    for (int attempt = 0; attempt < 3 && allocatedBytes > 0; attempt++) {
+      long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < 10_000; i++) {
+        decisionTracer.record(UUID, StrategyName.DEFAULT, auctionState, i, i);
+      }
+      allocatedBytes = Math.min(allocatedBytes, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore);
+    }
+    decisionTracer.close();
+
+    // then
+    assertThat(allocatedBytes).isZero();
+  }
+
+  @Test
+  @DisplayName("Should throw exception, when sampling interval is not positive")
+  void shouldThrowExceptionWhenSamplingIntervalIsNotPositive() {
+    // when - then
+    assertThatThrownBy(() -> new RingBufferDecisionTracer(16, 0, DRAIN_INTERVAL))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Sampling interval should be positive");
+  }
+}